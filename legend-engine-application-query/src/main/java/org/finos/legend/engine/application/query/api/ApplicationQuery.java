@@ -32,6 +32,8 @@ import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
@@ -43,6 +45,8 @@ import java.util.List;
 @Produces(MediaType.APPLICATION_JSON)
 public class ApplicationQuery
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationQuery.class);
+
     private final QueryStoreManager queryStoreManager;
     private final DataCubeQueryStoreManager dataCubeQueryStoreManager;
 
@@ -50,6 +54,15 @@ public class ApplicationQuery
     {
         this.queryStoreManager = new QueryStoreManager(mongoClient);
         this.dataCubeQueryStoreManager = new DataCubeQueryStoreManager(mongoClient);
+        try
+        {
+            this.queryStoreManager.createIndexes();
+        }
+        catch (Exception e)
+        {
+            // queries are still served without indexes, only slower
+            LOGGER.warn("Failed to create query store indexes", e);
+        }
     }
 
     private static String getCurrentUser(ProfileManager<CommonProfile> profileManager)
@@ -15,17 +15,53 @@
 package org.finos.legend.engine.application.query.api;
 
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Updates;
+import org.bson.conversions.Bson;
 import org.finos.legend.engine.application.query.model.ApplicationStoredQuery;
 import org.finos.legend.engine.shared.mongo.api.BaseStoredVersionedAssetDao;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * DAO for ApplicationStoredQuery that handles persistence with embedded audit information.
  * Extends BaseStoredVersionedAssetDao to inherit common versioning and audit logic.
  */
 public class ApplicationQueryDao extends BaseStoredVersionedAssetDao<ApplicationStoredQuery, String>
 {
+    // indexes backing the lookups and the search filters/sorts of the query store, latest versions are always filtered on audit.validUntil
+    private static final List<Bson> INDEXES = Arrays.asList(
+            Indexes.ascending("id", "audit.validUntil"),
+            Indexes.ascending("audit.validUntil", "groupId", "artifactId", "versionId"),
+            Indexes.ascending("audit.validUntil", "audit.createdBy"),
+            Indexes.ascending("audit.validUntil", "name"),
+            Indexes.ascending("taggedValues.tag.profile", "taggedValues.tag.value", "taggedValues.value"),
+            Indexes.ascending("stereotypes.profile", "stereotypes.value"),
+            Indexes.ascending("executionContext.dataSpacePath"),
+            Indexes.descending("audit.createdAt"),
+            Indexes.descending("audit.updatedAt"),
+            Indexes.descending("lastOpenAt")
+    );
+
     public ApplicationQueryDao(MongoClient client, String database, String collectionName)
     {
         super(client, database, collectionName, ApplicationStoredQuery.class);
     }
+
+    /**
+     * Creates the indexes of the query collection, existing indexes are left untouched.
+     */
+    public void createIndexes()
+    {
+        INDEXES.forEach(this.collection::createIndex);
+    }
+
+    /**
+     * Records when the latest version of the query was last opened, without rewriting the whole document.
+     */
+    public void updateLastOpenAt(String id, long lastOpenAt)
+    {
+        this.collection.updateOne(latestFilter(id), Updates.set("lastOpenAt", lastOpenAt));
+    }
 }
@@ -20,11 +20,14 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.application.query.model.*;
@@ -41,6 +44,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -61,13 +65,45 @@ public class QueryStoreManager
     private static final String QUERY_PROFILE_TAG_DATA_SPACE = "dataSpace";
     private static final List<String> EXCLUDED_PROJECTION_FIELDS = Arrays.asList("audit.validUntil", "audit.version", "content", "executionContext", "taggedValues", "stereotypes", "defaultParameterValues", "gridConfig");
     private static final int GET_QUERIES_LIMIT = 50;
+    private static final List<Bson> QUERY_EVENT_INDEXES = Arrays.asList(
+            Indexes.ascending("queryId", "timestamp"),
+            Indexes.ascending("eventType", "timestamp"),
+            Indexes.ascending("timestamp")
+    );
+
+    public static final long DEFAULT_QUERY_CACHE_TIME_TO_LIVE_MILLIS = 10_000;
+    private static final int MAX_NUMBER_OF_CACHED_QUERIES = 10_000;
 
     private final MongoClient mongoClient;
     private ApplicationQueryDao queryDao;
+    // queries recently opened, changes made through this manager are reflected immediately, changes made elsewhere once entries expire
+    private final long queryCacheTimeToLiveMillis;
+    private final ConcurrentMutableMap<String, CachedQuery> queryCache = ConcurrentHashMap.newMap();
+    // bumped by every write, so a read which started before a write does not cache what it read
+    private final AtomicLong queryCacheGeneration = new AtomicLong();
 
     public QueryStoreManager(MongoClient mongoClient)
+    {
+        this(mongoClient, DEFAULT_QUERY_CACHE_TIME_TO_LIVE_MILLIS);
+    }
+
+    /**
+     * @param queryCacheTimeToLiveMillis how long queries fetched by ID are kept in memory, 0 disables caching
+     */
+    public QueryStoreManager(MongoClient mongoClient, long queryCacheTimeToLiveMillis)
     {
         this.mongoClient = mongoClient;
+        this.queryCacheTimeToLiveMillis = queryCacheTimeToLiveMillis;
+    }
+
+    /**
+     * Creates the indexes used by query lookups, searches and event queries. Indexes which already exist are left untouched.
+     */
+    public void createIndexes()
+    {
+        getQueryDao().createIndexes();
+        MongoCollection<Document> queryEventCollection = this.getQueryEventCollection();
+        QUERY_EVENT_INDEXES.forEach(queryEventCollection::createIndex);
     }
 
     private MongoDatabase getQueryDatabase()
@@ -102,7 +138,7 @@ public class QueryStoreManager
         throw new RuntimeException("Query event MongoDB collection has not been configured properly");
     }
 
-    private ApplicationQueryDao getQueryDao()
+    ApplicationQueryDao getQueryDao()
     {
         if (this.queryDao == null)
         {
@@ -380,17 +416,76 @@ public class QueryStoreManager
     }
 
     public Query getQuery(String queryId)
+    {
+        ApplicationStoredQuery storedQuery = this.getCachedQuery(queryId);
+        if (storedQuery == null)
+        {
+            long generation = this.queryCacheGeneration.get();
+            storedQuery = this.getStoredQuery(queryId);
+            this.cacheQuery(queryId, storedQuery, generation);
+        }
+
+        long lastOpenAt = Instant.now().toEpochMilli();
+        getQueryDao().updateLastOpenAt(queryId, lastOpenAt);
+        // the converted query is a copy, the cached one is never handed out
+        Query query = this.convertFromStoredQuery(storedQuery);
+        query.lastOpenAt = lastOpenAt;
+        return query;
+    }
+
+    private ApplicationStoredQuery getCachedQuery(String queryId)
+    {
+        CachedQuery cachedQuery = this.queryCache.get(queryId);
+        if (cachedQuery == null)
+        {
+            return null;
+        }
+        if (cachedQuery.expiresAt < System.currentTimeMillis())
+        {
+            this.queryCache.remove(queryId, cachedQuery);
+            return null;
+        }
+        return cachedQuery.query;
+    }
+
+    private ApplicationStoredQuery getStoredQuery(String queryId)
     {
         Optional<ApplicationStoredQuery> matchingQuery = getQueryDao().get(queryId);
         if (!matchingQuery.isPresent())
         {
             throw new ApplicationQueryException("Can't find query with ID '" + queryId + "'", Response.Status.NOT_FOUND);
         }
-        ApplicationStoredQuery storedQuery = matchingQuery.get();
+        return matchingQuery.get();
+    }
+
+    private void cacheQuery(String queryId, ApplicationStoredQuery storedQuery, long generation)
+    {
+        if (this.queryCacheTimeToLiveMillis <= 0)
+        {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (this.queryCache.size() >= MAX_NUMBER_OF_CACHED_QUERIES)
+        {
+            this.queryCache.removeIf((id, cachedQuery) -> cachedQuery.expiresAt < now);
+            if (this.queryCache.size() >= MAX_NUMBER_OF_CACHED_QUERIES)
+            {
+                this.queryCache.clear();
+            }
+        }
+        CachedQuery cachedQuery = new CachedQuery(storedQuery, now + this.queryCacheTimeToLiveMillis);
+        this.queryCache.put(queryId, cachedQuery);
+        // checked after putting: a write either sees the entry and removes it, or bumped the generation before this check
+        if (this.queryCacheGeneration.get() != generation)
+        {
+            this.queryCache.remove(queryId, cachedQuery);
+        }
+    }
 
-        storedQuery.lastOpenAt = Instant.now().toEpochMilli();
-        getQueryDao().update(queryId, storedQuery, null, false);
-        return this.convertFromStoredQuery(storedQuery);
+    private void invalidateCachedQuery(String queryId)
+    {
+        this.queryCacheGeneration.incrementAndGet();
+        this.queryCache.remove(queryId);
     }
 
     public Query createQuery(Query query, String currentUser) throws JsonProcessingException
@@ -406,6 +501,7 @@ public class QueryStoreManager
         }
 
         ApplicationStoredQuery createdQuery = getQueryDao().create(convertToStoredQuery(query), currentUser);
+        this.invalidateCachedQuery(query.id);
         query = this.convertFromStoredQuery(createdQuery);
 
         QueryEvent createdEvent = createEvent(query.id, QueryEvent.QueryEventType.CREATED);
@@ -439,6 +535,7 @@ public class QueryStoreManager
         ApplicationStoredQuery storedQuery = convertToStoredQuery(query);
 
         ApplicationStoredQuery updatedQuery = getQueryDao().update(queryId, storedQuery, currentUser);
+        this.invalidateCachedQuery(queryId);
         query = this.convertFromStoredQuery(updatedQuery);
 
         QueryEvent updatedEvent = createEvent(query.id, QueryEvent.QueryEventType.UPDATED);
@@ -449,7 +546,8 @@ public class QueryStoreManager
 
     public Query patchQuery(String queryId, Query updatedQuery, String currentUser) throws JsonProcessingException
     {
-        Query currentQuery = this.getQuery(queryId);
+        // read through the cache, the patch applies to the stored query
+        Query currentQuery = this.convertFromStoredQuery(this.getStoredQuery(queryId));
         // Make sure only the owner can update the query
         // NOTE: if the query is created by an anonymous user previously, set the current user as the owner;
         // we handle this case on the database update itself
@@ -476,6 +574,7 @@ public class QueryStoreManager
             }
         }
         ApplicationStoredQuery storedQuery = getQueryDao().update(queryId, convertToStoredQuery(currentQuery), currentUser);
+        this.invalidateCachedQuery(queryId);
         currentQuery = convertFromStoredQuery(storedQuery);
 
         QueryEvent updatedEvent = createEvent(queryId, QueryEvent.QueryEventType.UPDATED);
@@ -496,6 +595,7 @@ public class QueryStoreManager
             throw new ApplicationQueryException("Only owner can delete the query", Response.Status.FORBIDDEN);
         }
         getQueryDao().delete(queryId, currentUser);
+        this.invalidateCachedQuery(queryId);
         this.getQueryEventCollection().insertOne(queryEventToDocument(createEvent(queryId, QueryEvent.QueryEventType.DELETED)));
     }
 
@@ -525,7 +625,8 @@ public class QueryStoreManager
 
     public QueryStoreStats getQueryStoreStats()
     {
-        Long count = this.getQueryDatabase().getCollection(getQueryCollectionName()).countDocuments();
+        // collection metadata rather than a scan of all the documents
+        Long count = this.getQueryDatabase().getCollection(getQueryCollectionName()).estimatedDocumentCount();
         QueryStoreStats storeStats = new QueryStoreStats();
         storeStats.setQueryCount(count);
         Bson dataSpaceFilter = Filters.and(
@@ -535,4 +636,16 @@ public class QueryStoreManager
                 .countDocuments(dataSpaceFilter));
         return storeStats;
     }
+
+    private static class CachedQuery
+    {
+        private final ApplicationStoredQuery query;
+        private final long expiresAt;
+
+        private CachedQuery(ApplicationStoredQuery query, long expiresAt)
+        {
+            this.query = query;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.application.query.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.application.query.model.*;
@@ -27,6 +28,7 @@ import org.junit.*;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 public class TestQueryStoreManager
@@ -1619,4 +1621,111 @@ public class TestQueryStoreManager
         Assert.assertEquals(3, store.getQueryEvents(null, null, event2.timestamp, null, null).size());
         Assert.assertEquals(4, store.getQueryEvents(null, null, null, event2.timestamp, null).size());
     }
+
+    @Test
+    public void testCreateIndexes() throws Exception
+    {
+        String currentUser = "testUser";
+        store.createQuery(TestQueryBuilder.create("1", "query1", currentUser).withExplicitExecution().build(), currentUser);
+
+        store.createIndexes();
+        // indexes which already exist are left untouched
+        store.createIndexes();
+
+        Assert.assertEquals("query1", store.searchQueries(new TestQuerySearchSpecificationBuilder().withSearchTerm("query1").build(), currentUser).get(0).name);
+        Assert.assertEquals("query1", store.getQuery("1").name);
+    }
+
+    @Test
+    public void testGetQueryFromCacheReflectsChanges() throws Exception
+    {
+        String currentUser = "testUser";
+        Query createdQuery = store.createQuery(TestQueryBuilder.create("1", "query1", currentUser).withExplicitExecution().build(), currentUser);
+
+        Query firstOpen = store.getQuery("1");
+        Thread.sleep(10);
+        Query secondOpen = store.getQuery("1");
+        Assert.assertTrue(secondOpen.lastOpenAt > firstOpen.lastOpenAt);
+        Assert.assertEquals(Integer.valueOf(1), secondOpen.version);
+
+        // queries handed out are copies of the cached one
+        secondOpen.name = "changed";
+        Assert.assertEquals("query1", store.getQuery("1").name);
+
+        createdQuery.name = "query1_v2";
+        store.updateQuery("1", createdQuery, currentUser);
+        Assert.assertEquals("query1_v2", store.getQuery("1").name);
+        Assert.assertEquals(Integer.valueOf(2), store.getQuery("1").version);
+
+        store.deleteQuery("1", currentUser);
+        Assert.assertEquals("Can't find query with ID '1'", Assert.assertThrows(ApplicationQueryException.class, () -> store.getQuery("1")).getMessage());
+    }
+
+    @Test
+    public void testPatchQueryReadsThroughCache() throws Exception
+    {
+        String currentUser = "testUser";
+        QueryStoreManager cachingStore = new QueryStoreManager(testMongoClientProvider.mongoClient);
+        QueryStoreManager otherStore = new QueryStoreManager(testMongoClientProvider.mongoClient);
+        cachingStore.createQuery(TestQueryBuilder.create("1", "query1", currentUser).withExplicitExecution().build(), currentUser);
+        Assert.assertEquals("query1", cachingStore.getQuery("1").name);
+
+        Query renamedQuery = otherStore.getQuery("1");
+        renamedQuery.name = "renamed";
+        otherStore.updateQuery("1", renamedQuery, currentUser);
+
+        // the patch applies to the stored query, not the one still cached
+        Query patchQuery = new Query();
+        patchQuery.id = "1";
+        patchQuery.versionId = "1.0.0";
+        Query patched = cachingStore.patchQuery("1", patchQuery, currentUser);
+        Assert.assertEquals("renamed", patched.name);
+        Assert.assertEquals("1.0.0", patched.versionId);
+        Assert.assertEquals("renamed", cachingStore.getQuery("1").name);
+    }
+
+    @Test
+    public void testGetQueryDoesNotCacheQueryUpdatedWhileReading() throws Exception
+    {
+        String currentUser = "testUser";
+        AtomicReference<Runnable> duringRead = new AtomicReference<>();
+        QueryStoreManager racingStore = new QueryStoreManager(testMongoClientProvider.mongoClient)
+        {
+            @Override
+            ApplicationQueryDao getQueryDao()
+            {
+                return new ApplicationQueryDao(testMongoClientProvider.mongoClient, "test", "query")
+                {
+                    @Override
+                    public Optional<ApplicationStoredQuery> get(String id)
+                    {
+                        Optional<ApplicationStoredQuery> storedQuery = super.get(id);
+                        Runnable write = duringRead.getAndSet(null);
+                        if (write != null)
+                        {
+                            write.run();
+                        }
+                        return storedQuery;
+                    }
+                };
+            }
+        };
+        Query createdQuery = racingStore.createQuery(TestQueryBuilder.create("1", "query1", currentUser).withExplicitExecution().build(), currentUser);
+
+        createdQuery.name = "query1_v2";
+        duringRead.set(() ->
+        {
+            try
+            {
+                racingStore.updateQuery("1", createdQuery, currentUser);
+            }
+            catch (JsonProcessingException e)
+            {
+                throw new RuntimeException(e);
+            }
+        });
+        // the read which started before the update returns the old query, but does not cache it
+        Assert.assertEquals("query1", racingStore.getQuery("1").name);
+        Assert.assertEquals("query1_v2", racingStore.getQuery("1").name);
+    }
 }
@@ -0,0 +1,122 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.repl.dataCube.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.protocol.pure.m3.function.Function;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCTION_QUALIFIED_PATH;
+
+/**
+ * Least-recently-used cache of the (serialized) execution plans generated for DataCube queries, so that grid interactions
+ * which come back to a query already seen (scrolling, toggling a sort or a grouping back, etc.) skip compilation and plan
+ * generation. Plans are keyed by a digest of the query code and of the rest of the graph, so any change to either of them
+ * is a cache miss; only the plan is cached, the query is always executed.
+ */
+public class DataCubeExecutionPlanCache
+{
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, String> plans;
+
+    public DataCubeExecutionPlanCache(ObjectMapper objectMapper)
+    {
+        this(objectMapper, DEFAULT_MAX_SIZE);
+    }
+
+    public DataCubeExecutionPlanCache(ObjectMapper objectMapper, int maxSize)
+    {
+        this.objectMapper = objectMapper;
+        this.plans = new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public String getPlan(PureModelContextData data, Function0<String> planGenerator)
+    {
+        String key = getKey(data);
+        synchronized (this.plans)
+        {
+            String plan = this.plans.get(key);
+            if (plan != null)
+            {
+                return plan;
+            }
+        }
+        // generate outside of the lock: concurrent requests for the same query may both generate the plan, which is harmless
+        String plan = planGenerator.value();
+        synchronized (this.plans)
+        {
+            this.plans.put(key, plan);
+        }
+        return plan;
+    }
+
+    public int size()
+    {
+        synchronized (this.plans)
+        {
+            return this.plans.size();
+        }
+    }
+
+    public void clear()
+    {
+        synchronized (this.plans)
+        {
+            this.plans.clear();
+        }
+    }
+
+    private String getKey(PureModelContextData data)
+    {
+        // the query is keyed by its code rather than its protocol so that source information does not matter
+        Function func = (Function) ListIterate.select(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
+        String queryCode = func == null ? "" : DataCubeHelpers.getQueryCode(func.body.get(0), false);
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(queryCode.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(this.objectMapper.writeValueAsBytes(ListIterate.reject(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH))));
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest())
+            {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException | JsonProcessingException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
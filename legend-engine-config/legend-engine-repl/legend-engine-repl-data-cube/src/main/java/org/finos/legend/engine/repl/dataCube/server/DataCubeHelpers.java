@@ -65,6 +65,11 @@ import static org.finos.legend.engine.repl.shared.ExecutionHelper.REPL_RUN_FUNCT
 public class DataCubeHelpers
 {
     public static DataCubeExecutionResult executeQuery(Client client, LegendInterface legendInterface, PlanExecutor planExecutor, PureModelContextData data, boolean debug) throws IOException
+    {
+        return executeQuery(client, legendInterface, planExecutor, data, debug, null);
+    }
+
+    public static DataCubeExecutionResult executeQuery(Client client, LegendInterface legendInterface, PlanExecutor planExecutor, PureModelContextData data, boolean debug, DataCubeExecutionPlanCache planCache) throws IOException
     {
         Function func = (Function) ListIterate.select(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
         String queryCode = getQueryCode(func.body.get(0), false);
@@ -76,22 +81,7 @@ public class DataCubeHelpers
             client.println("Function: " + queryCode);
         }
 
-        PureModel pureModel = legendInterface.compile(data);
-        RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
-
-        // Plan
-        if (client != null && debug)
-        {
-            client.printDebug("---------------------------------------- PLAN ----------------------------------------");
-        }
-        // TODO: Since H2 does not support pivot(), when pivot() is used, the debugger will fail as it defaults to use H2
-        // when we switch out to use DuckDB as the core testing DB, then this issue should be resolved
-        Root_meta_pure_executionPlan_ExecutionPlan _plan = legendInterface.generatePlan(pureModel, false);
-        String planStr = PlanGenerator.serializeToJSON(_plan, "vX_X_X", pureModel, extensions, LegendPlanTransformers.transformers);
-        if (client != null && debug)
-        {
-            client.println("Generated Plan: " + planStr);
-        }
+        String planStr = generatePlan(client, legendInterface, data, debug, planCache);
 
         // Execute
         Identity identity;
@@ -130,6 +120,11 @@ public class DataCubeHelpers
     }
 
     public static DataCubeGetExecutionPlanResult getExecutionPlan(Client client, LegendInterface legendInterface, PureModelContextData data, boolean debug) throws IOException
+    {
+        return getExecutionPlan(client, legendInterface, data, debug, null);
+    }
+
+    public static DataCubeGetExecutionPlanResult getExecutionPlan(Client client, LegendInterface legendInterface, PureModelContextData data, boolean debug, DataCubeExecutionPlanCache planCache) throws IOException
     {
         Function func = (Function) ListIterate.select(data.getElements(), e -> e.getPath().equals(REPL_RUN_FUNCTION_QUALIFIED_PATH)).getFirst();
         String queryCode = getQueryCode(func.body.get(0), false);
@@ -141,6 +136,28 @@ public class DataCubeHelpers
             client.println("Function: " + queryCode);
         }
 
+        String planStr = generatePlan(client, legendInterface, data, debug, planCache);
+
+        DataCubeGetExecutionPlanResult result = new DataCubeGetExecutionPlanResult();
+        result.plan = (SingleExecutionPlan) PlanExecutor.readExecutionPlan(planStr);
+        return result;
+    }
+
+    /**
+     * Compile the graph and generate the (serialized) execution plan of its query, or get it from the cache (if any) when
+     * the same query was already planned against the same graph. Debugging always goes through compilation and planning.
+     */
+    private static String generatePlan(Client client, LegendInterface legendInterface, PureModelContextData data, boolean debug, DataCubeExecutionPlanCache planCache)
+    {
+        if (planCache == null || debug)
+        {
+            return generatePlan(client, legendInterface, data, debug);
+        }
+        return planCache.getPlan(data, () -> generatePlan(client, legendInterface, data, false));
+    }
+
+    private static String generatePlan(Client client, LegendInterface legendInterface, PureModelContextData data, boolean debug)
+    {
         PureModel pureModel = legendInterface.compile(data);
         RichIterable<? extends Root_meta_pure_extension_Extension> extensions = PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
 
@@ -157,10 +174,7 @@ public class DataCubeHelpers
         {
             client.println("Generated Plan: " + planStr);
         }
-
-        DataCubeGetExecutionPlanResult result = new DataCubeGetExecutionPlanResult();
-        result.plan = (SingleExecutionPlan) PlanExecutor.readExecutionPlan(planStr);
-        return result;
+        return planStr;
     }
 
     public static RelationType getRelationReturnType(LegendInterface legendInterface, LambdaFunction lambda, PureModelContextData model)
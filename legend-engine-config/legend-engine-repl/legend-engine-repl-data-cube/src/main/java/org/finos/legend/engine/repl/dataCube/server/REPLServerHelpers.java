@@ -107,6 +107,7 @@ public class REPLServerHelpers
         public final ObjectMapper objectMapper;
         public final PlanExecutor planExecutor;
         public final LegendInterface legendInterface;
+        public final DataCubeExecutionPlanCache executionPlanCache;
         public Long startTime;
 
         private PureModelContextData currentPureModelContextData;
@@ -120,12 +121,14 @@ public class REPLServerHelpers
             this.objectMapper = objectMapper;
             this.planExecutor = planExecutor;
             this.legendInterface = legendInterface;
+            this.executionPlanCache = new DataCubeExecutionPlanCache(objectMapper);
         }
 
         private void initialize(PureModelContextData pureModelContextData, List<DataCubeQueryColumn> columns)
         {
             this.currentPureModelContextData = pureModelContextData;
             this.startTime = System.currentTimeMillis();
+            this.executionPlanCache.clear();
 
             // -------------------- SOURCE --------------------
             // try to extract the runtime for the query
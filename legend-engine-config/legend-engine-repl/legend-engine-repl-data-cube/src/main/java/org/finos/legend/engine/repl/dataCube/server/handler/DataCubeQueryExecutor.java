@@ -52,7 +52,7 @@ public class DataCubeQueryExecutor
                         boolean debug = input.debug != null && input.debug;
                         LambdaFunction lambda = input.query;
                         PureModelContextData data = DataCubeHelpers.injectNewFunction(input.model != null ? input.model : state.getCurrentPureModelContextData(), lambda).getOne();
-                        DataCubeExecutionResult result = executeQuery(state.client, state.legendInterface, state.planExecutor, data, debug);
+                        DataCubeExecutionResult result = executeQuery(state.client, state.legendInterface, state.planExecutor, data, debug, state.executionPlanCache);
                         handleJSONResponse(exchange, 200, state.objectMapper.writeValueAsString(result), state);
                     }
                     catch (Exception e)
@@ -82,7 +82,7 @@ public class DataCubeQueryExecutor
                         boolean debug = input.debug != null && input.debug;
                         LambdaFunction lambda = input.query;
                         PureModelContextData model = DataCubeHelpers.injectNewFunction(input.model != null ? input.model : state.getCurrentPureModelContextData(), lambda).getOne();
-                        DataCubeGetExecutionPlanResult result = getExecutionPlan(state.client, state.legendInterface, model, debug);
+                        DataCubeGetExecutionPlanResult result = getExecutionPlan(state.client, state.legendInterface, model, debug, state.executionPlanCache);
                         handleJSONResponse(exchange, 200, state.objectMapper.writeValueAsString(result), state);
                     }
                     catch (Exception e)
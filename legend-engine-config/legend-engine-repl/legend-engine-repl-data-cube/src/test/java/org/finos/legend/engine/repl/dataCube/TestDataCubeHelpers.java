@@ -25,6 +25,7 @@ import org.finos.legend.engine.protocol.pure.m3.function.LambdaFunction;
 import org.finos.legend.engine.repl.autocomplete.CompleterExtension;
 import org.finos.legend.engine.repl.core.legend.LegendInterface;
 import org.finos.legend.engine.repl.core.legend.LocalLegendInterface;
+import org.finos.legend.engine.repl.dataCube.server.DataCubeExecutionPlanCache;
 import org.finos.legend.engine.repl.dataCube.server.DataCubeHelpers;
 import org.finos.legend.engine.repl.dataCube.server.model.DataCubeExecutionResult;
 import org.finos.legend.engine.repl.relational.autocomplete.RelationalCompleterExtension;
@@ -116,6 +117,24 @@ public class TestDataCubeHelpers
         testExecuteQuery(expectedResult, lambda);
     }
 
+    @Test
+    public void testExecuteWithPlanCache() throws IOException
+    {
+        DataCubeExecutionPlanCache planCache = new DataCubeExecutionPlanCache(objectMapper);
+        PureModelContextData sortData = DataCubeHelpers.injectNewFunction(pureModelContextData, (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)", false)).getOne();
+        PureModelContextData filterData = DataCubeHelpers.injectNewFunction(pureModelContextData, (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->filter(c | $c.FIRSTNAME != 'Doe')->from(test::test)", false)).getOne();
+
+        String expected = RelationalResultToJsonDefaultSerializer.removeComment(executeQuery(null, legendInterface, planExecutor, sortData, false).result);
+        Assert.assertEquals(expected, RelationalResultToJsonDefaultSerializer.removeComment(executeQuery(null, legendInterface, planExecutor, sortData, false, planCache).result));
+        Assert.assertEquals(1, planCache.size());
+        // same query, parsed again (with source information): served from the cache
+        PureModelContextData sortDataAgain = DataCubeHelpers.injectNewFunction(pureModelContextData, (LambdaFunction) DataCubeHelpers.parseQuery("|#>{test::TestDatabase.TEST0}#->sort([~FIRSTNAME->ascending()])->from(test::test)", true)).getOne();
+        Assert.assertEquals(expected, RelationalResultToJsonDefaultSerializer.removeComment(executeQuery(null, legendInterface, planExecutor, sortDataAgain, false, planCache).result));
+        Assert.assertEquals(1, planCache.size());
+        executeQuery(null, legendInterface, planExecutor, filterData, false, planCache);
+        Assert.assertEquals(2, planCache.size());
+    }
+
     private void testExecuteQuery(String expectedResult, String code)
     {
         try
@@ -30,7 +30,6 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.list.mutable.FastList;
-import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.LazyIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.jetty.server.session.SessionHandler;
@@ -94,6 +93,7 @@ import org.finos.legend.engine.plan.execution.api.ExecutePlanLegacy;
 import org.finos.legend.engine.plan.execution.api.ExecutePlanStrategic;
 import org.finos.legend.engine.plan.execution.api.concurrent.ConcurrentExecutionNodeExecutorPoolInfo;
 import org.finos.legend.engine.plan.execution.api.concurrent.ParallelGraphFetchExecutionExecutorPoolInfo;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.service.api.ServiceModelingApi;
@@ -141,6 +141,7 @@ import org.finos.legend.engine.server.core.ServerShared;
 import org.finos.legend.engine.server.core.api.CurrentUser;
 import org.finos.legend.engine.server.core.api.Info;
 import org.finos.legend.engine.server.core.api.Memory;
+import org.finos.legend.engine.server.core.api.Startup;
 import org.finos.legend.engine.server.core.bundles.ErrorHandlingBundle;
 import org.finos.legend.engine.server.core.exceptionMappers.CatchAllExceptionMapper;
 import org.finos.legend.engine.server.core.exceptionMappers.JsonInformationExceptionMapper;
@@ -151,6 +152,7 @@ import org.finos.legend.engine.server.core.session.StoreExecutableManagerSession
 import org.finos.legend.engine.server.core.session.api.SessionInfo;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentStateAndVersions;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 import org.finos.legend.engine.shared.core.operational.http.InflateInterceptor;
 import org.finos.legend.engine.shared.core.url.EngineUrlStreamHandlerFactory;
 import org.finos.legend.engine.shared.core.vault.PropertyVaultConfiguration;
@@ -174,7 +176,6 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.ServiceLoader;
 
 public class Server<T extends ServerConfiguration> extends Application<T>
 {
@@ -274,180 +275,199 @@ public class Server<T extends ServerConfiguration> extends Application<T>
     @Override
     public void run(T serverConfiguration, Environment environment)
     {
-        loadVaults(serverConfiguration.vaults);
-
-        this.environment = environment;
-        DeploymentStateAndVersions.DEPLOYMENT_MODE = serverConfiguration.deployment.mode;
-
-        ModelManager modelManager = new ModelManager(serverConfiguration.deployment.mode, getModelLoaders(serverConfiguration));
-
-        ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
-
-        CredentialProviderProvider credentialProviderProvider = this.configureCredentialProviders(serverConfiguration.vaults);
-
-        RelationalExecutionConfiguration relationalExecution = serverConfiguration.relationalexecution;
-        relationalExecution.setCredentialProviderProvider(credentialProviderProvider);
-
-        if (relationalExecution.getFlowProviderClass() == null || relationalExecution.getFlowProviderConfiguration() == null)
-        {
-            relationalExecution.setFlowProviderClass(LegendDefaultDatabaseAuthenticationFlowProvider.class);
-            relationalExecution.setFlowProviderConfiguration(new LegendDefaultDatabaseAuthenticationFlowProviderConfiguration());
-        }
-        relationalStoreExecutor = (RelationalStoreExecutor) Relational.build(serverConfiguration.relationalexecution);
-
-        ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = ServiceStoreExecutionConfiguration.builder().withCredentialProviderProvider(credentialProviderProvider).build();
-        ServiceStoreExecutor serviceStoreExecutor = (ServiceStoreExecutor) new ServiceStoreExecutorBuilder().build(serviceStoreExecutionConfiguration);
-
-        MongoDBStoreExecutorConfiguration mongoDBExecutorConfiguration = MongoDBStoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
-        MongoDBStoreExecutor mongoDBStoreExecutor = new MongoDBStoreExecutorBuilder().build(mongoDBExecutorConfiguration);
-
-        ElasticsearchV7StoreExecutorConfiguration elasticsearchV7StoreExecutorConfiguration = ElasticsearchV7StoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
-        ElasticsearchV7StoreExecutor elasticsearchV7StoreExecutor = (ElasticsearchV7StoreExecutor) new ElasticsearchV7StoreExecutorBuilder().build(elasticsearchV7StoreExecutorConfiguration);
-
-        DeephavenStoreExecutorConfiguration deephavenExecutorConfiguration = DeephavenStoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
-        DeephavenStoreExecutor deephavenStoreExecutor = new DeephavenStoreExecutorBuilder().build(deephavenExecutorConfiguration);
-
-        PlanExecutor planExecutor;
-        ParallelGraphFetchExecutionExecutorPool parallelGraphFetchExecutionExecutorPool = null;
-        if (serverConfiguration.graphFetchExecutionConfiguration != null)
+        try (StartupProfile.Phase runPhase = StartupProfile.phase("Server run"))
         {
-            GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = serverConfiguration.graphFetchExecutionConfiguration;
-            planExecutor = PlanExecutor.newPlanExecutor(graphFetchExecutionConfiguration, relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
-            if (graphFetchExecutionConfiguration.canExecuteInParallel())
+            ModelManager modelManager;
+            PlanExecutor planExecutor;
+            ParallelGraphFetchExecutionExecutorPool parallelGraphFetchExecutionExecutorPool = null;
+            List<ConcurrentExecutionNodeExecutorPool> concurrentExecutionNodeExecutorPools = Collections.emptyList();
+            try (StartupProfile.Phase storesPhase = StartupProfile.phase("Store executors"))
             {
-                parallelGraphFetchExecutionExecutorPool = new ParallelGraphFetchExecutionExecutorPool(graphFetchExecutionConfiguration.getParallelGraphFetchExecutionConfig(), "thread-pool for parallel graphFetch execution");
-                planExecutor.injectGraphFetchExecutionNodeExecutorPool(parallelGraphFetchExecutionExecutorPool);
+                loadVaults(serverConfiguration.vaults);
+
+                this.environment = environment;
+                DeploymentStateAndVersions.DEPLOYMENT_MODE = serverConfiguration.deployment.mode;
+
+                modelManager = new ModelManager(serverConfiguration.deployment.mode, getModelLoaders(serverConfiguration));
+
+                ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
+
+                CredentialProviderProvider credentialProviderProvider = this.configureCredentialProviders(serverConfiguration.vaults);
+
+                RelationalExecutionConfiguration relationalExecution = serverConfiguration.relationalexecution;
+                relationalExecution.setCredentialProviderProvider(credentialProviderProvider);
+
+                if (relationalExecution.getFlowProviderClass() == null || relationalExecution.getFlowProviderConfiguration() == null)
+                {
+                    relationalExecution.setFlowProviderClass(LegendDefaultDatabaseAuthenticationFlowProvider.class);
+                    relationalExecution.setFlowProviderConfiguration(new LegendDefaultDatabaseAuthenticationFlowProviderConfiguration());
+                }
+                relationalStoreExecutor = (RelationalStoreExecutor) Relational.build(serverConfiguration.relationalexecution);
+
+                ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = ServiceStoreExecutionConfiguration.builder().withCredentialProviderProvider(credentialProviderProvider).build();
+                ServiceStoreExecutor serviceStoreExecutor = (ServiceStoreExecutor) new ServiceStoreExecutorBuilder().build(serviceStoreExecutionConfiguration);
+
+                MongoDBStoreExecutorConfiguration mongoDBExecutorConfiguration = MongoDBStoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
+                MongoDBStoreExecutor mongoDBStoreExecutor = new MongoDBStoreExecutorBuilder().build(mongoDBExecutorConfiguration);
+
+                ElasticsearchV7StoreExecutorConfiguration elasticsearchV7StoreExecutorConfiguration = ElasticsearchV7StoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
+                ElasticsearchV7StoreExecutor elasticsearchV7StoreExecutor = (ElasticsearchV7StoreExecutor) new ElasticsearchV7StoreExecutorBuilder().build(elasticsearchV7StoreExecutorConfiguration);
+
+                DeephavenStoreExecutorConfiguration deephavenExecutorConfiguration = DeephavenStoreExecutorConfiguration.newInstance().withCredentialProviderProvider(credentialProviderProvider).build();
+                DeephavenStoreExecutor deephavenStoreExecutor = new DeephavenStoreExecutorBuilder().build(deephavenExecutorConfiguration);
+
+                if (serverConfiguration.graphFetchExecutionConfiguration != null)
+                {
+                    GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = serverConfiguration.graphFetchExecutionConfiguration;
+                    planExecutor = PlanExecutor.newPlanExecutor(graphFetchExecutionConfiguration, relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
+                    if (graphFetchExecutionConfiguration.canExecuteInParallel())
+                    {
+                        parallelGraphFetchExecutionExecutorPool = new ParallelGraphFetchExecutionExecutorPool(graphFetchExecutionConfiguration.getParallelGraphFetchExecutionConfig(), "thread-pool for parallel graphFetch execution");
+                        planExecutor.injectGraphFetchExecutionNodeExecutorPool(parallelGraphFetchExecutionExecutorPool);
+                    }
+                }
+                else
+                {
+                    planExecutor = PlanExecutor.newPlanExecutor(relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
+                }
+                if (serverConfiguration.concurrentExecutionNodeExecutorPool != null)
+                {
+                    ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool = new ConcurrentExecutionNodeExecutorPool(serverConfiguration.concurrentExecutionNodeExecutorPool, "thread-pool for concurrent execution of sibling nodes");
+                    planExecutor.injectConcurrentExecutionNodeExecutorPool(concurrentExecutionNodeExecutorPool);
+                    concurrentExecutionNodeExecutorPools = Collections.singletonList(concurrentExecutionNodeExecutorPool);
+                }
             }
-        }
-        else
-        {
-            planExecutor = PlanExecutor.newPlanExecutor(relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
-        }
 
-        // Session Management
-        SessionTracker sessionTracker = new SessionTracker();
-        SessionHandler sessionHandler = new SessionHandler();
-        StoreExecutableManagerSessionListener storeExecutableManagerSessionListener = new StoreExecutableManagerSessionListener();
-        if (serverConfiguration.sessionCookie != null)
-        {
-            sessionHandler.setSessionCookie(serverConfiguration.sessionCookie);
+            try (StartupProfile.Phase apisPhase = StartupProfile.phase("API registration"))
+            {
+                // Session Management
+                SessionTracker sessionTracker = new SessionTracker();
+                SessionHandler sessionHandler = new SessionHandler();
+                StoreExecutableManagerSessionListener storeExecutableManagerSessionListener = new StoreExecutableManagerSessionListener();
+                if (serverConfiguration.sessionCookie != null)
+                {
+                    sessionHandler.setSessionCookie(serverConfiguration.sessionCookie);
+                }
+                environment.servlets().setSessionHandler(sessionHandler);
+                environment.servlets().addServletListeners(sessionTracker);
+                environment.servlets().addServletListeners(storeExecutableManagerSessionListener);
+                environment.jersey().register(new SessionInfo(sessionTracker));
+
+                // API & Swagger
+                environment.jersey().setUrlPattern("/api/*");
+                ServerShared.registerSwagger(environment, serverConfiguration.swagger);
+
+                // Server
+                environment.jersey().register(new Info(serverConfiguration.deployment, serverConfiguration.opentracing));
+                environment.jersey().register(new CurrentUser());
+                environment.jersey().register(new Memory());
+                environment.jersey().register(new Startup());
+                environment.jersey().register(new RelationalExecutorInformation());
+                environment.jersey().register(new ConcurrentExecutionNodeExecutorPoolInfo(concurrentExecutionNodeExecutorPools));
+                environment.jersey().register(new ParallelGraphFetchExecutionExecutorPoolInfo(parallelGraphFetchExecutionExecutorPool));
+
+                // PCT
+                environment.jersey().register(new PCT());
+                environment.jersey().register(new Documentation());
+
+                // Protocol
+                environment.jersey().register(new PureProtocol());
+
+                // Grammar
+                environment.jersey().register(new GrammarToJson());
+                environment.jersey().register(new JsonToGrammar(modelManager));
+                environment.jersey().register(new RelationalOperationElementGrammarToJson());
+                environment.jersey().register(new RelationalOperationElementJsonToGrammar());
+                environment.jersey().register(new TransformGrammarToJson());
+                environment.jersey().register(new TransformJsonToGrammar());
+                environment.jersey().register(new TransformRelationalOperationElementGrammarToJson());
+                environment.jersey().register(new TransformRelationalOperationElementJsonToGrammar());
+
+                // Relational
+                environment.jersey().register(new SchemaExplorationApi(relationalStoreExecutor));
+                environment.jersey().register(new RelationalElementAPI(serverConfiguration.deployment.mode, relationalStoreExecutor));
+
+                // Compilation
+                environment.jersey().register((DynamicFeature) (resourceInfo, context) -> context.register(new InflateInterceptor()));
+                environment.jersey().register(new Compile(modelManager));
+                environment.jersey().register(new Autofix(modelManager));
+
+                // Generation and Import
+                MutableList<GenerationExtension> genExtensions = StartupProfile.loadExtensions(GenerationExtension.class);
+                environment.jersey().register(new CodeGenerators(modelManager, genExtensions.select(p -> p.getMode() == GenerationMode.Code).collect(GenerationExtension::getGenerationDescription).select(Objects::nonNull)));
+                environment.jersey().register(new SchemaGenerators(modelManager, genExtensions.select(p -> p.getMode() == GenerationMode.Schema).collect(GenerationExtension::getGenerationDescription).select(Objects::nonNull)));
+                // generator apis
+                environment.jersey().register(new GraphQLGenerationService(modelManager));
+                environment.jersey().register(new DAMLGenerationService(modelManager));
+                environment.jersey().register(new ProtobufGenerationService(modelManager));
+                environment.jersey().register(new GraphQLGenerationService(modelManager));
+                environment.jersey().register(new JSONSchemaGenerationService(modelManager));
+                environment.jersey().register(new AvroGenerationService(modelManager));
+
+                // Execution
+                MutableList<PlanGeneratorExtension> generatorExtensions = StartupProfile.loadExtensions(PlanGeneratorExtension.class);
+                Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions = (PureModel pureModel) -> PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
+                environment.jersey().register(new Execute(modelManager, planExecutor, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers)));
+                environment.jersey().register(new ExecutePlanStrategic(planExecutor));
+                environment.jersey().register(new ExecutePlanLegacy(planExecutor));
+
+                // Function Activator
+                environment.jersey().register(new FunctionActivatorAPI(modelManager, Lists.mutable.empty(), Lists.mutable.with(new SnowflakeAppService(planExecutor),  new SnowflakeM2MUdfService(planExecutor, (version) -> String.format("https://repo.maven.apache.org/maven2/org/finos/legend/engine/legend-engine-xt-snowflake-m2mudf-plan-executor/%S/legend-engine-xt-snowflake-m2mudf-plan-executor-%S-shaded.jar", version, version)), new HostedServiceService(),new MemSqlFunctionService(planExecutor)), routerExtensions));
+
+                // GraphQL
+                environment.jersey().register(new GraphQLGrammar());
+                environment.jersey().register(new GraphQLExecute(modelManager, planExecutor, serverConfiguration.metadataserver, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers)));
+                environment.jersey().register(new GraphQLDebug(modelManager, serverConfiguration.metadataserver, routerExtensions));
+
+                // SQL
+                ProjectCoordinateLoader projectCoordinateLoader = new ProjectCoordinateLoader(modelManager, serverConfiguration.metadataserver.getSdlc());
+                environment.jersey().register(new SqlExecute(new SQLExecutor(modelManager, planExecutor, routerExtensions, FastList.newListWith(
+                        new RelationalStoreSQLSourceProvider(projectCoordinateLoader),
+                        new FunctionSQLSourceProvider(projectCoordinateLoader),
+                        new LegendServiceSQLSourceProvider(projectCoordinateLoader)),
+                        generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers))));
+                environment.jersey().register(new SqlGrammar());
+                environment.jersey().register(new SqlSchema(modelManager));
+
+                // Service
+                environment.jersey().register(new ServiceModelingApi(modelManager, serverConfiguration.deployment.mode, planExecutor));
+
+                // Query
+                environment.jersey().register(new ApplicationQuery(ApplicationQueryConfiguration.getMongoClient()));
+
+                // Global
+                environment.jersey().register(new JsonInformationExceptionMapper());
+                environment.jersey().register(new CatchAllExceptionMapper());
+
+                // External Format
+                environment.jersey().register(new ExternalFormats(modelManager));
+                environment.jersey().register(new ArtifactGenerationExtensionApi(modelManager));
+
+                // Analytics
+                List<EntitlementServiceExtension> entitlementServiceExtensions = EntitlementServiceExtensionLoader.extensions();
+                environment.jersey().register(new MappingAnalytics(modelManager));
+                environment.jersey().register(new ClassAnalytics(modelManager));
+                environment.jersey().register(new FunctionAnalytics(modelManager));
+                environment.jersey().register(new BindingAnalytics(modelManager));
+                environment.jersey().register(new DiagramAnalytics(modelManager));
+                environment.jersey().register(new DataSpaceAnalytics(modelManager, generatorExtensions, entitlementServiceExtensions));
+                environment.jersey().register(new LineageAnalytics(modelManager));
+                environment.jersey().register(new StoreEntitlementAnalytics(modelManager, entitlementServiceExtensions));
+
+                // DataQuality
+                environment.jersey().register(new DataQualityExecute(modelManager, planExecutor, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers), serverConfiguration.metadataserver, null));
+
+                // Testable
+                environment.jersey().register(new TestableApi(modelManager, serverConfiguration.testableParallelism));
+
+                //TestData Generation
+                environment.jersey().register(new TestDataGeneration(modelManager));
+                environment.jersey().register(new TestDataGenerationAPI(modelManager, planExecutor));
+                environment.jersey().register(new MFT());
+                enableCors(environment, serverConfiguration);
+            }
         }
-        environment.servlets().setSessionHandler(sessionHandler);
-        environment.servlets().addServletListeners(sessionTracker);
-        environment.servlets().addServletListeners(storeExecutableManagerSessionListener);
-        environment.jersey().register(new SessionInfo(sessionTracker));
-
-        // API & Swagger
-        environment.jersey().setUrlPattern("/api/*");
-        ServerShared.registerSwagger(environment, serverConfiguration.swagger);
-
-        // Server
-        environment.jersey().register(new Info(serverConfiguration.deployment, serverConfiguration.opentracing));
-        environment.jersey().register(new CurrentUser());
-        environment.jersey().register(new Memory());
-        environment.jersey().register(new RelationalExecutorInformation());
-        environment.jersey().register(new ConcurrentExecutionNodeExecutorPoolInfo(Collections.emptyList()));
-        environment.jersey().register(new ParallelGraphFetchExecutionExecutorPoolInfo(parallelGraphFetchExecutionExecutorPool));
-
-        // PCT
-        environment.jersey().register(new PCT());
-        environment.jersey().register(new Documentation());
-
-        // Protocol
-        environment.jersey().register(new PureProtocol());
-
-        // Grammar
-        environment.jersey().register(new GrammarToJson());
-        environment.jersey().register(new JsonToGrammar(modelManager));
-        environment.jersey().register(new RelationalOperationElementGrammarToJson());
-        environment.jersey().register(new RelationalOperationElementJsonToGrammar());
-        environment.jersey().register(new TransformGrammarToJson());
-        environment.jersey().register(new TransformJsonToGrammar());
-        environment.jersey().register(new TransformRelationalOperationElementGrammarToJson());
-        environment.jersey().register(new TransformRelationalOperationElementJsonToGrammar());
-
-        // Relational
-        environment.jersey().register(new SchemaExplorationApi(relationalStoreExecutor));
-        environment.jersey().register(new RelationalElementAPI(serverConfiguration.deployment.mode, relationalStoreExecutor));
-
-        // Compilation
-        environment.jersey().register((DynamicFeature) (resourceInfo, context) -> context.register(new InflateInterceptor()));
-        environment.jersey().register(new Compile(modelManager));
-        environment.jersey().register(new Autofix(modelManager));
-
-        // Generation and Import
-        MutableList<GenerationExtension> genExtensions = Iterate.addAllTo(ServiceLoader.load(GenerationExtension.class), Lists.mutable.empty());
-        environment.jersey().register(new CodeGenerators(modelManager, genExtensions.select(p -> p.getMode() == GenerationMode.Code).collect(GenerationExtension::getGenerationDescription).select(Objects::nonNull)));
-        environment.jersey().register(new SchemaGenerators(modelManager, genExtensions.select(p -> p.getMode() == GenerationMode.Schema).collect(GenerationExtension::getGenerationDescription).select(Objects::nonNull)));
-        // generator apis
-        environment.jersey().register(new GraphQLGenerationService(modelManager));
-        environment.jersey().register(new DAMLGenerationService(modelManager));
-        environment.jersey().register(new ProtobufGenerationService(modelManager));
-        environment.jersey().register(new GraphQLGenerationService(modelManager));
-        environment.jersey().register(new JSONSchemaGenerationService(modelManager));
-        environment.jersey().register(new AvroGenerationService(modelManager));
-
-        // Execution
-        MutableList<PlanGeneratorExtension> generatorExtensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
-        Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions = (PureModel pureModel) -> PureCoreExtensionLoader.extensions().flatCollect(e -> e.extraPureCoreExtensions(pureModel.getExecutionSupport()));
-        environment.jersey().register(new Execute(modelManager, planExecutor, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers)));
-        environment.jersey().register(new ExecutePlanStrategic(planExecutor));
-        environment.jersey().register(new ExecutePlanLegacy(planExecutor));
-
-        // Function Activator
-        environment.jersey().register(new FunctionActivatorAPI(modelManager, Lists.mutable.empty(), Lists.mutable.with(new SnowflakeAppService(planExecutor),  new SnowflakeM2MUdfService(planExecutor, (version) -> String.format("https://repo.maven.apache.org/maven2/org/finos/legend/engine/legend-engine-xt-snowflake-m2mudf-plan-executor/%S/legend-engine-xt-snowflake-m2mudf-plan-executor-%S-shaded.jar", version, version)), new HostedServiceService(),new MemSqlFunctionService(planExecutor)), routerExtensions));
-
-        // GraphQL
-        environment.jersey().register(new GraphQLGrammar());
-        environment.jersey().register(new GraphQLExecute(modelManager, planExecutor, serverConfiguration.metadataserver, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers)));
-        environment.jersey().register(new GraphQLDebug(modelManager, serverConfiguration.metadataserver, routerExtensions));
-
-        // SQL
-        ProjectCoordinateLoader projectCoordinateLoader = new ProjectCoordinateLoader(modelManager, serverConfiguration.metadataserver.getSdlc());
-        environment.jersey().register(new SqlExecute(new SQLExecutor(modelManager, planExecutor, routerExtensions, FastList.newListWith(
-                new RelationalStoreSQLSourceProvider(projectCoordinateLoader),
-                new FunctionSQLSourceProvider(projectCoordinateLoader),
-                new LegendServiceSQLSourceProvider(projectCoordinateLoader)),
-                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers))));
-        environment.jersey().register(new SqlGrammar());
-        environment.jersey().register(new SqlSchema(modelManager));
-
-        // Service
-        environment.jersey().register(new ServiceModelingApi(modelManager, serverConfiguration.deployment.mode, planExecutor));
-
-        // Query
-        environment.jersey().register(new ApplicationQuery(ApplicationQueryConfiguration.getMongoClient()));
-
-        // Global
-        environment.jersey().register(new JsonInformationExceptionMapper());
-        environment.jersey().register(new CatchAllExceptionMapper());
-
-        // External Format
-        environment.jersey().register(new ExternalFormats(modelManager));
-        environment.jersey().register(new ArtifactGenerationExtensionApi(modelManager));
-
-        // Analytics
-        List<EntitlementServiceExtension> entitlementServiceExtensions = EntitlementServiceExtensionLoader.extensions();
-        environment.jersey().register(new MappingAnalytics(modelManager));
-        environment.jersey().register(new ClassAnalytics(modelManager));
-        environment.jersey().register(new FunctionAnalytics(modelManager));
-        environment.jersey().register(new BindingAnalytics(modelManager));
-        environment.jersey().register(new DiagramAnalytics(modelManager));
-        environment.jersey().register(new DataSpaceAnalytics(modelManager, generatorExtensions, entitlementServiceExtensions));
-        environment.jersey().register(new LineageAnalytics(modelManager));
-        environment.jersey().register(new StoreEntitlementAnalytics(modelManager, entitlementServiceExtensions));
-
-        // DataQuality
-        environment.jersey().register(new DataQualityExecute(modelManager, planExecutor, routerExtensions, generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers), serverConfiguration.metadataserver, null));
-
-        // Testable
-        environment.jersey().register(new TestableApi(modelManager));
-
-        //TestData Generation
-        environment.jersey().register(new TestDataGeneration(modelManager));
-        environment.jersey().register(new TestDataGenerationAPI(modelManager, planExecutor));
-        environment.jersey().register(new MFT());
-        enableCors(environment, serverConfiguration);
+        LOGGER.info(StartupProfile.report(20));
     }
 
     protected ModelLoader[] getModelLoaders(ServerConfiguration serverConfiguration)
@@ -17,6 +17,7 @@ package org.finos.legend.engine.server;
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPoolConfiguration;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
@@ -44,9 +45,13 @@ public class ServerConfiguration extends Configuration
     public List<VaultConfiguration> vaults;
     public RelationalExecutionConfiguration relationalexecution;
     public GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
+    // runs sibling nodes of a plan concurrently when set
+    public ConcurrentExecutionNodeExecutorPoolConfiguration concurrentExecutionNodeExecutorPool;
     public ErrorHandlingConfiguration errorhandlingconfiguration = new ErrorHandlingConfiguration();
     public List<org.finos.legend.engine.protocol.functionActivator.metamodel.DeploymentConfiguration> activatorConfiguration;
     public CORSConfiguration cors;
+    // number of test suites and tests run at the same time by the testable API
+    public int testableParallelism = 1;
 
     /*
         This configuration has been deprecated in favor of the 'temporarytestdb' in RelationalExecutionConfiguration
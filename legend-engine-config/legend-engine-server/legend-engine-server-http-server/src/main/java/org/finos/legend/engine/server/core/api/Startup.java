@@ -0,0 +1,59 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.server.core.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.Map;
+
+@Api(tags = "Server")
+@Path("server/v1/startup")
+@Produces(MediaType.APPLICATION_JSON)
+public class Startup
+{
+    @GET
+    @Path("profile")
+    @ApiOperation(value = "Provides the time spent in startup phases and loading each extension")
+    public Response executeStartupProfile()
+    {
+        try
+        {
+            Object timings = ListIterate.collect(StartupProfile.getTimings(), t ->
+            {
+                Map<String, Object> timing = UnifiedMap.newMap();
+                timing.put("category", t.getCategory());
+                timing.put("name", t.getName());
+                timing.put("durationMillis", t.getDurationMillis());
+                return timing;
+            });
+            return Response.status(200).type(MediaType.APPLICATION_JSON).entity(new ObjectMapper().writeValueAsString(timings)).build();
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
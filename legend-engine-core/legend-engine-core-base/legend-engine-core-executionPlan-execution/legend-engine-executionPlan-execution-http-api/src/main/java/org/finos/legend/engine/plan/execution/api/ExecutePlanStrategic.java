@@ -15,12 +15,14 @@
 package org.finos.legend.engine.plan.execution.api;
 
 import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
@@ -30,11 +32,16 @@ import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.api.request.ExecutionRequest;
 import org.finos.legend.engine.plan.execution.authorization.PlanExecutionAuthorizer;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.kerberos.ProfileManagerHelper;
 import org.pac4j.core.profile.CommonProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.jax.rs.annotations.Pac4JProfileManager;
 
+import java.util.Collections;
+
 import static org.finos.legend.engine.shared.core.operational.http.InflateInterceptor.APPLICATION_ZLIB;
 
 @Api(tags = "ExecutionPlan - Execution")
@@ -67,4 +74,16 @@ public class ExecutePlanStrategic extends ExecutePlan
     {
         return super.doExecutePlan(request, executionRequest, format, pm);
     }
+
+    @POST
+    @Path("cancel/{requestId}")
+    @ApiOperation(value = "Cancel an execution sent with the given x-legend-request-id header. Only the user who sent the execution can cancel it")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response cancel(@PathParam("requestId") @ApiParam("The x-legend-request-id the execution was sent with") String requestId, @ApiParam(hidden = true) @Pac4JProfileManager ProfileManager<CommonProfile> pm)
+    {
+        Identity identity = Identity.makeIdentity(ProfileManagerHelper.extractProfiles(pm));
+        // cancels the running store executables (e.g. SQL statements) of the request as well as the plan nodes still to run
+        int cancelled = StoreExecutableManager.INSTANCE.cancelExecutablesByID(requestId, identity);
+        return Response.ok(Collections.singletonMap("cancelled", cancelled)).build();
+    }
 }
@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
+import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
+import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.kerberos.ProfileManagerHelper;
+import org.finos.legend.server.pac4j.kerberos.KerberosProfile;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.pac4j.core.profile.CommonProfile;
+import org.pac4j.core.profile.ProfileManager;
+
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosPrincipal;
+import javax.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestExecutePlanStrategic
+{
+    private static final String REQUEST_ID = "requestId";
+
+    private final ExecutePlanStrategic executePlan = new ExecutePlanStrategic(PlanExecutor.newPlanExecutor());
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    @Before
+    public void registerExecution()
+    {
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        StoreExecutable executable = () -> this.cancelled.set(true);
+        Identity owner = Identity.makeIdentity(ProfileManagerHelper.extractProfiles(profileManager("owner")));
+        StoreExecutableManager.INSTANCE.addExecutable(new RequestContext("session", "referral", REQUEST_ID), executable, owner);
+    }
+
+    @After
+    public void cleanUp()
+    {
+        StoreExecutableManager.INSTANCE.reset();
+    }
+
+    @Test
+    public void testCancelByOwner()
+    {
+        Response response = this.executePlan.cancel(REQUEST_ID, profileManager("owner"));
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(Collections.singletonMap("cancelled", 1), response.getEntity());
+        Assert.assertTrue(this.cancelled.get());
+    }
+
+    @Test
+    public void testCancelByOtherUser()
+    {
+        Response response = this.executePlan.cancel(REQUEST_ID, profileManager("someoneElse"));
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(Collections.singletonMap("cancelled", 0), response.getEntity());
+        Assert.assertFalse(this.cancelled.get());
+        Assert.assertEquals(1, StoreExecutableManager.INSTANCE.getExecutables(REQUEST_ID).size());
+    }
+
+    @Test
+    public void testCancelWithoutProfile()
+    {
+        Response response = this.executePlan.cancel(REQUEST_ID, null);
+        Assert.assertEquals(Collections.singletonMap("cancelled", 0), response.getEntity());
+        Assert.assertFalse(this.cancelled.get());
+    }
+
+    @Test
+    public void testCancelUnknownRequest()
+    {
+        Response response = this.executePlan.cancel("unknownRequestId", profileManager("owner"));
+        Assert.assertEquals(Collections.singletonMap("cancelled", 0), response.getEntity());
+        Assert.assertFalse(this.cancelled.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProfileManager<CommonProfile> profileManager(String user)
+    {
+        Subject subject = new Subject(false, Sets.mutable.with(new KerberosPrincipal(user + "@example.com")), Sets.mutable.empty(), Sets.mutable.empty());
+        subject.getPrivateCredentials().add(new Object());
+        ProfileManager<CommonProfile> profileManager = mock(ProfileManager.class);
+        when(profileManager.getAll(true)).thenReturn(Lists.mutable.with(new KerberosProfile(subject, null)));
+        return profileManager;
+    }
+}
@@ -148,12 +148,12 @@ public class InMemoryExecutionNodeExecutor implements ExecutionNodeVisitor<Resul
                 if (childResult instanceof StoreStreamReadingResult)
                 {
                     StoreStreamReadingResult<?> storeStreamReadingResult = (StoreStreamReadingResult) childResult;
-                    sourceObjectsIterator = storeStreamReadingResult.getObjectsIterator();
+                    sourceObjectsIterator = executionState.getCancellationToken().cancellable(storeStreamReadingResult.getObjectsIterator());
                 }
                 else if (childResult instanceof StreamingObjectResult)
                 {
                     StreamingObjectResult<?> streamingObjectResult = (StreamingObjectResult) childResult;
-                    sourceObjectsIterator = streamingObjectResult.getObjectStream().iterator();
+                    sourceObjectsIterator = executionState.getCancellationToken().cancellable(streamingObjectResult.getObjectStream().iterator());
                 }
                 else
                 {
@@ -30,10 +30,12 @@ import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.serialization.BinaryExecutionPlanSerializer;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilder;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorBuilderLoader;
+import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
@@ -49,6 +51,7 @@ import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -253,7 +256,7 @@ public class PlanExecutor
             singleExecutionPlan.getExecutionStateParams(org.eclipse.collections.api.factory.Maps.mutable.empty()).forEach(state::addParameterValue);
 
             // execute
-            return singleExecutionPlan.rootExecutionNode.accept(new ExecutionNodeExecutor(identity, state));
+            return executeRootNode(singleExecutionPlan, new ExecutionNodeExecutor(identity, state), state, identity);
         }
     }
 
@@ -290,7 +293,7 @@ public class PlanExecutor
                 singleExecutionPlan.getExecutionStateParams(org.eclipse.collections.api.factory.Maps.mutable.empty()).forEach(state::addParameterValue);
                 // execute
                 ExecutionNodeExecutor executionNodeExecutor = this.buildExecutionNodeExecutor(executeArgs.identity, state);
-                return singleExecutionPlan.rootExecutionNode.accept(executionNodeExecutor);
+                return executeRootNode(singleExecutionPlan, executionNodeExecutor, state, executeArgs.identity);
             }
         }
         finally
@@ -299,6 +302,31 @@ public class PlanExecutor
         }
     }
 
+    private static Result executeRootNode(SingleExecutionPlan singleExecutionPlan, ExecutionNodeExecutor executionNodeExecutor, ExecutionState state, Identity identity)
+    {
+        // cancelling the request (only allowed to the user who sent it) stops the nodes still to run. Streamed results
+        // keep running nodes (e.g. graph fetch batches) as they are read, so the token stays registered until they are closed
+        StoreExecutableManager.INSTANCE.addExecutable(state.getRequestContext(), state.getCancellationToken(), identity);
+        boolean registeredUntilClosed = false;
+        try
+        {
+            Result result = singleExecutionPlan.rootExecutionNode.accept(executionNodeExecutor);
+            if (result.isStreamed())
+            {
+                result.addCloseListener(() -> StoreExecutableManager.INSTANCE.removeExecutable(state.getRequestContext(), state.getCancellationToken()));
+                registeredUntilClosed = true;
+            }
+            return result;
+        }
+        finally
+        {
+            if (!registeredUntilClosed)
+            {
+                StoreExecutableManager.INSTANCE.removeExecutable(state.getRequestContext(), state.getCancellationToken());
+            }
+        }
+    }
+
     protected static void setUpState(SingleExecutionPlan singleExecutionPlan, ExecutionState state, Identity identity, String user)
     {
         if (singleExecutionPlan.authDependent)
@@ -422,6 +450,34 @@ public class PlanExecutor
         }
     }
 
+    /**
+     * Reads a plan in either its JSON or its binary form (see {@link BinaryExecutionPlanSerializer}).
+     */
+    public static ExecutionPlan readExecutionPlan(InputStream stream)
+    {
+        try
+        {
+            InputStream in = stream.markSupported() ? stream : new BufferedInputStream(stream);
+            return BinaryExecutionPlanSerializer.isBinaryExecutionPlan(in) ?
+                    BinaryExecutionPlanSerializerHolder.SERIALIZER.deserialize(in) :
+                    objectMapper.readValue(in, ExecutionPlan.class);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static byte[] writeBinaryExecutionPlan(ExecutionPlan plan)
+    {
+        return BinaryExecutionPlanSerializerHolder.SERIALIZER.serialize(plan);
+    }
+
+    private static class BinaryExecutionPlanSerializerHolder
+    {
+        private static final BinaryExecutionPlanSerializer SERIALIZER = new BinaryExecutionPlanSerializer();
+    }
+
     public static PlanExecutor.Builder newPlanExecutorBuilder()
     {
         return new PlanExecutor.Builder();
@@ -18,13 +18,14 @@ import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class GraphFetchCacheByEqualityKeys implements GraphFetchCache
 {
     private final String mappingId;
     private final String instanceSetId;
     private final ExecutionCache<GraphFetchCacheKey, Object> cache;
-    private String subTree;
+    private final AtomicReference<String> subTree = new AtomicReference<>();
 
     public GraphFetchCacheByEqualityKeys(String mappingId, String instanceSetId, ExecutionCache<GraphFetchCacheKey, Object> cache)
     {
@@ -49,17 +50,25 @@ public class GraphFetchCacheByEqualityKeys implements GraphFetchCache
 
     public void setSubTree(String subTree)
     {
-        this.subTree = subTree;
+        this.subTree.set(subTree);
+    }
+
+    /**
+     * Assigns the cache to the given sub tree unless it already serves one. Returns whether the cache now serves the given sub tree.
+     */
+    public boolean claimSubTree(String subTree)
+    {
+        return this.subTree.compareAndSet(null, subTree) || subTree.equals(this.subTree.get());
     }
 
     public String getSubTree()
     {
-        return this.subTree;
+        return this.subTree.get();
     }
 
     public boolean isCacheUtilized()
     {
-        return this.subTree != null;
+        return this.subTree.get() != null;
     }
 
     @Override
@@ -0,0 +1,153 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.graphFetch;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.hash.Hashing;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Graph fetch caches shared across executions. Caches are named by a scope (typically the service path) and what they hold, so repeated
+ * executions of the same service reuse the objects fetched by earlier ones instead of querying the same reference data again.
+ * <p>
+ * Every cache is bounded by its own maximum weight (one per cached object, cross key entries weigh the number of objects they hold),
+ * expires entries a fixed time after they were written and records hit/miss/load statistics.
+ */
+public class GraphFetchCacheService
+{
+    private final long maximumWeight;
+    private final long timeToLive;
+    private final TimeUnit timeToLiveUnit;
+    private final ConcurrentMutableMap<String, SharedCache<?>> caches = ConcurrentHashMap.newMap();
+    // weak keys compare plans by identity and let plans of undeployed services go
+    private final Cache<ExecutionPlan, List<GraphFetchCrossAssociationKeys>> crossAssociationKeysByPlan = CacheBuilder.newBuilder().weakKeys().build();
+
+    public GraphFetchCacheService(long maximumWeight, long timeToLive, TimeUnit timeToLiveUnit)
+    {
+        if (maximumWeight <= 0)
+        {
+            throw new IllegalArgumentException("maximumWeight must be positive");
+        }
+        this.maximumWeight = maximumWeight;
+        this.timeToLive = timeToLive;
+        this.timeToLiveUnit = Objects.requireNonNull(timeToLiveUnit, "timeToLiveUnit must not be null");
+    }
+
+    /**
+     * Cache for objects of the given set implementation, keyed by their equality keys. A new wrapper is returned on every call as it records
+     * which sub tree it serves for a single execution; the cached objects are shared.
+     */
+    @SuppressWarnings("unchecked")
+    public GraphFetchCacheByEqualityKeys getEqualityKeysCache(String scope, String mappingId, String instanceSetId)
+    {
+        String name = scope + " <" + mappingId + ", " + instanceSetId + '>';
+        ExecutionCache<GraphFetchCacheKey, Object> cache = ((SharedCache<Object>) this.caches.getIfAbsentPut(name, () -> new SharedCache<>(name, "", this.newCache((k, v) -> 1)))).cache;
+        return ExecutionCacheBuilder.buildGraphFetchCacheByEqualityKeysFromExecutionCache(cache, mappingId, instanceSetId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public GraphFetchCacheByTargetCrossKeys getCrossKeysCache(String scope, GraphFetchCrossAssociationKeys crossAssociationKeys)
+    {
+        String name = scope + ' ' + crossAssociationKeys.getName();
+        // the sub tree is part of the key so a changed query shape never reads objects cached for the previous one
+        String key = name + ' ' + crossAssociationKeys.getSubTree();
+        ExecutionCache<GraphFetchCacheKey, List<Object>> cache = ((SharedCache<List<Object>>) this.caches.getIfAbsentPut(key, () -> new SharedCache<>(name, subTreeId(crossAssociationKeys.getSubTree()), this.<List<Object>>newCache((k, v) -> Math.max(1, v.size()))))).cache;
+        return ExecutionCacheBuilder.buildGraphFetchCacheByTargetCrossKeysFromExecutionCache(cache, crossAssociationKeys);
+    }
+
+    /**
+     * Cross key caches for every cacheable cross store property fetch of the plan.
+     */
+    public List<GraphFetchCache> getCrossKeysCaches(String scope, ExecutionPlan plan)
+    {
+        List<GraphFetchCrossAssociationKeys> keys = this.crossAssociationKeysByPlan.asMap().computeIfAbsent(plan, GraphFetchCrossAssociationKeys::graphFetchCrossAssociationKeysForPlan);
+        List<GraphFetchCache> result = keys.stream().map(k -> this.getCrossKeysCache(scope, k)).collect(Collectors.toList());
+        this.reportMetrics();
+        return result;
+    }
+
+    /**
+     * Statistics by cache name, followed by the id of the sub tree for cross key caches.
+     */
+    public Map<String, ExecutionCacheStats> getStats()
+    {
+        return this.caches.valuesView().toMap(SharedCache::getDisplayName, c -> c.cache.stats());
+    }
+
+    public void reportMetrics()
+    {
+        this.caches.forEachValue(c ->
+        {
+            ExecutionCacheStats stats = c.cache.stats();
+            MetricsHandler.setGraphFetchCacheMetrics(c.name, c.subTreeId, stats.hitCount(), stats.missCount(), stats.loadCount(), stats.evictionCount(), c.cache.estimatedSize());
+        });
+    }
+
+    public void invalidateAll()
+    {
+        this.caches.forEachValue(c -> c.cache.invalidateAll());
+    }
+
+    // short and stable id telling apart the caches kept for different sub trees of the same property, as the sub trees are too long to be shown
+    private static String subTreeId(String subTree)
+    {
+        return Hashing.sha256().hashString(subTree, StandardCharsets.UTF_8).toString().substring(0, 12);
+    }
+
+    private <V> ExecutionCache<GraphFetchCacheKey, V> newCache(Weigher<GraphFetchCacheKey, V> weigher)
+    {
+        return ExecutionCacheBuilder.buildExecutionCacheFromGuavaCache(
+                CacheBuilder.newBuilder()
+                        .recordStats()
+                        .maximumWeight(this.maximumWeight)
+                        .weigher(weigher)
+                        .expireAfterWrite(this.timeToLive, this.timeToLiveUnit)
+                        .build());
+    }
+
+    private static class SharedCache<V>
+    {
+        private final String name;
+        private final String subTreeId;
+        private final ExecutionCache<GraphFetchCacheKey, V> cache;
+
+        private SharedCache(String name, String subTreeId, ExecutionCache<GraphFetchCacheKey, V> cache)
+        {
+            this.name = name;
+            this.subTreeId = subTreeId;
+            this.cache = cache;
+        }
+
+        private String getDisplayName()
+        {
+            return this.subTreeId.isEmpty() ? this.name : this.name + " [" + this.subTreeId + ']';
+        }
+    }
+}
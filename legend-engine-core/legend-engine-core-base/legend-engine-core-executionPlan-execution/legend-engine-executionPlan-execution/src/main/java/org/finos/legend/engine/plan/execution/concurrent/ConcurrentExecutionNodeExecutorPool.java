@@ -22,6 +22,7 @@ import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
@@ -29,6 +30,7 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.url.StreamProvider;
 import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
 
@@ -37,29 +39,73 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Pool management class. This class should be instantiated only during server spin up to help manage thread pool and guard system against thread explosions.
+ * <p>
+ * Sibling nodes are put on a shared work queue. A request is granted as many threads as are free (capped by maxConcurrencyPerRequest) and its
+ * workers drain the queue, picking up extra threads as they are released by other requests. A request only runs sequentially on the calling
+ * thread when no thread at all is free. A request returns once all of its threads are back in the pool.
  */
 @JsonSerialize(using = ConcurrentExecutionNodeExecutorPoolSerializer.class)
 public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 {
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ConcurrentExecutionNodeExecutorPool.class);
+
     private final int poolSize;
     private final String poolDescription;
+    private final int maxConcurrencyPerRequest;
     private final ExecutorService executor;
     private final ExecutorService delegatedExecutor;
     private final Semaphore availableThreads;
+    private final LongAdder requestedConcurrency = new LongAdder();
+    private final LongAdder grantedConcurrency = new LongAdder();
+    private final LongAdder sequentialExecutions = new LongAdder();
 
     public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription)
+    {
+        this(poolSize, poolDescription, poolSize, false);
+    }
+
+    public ConcurrentExecutionNodeExecutorPool(ConcurrentExecutionNodeExecutorPoolConfiguration configuration, String poolDescription)
+    {
+        this(configuration.poolSize, poolDescription, configuration.getMaxConcurrencyPerRequest(), configuration.useVirtualThreads);
+    }
+
+    /**
+     * @param maxConcurrencyPerRequest maximum number of threads a single request can hold at once, so one wide plan cannot starve the others
+     * @param useVirtualThreads        run nodes on virtual threads when the JVM supports them (the pool size still bounds the concurrency)
+     */
+    public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription, int maxConcurrencyPerRequest, boolean useVirtualThreads)
     {
         this.poolSize = poolSize;
         this.poolDescription = poolDescription;
-        this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
+        this.maxConcurrencyPerRequest = Math.max(1, Math.min(poolSize, maxConcurrencyPerRequest));
+        this.delegatedExecutor = newExecutor(poolSize, useVirtualThreads);
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
         this.availableThreads = new Semaphore(poolSize);
     }
 
+    private static ExecutorService newExecutor(int poolSize, boolean useVirtualThreads)
+    {
+        if (useVirtualThreads)
+        {
+            try
+            {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            }
+            catch (ReflectiveOperationException e)
+            {
+                LOGGER.warn("Virtual threads are not supported by this JVM, using a fixed thread pool instead");
+            }
+        }
+        return Executors.newFixedThreadPool(poolSize);
+    }
+
     @Override
     public void close()
     {
@@ -68,23 +114,28 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 
     public List<? extends Result> execute(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
     {
-        if (!executor.isShutdown() && availableThreads.tryAcquire(nodes.size()))
+        int requested = nodes.size();
+        int granted = executor.isShutdown() ? 0 : acquireThreads(Math.min(requested, this.maxConcurrencyPerRequest));
+        this.requestedConcurrency.add(requested);
+        this.grantedConcurrency.add(granted);
+        MetricsHandler.observeConcurrentExecution(this.poolDescription, requested, granted);
+
+        if (granted > 0)
         {
             try (Scope scope = GlobalTracer.get().buildSpan("Parallel Execution Triggered").startActive(true))
             {
-                return executeConcurrently(nodes, identity, executionState);
+                scope.span().setTag("requestedConcurrency", requested);
+                scope.span().setTag("grantedConcurrency", granted);
+                return new ConcurrentExecution(nodes, identity, executionState).execute(granted);
             }
             catch (Exception e)
             {
                 throw new RuntimeException(e);
             }
-            finally
-            {
-                availableThreads.release(nodes.size());
-            }
         }
         else
         {
+            this.sequentialExecutions.increment();
             try (Scope scope = GlobalTracer.get().buildSpan("Sequential Execution Triggered").startActive(true))
             {
                 return ListIterate.collect(nodes, node -> node.accept(new ExecutionNodeExecutor(identity, executionState)));
@@ -92,40 +143,157 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         }
     }
 
-    private List<Result> executeConcurrently(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
+    private int acquireThreads(int wanted)
+    {
+        while (true)
+        {
+            int available = Math.min(wanted, availableThreads.availablePermits());
+            if (available <= 0)
+            {
+                return 0;
+            }
+            if (availableThreads.tryAcquire(available))
+            {
+                return available;
+            }
+        }
+    }
+
+    private final class ConcurrentExecution
     {
-        List<CompletableFuture<Pair<Result, ExecutionState>>> elements = FastList.newList();
-        StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
-        nodes.forEach(node -> elements.add(CompletableFuture.supplyAsync(() ->
+        private final List<ExecutionNode> nodes;
+        private final Identity identity;
+        private final ExecutionState executionState;
+        private final StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
+        private final CompletableFuture<Pair<Result, ExecutionState>>[] results;
+        private final AtomicInteger nextNode = new AtomicInteger();
+        // workers currently running for this request, each holding one of the pool threads
+        private final AtomicInteger workers = new AtomicInteger();
+        // completed once the last worker has given its thread back
+        private final CompletableFuture<Void> threadsReleased = new CompletableFuture<>();
+        private final int maxThreads;
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentExecution(List<ExecutionNode> nodes, Identity identity, ExecutionState executionState)
+        {
+            this.nodes = nodes;
+            this.identity = identity;
+            this.executionState = executionState;
+            this.maxThreads = Math.min(nodes.size(), maxConcurrencyPerRequest);
+            this.results = new CompletableFuture[nodes.size()];
+            for (int i = 0; i < this.results.length; i++)
+            {
+                this.results[i] = new CompletableFuture<>();
+            }
+        }
+
+        private List<Result> execute(int threads)
+        {
+            this.workers.set(threads);
+            for (int i = 0; i < threads; i++)
+            {
+                startWorker();
+            }
+
+            CompletableFuture<Void> allElements = CompletableFuture.allOf(this.results);
+
+            List<Result> results = FastList.newList();
+
+            allElements.whenComplete((v, th) ->
+            {
+                ArrayIterate.forEach(this.results, e ->
                 {
-                    try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", nodes.indexOf(node))).startActive(true))
-                    {
-                        StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
-                        ExecutionState executionStateForThread = executionState.copy();
-                        Result result = node.accept(new ExecutionNodeExecutor(identity, executionStateForThread));
-                        return Tuples.pair(result, executionStateForThread);
-                    }
-                }, executor
-        )));
+                    Pair<Result, ExecutionState> resultExecutionStatePair = e.getNow(Tuples.pair(new ConstantResult("fail"), this.executionState));
+                    Result result = resultExecutionStatePair.getOne();
+                    ExecutionState state = resultExecutionStatePair.getTwo();
 
-        CompletableFuture<Void> allElements = CompletableFuture.allOf(elements.toArray(new CompletableFuture[0]));
+                    results.add(result);
+                    this.executionState.activities.addAll(state.activities.select(a -> !this.executionState.activities.contains(a)));
+                });
+            }).join();
+            this.threadsReleased.join();
 
-        List<Result> results = FastList.newList();
+            return results;
+        }
 
-        allElements.whenComplete((v, th) ->
+        private void startWorker()
         {
-            elements.forEach(e ->
+            try
+            {
+                executor.execute(this::work);
+            }
+            catch (RejectedExecutionException e)
             {
-                Pair<Result, ExecutionState> resultExecutionStatePair = e.getNow(Tuples.pair(new ConstantResult("fail"), executionState));
-                Result result = resultExecutionStatePair.getOne();
-                ExecutionState state = resultExecutionStatePair.getTwo();
+                // pool is shutting down: give the thread back and let the caller drain what is left
+                availableThreads.release();
+                if (this.workers.decrementAndGet() == 0)
+                {
+                    drain();
+                    this.threadsReleased.complete(null);
+                }
+            }
+        }
 
-                results.add(result);
-                executionState.activities.addAll(state.activities.select(a -> !executionState.activities.contains(a)));
-            });
-        }).join();
+        private void work()
+        {
+            try
+            {
+                StreamProviderHolder.streamProviderThreadLocal.set(this.streamProvider);
+                drain();
+            }
+            finally
+            {
+                availableThreads.release();
+                if (this.workers.decrementAndGet() == 0)
+                {
+                    this.threadsReleased.complete(null);
+                }
+            }
+        }
 
-        return results;
+        private void drain()
+        {
+            int index;
+            while ((index = this.nextNode.getAndIncrement()) < this.nodes.size())
+            {
+                executeNode(index);
+                growIfThreadsFreedUp();
+            }
+        }
+
+        private void executeNode(int index)
+        {
+            try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", index)).startActive(true))
+            {
+                ExecutionState executionStateForThread = this.executionState.copy();
+                Result result = this.nodes.get(index).accept(new ExecutionNodeExecutor(this.identity, executionStateForThread));
+                this.results[index].complete(Tuples.pair(result, executionStateForThread));
+            }
+            catch (Throwable t)
+            {
+                this.results[index].completeExceptionally(t);
+            }
+        }
+
+        private void growIfThreadsFreedUp()
+        {
+            // only requests that were granted fewer threads than they asked for pick up threads released since
+            int pending = this.nodes.size() - this.nextNode.get();
+            int workers = this.workers.get();
+            if (pending > workers && workers < this.maxThreads && this.workers.compareAndSet(workers, workers + 1))
+            {
+                if (availableThreads.tryAcquire())
+                {
+                    grantedConcurrency.increment();
+                    MetricsHandler.observeConcurrentExecution(poolDescription, 0, 1);
+                    startWorker();
+                }
+                else
+                {
+                    this.workers.decrementAndGet();
+                }
+            }
+        }
     }
 
     @Override
@@ -136,6 +304,9 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
                 ", poolDescription : " + poolDescription +
                 ", executor : " + delegatedExecutor.toString() +
                 ", availableThreads : " + availableThreads.toString() +
+                ", requestedConcurrency : " + requestedConcurrency.sum() +
+                ", grantedConcurrency : " + grantedConcurrency.sum() +
+                ", sequentialExecutions : " + sequentialExecutions.sum() +
                 "]";
     }
 
@@ -146,10 +317,18 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         jsonGenerator.writeString(this.poolDescription);
         jsonGenerator.writeFieldName("poolSize");
         jsonGenerator.writeNumber(this.poolSize);
+        jsonGenerator.writeFieldName("maxConcurrencyPerRequest");
+        jsonGenerator.writeNumber(this.maxConcurrencyPerRequest);
         jsonGenerator.writeFieldName("executor");
         jsonGenerator.writeString(this.delegatedExecutor.toString());
         jsonGenerator.writeFieldName("availableThreads");
         jsonGenerator.writeNumber(this.availableThreads.availablePermits());
+        jsonGenerator.writeFieldName("requestedConcurrency");
+        jsonGenerator.writeNumber(this.requestedConcurrency.sum());
+        jsonGenerator.writeFieldName("grantedConcurrency");
+        jsonGenerator.writeNumber(this.grantedConcurrency.sum());
+        jsonGenerator.writeFieldName("sequentialExecutions");
+        jsonGenerator.writeNumber(this.sequentialExecutions.sum());
         jsonGenerator.writeEndObject();
     }
 }
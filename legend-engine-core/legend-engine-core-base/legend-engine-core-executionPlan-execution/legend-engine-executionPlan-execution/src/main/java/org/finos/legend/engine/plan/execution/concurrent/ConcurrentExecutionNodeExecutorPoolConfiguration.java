@@ -0,0 +1,38 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class ConcurrentExecutionNodeExecutorPoolConfiguration
+{
+    public static final int DEFAULT_POOL_SIZE = 100;
+
+    @JsonProperty
+    public int poolSize = DEFAULT_POOL_SIZE;
+
+    // maximum number of threads a single request can hold at once, the pool size when not set
+    @JsonProperty
+    public Integer maxConcurrencyPerRequest;
+
+    // run nodes on virtual threads when the JVM supports them, the pool size still bounds the concurrency
+    @JsonProperty
+    public boolean useVirtualThreads;
+
+    public int getMaxConcurrencyPerRequest()
+    {
+        return this.maxConcurrencyPerRequest == null ? this.poolSize : this.maxConcurrencyPerRequest;
+    }
+}
@@ -19,7 +19,6 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.opentracing.contrib.concurrent.TracedExecutorService;
 import io.opentracing.util.GlobalTracer;
 import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
-import org.finos.legend.engine.plan.execution.result.graphFetch.DelayedGraphFetchResult;
 
 import java.io.IOException;
 import java.util.concurrent.Callable;
@@ -57,7 +56,7 @@ public final class ParallelGraphFetchExecutionExecutorPool implements AutoClosea
         this.executor.shutdown();
     }
 
-    public Future<DelayedGraphFetchResult> submit(Callable<DelayedGraphFetchResult> task)
+    public <T> Future<T> submit(Callable<T> task)
     {
         return this.executor.submit(task);
     }
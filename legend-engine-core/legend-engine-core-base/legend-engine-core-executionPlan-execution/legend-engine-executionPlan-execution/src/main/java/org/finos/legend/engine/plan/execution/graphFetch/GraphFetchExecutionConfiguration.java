@@ -26,6 +26,7 @@ public class GraphFetchExecutionConfiguration
     public static final long SOFT_MEMORY_TO_USE_FULL_MEMORY_PERCENTAGE = 100;
 
     public static final boolean DEFAULT_PARALLELIZE_GRAPHFETCH_QUERIES = false;
+    public static final long DEFAULT_MAX_PIPELINED_BATCHES = 0;
 
     @JsonProperty
     private final long batchMemoryLimit;
@@ -39,6 +40,8 @@ public class GraphFetchExecutionConfiguration
     private final boolean parallelizeGraphFetchQueries;
     @JsonProperty
     private ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig;
+    @JsonProperty
+    private long maxPipelinedBatches = DEFAULT_MAX_PIPELINED_BATCHES;
 
     public GraphFetchExecutionConfiguration()
     {
@@ -114,4 +117,19 @@ public class GraphFetchExecutionConfiguration
     {
         return parallelizeGraphFetchQueries;
     }
+
+    /**
+     * Number of root batches whose children can be fetched in the background while the next batches are read. 0 disables pipelining.
+     * Only used when graph fetch queries can execute in parallel.
+     */
+    public long getMaxPipelinedBatches()
+    {
+        return maxPipelinedBatches;
+    }
+
+    public GraphFetchExecutionConfiguration withMaxPipelinedBatches(long maxPipelinedBatches)
+    {
+        this.maxPipelinedBatches = maxPipelinedBatches;
+        return this;
+    }
 }
@@ -119,6 +119,8 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
     @Override
     public Result visit(ExecutionNode executionNode)
     {
+        // store nodes (relational, service store, mongo, ...) all go through here
+        this.executionState.getCancellationToken().throwIfCancelled();
         if (executionNode instanceof PlatformUnionExecutionNode)
         {
             List<StreamingObjectResult<?>> streamingObjectResults;
@@ -195,6 +197,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         Result last = null;
         for (ExecutionNode n : multiResultSequenceExecutionNode.executionNodes())
         {
+            this.executionState.getCancellationToken().throwIfCancelled();
             last = n.accept(new ExecutionNodeExecutor(this.identity, this.executionState));
             if (n instanceof AllocationExecutionNode)
             {
@@ -396,6 +399,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
                                 @Override
                                 public boolean tryAdvance(Consumer<? super List<?>> action)
                                 {
+                                    executionState.getCancellationToken().throwIfCancelled();
                                     int currentBatch = batchIndex.getAndIncrement();
                                     try (Scope scope = GlobalTracer.get().buildSpan("Graph Query: Execute Batch " + currentBatch).startActive(true))
                                     {
@@ -613,6 +617,7 @@ public class ExecutionNodeExecutor implements ExecutionNodeVisitor<Result>
         Result last = null;
         for (ExecutionNode node : sequenceExecutionNode.executionNodes())
         {
+            this.executionState.getCancellationToken().throwIfCancelled();
             Result temp =  this.executionState.extraSequenceNodeExecutors.stream().map(executor -> executor.value(node, this.identity, this.executionState)).filter(Objects::nonNull).findFirst().orElse(null);
             if (temp == null)
             {
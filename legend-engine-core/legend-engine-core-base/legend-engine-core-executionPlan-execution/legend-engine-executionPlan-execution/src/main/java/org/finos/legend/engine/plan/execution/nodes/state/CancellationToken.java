@@ -0,0 +1,151 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.state;
+
+import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionCategory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared by an execution state and all its copies (child nodes, concurrent children, graph fetch batches), so cancelling
+ * the execution stops any node that has not started yet.
+ * <p>
+ * The token is registered with the {@link org.finos.legend.engine.plan.execution.stores.StoreExecutableManager} for the
+ * request, next to the store executables (e.g. SQL statements) of the execution: cancelling the request cancels both the
+ * running statements and the nodes still to run. Stores stop the work already running through the token as well:
+ * <ul>
+ * <li>node boundaries, in the {@link org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor}</li>
+ * <li>streamed results, checked element by element or batch by batch ({@link #cancellable(Stream)}): relational and
+ * in-memory graph fetch batches, Mongo documents, Elasticsearch pages</li>
+ * <li>remote calls in flight, aborted by cancel listeners ({@link #addCancelListener(Runnable)}): Elasticsearch and
+ * service store HTTP requests and responses, Mongo clients</li>
+ * </ul>
+ * Stores that do neither (e.g. Deephaven) only stop at the next node.
+ */
+public class CancellationToken implements StoreExecutable
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(CancellationToken.class);
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final List<Runnable> cancelListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void cancel()
+    {
+        if (this.cancelled.compareAndSet(false, true))
+        {
+            MetricsHandler.incrementCancelledExecutionCount();
+            this.cancelListeners.forEach(CancellationToken::runCancelListener);
+        }
+    }
+
+    public boolean isCancelled()
+    {
+        return this.cancelled.get();
+    }
+
+    public void throwIfCancelled()
+    {
+        if (this.cancelled.get())
+        {
+            MetricsHandler.incrementCancelledNodeCount();
+            throw new EngineException("Execution cancelled", ExceptionCategory.USER_EXECUTION_ERROR);
+        }
+    }
+
+    /**
+     * Runs the listener, on the cancelling thread, when the execution is cancelled: e.g. to abort a remote call the
+     * execution is blocked on. It runs right away if the execution is already cancelled, and may run twice when the
+     * execution is cancelled while it is added, so it must be idempotent. Listeners are removed once the work they stop
+     * is over.
+     */
+    public void addCancelListener(Runnable listener)
+    {
+        this.cancelListeners.add(listener);
+        if (this.cancelled.get())
+        {
+            runCancelListener(listener);
+        }
+    }
+
+    public void removeCancelListener(Runnable listener)
+    {
+        this.cancelListeners.remove(listener);
+    }
+
+    /**
+     * The elements of the stream, checking before each one that the execution is not cancelled.
+     */
+    public <T> Stream<T> cancellable(Stream<T> stream)
+    {
+        Spliterator<T> spliterator = stream.spliterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(spliterator.estimateSize(), spliterator.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED))
+        {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action)
+            {
+                throwIfCancelled();
+                return spliterator.tryAdvance(action);
+            }
+        }, false).onClose(stream::close);
+    }
+
+    /**
+     * The elements of the iterator, checking before each one that the execution is not cancelled.
+     */
+    public <T> Iterator<T> cancellable(Iterator<T> iterator)
+    {
+        return new Iterator<T>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                throwIfCancelled();
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next()
+            {
+                return iterator.next();
+            }
+        };
+    }
+
+    private static void runCancelListener(Runnable listener)
+    {
+        try
+        {
+            listener.run();
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Failed to stop cancelled execution", e);
+        }
+    }
+}
@@ -38,10 +38,12 @@ import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -70,11 +72,12 @@ public class ExecutionState
     private ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool;
     private ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool;
 
-    private final Map<String, Result> res;
+    private final CopyOnWriteResults res;
     private final List<? extends String> templateFunctions;
     private final boolean isJavaCompilationAllowed;
     private final Map<StoreType, StoreExecutionState> states = new EnumMap<>(StoreType.class);
     private final boolean logSQLWithParamValues;
+    private final CancellationToken cancellationToken;
 
     public final List<Function3<ExecutionNode,Identity, ExecutionState, Result>> extraNodeExecutors;
     public final List<Function3<ExecutionNode, Identity, ExecutionState, Result>> extraSequenceNodeExecutors;
@@ -107,6 +110,7 @@ public class ExecutionState
         this.extraSequenceNodeExecutors = ListIterate.flatCollect(extensions, ExecutionExtension::getExtraSequenceNodeExecutors);
         this.requestContext = state.requestContext;
         this.logSQLWithParamValues = state.logSQLWithParamValues;
+        this.cancellationToken = state.cancellationToken;
     }
 
     @Deprecated
@@ -147,7 +151,7 @@ public class ExecutionState
         this.inAllocation = false;
         this.inLake = false;
         this.execID = UUID.randomUUID().toString();
-        this.res = res;
+        this.res = new CopyOnWriteResults(res);
         this.templateFunctions = templateFunctions;
         this.realizeAllocationResults = false;
         this.isJavaCompilationAllowed = isJavaCompilationAllowed;
@@ -158,6 +162,7 @@ public class ExecutionState
         this.extraSequenceNodeExecutors = ListIterate.flatCollect(extensions, ExecutionExtension::getExtraSequenceNodeExecutors);
         this.requestContext = requestContext;
         this.logSQLWithParamValues = logSQLWithParamValues;
+        this.cancellationToken = new CancellationToken();
     }
 
     public ExecutionState(Map<String, Result> res, List<? extends String> templateFunctions, Iterable<? extends StoreExecutionState> extraStates, boolean isJavaCompilationAllowed)
@@ -172,10 +177,7 @@ public class ExecutionState
 
     public ExecutionState copy()
     {
-        Map<String, Result> resCopy = Maps.mutable.ofMap(this.res);
-        List<? extends String> templateFunctionsCopy = Lists.mutable.ofAll(this.templateFunctions);
-        List<? extends StoreExecutionState> extraStatesCopy = this.states.values().stream().map(StoreExecutionState::copy).collect(Collectors.toList());
-        ExecutionState copy = new ExecutionState(resCopy, templateFunctionsCopy, extraStatesCopy, this.isJavaCompilationAllowed, this.requestContext, this.graphFetchExecutionConfiguration, this.logSQLWithParamValues);
+        ExecutionState copy = new ExecutionState(this, this.res.copy());
 
         copy.activities = Lists.mutable.withAll(this.activities);
         copy.allocationNodeName = this.allocationNodeName;
@@ -195,6 +197,23 @@ public class ExecutionState
         return copy;
     }
 
+    /**
+     * Used by copy: results are shared copy-on-write, and the read only template functions and extension executors are reused rather than rebuilt.
+     */
+    private ExecutionState(ExecutionState state, CopyOnWriteResults res)
+    {
+        this.res = res;
+        this.templateFunctions = state.templateFunctions;
+        this.isJavaCompilationAllowed = state.isJavaCompilationAllowed;
+        this.graphFetchExecutionConfiguration = state.graphFetchExecutionConfiguration;
+        state.states.forEach((storeType, storeExecutionState) -> this.states.put(storeType, storeExecutionState.copy()));
+        this.extraNodeExecutors = state.extraNodeExecutors;
+        this.extraSequenceNodeExecutors = state.extraSequenceNodeExecutors;
+        this.requestContext = state.requestContext;
+        this.logSQLWithParamValues = state.logSQLWithParamValues;
+        this.cancellationToken = state.cancellationToken;
+    }
+
     public ExecutionState inLake(boolean inLake)
     {
         this.inLake = inLake;
@@ -354,8 +373,86 @@ public class ExecutionState
         this.requestContext = requestContext;
     }
 
+    public CancellationToken getCancellationToken()
+    {
+        return this.cancellationToken;
+    }
+
     public boolean logSQLWithParamValues()
     {
         return this.logSQLWithParamValues;
     }
-}
\ No newline at end of file
+
+    /**
+     * Result map shared between an execution state and its copies until one of them writes to it.
+     * States built with the copy constructor keep sharing the same instance, so their writes stay visible to each other.
+     */
+    private static final class CopyOnWriteResults extends AbstractMap<String, Result>
+    {
+        private volatile Map<String, Result> delegate;
+        private boolean shared;
+
+        private CopyOnWriteResults(Map<String, Result> delegate)
+        {
+            this(delegate, false);
+        }
+
+        private CopyOnWriteResults(Map<String, Result> delegate, boolean shared)
+        {
+            this.delegate = delegate;
+            this.shared = shared;
+        }
+
+        private synchronized CopyOnWriteResults copy()
+        {
+            this.shared = true;
+            return new CopyOnWriteResults(this.delegate, true);
+        }
+
+        private Map<String, Result> writable()
+        {
+            if (this.shared)
+            {
+                this.delegate = Maps.mutable.ofMap(this.delegate);
+                this.shared = false;
+            }
+            return this.delegate;
+        }
+
+        @Override
+        public Result get(Object key)
+        {
+            return this.delegate.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.delegate.containsKey(key);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        @Override
+        public synchronized Result put(String key, Result value)
+        {
+            return writable().put(key, value);
+        }
+
+        @Override
+        public synchronized Result remove(Object key)
+        {
+            return writable().remove(key);
+        }
+
+        @Override
+        public Set<Entry<String, Result>> entrySet()
+        {
+            return Collections.unmodifiableMap(this.delegate).entrySet();
+        }
+    }
+}
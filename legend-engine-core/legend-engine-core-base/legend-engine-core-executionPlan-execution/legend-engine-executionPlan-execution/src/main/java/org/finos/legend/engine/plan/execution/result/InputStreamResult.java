@@ -52,9 +52,16 @@ public class InputStreamResult extends Result
         return new StreamBuilder();
     }
 
+    @Override
+    public boolean isStreamed()
+    {
+        return true;
+    }
+
     @Override
     public void close()
     {
+        super.close();
         try
         {
             this.closeables.forEach(c ->
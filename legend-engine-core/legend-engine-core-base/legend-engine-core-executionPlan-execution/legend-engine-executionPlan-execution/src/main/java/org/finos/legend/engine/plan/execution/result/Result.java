@@ -24,6 +24,7 @@ public abstract class Result implements IResult
     public String status;
     public GenerationInfo generationInfo = null;
     public List<ExecutionActivity> activities;
+    private List<Runnable> closeListeners;
 
     public Result(String status)
     {
@@ -44,7 +45,39 @@ public abstract class Result implements IResult
         return this;
     }
 
+    /**
+     * Registers an action to run when the result is closed, e.g. to release what has to be held for as long as the result
+     * is being read. Results overriding {@link #close()} call it from their own.
+     */
+    public synchronized void addCloseListener(Runnable listener)
+    {
+        if (this.closeListeners == null)
+        {
+            this.closeListeners = Lists.mutable.empty();
+        }
+        this.closeListeners.add(listener);
+    }
+
+    /**
+     * Whether reading the result still runs part of the execution (e.g. reads from an open cursor or response), so that
+     * the execution can be cancelled until the result is closed. Results answering true call {@link #close()} from their own.
+     */
+    public boolean isStreamed()
+    {
+        return false;
+    }
+
     public void close()
     {
+        List<Runnable> listeners;
+        synchronized (this)
+        {
+            listeners = this.closeListeners;
+            this.closeListeners = null;
+        }
+        if (listeners != null)
+        {
+            listeners.forEach(Runnable::run);
+        }
     }
 }
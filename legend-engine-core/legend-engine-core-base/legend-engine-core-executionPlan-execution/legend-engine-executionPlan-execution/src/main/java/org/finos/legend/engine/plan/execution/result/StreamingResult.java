@@ -37,6 +37,12 @@ public abstract class StreamingResult extends Result
         super("success", activities);
     }
 
+    @Override
+    public boolean isStreamed()
+    {
+        return true;
+    }
+
     public void stream(OutputStream outputStream, SerializationFormat format) throws IOException
     {
         this.stream(outputStream, this.getSerializer(format));
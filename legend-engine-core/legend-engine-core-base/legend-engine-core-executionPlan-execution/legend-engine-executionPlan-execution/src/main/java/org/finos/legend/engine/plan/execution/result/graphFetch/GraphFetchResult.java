@@ -60,9 +60,19 @@ public class GraphFetchResult extends Result
         throw new UnsupportedOperationException("Not supported!");
     }
 
+    @Override
+    public boolean isStreamed()
+    {
+        return true;
+    }
+
     @Override
     public void close()
     {
+        if (this.graphObjectsBatchStream != null)
+        {
+            this.graphObjectsBatchStream.close();
+        }
         if (this.rootResult != null)
         {
             this.rootResult.close();
@@ -71,5 +81,6 @@ public class GraphFetchResult extends Result
         {
             this.graphFetchSpan.finish();
         }
+        super.close();
     }
 }
@@ -0,0 +1,402 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.CompositeExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.CompiledClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary form of an {@link ExecutionPlan}, for plans that are stored and loaded many times (service jars, hosted services).
+ * <p>
+ * Layout (version 1):
+ * <pre>
+ *   'L' 'E' 'P' 'B'  magic
+ *   u8               format version
+ *   u8               plan kind: 0 = single, 1 = composite
+ *   single:          i32 length, Smile document of the plan
+ *   composite:       i32 length, Smile document of the composite plan without its sub plans,
+ *                    i32 count, then per sub plan: UTF key, i32 length, Smile document of the sub plan
+ * </pre>
+ * Smile documents are written with shared property names and shared string values, so the node types, class names and paths repeated all over
+ * a plan are written once per document and back-referenced afterwards. Java byte code is stored as raw binary rather than Base64 text.
+ * <p>
+ * Sub plans of a composite plan are decoded on first access, so a service only pays for the plans of the execution keys it is actually called with.
+ */
+public class BinaryExecutionPlanSerializer
+{
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'L', 'E', 'P', 'B'};
+    private static final byte SINGLE = 0;
+    private static final byte COMPOSITE = 1;
+
+    private final ObjectMapper objectMapper;
+
+    public BinaryExecutionPlanSerializer()
+    {
+        SmileFactory smileFactory = new SmileFactory()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .disable(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT);
+        this.objectMapper = ObjectMapperFactory.withStandardConfigurations(
+                PureProtocolObjectMapperFactory.withPureProtocolConverter(
+                        PureProtocolObjectMapperFactory.withPureProtocolExtensions(new ObjectMapper(smileFactory))
+                )
+        );
+        this.objectMapper.addMixIn(JavaClass.class, JavaClassMixIn.class);
+        this.objectMapper.addMixIn(CompiledClass.class, CompiledClassMixIn.class);
+        this.objectMapper.addMixIn(JavaPlatformImplementation.class, JavaPlatformImplementationMixIn.class);
+    }
+
+    /**
+     * Whether the stream holds a binary plan. The stream must support mark/reset; it is left at the position it was given at.
+     */
+    public static boolean isBinaryExecutionPlan(InputStream stream) throws IOException
+    {
+        if (!stream.markSupported())
+        {
+            throw new IllegalArgumentException("Stream must support mark/reset");
+        }
+        stream.mark(MAGIC.length);
+        try
+        {
+            byte[] header = new byte[MAGIC.length];
+            int read = 0;
+            while (read < header.length)
+            {
+                int count = stream.read(header, read, header.length - read);
+                if (count < 0)
+                {
+                    return false;
+                }
+                read += count;
+            }
+            return Arrays.equals(MAGIC, header);
+        }
+        finally
+        {
+            stream.reset();
+        }
+    }
+
+    public byte[] serialize(ExecutionPlan plan)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try
+        {
+            this.serialize(plan, bytes);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public void serialize(ExecutionPlan plan, OutputStream stream) throws IOException
+    {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        if (plan instanceof CompositeExecutionPlan)
+        {
+            CompositeExecutionPlan composite = (CompositeExecutionPlan) plan;
+            out.writeByte(COMPOSITE);
+            writeSection(out, this.objectMapper.writeValueAsBytes(new CompositeExecutionPlan(Collections.emptyMap(), composite.executionKeyName, composite.executionKeys)));
+            out.writeInt(composite.executionPlans.size());
+            for (Map.Entry<String, SingleExecutionPlan> entry : composite.executionPlans.entrySet())
+            {
+                out.writeUTF(entry.getKey());
+                writeSection(out, this.objectMapper.writeValueAsBytes(entry.getValue()));
+            }
+        }
+        else
+        {
+            out.writeByte(SINGLE);
+            writeSection(out, this.objectMapper.writeValueAsBytes(plan));
+        }
+        out.flush();
+    }
+
+    public ExecutionPlan deserialize(byte[] bytes)
+    {
+        try
+        {
+            return this.deserialize(new ByteArrayInputStream(bytes));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ExecutionPlan deserialize(InputStream stream) throws IOException
+    {
+        DataInputStream in = new DataInputStream(stream);
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(MAGIC, magic))
+        {
+            throw new IOException("Not a binary execution plan");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+        {
+            throw new IOException("Unsupported binary execution plan version: " + version + " (supported: " + VERSION + ")");
+        }
+        byte kind = in.readByte();
+        switch (kind)
+        {
+            case SINGLE:
+            {
+                return this.objectMapper.readValue(readSection(in), SingleExecutionPlan.class);
+            }
+            case COMPOSITE:
+            {
+                CompositeExecutionPlan composite = this.objectMapper.readValue(readSection(in), CompositeExecutionPlan.class);
+                int count = in.readInt();
+                Map<String, byte[]> encodedPlans = new LinkedHashMap<>(count);
+                for (int i = 0; i < count; i++)
+                {
+                    String key = in.readUTF();
+                    encodedPlans.put(key, readSection(in));
+                }
+                composite.executionPlans = new LazySingleExecutionPlanMap(encodedPlans);
+                return composite;
+            }
+            default:
+            {
+                throw new IOException("Unknown binary execution plan kind: " + kind);
+            }
+        }
+    }
+
+    private SingleExecutionPlan decodeSingleExecutionPlan(byte[] bytes)
+    {
+        try
+        {
+            return this.objectMapper.readValue(bytes, SingleExecutionPlan.class);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSection(DataOutputStream out, byte[] section) throws IOException
+    {
+        out.writeInt(section.length);
+        out.write(section);
+    }
+
+    private static byte[] readSection(DataInputStream in) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0)
+        {
+            throw new IOException("Invalid binary execution plan section length: " + length);
+        }
+        byte[] section = new byte[length];
+        in.readFully(section);
+        return section;
+    }
+
+    /**
+     * Sub plans of a composite plan, decoded on first access. Encoded bytes are dropped once a plan is decoded.
+     */
+    private class LazySingleExecutionPlanMap extends AbstractMap<String, SingleExecutionPlan>
+    {
+        private final Set<String> keys;
+        private final Map<String, byte[]> encodedPlans;
+        private final Map<String, SingleExecutionPlan> decodedPlans = new ConcurrentHashMap<>();
+
+        private LazySingleExecutionPlanMap(Map<String, byte[]> encodedPlans)
+        {
+            this.keys = Collections.unmodifiableSet(new LinkedHashSet<>(encodedPlans.keySet()));
+            this.encodedPlans = new ConcurrentHashMap<>(encodedPlans);
+        }
+
+        @Override
+        public SingleExecutionPlan get(Object key)
+        {
+            if (!this.keys.contains(key))
+            {
+                return null;
+            }
+            return this.decodedPlans.computeIfAbsent((String) key, k ->
+            {
+                // the bytes are only dropped once decoded, so that a failed decoding can be retried
+                SingleExecutionPlan plan = decodeSingleExecutionPlan(this.encodedPlans.get(k));
+                this.encodedPlans.remove(k);
+                return plan;
+            });
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.keys.contains(key);
+        }
+
+        @Override
+        public Set<String> keySet()
+        {
+            return this.keys;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.keys.size();
+        }
+
+        @Override
+        public Set<Entry<String, SingleExecutionPlan>> entrySet()
+        {
+            return new AbstractSet<Entry<String, SingleExecutionPlan>>()
+            {
+                @Override
+                public Iterator<Entry<String, SingleExecutionPlan>> iterator()
+                {
+                    Iterator<String> keyIterator = keys.iterator();
+                    return new Iterator<Entry<String, SingleExecutionPlan>>()
+                    {
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return keyIterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, SingleExecutionPlan> next()
+                        {
+                            String key = keyIterator.next();
+                            return new SimpleImmutableEntry<>(key, get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return keys.size();
+                }
+            };
+        }
+    }
+
+    private abstract static class JavaClassMixIn
+    {
+        @JsonSerialize(using = ByteCodeSerializer.class)
+        @JsonDeserialize(using = ByteCodeDeserializer.class)
+        public String byteCode;
+    }
+
+    private abstract static class CompiledClassMixIn
+    {
+        @JsonSerialize(using = ByteCodeSerializer.class)
+        @JsonDeserialize(using = ByteCodeDeserializer.class)
+        public String byteCode;
+    }
+
+    private abstract static class JavaPlatformImplementationMixIn
+    {
+        @JsonSerialize(contentUsing = ByteCodeSerializer.class)
+        @JsonDeserialize(contentUsing = ByteCodeDeserializer.class)
+        public Map<String, String> byteCode;
+    }
+
+    /**
+     * Byte code is Base64 text in the protocol; written as raw binary here.
+     */
+    static class ByteCodeSerializer extends StdSerializer<String>
+    {
+        public ByteCodeSerializer()
+        {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException
+        {
+            byte[] byteCode;
+            try
+            {
+                byteCode = Base64.getDecoder().decode(value);
+            }
+            catch (IllegalArgumentException e)
+            {
+                // not Base64, keep it as it is
+                generator.writeString(value);
+                return;
+            }
+            generator.writeBinary(byteCode);
+        }
+    }
+
+    static class ByteCodeDeserializer extends StdDeserializer<String>
+    {
+        public ByteCodeDeserializer()
+        {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException
+        {
+            return (parser.getCurrentToken() == JsonToken.VALUE_STRING) ?
+                    parser.getText() :
+                    Base64.getEncoder().encodeToString(parser.getBinaryValue());
+        }
+    }
+}
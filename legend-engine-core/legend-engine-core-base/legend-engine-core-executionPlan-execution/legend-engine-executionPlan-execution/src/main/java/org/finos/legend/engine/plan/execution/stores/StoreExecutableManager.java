@@ -23,11 +23,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
 import org.finos.legend.engine.shared.core.operational.logs.LogInfo;
 import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.slf4j.Logger;
 
 /**
@@ -41,6 +43,10 @@ public enum StoreExecutableManager
     private final ConcurrentHashMap<String, List<StoreExecutable>> requestExecutableMap = new ConcurrentHashMap<>();
 
     private final ConcurrentHashMap<String, Set<String>> sessionIDToProvidedID = new ConcurrentHashMap<>();
+    // name of the user who sent each request, the only one allowed to cancel it by id
+    private final ConcurrentHashMap<String, String> requestOwners = new ConcurrentHashMap<>();
+    // owner of requests sent under the same id by different users: nobody can cancel them by id
+    private static final String AMBIGUOUS_OWNER = "";
     private boolean isRegistered = false;
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(StoreExecutableManager.class);
 
@@ -52,6 +58,7 @@ public enum StoreExecutableManager
         this.isRegistered = false;
         this.requestExecutableMap.clear();
         this.sessionIDToProvidedID.clear();
+        this.requestOwners.clear();
     }
 
     public void addExecutable(String requestID, StoreExecutable execution)
@@ -76,6 +83,20 @@ public enum StoreExecutableManager
         addExecutable(requestID, execution);
     }
 
+    /**
+     * Registers the executable for the request, recording the given identity as the one that sent it, see
+     * {@link #cancelExecutablesByID(String, Identity)}.
+     */
+    public void addExecutable(RequestContext context, StoreExecutable execution, Identity owner)
+    {
+        String requestID = RequestContext.getRequestToken(context);
+        if (isRegistered && requestID != null && owner != null)
+        {
+            requestOwners.merge(requestID, owner.getName(), (existing, added) -> existing.equals(added) ? existing : AMBIGUOUS_OWNER);
+        }
+        addExecutable(context, execution);
+    }
+
 
     public void removeExecutable(String id, StoreExecutable executable)
     {
@@ -90,6 +111,7 @@ public enum StoreExecutableManager
                     executableList.remove(executable);
                     if (executableList.isEmpty())
                     {
+                        requestOwners.remove(key);
                         return null;
                     }
                     else
@@ -138,20 +160,28 @@ public enum StoreExecutableManager
     {
         AtomicInteger numberOfCancelled = new AtomicInteger(0);
         List<StoreExecutable> executables = requestExecutableMap.remove(sessionID);
+        requestOwners.remove(sessionID);
         if (executables != null)
         {
+            AtomicInteger numberOfCancelledStoreExecutables = new AtomicInteger(0);
             executables.forEach(executable ->
             {
                 try
                 {
                     executable.cancel();
                     numberOfCancelled.incrementAndGet();
+                    // cancellation tokens count themselves as cancelled executions
+                    if (!(executable instanceof CancellationToken))
+                    {
+                        numberOfCancelledStoreExecutables.incrementAndGet();
+                    }
                 }
                 catch (Exception e)
                 {
                     LOGGER.error(new LogInfo(Identity.getAnonymousIdentity().getName(), LoggingEventType.EXECUTABLE_CANCELLATION_ERROR, "Unable to cancel executable for ID " + sessionID + ": " + e.getMessage()).toString());
                 }
             });
+            MetricsHandler.incrementCancelledExecutableCount(numberOfCancelledStoreExecutables.get());
         }
         return numberOfCancelled.get();
     }
@@ -162,6 +192,21 @@ public enum StoreExecutableManager
 
     }
 
+    /**
+     * Cancels the executables of the request only if it was sent by the given identity (see
+     * {@link #addExecutable(RequestContext, StoreExecutable, Identity)}), returning the number of executables cancelled.
+     */
+    public int cancelExecutablesByID(String requestID, Identity caller)
+    {
+        String owner = requestID == null ? null : requestOwners.get(requestID);
+        if (owner == null || caller == null || !owner.equals(caller.getName()))
+        {
+            LOGGER.info(new LogInfo((caller == null ? Identity.getAnonymousIdentity() : caller).getName(), LoggingEventType.EXECUTABLE_CANCELLATION, "Not cancelling request " + requestID + ": unknown request or not sent by the caller").toString());
+            return 0;
+        }
+        return cancelExecutablesOnSession(requestID);
+    }
+
     public Integer getActiveSessionCount()
     {
         return requestExecutableMap.keySet().size();
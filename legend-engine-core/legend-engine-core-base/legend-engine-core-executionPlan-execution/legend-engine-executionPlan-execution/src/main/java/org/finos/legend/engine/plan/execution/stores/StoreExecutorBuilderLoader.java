@@ -17,10 +17,10 @@ package org.finos.legend.engine.plan.execution.stores;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 import org.slf4j.Logger;
 
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class StoreExecutorBuilderLoader
@@ -43,7 +43,7 @@ public class StoreExecutorBuilderLoader
             if (extensions == null)
             {
                 MutableList<StoreExecutorBuilder> result = Lists.mutable.empty();
-                for (StoreExecutorBuilder extension : ServiceLoader.load(StoreExecutorBuilder.class))
+                for (StoreExecutorBuilder extension : StartupProfile.loadExtensions(StoreExecutorBuilder.class))
                 {
                     try
                     {
@@ -16,18 +16,27 @@ package org.finos.legend.engine.plan.execution;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.ExecutionNodeExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
+import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.datatype.primitive.CString;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.DataTypeResultType;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class TestPlanExecutor
 {
@@ -55,4 +64,129 @@ public class TestPlanExecutor
         String sqlQuery3 = FreeMarkerExecutor.process("ALTER SESSION SET QUERY_TAG = '{\"executionTraceID\" : \"${execID}\", \"engineUser\" : \"${userId}\", \"referer\" : \"${referer}\"}';", state3, "snowflake", null);
         Assert.assertEquals("ALTER SESSION SET QUERY_TAG = '{\"executionTraceID\" : \"b26973f8-8857-4ece-bfdc-107176c9da8b\", \"engineUser\" : \"anumam\", \"referer\" : \"null\"}';", sqlQuery3);
     }
+
+    @Test
+    public void testCancellationTokenRegisteredWhileExecuting()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        try
+        {
+            AtomicInteger registeredWhileExecuting = new AtomicInteger();
+            PlanExecutor planExecutor = PlanExecutor.newPlanExecutor();
+            planExecutor.setExecutionNodeExecutorBuilder((identity, state) -> new ExecutionNodeExecutor(identity, state)
+            {
+                @Override
+                public Result visit(ConstantExecutionNode constantExecutionNode)
+                {
+                    registeredWhileExecuting.set(StoreExecutableManager.INSTANCE.getExecutables(token).size());
+                    return super.visit(constantExecutionNode);
+                }
+            });
+
+            Result result = planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                    .withPlan(newConstantPlan())
+                    .withIdentity(new Identity("owner"))
+                    .withRequestContext(new RequestContext("testSession", "referral", token))
+                    .build());
+
+            Assert.assertTrue(result instanceof ConstantResult);
+            Assert.assertEquals(1, registeredWhileExecuting.get());
+            Assert.assertTrue(StoreExecutableManager.INSTANCE.getExecutables(token).isEmpty());
+        }
+        finally
+        {
+            StoreExecutableManager.INSTANCE.reset();
+        }
+    }
+
+    @Test
+    public void testCancellationTokenRegisteredUntilStreamingResultClosed()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        try
+        {
+            PlanExecutor planExecutor = PlanExecutor.newPlanExecutor();
+            planExecutor.setExecutionNodeExecutorBuilder((identity, state) -> new ExecutionNodeExecutor(identity, state)
+            {
+                @Override
+                public Result visit(ConstantExecutionNode constantExecutionNode)
+                {
+                    return new StreamingObjectResult<>(Stream.of("a", "b"));
+                }
+            });
+
+            Result result = planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                    .withPlan(newConstantPlan())
+                    .withIdentity(new Identity("owner"))
+                    .withRequestContext(new RequestContext("testSession", "referral", token))
+                    .build());
+
+            // the rows are still to be read: the request can still be cancelled, by its owner only
+            Assert.assertEquals(1, StoreExecutableManager.INSTANCE.getExecutables(token).size());
+            Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("someoneElse")));
+            Assert.assertEquals(1, StoreExecutableManager.INSTANCE.getExecutables(token).size());
+
+            result.close();
+            Assert.assertTrue(StoreExecutableManager.INSTANCE.getExecutables(token).isEmpty());
+        }
+        finally
+        {
+            StoreExecutableManager.INSTANCE.reset();
+        }
+    }
+
+    @Test
+    public void testCancellingRequestCancelsExecutionStateCopies()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        try
+        {
+            ExecutionState[] copy = new ExecutionState[1];
+            PlanExecutor planExecutor = PlanExecutor.newPlanExecutor();
+            planExecutor.setExecutionNodeExecutorBuilder((identity, state) -> new ExecutionNodeExecutor(identity, state)
+            {
+                @Override
+                public Result visit(ConstantExecutionNode constantExecutionNode)
+                {
+                    copy[0] = new ExecutionState(state);
+                    return new StreamingObjectResult<>(Stream.of("a", "b"));
+                }
+            });
+
+            Result result = planExecutor.executeWithArgs(PlanExecutor.withArgs()
+                    .withPlan(newConstantPlan())
+                    .withIdentity(new Identity("owner"))
+                    .withRequestContext(new RequestContext("testSession", "referral", token))
+                    .build());
+
+            Assert.assertFalse(copy[0].getCancellationToken().isCancelled());
+            Assert.assertEquals(1, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("owner")));
+            Assert.assertTrue(copy[0].getCancellationToken().isCancelled());
+            Assert.assertThrows(EngineException.class, () -> copy[0].getCancellationToken().throwIfCancelled());
+            result.close();
+        }
+        finally
+        {
+            StoreExecutableManager.INSTANCE.reset();
+        }
+    }
+
+    private static SingleExecutionPlan newConstantPlan()
+    {
+        DataTypeResultType resultType = new DataTypeResultType();
+        resultType.dataType = "String";
+        ConstantExecutionNode node = new ConstantExecutionNode();
+        node.resultType = resultType;
+        node.values = new CString("value");
+
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+        plan.rootExecutionNode = node;
+        return plan;
+    }
 }
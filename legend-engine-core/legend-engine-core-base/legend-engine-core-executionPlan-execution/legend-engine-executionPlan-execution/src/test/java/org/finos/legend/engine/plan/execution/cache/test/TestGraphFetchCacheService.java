@@ -0,0 +1,134 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.test;
+
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCacheStats;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheByEqualityKeys;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheService;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class TestGraphFetchCacheService
+{
+    @Test
+    public void testEqualityKeysCacheSharedAcrossExecutions()
+    {
+        GraphFetchCacheService service = new GraphFetchCacheService(100, 1, TimeUnit.MINUTES);
+
+        GraphFetchCacheByEqualityKeys first = service.getEqualityKeysCache("service", "mapping", "set");
+        first.getExecutionCache().put(new TestKey(1), "Object 1");
+
+        GraphFetchCacheByEqualityKeys second = service.getEqualityKeysCache("service", "mapping", "set");
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("Object 1", second.getExecutionCache().getIfPresent(new TestKey(1)));
+
+        GraphFetchCacheByEqualityKeys otherService = service.getEqualityKeysCache("otherService", "mapping", "set");
+        Assert.assertNull(otherService.getExecutionCache().getIfPresent(new TestKey(1)));
+
+        Assert.assertEquals(1, service.getStats().get("service <mapping, set>").hitCount());
+    }
+
+    @Test
+    public void testEqualityKeysCacheIsBoundedByWeight()
+    {
+        GraphFetchCacheService service = new GraphFetchCacheService(10, 1, TimeUnit.MINUTES);
+        ExecutionCache<GraphFetchCacheKey, Object> cache = service.getEqualityKeysCache("service", "mapping", "set").getExecutionCache();
+
+        for (int i = 0; i < 100; i++)
+        {
+            cache.put(new TestKey(i), "Object " + i);
+        }
+
+        Assert.assertTrue(cache.estimatedSize() <= 10);
+        Assert.assertTrue(cache.stats().evictionCount() >= 90);
+    }
+
+    @Test
+    public void testSubTreeClaimedOnce()
+    {
+        GraphFetchCacheService service = new GraphFetchCacheService(10, 1, TimeUnit.MINUTES);
+        GraphFetchCacheByEqualityKeys cache = service.getEqualityKeysCache("service", "mapping", "set");
+
+        Assert.assertTrue(cache.claimSubTree("a"));
+        Assert.assertTrue(cache.claimSubTree("a"));
+        Assert.assertFalse(cache.claimSubTree("b"));
+        Assert.assertEquals("a", cache.getSubTree());
+    }
+
+    @Test
+    public void testCrossKeysCachesStatsKeptPerSubTree()
+    {
+        GraphFetchCacheService service = new GraphFetchCacheService(100, 1, TimeUnit.MINUTES);
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+
+        ExecutionCache<GraphFetchCacheKey, List<Object>> first = service.getCrossKeysCache("service", crossAssociationKeys(plan, "{name}")).getExecutionCache();
+        ExecutionCache<GraphFetchCacheKey, List<Object>> second = service.getCrossKeysCache("service", crossAssociationKeys(plan, "{name, age}")).getExecutionCache();
+        first.put(new TestKey(1), Collections.singletonList("Object 1"));
+        Assert.assertNull(second.getIfPresent(new TestKey(1)));
+        Assert.assertNotNull(first.getIfPresent(new TestKey(1)));
+
+        Map<String, ExecutionCacheStats> stats = service.getStats();
+        Assert.assertEquals(2, stats.size());
+        stats.keySet().forEach(name -> Assert.assertTrue(name, name.matches("service <default, person\\.firm> \\[[0-9a-f]{12}]")));
+        Assert.assertEquals(1, stats.values().stream().mapToLong(ExecutionCacheStats::hitCount).sum());
+        Assert.assertEquals(1, stats.values().stream().mapToLong(ExecutionCacheStats::missCount).sum());
+
+        // the same sub tree maps to the same cache
+        service.getCrossKeysCache("service", crossAssociationKeys(plan, "{name}"));
+        Assert.assertEquals(stats.keySet(), service.getStats().keySet());
+    }
+
+    private static GraphFetchCrossAssociationKeys crossAssociationKeys(SingleExecutionPlan plan, String subTree)
+    {
+        return new GraphFetchCrossAssociationKeys(plan, GraphFetchCrossAssociationKeys.DEFAULT_PLAN_IDENTIFIER, "person.firm", "mapping", "person", "mapping", "firm", Collections.singletonList("name"), subTree);
+    }
+
+    private static class TestKey extends GraphFetchCacheKey
+    {
+        private final int id;
+
+        private TestKey(int id)
+        {
+            this.id = id;
+        }
+
+        @Override
+        public String getStringIdentifier()
+        {
+            return String.valueOf(this.id);
+        }
+
+        @Override
+        protected int hash()
+        {
+            return this.id;
+        }
+
+        @Override
+        protected boolean equivalent(Object other)
+        {
+            return (other instanceof TestKey) && (((TestKey) other).id == this.id);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestConcurrentExecutionNodeExecutorPool
+{
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private ExecutorService requests;
+
+    @Before
+    public void setUp()
+    {
+        this.requests = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.requests.shutdownNow();
+    }
+
+    @Test
+    public void testRequestIsGrantedTheFreeThreads() throws Exception
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "test"))
+        {
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            Semaphore firstStarts = new Semaphore(0);
+            Future<List<? extends Result>> firstResults = execute(pool, nodes(2, releaseFirst, firstStarts));
+            awaitStarts(firstStarts, 2);
+
+            CountDownLatch releaseSecond = new CountDownLatch(1);
+            Semaphore secondStarts = new Semaphore(0);
+            List<BlockingNode> second = nodes(4, releaseSecond, secondStarts);
+            Future<List<? extends Result>> secondResults = execute(pool, second);
+            awaitStarts(secondStarts, 2);
+            assertPoolState(pool, "[Permits = 0]", "requestedConcurrency : 6", "grantedConcurrency : 4", "sequentialExecutions : 0");
+
+            // the first request holds its threads until the second is done, so the second runs all its nodes on the two it was granted
+            releaseSecond.countDown();
+            assertResults(secondResults.get(10, TimeUnit.SECONDS), 4);
+            Assert.assertEquals(2, second.stream().map(node -> node.thread).distinct().count());
+            assertPoolState(pool, "[Permits = 2]", "grantedConcurrency : 4");
+
+            releaseFirst.countDown();
+            assertResults(firstResults.get(10, TimeUnit.SECONDS), 2);
+            assertPoolState(pool, "[Permits = 4]");
+        }
+    }
+
+    @Test
+    public void testRequestRunsSequentiallyWhenNoThreadIsFree() throws Exception
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(2, "test"))
+        {
+            CountDownLatch release = new CountDownLatch(1);
+            Semaphore firstStarts = new Semaphore(0);
+            Future<List<? extends Result>> firstResults = execute(pool, nodes(2, release, firstStarts));
+            awaitStarts(firstStarts, 2);
+
+            List<BlockingNode> second = nodes(2, new CountDownLatch(0), new Semaphore(0));
+            assertResults(pool.execute(Lists.mutable.withAll(second), Identity.getAnonymousIdentity(), newExecutionState()), 2);
+            second.forEach(node -> Assert.assertEquals(Thread.currentThread().getName(), node.thread));
+            assertPoolState(pool, "grantedConcurrency : 2", "sequentialExecutions : 1");
+
+            release.countDown();
+            assertResults(firstResults.get(10, TimeUnit.SECONDS), 2);
+        }
+    }
+
+    @Test
+    public void testRequestConcurrencyIsCapped() throws Exception
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "test", 2, false))
+        {
+            List<BlockingNode> nodes = nodes(6, new CountDownLatch(0), new Semaphore(0));
+            assertResults(pool.execute(Lists.mutable.withAll(nodes), Identity.getAnonymousIdentity(), newExecutionState()), 6);
+            Assert.assertTrue(this.maxRunning.get() <= 2);
+            assertPoolState(pool, "requestedConcurrency : 6", "grantedConcurrency : 2", "[Permits = 4]");
+        }
+    }
+
+    @Test
+    public void testRequestPicksUpThreadsReleasedByOthers() throws Exception
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "test"))
+        {
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            Semaphore firstStarts = new Semaphore(0);
+            Future<List<? extends Result>> firstResults = execute(pool, nodes(2, releaseFirst, firstStarts));
+            awaitStarts(firstStarts, 2);
+
+            CountDownLatch releaseHead = new CountDownLatch(1);
+            CountDownLatch releaseRest = new CountDownLatch(1);
+            Semaphore secondStarts = new Semaphore(0);
+            MutableList<BlockingNode> second = Lists.mutable.with(new BlockingNode(releaseHead, secondStarts));
+            second.addAll(nodes(5, releaseRest, secondStarts));
+            Future<List<? extends Result>> secondResults = execute(pool, second);
+            awaitStarts(secondStarts, 2);
+
+            // threads released by the first request are only picked up once a worker of the second one is done with a node
+            releaseFirst.countDown();
+            assertResults(firstResults.get(10, TimeUnit.SECONDS), 2);
+            assertPoolState(pool, "[Permits = 2]");
+            Assert.assertEquals(0, secondStarts.availablePermits());
+
+            // the worker done with the head node grows the request by one thread and both take a new node
+            this.maxRunning.set(this.running.get());
+            releaseHead.countDown();
+            awaitStarts(secondStarts, 2);
+            assertPoolState(pool, "[Permits = 1]", "requestedConcurrency : 8", "grantedConcurrency : 5");
+            Assert.assertEquals(3, this.maxRunning.get());
+
+            releaseRest.countDown();
+            assertResults(secondResults.get(10, TimeUnit.SECONDS), 6);
+            assertPoolState(pool, "[Permits = 4]");
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception
+    {
+        ConcurrentExecutionNodeExecutorPoolConfiguration configuration = new ConcurrentExecutionNodeExecutorPoolConfiguration();
+        configuration.poolSize = 2;
+        configuration.useVirtualThreads = true;
+        // falls back to a fixed thread pool on JVMs without virtual threads
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(configuration, "test"))
+        {
+            List<BlockingNode> nodes = nodes(4, new CountDownLatch(0), new Semaphore(0));
+            assertResults(pool.execute(Lists.mutable.withAll(nodes), Identity.getAnonymousIdentity(), newExecutionState()), 4);
+            Assert.assertTrue(this.maxRunning.get() <= 2);
+            assertPoolState(pool, "poolSize : 2", "grantedConcurrency : 2", "[Permits = 2]");
+        }
+    }
+
+    private Future<List<? extends Result>> execute(ConcurrentExecutionNodeExecutorPool pool, List<BlockingNode> nodes)
+    {
+        return this.requests.submit(() -> pool.execute(Lists.mutable.withAll(nodes), Identity.getAnonymousIdentity(), newExecutionState()));
+    }
+
+    private List<BlockingNode> nodes(int count, CountDownLatch release, Semaphore starts)
+    {
+        MutableList<BlockingNode> nodes = Lists.mutable.empty();
+        for (int i = 0; i < count; i++)
+        {
+            nodes.add(new BlockingNode(release, starts));
+        }
+        return nodes;
+    }
+
+    private ExecutionState newExecutionState()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        state.extraNodeExecutors.add((node, identity, executionState) -> node instanceof BlockingNode ? ((BlockingNode) node).run() : null);
+        return state;
+    }
+
+    private static void awaitStarts(Semaphore starts, int count) throws InterruptedException
+    {
+        Assert.assertTrue("Timed out", starts.tryAcquire(count, 10, TimeUnit.SECONDS));
+    }
+
+    private static void assertResults(List<? extends Result> results, int size)
+    {
+        Assert.assertEquals(size, results.size());
+        results.forEach(result -> Assert.assertEquals("done", ((ConstantResult) result).getValue()));
+    }
+
+    private static void assertPoolState(ConcurrentExecutionNodeExecutorPool pool, String... expected)
+    {
+        String state = pool.toString();
+        for (String e : expected)
+        {
+            Assert.assertTrue(state, state.contains(e));
+        }
+    }
+
+    private class BlockingNode extends ExecutionNode
+    {
+        private final CountDownLatch release;
+        private final Semaphore starts;
+        private volatile String thread;
+
+        private BlockingNode(CountDownLatch release, Semaphore starts)
+        {
+            this.release = release;
+            this.starts = starts;
+        }
+
+        private Result run()
+        {
+            this.thread = Thread.currentThread().getName();
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            this.starts.release();
+            try
+            {
+                Assert.assertTrue(this.release.await(10, TimeUnit.SECONDS));
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            finally
+            {
+                running.decrementAndGet();
+            }
+            return new ConstantResult("done");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.nodes.state;
+
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class TestExecutionStateCopy
+{
+    @Test
+    public void testCopySeesResultsAddedBeforeCopy()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        state.addParameterValue("a", 1);
+
+        ExecutionState copy = state.copy();
+        Assert.assertEquals(1, ((ConstantResult) copy.getResult("a")).getValue());
+        Assert.assertEquals(1, copy.getResults().size());
+    }
+
+    @Test
+    public void testCopyIsolatesResultsAddedAfterCopy()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        state.addParameterValue("a", 1);
+
+        ExecutionState copy1 = state.copy();
+        ExecutionState copy2 = state.copy();
+
+        copy1.addParameterValue("b", 2);
+        state.addParameterValue("c", 3);
+
+        Assert.assertNull(state.getResult("b"));
+        Assert.assertNull(copy2.getResult("b"));
+        Assert.assertNull(copy1.getResult("c"));
+        Assert.assertNull(copy2.getResult("c"));
+        Assert.assertEquals(2, ((ConstantResult) copy1.getResult("b")).getValue());
+        Assert.assertEquals(3, ((ConstantResult) state.getResult("c")).getValue());
+    }
+
+    @Test
+    public void testWrappedStateSharesResults()
+    {
+        ExecutionState state = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        ExecutionState copy = state.copy();
+        ExecutionState wrapped = new ExecutionState(state);
+
+        wrapped.addParameterValue("a", 1);
+
+        Assert.assertEquals(1, ((ConstantResult) state.getResult("a")).getValue());
+        Assert.assertNull(copy.getResult("a"));
+    }
+}
@@ -0,0 +1,134 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.datatype.primitive.CString;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.CompositeExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.ExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.CompiledClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.DataTypeResultType;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+public class TestBinaryExecutionPlanSerializer
+{
+    private static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+
+    private final BinaryExecutionPlanSerializer serializer = new BinaryExecutionPlanSerializer();
+
+    @Test
+    public void testSinglePlanRoundTrip() throws Exception
+    {
+        SingleExecutionPlan plan = newPlan("a");
+        String json = objectMapper.writeValueAsString(plan);
+
+        byte[] binary = this.serializer.serialize(plan);
+        Assert.assertTrue(binary.length < json.getBytes(StandardCharsets.UTF_8).length);
+
+        ExecutionPlan result = this.serializer.deserialize(binary);
+        Assert.assertTrue(result instanceof SingleExecutionPlan);
+        Assert.assertEquals(json, objectMapper.writeValueAsString(result));
+    }
+
+    @Test
+    public void testCompositePlanRoundTripDecodesSubPlansOnAccess() throws Exception
+    {
+        Map<String, SingleExecutionPlan> plans = Maps.mutable.with("k1", newPlan("a"), "k2", newPlan("b"));
+        CompositeExecutionPlan plan = new CompositeExecutionPlan(plans, "key", Lists.mutable.with("k1", "k2"));
+        String json = objectMapper.writeValueAsString(plan);
+
+        CompositeExecutionPlan result = (CompositeExecutionPlan) this.serializer.deserialize(this.serializer.serialize(plan));
+        Assert.assertEquals("key", result.executionKeyName);
+        Assert.assertEquals(Lists.mutable.with("k1", "k2"), result.executionKeys);
+        Assert.assertEquals(2, result.executionPlans.size());
+        Assert.assertTrue(result.executionPlans.containsKey("k2"));
+        Assert.assertNull(result.executionPlans.get("k3"));
+
+        Assert.assertEquals(objectMapper.writeValueAsString(plans.get("k2")), objectMapper.writeValueAsString(result.executionPlans.get("k2")));
+        Assert.assertSame(result.executionPlans.get("k2"), result.executionPlans.get("k2"));
+        Assert.assertEquals(json, objectMapper.writeValueAsString(result));
+    }
+
+    @Test
+    public void testCompositeSubPlanKeepsBytesWhenDecodingFails() throws Exception
+    {
+        Map<String, SingleExecutionPlan> plans = Maps.mutable.with("k1", newPlan("a"), "k2", newPlan("b"));
+        byte[] binary = this.serializer.serialize(new CompositeExecutionPlan(plans, "key", Lists.mutable.with("k1", "k2")));
+        // the last byte closes the last sub plan, without it the sub plan is truncated
+        binary[binary.length - 1] = (byte) 0xFA;
+
+        CompositeExecutionPlan result = (CompositeExecutionPlan) this.serializer.deserialize(binary);
+        String corrupted = Lists.mutable.withAll(result.executionPlans.keySet()).getLast();
+        String intact = Lists.mutable.withAll(result.executionPlans.keySet()).getFirst();
+
+        UncheckedIOException first = Assert.assertThrows(UncheckedIOException.class, () -> result.executionPlans.get(corrupted));
+        UncheckedIOException second = Assert.assertThrows(UncheckedIOException.class, () -> result.executionPlans.get(corrupted));
+        Assert.assertEquals(first.getCause().getClass(), second.getCause().getClass());
+        Assert.assertEquals(objectMapper.writeValueAsString(plans.get(intact)), objectMapper.writeValueAsString(result.executionPlans.get(intact)));
+    }
+
+    @Test
+    public void testReadExecutionPlanDetectsFormat() throws Exception
+    {
+        SingleExecutionPlan plan = newPlan("a");
+        String json = objectMapper.writeValueAsString(plan);
+
+        ExecutionPlan fromJson = PlanExecutor.readExecutionPlan(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        ExecutionPlan fromBinary = PlanExecutor.readExecutionPlan(new ByteArrayInputStream(PlanExecutor.writeBinaryExecutionPlan(plan)));
+
+        Assert.assertEquals(json, objectMapper.writeValueAsString(fromJson));
+        Assert.assertEquals(json, objectMapper.writeValueAsString(fromBinary));
+    }
+
+    private static SingleExecutionPlan newPlan(String value)
+    {
+        DataTypeResultType resultType = new DataTypeResultType();
+        resultType.dataType = "String";
+        ConstantExecutionNode node = new ConstantExecutionNode();
+        node.resultType = resultType;
+        node.values = new CString(value);
+
+        JavaClass javaClass = new JavaClass();
+        javaClass._package = "org.finos.legend.test";
+        javaClass.name = "Execute";
+        javaClass.source = "package org.finos.legend.test; public class Execute { }";
+        javaClass.byteCode = Base64.getEncoder().encodeToString(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 52});
+        JavaPlatformImplementation implementation = new JavaPlatformImplementation();
+        implementation.classes = Lists.mutable.with(javaClass);
+        implementation.compiledClasses = Lists.mutable.with(new CompiledClass("org.finos.legend.test.Execute", javaClass.byteCode));
+        implementation.byteCode = Maps.mutable.with("org.finos.legend.test.Execute", javaClass.byteCode);
+
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+        plan.rootExecutionNode = node;
+        plan.globalImplementationSupport = implementation;
+        plan.templateFunctions = Lists.mutable.with("<#function renderCollection collection separator><#return collection?join(separator)></#function>");
+        return plan;
+    }
+}
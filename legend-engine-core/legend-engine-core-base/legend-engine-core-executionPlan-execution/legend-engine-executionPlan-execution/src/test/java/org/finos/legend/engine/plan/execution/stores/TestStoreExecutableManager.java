@@ -14,9 +14,18 @@
 
 package org.finos.legend.engine.plan.execution.stores;
 
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
 public class TestStoreExecutableManager
 {
     @Test
@@ -127,12 +136,134 @@ public class TestStoreExecutableManager
 
     }
 
+    @Test
+    public void testCancellationByIDOnlyForOwner()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        RequestContext context = new RequestContext("testSession", "referral", token);
+        TestExecutable test1 = new TestExecutable();
+        StoreExecutableManager.INSTANCE.addExecutable(context, test1, new Identity("owner"));
+
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("someoneElse")));
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, null));
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID("unknownToken", new Identity("owner")));
+        Assert.assertFalse(test1.cancelled);
+        Assert.assertEquals(1, StoreExecutableManager.INSTANCE.getExecutables(token).size());
+
+        Assert.assertEquals(1, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("owner")));
+        Assert.assertTrue(test1.cancelled);
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.getExecutables(token).size());
+
+        StoreExecutableManager.INSTANCE.reset(); //clean up state of singleton
+    }
+
+    @Test
+    public void testCancellationByIDWithRequestSentByDifferentUsers()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        RequestContext context = new RequestContext("testSession", "referral", token);
+        TestExecutable test1 = new TestExecutable();
+        TestExecutable test2 = new TestExecutable();
+        StoreExecutableManager.INSTANCE.addExecutable(context, test1, new Identity("owner"));
+        StoreExecutableManager.INSTANCE.addExecutable(context, test2, new Identity("someoneElse"));
+
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("owner")));
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("someoneElse")));
+        Assert.assertFalse(test1.cancelled);
+        Assert.assertFalse(test2.cancelled);
+
+        StoreExecutableManager.INSTANCE.reset(); //clean up state of singleton
+    }
+
+    @Test
+    public void testOwnerForgottenOnceRequestIsDone()
+    {
+        String token = "requestToken";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        RequestContext context = new RequestContext("testSession", "referral", token);
+        TestExecutable test1 = new TestExecutable();
+        StoreExecutableManager.INSTANCE.addExecutable(context, test1, new Identity("owner"));
+        StoreExecutableManager.INSTANCE.removeExecutable(context, test1);
+
+        // the same id sent later by another user is owned by that user
+        TestExecutable test2 = new TestExecutable();
+        StoreExecutableManager.INSTANCE.addExecutable(context, test2, new Identity("someoneElse"));
+        Assert.assertEquals(0, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("owner")));
+        Assert.assertEquals(1, StoreExecutableManager.INSTANCE.cancelExecutablesByID(token, new Identity("someoneElse")));
+        Assert.assertTrue(test2.cancelled);
+
+        StoreExecutableManager.INSTANCE.reset(); //clean up state of singleton
+    }
+
+    @Test
+    public void testCancellationTokenNotCountedAsCancelledExecutable()
+    {
+        String session = "testSession";
+        StoreExecutableManager.INSTANCE.reset();
+        StoreExecutableManager.INSTANCE.registerManager();
+        CancellationToken cancellationToken = new CancellationToken();
+        StoreExecutableManager.INSTANCE.addExecutable(session, cancellationToken);
+        StoreExecutableManager.INSTANCE.addExecutable(session, new TestExecutable());
+
+        double executablesBefore = getCount("legend_engine_cancelled_executables");
+        double executionsBefore = getCount("legend_engine_cancelled_executions");
+        Assert.assertEquals(2, StoreExecutableManager.INSTANCE.cancelExecutablesOnSession(session));
+        Assert.assertTrue(cancellationToken.isCancelled());
+        Assert.assertEquals(1, getCount("legend_engine_cancelled_executables") - executablesBefore, 0d);
+        Assert.assertEquals(1, getCount("legend_engine_cancelled_executions") - executionsBefore, 0d);
+
+        StoreExecutableManager.INSTANCE.reset(); //clean up state of singleton
+    }
+
+    @Test
+    public void testCancellationTokenRunsListenersAndStopsStreams()
+    {
+        CancellationToken cancellationToken = new CancellationToken();
+        AtomicInteger aborted = new AtomicInteger();
+        Runnable removed = aborted::incrementAndGet;
+        cancellationToken.addCancelListener(aborted::incrementAndGet);
+        cancellationToken.addCancelListener(() ->
+        {
+            throw new IllegalStateException("listener failure must not stop cancellation");
+        });
+        cancellationToken.addCancelListener(removed);
+        cancellationToken.removeCancelListener(removed);
+
+        Iterator<Integer> stream = cancellationToken.cancellable(Stream.of(1, 2, 3)).iterator();
+        Iterator<Integer> iterator = cancellationToken.cancellable(Stream.of(1, 2, 3).iterator());
+        Assert.assertEquals(1, stream.next().intValue());
+        Assert.assertEquals(1, iterator.next().intValue());
+
+        cancellationToken.cancel();
+        cancellationToken.cancel();
+        Assert.assertEquals(1, aborted.get());
+        Assert.assertEquals("Execution cancelled", Assert.assertThrows(EngineException.class, stream::next).getMessage());
+        Assert.assertEquals("Execution cancelled", Assert.assertThrows(EngineException.class, iterator::hasNext).getMessage());
+
+        // listeners added after cancellation run straight away
+        cancellationToken.addCancelListener(aborted::incrementAndGet);
+        Assert.assertEquals(2, aborted.get());
+    }
+
+    private static double getCount(String metric)
+    {
+        Double value = MetricsHandler.getMetricsRegistry().getSampleValue(metric);
+        return value == null ? 0 : value;
+    }
+
     private class TestExecutable implements StoreExecutable
     {
+        private boolean cancelled = false;
+
         @Override
         public void cancel()
         {
-
+            this.cancelled = true;
         }
     }
 
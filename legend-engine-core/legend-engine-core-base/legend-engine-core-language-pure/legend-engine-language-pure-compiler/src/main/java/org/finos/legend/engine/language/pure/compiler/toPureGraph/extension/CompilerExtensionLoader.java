@@ -16,9 +16,9 @@ package org.finos.legend.engine.language.pure.compiler.toPureGraph.extension;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class CompilerExtensionLoader
@@ -41,7 +41,7 @@ public class CompilerExtensionLoader
             if (existing == null)
             {
                 List<CompilerExtension> extensions = Lists.mutable.empty();
-                for (CompilerExtension extension : ServiceLoader.load(CompilerExtension.class))
+                for (CompilerExtension extension : StartupProfile.loadExtensions(CompilerExtension.class))
                 {
                     try
                     {
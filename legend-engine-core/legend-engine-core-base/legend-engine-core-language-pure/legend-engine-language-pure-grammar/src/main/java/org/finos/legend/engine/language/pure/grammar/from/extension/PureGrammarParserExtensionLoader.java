@@ -16,9 +16,9 @@ package org.finos.legend.engine.language.pure.grammar.from.extension;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class PureGrammarParserExtensionLoader
@@ -41,7 +41,7 @@ public class PureGrammarParserExtensionLoader
             if (existing == null)
             {
                 List<PureGrammarParserExtension> extensions = Lists.mutable.empty();
-                for (PureGrammarParserExtension extension : ServiceLoader.load(PureGrammarParserExtension.class))
+                for (PureGrammarParserExtension extension : StartupProfile.loadExtensions(PureGrammarParserExtension.class))
                 {
                     try
                     {
@@ -16,9 +16,9 @@ package org.finos.legend.engine.language.pure.grammar.to.extension;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class PureGrammarComposerExtensionLoader
@@ -41,7 +41,7 @@ public class PureGrammarComposerExtensionLoader
             if (existing == null)
             {
                 List<PureGrammarComposerExtension> extensions = Lists.mutable.empty();
-                for (PureGrammarComposerExtension extension : ServiceLoader.load(PureGrammarComposerExtension.class))
+                for (PureGrammarComposerExtension extension : StartupProfile.loadExtensions(PureGrammarComposerExtension.class))
                 {
                     try
                     {
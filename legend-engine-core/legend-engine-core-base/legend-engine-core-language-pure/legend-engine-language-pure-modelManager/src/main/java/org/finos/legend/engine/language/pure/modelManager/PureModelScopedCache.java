@@ -0,0 +1,101 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Results computed from a compiled model (e.g. analytics), cached for as long as the model itself is alive.
+ * <p>
+ * Models are held weakly and compared by identity: the model manager hands out the same {@link PureModel} for a cached
+ * pointer, so repeated requests on a released SDLC version hit, and the results go away once the model is evicted from
+ * the model cache. Cached values must therefore not reference the model they were computed from.
+ * <p>
+ * Concurrent requests for the same key compute the result once; failures are not cached.
+ */
+public class PureModelScopedCache
+{
+    private static final long DEFAULT_MAXIMUM_SIZE_PER_MODEL = 1_000;
+
+    private final long maximumSizePerModel;
+    private final Cache<PureModel, Cache<List<Object>, Object>> caches = CacheBuilder.newBuilder().weakKeys().build();
+
+    public PureModelScopedCache()
+    {
+        this(DEFAULT_MAXIMUM_SIZE_PER_MODEL);
+    }
+
+    public PureModelScopedCache(long maximumSizePerModel)
+    {
+        if (maximumSizePerModel < 0)
+        {
+            throw new IllegalArgumentException("maximumSizePerModel must not be negative");
+        }
+        this.maximumSizePerModel = maximumSizePerModel;
+    }
+
+    /**
+     * Result for the given key on the given model, computed if absent. The key parts must have value semantics (strings,
+     * booleans, ...); a {@code null} part is allowed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(PureModel pureModel, Supplier<T> compute, Object... key)
+    {
+        Cache<List<Object>, Object> cache = this.cacheFor(pureModel);
+        try
+        {
+            return (T) cache.get(Arrays.asList(key), compute::get);
+        }
+        catch (ExecutionException | UncheckedExecutionException | ExecutionError e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    public CacheStats getStats(PureModel pureModel)
+    {
+        Cache<List<Object>, Object> cache = this.caches.getIfPresent(pureModel);
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : cache.stats();
+    }
+
+    public void invalidateAll()
+    {
+        this.caches.invalidateAll();
+    }
+
+    private Cache<List<Object>, Object> cacheFor(PureModel pureModel)
+    {
+        return this.caches.asMap().computeIfAbsent(pureModel, m -> CacheBuilder.newBuilder().recordStats().maximumSize(this.maximumSizePerModel).build());
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.test;
+
+import org.finos.legend.engine.language.pure.compiler.Compiler;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.modelManager.PureModelScopedCache;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestPureModelScopedCache
+{
+    @Test
+    public void testResultsCachedPerModelAndKey()
+    {
+        PureModel model1 = Compiler.compile(PureModelContextData.newPureModelContextData(), DeploymentMode.TEST, null);
+        PureModel model2 = Compiler.compile(PureModelContextData.newPureModelContextData(), DeploymentMode.TEST, null);
+        PureModelScopedCache cache = new PureModelScopedCache();
+        AtomicInteger computed = new AtomicInteger();
+
+        Assert.assertEquals("a0", cache.get(model1, () -> "a" + computed.getAndIncrement(), "analysis", "a", null));
+        Assert.assertEquals("a0", cache.get(model1, () -> "a" + computed.getAndIncrement(), "analysis", "a", null));
+        Assert.assertEquals("b1", cache.get(model1, () -> "b" + computed.getAndIncrement(), "analysis", "b", null));
+        Assert.assertEquals("a2", cache.get(model2, () -> "a" + computed.getAndIncrement(), "analysis", "a", null));
+        Assert.assertEquals(3, computed.get());
+
+        Assert.assertEquals(1, cache.getStats(model1).hitCount());
+        Assert.assertEquals(0, cache.getStats(model2).hitCount());
+    }
+
+    @Test
+    public void testFailuresAreNotCached()
+    {
+        PureModel model = Compiler.compile(PureModelContextData.newPureModelContextData(), DeploymentMode.TEST, null);
+        PureModelScopedCache cache = new PureModelScopedCache();
+
+        IllegalStateException error = Assert.assertThrows(IllegalStateException.class, () -> cache.get(model, () ->
+        {
+            throw new IllegalStateException("failed");
+        }, "analysis"));
+        Assert.assertEquals("failed", error.getMessage());
+        Assert.assertEquals("ok", cache.get(model, () -> "ok", "analysis"));
+    }
+}
@@ -16,9 +16,9 @@ package org.finos.legend.engine.protocol.pure.v1.extension;
 
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 
 import java.util.List;
-import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class PureProtocolExtensionLoader
@@ -41,7 +41,7 @@ public class PureProtocolExtensionLoader
             if (existing == null)
             {
                 List<PureProtocolExtension> extensions = Lists.mutable.empty();
-                for (PureProtocolExtension extension : ServiceLoader.load(PureProtocolExtension.class))
+                for (PureProtocolExtension extension : StartupProfile.loadExtensions(PureProtocolExtension.class))
                 {
                     try
                     {
@@ -15,22 +15,34 @@
 package org.finos.legend.engine.external.shared.format.model;
 
 import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.shared.core.extension.StartupProfile;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ExternalFormatExtensionLoader
 {
+    private static final AtomicReference<Map<String, ExternalFormatExtension<?>>> INSTANCE = new AtomicReference<>();
+
+    /**
+     * Loaded once: this is called for every external format section parsed and by the compiler helpers.
+     */
     public static Map<String, ExternalFormatExtension<?>> extensions()
+    {
+        return INSTANCE.updateAndGet(existing -> (existing == null) ? loadExtensions() : existing);
+    }
+
+    private static Map<String, ExternalFormatExtension<?>> loadExtensions()
     {
         Map<String, ExternalFormatExtension<?>> result = Maps.mutable.empty();
-        for (ExternalFormatExtension<?> extension : ServiceLoader.load(ExternalFormatExtension.class))
+        for (ExternalFormatExtension<?> extension : StartupProfile.loadExtensions(ExternalFormatExtension.class))
         {
             if (result.put(extension.getFormat(), extension) != null)
             {
                 throw new IllegalArgumentException("Conflicting extension for external format schema type: " + extension.getFormat());
             }
         }
-        return result;
+        return Collections.unmodifiableMap(result);
     }
-}
\ No newline at end of file
+}
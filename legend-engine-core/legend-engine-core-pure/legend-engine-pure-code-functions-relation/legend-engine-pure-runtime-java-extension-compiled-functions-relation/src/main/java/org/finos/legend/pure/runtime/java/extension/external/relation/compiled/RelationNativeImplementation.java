@@ -61,7 +61,6 @@ import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.navigation.relation._Column;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
-import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
@@ -80,6 +79,7 @@ import org.finos.legend.pure.runtime.java.extension.external.relation.shared.win
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.Window;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.WindowAggregator;
 
 public class RelationNativeImplementation
 {
@@ -366,7 +366,7 @@ public class RelationNativeImplementation
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
         TestTDSCompiled tds = RelationNativeImplementation.getTDS(rel, es);
 
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = window.getPartition().isEmpty() ? tds.wrapFullTDS() : tds.sort(window.getPartition().collect(part -> new SortInfo(part, SortDirection.ASC)).toList());
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = window.getPartition().isEmpty() ? tds.wrapFullTDS() : tds.group(window.getPartition());
         MutableList<SortInfo> sortInfos = window.getSorts();
         final Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortedPartitions = TestTDS.sortPartitions(sortInfos, sortRes);
 
@@ -378,7 +378,7 @@ public class RelationNativeImplementation
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
         TestTDSCompiled tds = RelationNativeImplementation.getTDS(rel, es);
 
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = window.getPartition().isEmpty() ? tds.wrapFullTDS() : tds.sort(window.getPartition().collect(part -> new SortInfo(part, SortDirection.ASC)).toList());
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = window.getPartition().isEmpty() ? tds.wrapFullTDS() : tds.group(window.getPartition());
         MutableList<SortInfo> sortInfos = window.getSorts();
         final Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortedPartitions = TestTDS.sortPartitions(sortInfos, sortRes);
 
@@ -455,11 +455,7 @@ public class RelationNativeImplementation
         else if (ps.type_subTypeOf(type, _Package.getByUserPath(M3Paths.Date, ps)))
         {
             MutableList<PureDate> pureDateRes = Lists.mutable.empty();
-            extracted(tds, window, colFuncSpecTrans, es, (i, val) ->
-            {
-                PureDate date = (PureDate) val;
-                pureDateRes.add(DateFunctions.newPureDate(date.getYear(), date.getMonth(), date.getDay(), date.getHour(), date.getMinute(), date.getSecond(), date.getSubsecond().substring(0, 3)));
-            });
+            extracted(tds, window, colFuncSpecTrans, es, (i, val) -> pureDateRes.add(TestTDS.toMillisecondPrecision((PureDate) val)));
             return new ColumnValue(colFuncSpecTrans.newColName, colFuncSpecTrans.functionType._returnType(), colFuncSpecTrans.functionType._returnMultiplicity(), pureDateRes.toArray(new PureDate[0]));
         }
         else if (ps.type_subTypeOf(type, _Package.getByUserPath(M3Paths.Boolean, ps)))
@@ -559,6 +555,7 @@ public class RelationNativeImplementation
         public String newColName;
         public Function2 reduce;
         public FunctionType reduceFunctionType;
+        public AggColSpec<?, ?, ?> aggColSpec = null;
 
         public AggColSpecTrans(String newColName, Function2 reduce, FunctionType reduceFunctionType)
         {
@@ -573,7 +570,6 @@ public class RelationNativeImplementation
     public static class AggColSpecTrans1 extends AggColSpecTrans
     {
         public SharedPureFunction map;
-        public AggColSpec<?, ?, ?> aggColSpec = null;
 
         public AggColSpecTrans1(String newColName, SharedPureFunction map, Function2 reduce, FunctionType reduceFunctionType)
         {
@@ -604,6 +600,12 @@ public class RelationNativeImplementation
             this.map = map;
         }
 
+        public AggColSpecTrans2(String newColName, SharedPureFunction map, Function2 reduce, FunctionType reduceFunctionType, AggColSpec<?, ?, ?> aggColSpec)
+        {
+            this(newColName, map, reduce, reduceFunctionType);
+            this.aggColSpec = aggColSpec;
+        }
+
         @Override
         public Object eval(Object partition, Object frame, Object row, ExecutionSupport es)
         {
@@ -631,7 +633,7 @@ public class RelationNativeImplementation
         ProcessorSupport ps = ((CompiledExecutionSupport) es).getProcessorSupport();
         TestTDSCompiled tds = RelationNativeImplementation.getTDS(rel, es);
 
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = cols.isEmpty() ? tds.wrapFullTDS() : tds.sort(cols.collect(name -> new SortInfo(name, SortDirection.ASC)).toList());
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sortRes = cols.isEmpty() ? tds.wrapFullTDS() : tds.group(cols);
 
         MutableSet<String> columnsToRemove = tds.getColumnNames().clone().toSet();
         columnsToRemove.removeAll(cols.toSet());
@@ -689,7 +691,7 @@ public class RelationNativeImplementation
         ListIterable<String> groupByColumns = tds.getColumnNames().reject(c -> columnsUsedInAggregation.anySatisfy(a -> a.equals(c)) || pivotCols.anySatisfy(a -> a.equals(c))).withAll(pivotCols);
 
         // create the big group-by table by processing all aggregations
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = tds.sort(groupByColumns.collect(c -> new SortInfo(c, SortDirection.ASC)));
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = tds.group(groupByColumns);
         TestTDSCompiled temp = (TestTDSCompiled) sorted.getOne()._distinct(sorted.getTwo());
         temp = aggColSpecTransAll.injectInto(temp, (existing, aggColSpecTrans) ->
         {
@@ -807,211 +809,24 @@ public class RelationNativeImplementation
                 for (int i = 0; i < partitionSize; i++)
                 {
                     Object orderByRowValue = sourceTDS.getValueAsCoreInstance(orderByColumnName, i);
+                    if (orderByRowValue != null && !(orderByRowValue instanceof Number) && !(frame instanceof RangeInterval && orderByRowValue instanceof PureDate))
+                    {
+                        throw new RuntimeException("Non-numeric values for order by column are not currently supported for range frame, but found: " + orderByRowValue.getClass());
+                    }
                     orderByValues.add(orderByRowValue);
                     Object res = map.eval(winTDS, convertedFrame, new RowContainer(winTDS.tds, i), es);
                     subList.add(res);
                 }
 
-                for (int i = 0; i < partitionSize; i++)
-                {
-                    MutableList<Object> aggregationValues = Lists.mutable.empty();
-                    Object orderByCurrentRowValue = orderByValues.get(i);
-                    for (int k = 0; k < partitionSize; k++)
-                    {
-                        Object currentPartitionValueAsObject = orderByValues.get(k);
-                        Object aggregateValue = subList.get(k);
-                        if (orderByCurrentRowValue == null)
-                        {
-                            if (currentPartitionValueAsObject == null) // Rows with NULL in the ORDER BY column are included in frame boundary only when the ORDER BY value of the current row is NULL.
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                        }
-                        else if (orderByCurrentRowValue instanceof Number)
-                        {
-                            Number currentRowValue = (Number) orderByCurrentRowValue;
-                            if (offsetFrom == null && offsetTo == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                            else if (offsetFrom == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND N PRECEDING/FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    Number upperBound = compiledPrimitiveHandler.plus(currentRowValue, offsetTo);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (compiledPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    Number lowerBound = compiledPrimitiveHandler.minus(currentRowValue, offsetTo);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS FIRST, which is default when sort order is DESC, rows with NULL in the ORDER BY column are included in UNBOUNDED PRECEDING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (compiledPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else if (offsetTo == null) // RANGE BETWEEN N PRECEDING/FOLLOWING AND UNBOUNDED FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    Number lowerBound = compiledPrimitiveHandler.plus(currentRowValue, offsetFrom);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS LAST, which is default when sort order is ASC, rows with NULL in the ORDER BY column are included in UNBOUNDED FOLLOWING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (compiledPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    Number upperBound = compiledPrimitiveHandler.minus(currentRowValue, offsetFrom);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (compiledPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else // RANGE BETWEEN N PRECEDING/FOLLOWING AND N PRECEDING/FOLLOWING
-                            {
-                                Number lowerBound = sortDirection == SortDirection.ASC ? compiledPrimitiveHandler.plus(currentRowValue, offsetFrom) : compiledPrimitiveHandler.minus(currentRowValue, offsetTo);
-                                Number upperBound = sortDirection == SortDirection.ASC ? compiledPrimitiveHandler.plus(currentRowValue, offsetTo) : compiledPrimitiveHandler.minus(currentRowValue, offsetFrom);
-                                if (currentPartitionValueAsObject != null)
-                                {
-                                    Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                    if (compiledPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue) && compiledPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                }
-                            }
-                        }
-                        else if (frame instanceof RangeInterval && orderByCurrentRowValue instanceof PureDate)
-                        {
-                            PureDate currentRowValue = (PureDate) orderByCurrentRowValue;
-                            if (offsetFrom == null && offsetTo == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                            else if (offsetFrom == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND INTERVAL N PRECEDING/FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    PureDate upperBound = CoreGen.adjustDate(currentRowValue, offsetTo.longValue(), offsetToDurationUnit);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (currentPartitionValue.compareTo(upperBound) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    PureDate lowerBound = CoreGen.adjustDate(currentRowValue, compiledPrimitiveHandler.minus(0, offsetTo).longValue(), offsetToDurationUnit);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS FIRST, which is default when sort order is DESC, rows with NULL in the ORDER BY column are included in UNBOUNDED PRECEDING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (lowerBound.compareTo(currentPartitionValue) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else if (offsetTo == null) // RANGE BETWEEN INTERVAL N PRECEDING/FOLLOWING AND UNBOUNDED FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    PureDate lowerBound = CoreGen.adjustDate(currentRowValue, offsetFrom.longValue(), offsetFromDurationUnit);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS LAST, which is default when sort order is ASC, rows with NULL in the ORDER BY column are included in UNBOUNDED FOLLOWING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (lowerBound.compareTo(currentPartitionValue) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    PureDate upperBound = CoreGen.adjustDate(currentRowValue, compiledPrimitiveHandler.minus(0, offsetFrom).longValue(), offsetFromDurationUnit);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (currentPartitionValue.compareTo(upperBound) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else // RANGE BETWEEN INTERVAL N PRECEDING/FOLLOWING AND INTERVAL N PRECEDING/FOLLOWING
-                            {
-                                PureDate lowerBound = sortDirection == SortDirection.ASC ? CoreGen.adjustDate(currentRowValue, offsetFrom.longValue(), offsetFromDurationUnit)
-                                        : CoreGen.adjustDate(currentRowValue, compiledPrimitiveHandler.minus(0, offsetTo).longValue(), offsetToDurationUnit);
-                                PureDate upperBound = sortDirection == SortDirection.ASC ? CoreGen.adjustDate(currentRowValue, offsetTo.longValue(), offsetToDurationUnit)
-                                        : CoreGen.adjustDate(currentRowValue, compiledPrimitiveHandler.minus(0, offsetFrom).longValue(), offsetFromDurationUnit);
-                                if (currentPartitionValueAsObject != null)
-                                {
-                                    PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                    if (lowerBound.compareTo(currentPartitionValue) <= 0 && currentPartitionValue.compareTo(upperBound) <= 0)
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                }
-                            }
-                        }
-                        else
-                        {
-                            throw new RuntimeException("Non-numeric values for order by column are not currently supported for range frame, but found: " + orderByCurrentRowValue.getClass());
-                        }
-                    }
-
-                    aggregationValues.removeIf(Objects::isNull);
-                    if (aggregationValues.isEmpty())
-                    {
-                        setter.value(cursor++, null);
-                    }
-                    else
-                    {
-                        Object result = reduce.value(aggregationValues, es);
-                        setter.value(cursor++, result);
-                    }
-                }
+                Enum fromDurationUnit = offsetFromDurationUnit;
+                Enum toDurationUnit = offsetToDurationUnit;
+                int[][] frames = WindowAggregator.rangeFrames(orderByValues, sortDirection, offsetFrom == null, offsetTo == null,
+                        row -> rangeBound(orderByValues.get(row), sortDirection, offsetFrom, fromDurationUnit, compiledPrimitiveHandler),
+                        row -> rangeBound(orderByValues.get(row), sortDirection, offsetTo, toDurationUnit, compiledPrimitiveHandler),
+                        (left, right) -> left instanceof PureDate ? ((PureDate) left).compareTo((PureDate) right) <= 0 : compiledPrimitiveHandler.lessThanEqual((Number) left, (Number) right));
+                int offset = cursor;
+                windowAggregator(subList, map, reduce, es).evaluate(frames, false, (i, o) -> setter.value(offset + i, o));
+                cursor += partitionSize;
             }
             else
             {
@@ -1041,31 +856,29 @@ public class RelationNativeImplementation
                     }
                     else
                     {
-                        for (int i = 0; i < partitionSize; i++)
-                        {
-                            Frame windowFrame = window.getFrame();
-                            if (i + (Integer) windowFrame.getOffsetTo(subList.size()) < 0 || i + (Integer) windowFrame.getOffsetFrom() >= subList.size())
-                            {
-                                setter.value(cursor++, null);
-                            }
-                            else
-                            {
-                                MutableList<Object> framed = framedList(subList, windowFrame, i);
-                                framed.removeIf(Objects::isNull);
-                                Object result = reduce.value(framed, es);
-                                setter.value(cursor++, result);
-                            }
-                        }
+                        int offset = cursor;
+                        windowAggregator(subList, map, reduce, es).evaluate(WindowAggregator.rowsFrames(window.getFrame(), partitionSize), true, (i, o) -> setter.value(offset + i, o));
+                        cursor += partitionSize;
                     }
                 }
             }
         }
     }
 
-    protected static MutableList<Object> framedList(MutableList<Object> src, Frame frame, int currentRow)
+    private static WindowAggregator<Object> windowAggregator(MutableList<Object> values, AggColSpecTrans map, Function2 reduce, ExecutionSupport es)
     {
-        MutableList<Object> copy = Lists.mutable.withAll(src);
-        return copy.subList(frame.getLow(currentRow), frame.getHigh(currentRow, src.size()) + 1);
+        WindowAggregator.Aggregate aggregate = map.aggColSpec == null ? null : WindowAggregator.aggregateOf(map.aggColSpec._reduce());
+        return new WindowAggregator<>(values, frame -> reduce.value(frame, es), aggregate, v -> v, v -> v);
+    }
+
+    // the value the frame of a row starts from or ends at: offsets follow the sort order, so they go down when it is descending
+    private static Object rangeBound(Object currentRowValue, SortDirection sortDirection, Number offset, Enum durationUnit, CompiledPrimitiveHandler compiledPrimitiveHandler)
+    {
+        if (currentRowValue instanceof Number)
+        {
+            return sortDirection == SortDirection.ASC ? compiledPrimitiveHandler.plus((Number) currentRowValue, offset) : compiledPrimitiveHandler.minus((Number) currentRowValue, offset);
+        }
+        return CoreGen.adjustDate((PureDate) currentRowValue, sortDirection == SortDirection.ASC ? offset.longValue() : compiledPrimitiveHandler.minus(0, offset).longValue(), durationUnit);
     }
 
     public static Relation<?> project(RichIterable<?> objects, RichIterable<? extends ColFuncSpecTrans1> colFuncs, ExecutionSupport es)
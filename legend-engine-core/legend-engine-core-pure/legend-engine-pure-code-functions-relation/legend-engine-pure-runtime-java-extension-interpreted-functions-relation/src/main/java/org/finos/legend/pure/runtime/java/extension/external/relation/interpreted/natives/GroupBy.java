@@ -33,8 +33,6 @@ import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.extension.external.relation.interpreted.natives.shared.AggregationShared;
 import org.finos.legend.pure.runtime.java.extension.external.relation.interpreted.natives.shared.TDSCoreInstance;
-import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
-import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
@@ -93,7 +91,7 @@ public class GroupBy extends AggregationShared
             ListIterable<String> ids = getColumnIds(cols);
 
             // Build TDS
-            return tds.sort(ids.collect(c -> new SortInfo(c, SortDirection.ASC)));
+            return tds.group(ids);
         }
         return tds.wrapFullTDS();
     }
@@ -48,8 +48,6 @@ import org.finos.legend.pure.runtime.java.extension.external.relation.interprete
 import org.finos.legend.pure.runtime.java.extension.external.relation.interpreted.natives.shared.TDSCoreInstance;
 import org.finos.legend.pure.runtime.java.extension.external.relation.interpreted.natives.shared.TDSWithCursorCoreInstance;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
-import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
-import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
@@ -140,7 +138,7 @@ public class Pivot extends Shared
         ListIterable<String> groupByColumns = tds.getColumnNames().reject(c -> columnsUsedInAggregation.anySatisfy(a -> a.equals(c)) || pivotCols.anySatisfy(a -> a.equals(c))).withAll(pivotCols);
 
         // create the big group-by table by processing all aggregations
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = tds.sort(groupByColumns.collect(c -> new SortInfo(c, SortDirection.ASC)));
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = tds.group(groupByColumns);
         TestTDS temp = aggColSpecs.injectInto(null, (a, b) -> processOneAggColSpec(a, b, sorted, resolvedTypeParameters, resolvedMultiplicityParameters, variableContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport, processorSupport, relationType));
 
         // transposing the table to complete pivoting
@@ -39,6 +39,7 @@ import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
 import org.finos.legend.pure.m3.navigation._package._Package;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.PrimitiveCoreInstance;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.ColumnValue;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
@@ -47,6 +48,7 @@ import org.finos.legend.pure.runtime.java.extension.external.relation.shared.win
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.Window;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.WindowAggregator;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
@@ -160,6 +162,10 @@ public abstract class AggregationShared extends Shared
                 for (int i = 0; i < partitionSize; i++)
                 {
                     Object orderByRowValue = sourceTDS.getValue(orderByColumnName, i);
+                    if (orderByRowValue != null && !(frame instanceof Range && orderByRowValue instanceof Number) && !(frame instanceof RangeInterval && orderByRowValue instanceof PureDate))
+                    {
+                        throw new RuntimeException("For range frame, only numeric values, DateTime and StrictDate are supported, but found: " + orderByRowValue.getClass());
+                    }
                     orderByValues.add(orderByRowValue);
                     if (twoParamFunc)
                     {
@@ -171,208 +177,14 @@ public abstract class AggregationShared extends Shared
                     subList.add(oneRes);
                 }
 
-                for (int i = 0; i < partitionSize; i++)
-                {
-                    int currentPartitionIndex = partitionStartIndex + i;
-                    MutableList<CoreInstance> aggregationValues = Lists.mutable.empty();
-                    Object orderByCurrentRowValue = orderByValues.get(i);
-                    for (int k = 0; k < partitionSize; k++)
-                    {
-                        Object currentPartitionValueAsObject = orderByValues.get(k);
-                        CoreInstance aggregateValue = subList.get(k);
-                        if (orderByCurrentRowValue == null)
-                        {
-                            if (currentPartitionValueAsObject == null) // Rows with NULL in the ORDER BY column are included in frame boundary only when the ORDER BY value of the current row is NULL.
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                        }
-                        else if (frame instanceof Range && orderByCurrentRowValue instanceof Number)
-                        {
-                            Number currentRowValue = (Number) orderByCurrentRowValue;
-                            if (offsetFrom == null && offsetTo == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                            else if (offsetFrom == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND N PRECEDING/FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    Number upperBound = repoPrimitiveHandler.plus(currentRowValue, offsetTo);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (repoPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    Number lowerBound = repoPrimitiveHandler.minus(currentRowValue, offsetTo);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS FIRST, which is default when sort order is DESC, rows with NULL in the ORDER BY column are included in UNBOUNDED PRECEDING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (repoPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else if (offsetTo == null) // RANGE BETWEEN N PRECEDING/FOLLOWING AND UNBOUNDED FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    Number lowerBound = repoPrimitiveHandler.plus(currentRowValue, offsetFrom);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS LAST, which is default when sort order is ASC, rows with NULL in the ORDER BY column are included in UNBOUNDED FOLLOWING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (repoPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    Number upperBound = repoPrimitiveHandler.minus(currentRowValue, offsetFrom);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                        if (repoPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else // RANGE BETWEEN N PRECEDING/FOLLOWING AND N PRECEDING/FOLLOWING
-                            {
-                                Number lowerBound = sortDirection == SortDirection.ASC ? repoPrimitiveHandler.plus(currentRowValue, offsetFrom) : repoPrimitiveHandler.minus(currentRowValue, offsetTo);
-                                Number upperBound = sortDirection == SortDirection.ASC ? repoPrimitiveHandler.plus(currentRowValue, offsetTo) : repoPrimitiveHandler.minus(currentRowValue, offsetFrom);
-                                if (currentPartitionValueAsObject != null)
-                                {
-                                    Number currentPartitionValue = (Number) currentPartitionValueAsObject;
-                                    if (repoPrimitiveHandler.lessThanEqual(lowerBound, currentPartitionValue) && repoPrimitiveHandler.lessThanEqual(currentPartitionValue, upperBound))
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                }
-                            }
-                        }
-                        else if (frame instanceof RangeInterval && orderByCurrentRowValue instanceof PureDate)
-                        {
-                            PureDate currentRowValue = (PureDate) orderByCurrentRowValue;
-                            if (offsetFrom == null && offsetTo == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING
-                            {
-                                aggregationValues.add(aggregateValue);
-                            }
-                            else if (offsetFrom == null) // RANGE BETWEEN UNBOUNDED PRECEDING AND INTERVAL N PRECEDING/FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    PureDate upperBound = AdjustDate.adjustDate(currentRowValue, offsetTo, offsetToDurationUnit, functionExpressionCallStack);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (currentPartitionValue.compareTo(upperBound) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    PureDate lowerBound = AdjustDate.adjustDate(currentRowValue, repoPrimitiveHandler.minus(0, offsetTo), offsetToDurationUnit, functionExpressionCallStack);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS FIRST, which is default when sort order is DESC, rows with NULL in the ORDER BY column are included in UNBOUNDED PRECEDING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (lowerBound.compareTo(currentPartitionValue) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else if (offsetTo == null) // RANGE BETWEEN INTERVAL N PRECEDING/FOLLOWING AND UNBOUNDED FOLLOWING
-                            {
-                                if (sortDirection == SortDirection.ASC)
-                                {
-                                    PureDate lowerBound = AdjustDate.adjustDate(currentRowValue, offsetFrom, offsetFromDurationUnit, functionExpressionCallStack);
-                                    if (currentPartitionValueAsObject == null) // When the ORDER BY clause specifies NULLS LAST, which is default when sort order is ASC, rows with NULL in the ORDER BY column are included in UNBOUNDED FOLLOWING frames.
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                    else
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (lowerBound.compareTo(currentPartitionValue) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                                else
-                                {
-                                    PureDate upperBound = AdjustDate.adjustDate(currentRowValue, repoPrimitiveHandler.minus(0, offsetFrom), offsetFromDurationUnit, functionExpressionCallStack);
-                                    if (currentPartitionValueAsObject != null)
-                                    {
-                                        PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                        if (currentPartitionValue.compareTo(upperBound) <= 0)
-                                        {
-                                            aggregationValues.add(aggregateValue);
-                                        }
-                                    }
-                                }
-                            }
-                            else // RANGE BETWEEN INTERVAL N PRECEDING/FOLLOWING AND INTERVAL N PRECEDING/FOLLOWING
-                            {
-                                PureDate lowerBound = sortDirection == SortDirection.ASC ? AdjustDate.adjustDate(currentRowValue, offsetFrom, offsetFromDurationUnit, functionExpressionCallStack)
-                                        : AdjustDate.adjustDate(currentRowValue, repoPrimitiveHandler.minus(0, offsetTo), offsetToDurationUnit, functionExpressionCallStack);
-                                PureDate upperBound = sortDirection == SortDirection.ASC ? AdjustDate.adjustDate(currentRowValue, offsetTo, offsetToDurationUnit, functionExpressionCallStack)
-                                        : AdjustDate.adjustDate(currentRowValue, repoPrimitiveHandler.minus(0, offsetFrom), offsetFromDurationUnit, functionExpressionCallStack);
-                                if (currentPartitionValueAsObject != null)
-                                {
-                                    PureDate currentPartitionValue = (PureDate) currentPartitionValueAsObject;
-                                    if (lowerBound.compareTo(currentPartitionValue) <= 0 && currentPartitionValue.compareTo(upperBound) <= 0)
-                                    {
-                                        aggregationValues.add(aggregateValue);
-                                    }
-                                }
-                            }
-                        }
-                        else
-                        {
-                            throw new RuntimeException("For range frame, only numeric values, DateTime and StrictDate are supported, but found: " + orderByCurrentRowValue.getClass());
-                        }
-                    }
-
-                    aggregationValues.removeIf(Objects::isNull);
-                    if (aggregationValues.isEmpty())
-                    {
-                        setter.value(currentPartitionIndex, null);
-                    }
-                    else
-                    {
-                        reduceParameters.set(0, ValueSpecificationBootstrap.wrapValueSpecification(aggregationValues, true, processorSupport));
-                        CoreInstance re = this.functionExecution.executeFunction(false, reduceF, reduceParameters, resolvedTypeParameters, resolvedMultiplicityParameters, reduceFVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport);
-                        setter.value(currentPartitionIndex, re.getValueForMetaPropertyToOne("values"));
-                    }
-                }
+                String fromDurationUnit = offsetFromDurationUnit;
+                String toDurationUnit = offsetToDurationUnit;
+                int[][] frames = WindowAggregator.rangeFrames(orderByValues, sortDirection, offsetFrom == null, offsetTo == null,
+                        row -> rangeBound(orderByValues.get(row), sortDirection, offsetFrom, fromDurationUnit, repoPrimitiveHandler, functionExpressionCallStack),
+                        row -> rangeBound(orderByValues.get(row), sortDirection, offsetTo, toDurationUnit, repoPrimitiveHandler, functionExpressionCallStack),
+                        (left, right) -> left instanceof PureDate ? ((PureDate) left).compareTo((PureDate) right) <= 0 : repoPrimitiveHandler.lessThanEqual((Number) left, (Number) right));
+                windowAggregator(subList, reduceF, reduceParameters, resolvedTypeParameters, resolvedMultiplicityParameters, functionExpressionCallStack, profiler, instantiationContext, executionSupport, processorSupport, reduceFVarContext)
+                        .evaluate(frames, false, (i, o) -> setter.value(partitionStartIndex + i, o));
             }
             else
             {
@@ -403,31 +215,40 @@ public abstract class AggregationShared extends Shared
                 }
                 else
                 {
-                    for (int i = 0; i < partitionSize; i++)
-                    {
-                        Frame frame = window.getFrame();
-                        if (i + (Integer) frame.getOffsetTo(subList.size()) < 0 || i + (Integer) frame.getOffsetFrom() >= subList.size())
-                        {
-                            setter.value(partitionStartIndex + i, null);
-                        }
-                        else
-                        {
-                            MutableList<CoreInstance> l = framedList(subList, frame, i);
-                            l.removeIf(Objects::isNull);
-                            reduceParameters.set(0, ValueSpecificationBootstrap.wrapValueSpecification(l, true, processorSupport));
-                            CoreInstance re = this.functionExecution.executeFunction(false, reduceF, reduceParameters, resolvedTypeParameters, resolvedMultiplicityParameters, reduceFVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport);
-                            setter.value(partitionStartIndex + i, re.getValueForMetaPropertyToOne("values"));
-                        }
-                    }
+                    windowAggregator(subList, reduceF, reduceParameters, resolvedTypeParameters, resolvedMultiplicityParameters, functionExpressionCallStack, profiler, instantiationContext, executionSupport, processorSupport, reduceFVarContext)
+                            .evaluate(WindowAggregator.rowsFrames(window.getFrame(), partitionSize), true, (i, o) -> setter.value(partitionStartIndex + i, o));
                 }
             }
         }
     }
 
-    protected static MutableList<CoreInstance> framedList(MutableList<CoreInstance> src, Frame frame, int currentRow)
+    private WindowAggregator<CoreInstance> windowAggregator(MutableList<CoreInstance> values, LambdaFunction<CoreInstance> reduceF, FixedSizeList<CoreInstance> reduceParameters, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport, ProcessorSupport processorSupport, VariableContext reduceFVarContext)
     {
-        MutableList<CoreInstance> copy = Lists.mutable.withAll(src);
-        return copy.subList(frame.getLow(currentRow), frame.getHigh(currentRow, src.size()) + 1);
+        return new WindowAggregator<>(
+                values,
+                frame ->
+                {
+                    reduceParameters.set(0, ValueSpecificationBootstrap.wrapValueSpecification(frame, true, processorSupport));
+                    return this.functionExecution.executeFunction(false, reduceF, reduceParameters, resolvedTypeParameters, resolvedMultiplicityParameters, reduceFVarContext, functionExpressionCallStack, profiler, instantiationContext, executionSupport).getValueForMetaPropertyToOne("values");
+                },
+                WindowAggregator.aggregateOf(reduceF),
+                value ->
+                {
+                    Object javaValue = value instanceof PrimitiveCoreInstance ? ((PrimitiveCoreInstance<?>) value).getValue() : null;
+                    return javaValue instanceof Integer ? Long.valueOf((Integer) javaValue) : javaValue;
+                },
+                // only counts and integer sums are built from scratch, other aggregates fall back to the reduce
+                result -> result instanceof Long ? this.repository.newIntegerCoreInstance((Long) result) : null);
+    }
+
+    // the value the frame of a row starts from or ends at: offsets follow the sort order, so they go down when it is descending
+    private static Object rangeBound(Object currentRowValue, SortDirection sortDirection, Number offset, String durationUnit, ProjectExtend.RepoPrimitiveHandler repoPrimitiveHandler, MutableStack<CoreInstance> functionExpressionCallStack)
+    {
+        if (currentRowValue instanceof Number)
+        {
+            return sortDirection == SortDirection.ASC ? repoPrimitiveHandler.plus((Number) currentRowValue, offset) : repoPrimitiveHandler.minus((Number) currentRowValue, offset);
+        }
+        return AdjustDate.adjustDate((PureDate) currentRowValue, sortDirection == SortDirection.ASC ? offset : repoPrimitiveHandler.minus(0, offset), durationUnit, functionExpressionCallStack);
     }
 
     protected static ListIterable<String> getColumnIds(Object cols)
@@ -25,8 +25,11 @@ import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -44,6 +47,9 @@ import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
 import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -78,6 +84,12 @@ public abstract class TestTDS
     public static final byte BOOLEAN_AS_BYTE_SENTINEL = Byte.MIN_VALUE;
     public static final long DATE_TIME_AS_LONG_SENTINEL = Long.MIN_VALUE;
 
+    // GregorianCalendar uses the julian calendar before this instant, so earlier date times are still converted through it
+    private static final long GREGORIAN_CUTOVER_EPOCH_MILLIS = -12_219_292_800_000L;
+    private static final String[] MILLISECOND_SUBSECONDS = Interval.zeroTo(999).collect(i -> String.format("%03d", i)).toArray(new String[0]);
+
+    private static final Comparator<Object> VALUE_COMPARATOR = Comparators.safeNullsHigh(Comparators.byFunction(v -> (Comparable<Object>) v));
+
     protected MutableMap<String, GenericType> pureTypesByColumnName = Maps.mutable.empty();
     protected MutableMap<String, Object> dataByColumnName = Maps.mutable.empty();
     protected MutableList<String> columnsOrdered = Lists.mutable.empty();
@@ -205,7 +217,7 @@ public abstract class TestTDS
                 for (int i = 0; i < this.rowCount; i++)
                 {
                     long value = ((long[]) data)[i];
-                    dates[i] = value == DATE_TIME_AS_LONG_SENTINEL ? null : DateFunctions.fromDate(new Date(value / 1000000));
+                    dates[i] = value == DATE_TIME_AS_LONG_SENTINEL ? null : epochNanosToPureDate(value);
                 }
                 return dates;
             }
@@ -405,6 +417,35 @@ public abstract class TestTDS
         }
     }
 
+    /**
+     * The date time, at millisecond precision, for the given nanoseconds since the epoch (as read for DATETIME columns).
+     * Fields are computed arithmetically rather than through a calendar, as this is done for every value of the column.
+     */
+    public static PureDate epochNanosToPureDate(long epochNanos)
+    {
+        long epochMillis = epochNanos / 1_000_000;
+        if (epochMillis < GREGORIAN_CUTOVER_EPOCH_MILLIS)
+        {
+            return DateFunctions.fromDate(new Date(epochMillis));
+        }
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000), 0, ZoneOffset.UTC);
+        return DateFunctions.newPureDate(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), MILLISECOND_SUBSECONDS[(int) Math.floorMod(epochMillis, 1000)]);
+    }
+
+    /**
+     * The date time truncated to millisecond precision, the precision of the date times computed by extend. Date times
+     * already at that precision are returned as is.
+     */
+    public static PureDate toMillisecondPrecision(PureDate date)
+    {
+        String subsecond = date.getSubsecond();
+        if (subsecond != null && subsecond.length() == 3)
+        {
+            return date;
+        }
+        return DateFunctions.newPureDate(date.getYear(), date.getMonth(), date.getDay(), date.getHour(), date.getMinute(), date.getSecond(), subsecond.substring(0, 3));
+    }
+
     public TestTDS join(TestTDS otherTDS)
     {
         MutableList<String> columnOrdered = Lists.mutable.empty();
@@ -591,12 +632,102 @@ public abstract class TestTDS
         return this.sort(Lists.mutable.with(sortInfos));
     }
 
+    /**
+     * Sorts the rows on the given columns, returning the sorted copy and the ranges of rows with equal sort keys. The sort
+     * is done on a permutation of the row indices, and the columns are only copied once, in their final order.
+     */
     public Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sort(ListIterable<SortInfo> sortInfos)
     {
-        TestTDS copy = this.copy();
+        int[] order = identityOrder((int) this.rowCount);
         MutableList<Pair<Integer, Integer>> ranges = Lists.mutable.empty();
-        this.sort(copy, sortInfos, 0, (int) rowCount, ranges);
-        return Tuples.pair(copy, ranges);
+        this.sort(order, new int[order.length], sortInfos, 0, order.length, ranges);
+        return Tuples.pair(this.reorder(order), ranges);
+    }
+
+    /**
+     * Groups the rows on the given columns. The result is the one of sorting on the columns in ascending order, but rows
+     * are hashed into their group and only the distinct keys are sorted, which is much cheaper when there are few groups.
+     */
+    public Pair<TestTDS, MutableList<Pair<Integer, Integer>>> group(ListIterable<? extends String> columns)
+    {
+        int rows = (int) this.rowCount;
+        MutableList<Pair<Integer, Integer>> ranges = Lists.mutable.empty();
+        if (rows == 0)
+        {
+            return Tuples.pair(this.copy(), ranges);
+        }
+
+        // each column is dictionary encoded, then combined with the group of the previous columns and renumbered: keys stay ints whatever the number of columns
+        int[] groupOfRow = new int[rows];
+        int groupCount = 1;
+        for (String column : columns)
+        {
+            Object[] data = (Object[]) this.dataByColumnName.get(column);
+            ObjectIntHashMap<Object> dictionary = ObjectIntHashMap.newMap();
+            int[] codes = new int[rows];
+            for (int i = 0; i < rows; i++)
+            {
+                codes[i] = dictionary.getIfAbsentPut(data[i], dictionary.size());
+            }
+            long cardinality = dictionary.size();
+            LongIntHashMap groups = LongIntHashMap.newMap();
+            for (int i = 0; i < rows; i++)
+            {
+                groupOfRow[i] = groups.getIfAbsentPut(groupOfRow[i] * cardinality + codes[i], groups.size());
+            }
+            groupCount = groups.size();
+        }
+
+        // groups are numbered in order of appearance, so the first row of a group stands for its key
+        int[] firstRow = new int[groupCount];
+        int[] groupSize = new int[groupCount];
+        for (int i = 0; i < rows; i++)
+        {
+            if (groupSize[groupOfRow[i]]++ == 0)
+            {
+                firstRow[groupOfRow[i]] = i;
+            }
+        }
+        MutableList<Object[]> keys = columns.collect(c -> (Object[]) this.dataByColumnName.get(c), Lists.mutable.empty());
+        Comparator<Object> comparator = Comparators.safeNullsHigh(Comparators.byFunction(v -> (Comparable<Object>) v));
+        MutableList<Integer> order = Interval.zeroTo(groupCount - 1).toList().sortThis((left, right) ->
+        {
+            for (Object[] key : keys)
+            {
+                int result = comparator.compare(key[firstRow[left]], key[firstRow[right]]);
+                if (result != 0)
+                {
+                    return result;
+                }
+            }
+            return 0;
+        });
+
+        // rows keep their relative order within their group, as with the (stable) sort
+        int[] next = new int[groupCount];
+        int start = 0;
+        for (int group : order)
+        {
+            next[group] = start;
+            ranges.add(Tuples.pair(start, start + groupSize[group]));
+            start += groupSize[group];
+        }
+        int[] sourceRows = new int[rows];
+        for (int i = 0; i < rows; i++)
+        {
+            sourceRows[next[groupOfRow[i]]++] = i;
+        }
+        TestTDS result = this.copy();
+        result.dataByColumnName.forEachKeyValue((columnName, dataAsObject) ->
+        {
+            Object[] src = (Object[]) this.dataByColumnName.get(columnName);
+            Object[] target = (Object[]) dataAsObject;
+            for (int i = 0; i < rows; i++)
+            {
+                target[i] = src[sourceRows[i]];
+            }
+        });
+        return Tuples.pair(result, ranges);
     }
 
     public MutableMap<String, GenericType> getPureTypesByColumnName()
@@ -606,7 +737,7 @@ public abstract class TestTDS
 
     public TestTDS distinct(MutableList<String> columns)
     {
-        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> res = this.sort(columns.collect(c -> new SortInfo(c, SortDirection.ASC)));
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> res = this.group(columns);
         TestTDS result = res.getOne()._distinct(res.getTwo());
         return result.select(columns.toList());
     }
@@ -625,38 +756,34 @@ public abstract class TestTDS
     }
 
 
-    private void sort(TestTDS copy, ListIterable<SortInfo> sortInfos, int start, int end, MutableList<Pair<Integer, Integer>> ranges)
+    private void sort(int[] order, int[] buffer, ListIterable<SortInfo> sortInfos, int start, int end, MutableList<Pair<Integer, Integer>> ranges)
     {
-        if (copy.rowCount == 0)
+        if (start == end)
         {
             return;
         }
         SortInfo currentSort = sortInfos.getFirst();
-        this.sortOneLevel(copy, currentSort, start, end);
-        if (!sortInfos.isEmpty())
-        {
-            String columnName = currentSort.columnName;
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
+        Object[] src = (Object[]) this.dataByColumnName.get(currentSort.columnName);
+        sortOneLevel(order, buffer, src, currentSort.direction, start, end);
 
-            Object[] src = (Object[]) dataAsObject;
-            Object val = src[start];
-            int subStart = start;
-            for (int i = start; i < end; i++)
+        Object val = src[order[start]];
+        int subStart = start;
+        for (int i = start; i < end; i++)
+        {
+            Object current = src[order[i]];
+            if (!Objects.equals(current, val) || i == end - 1)
             {
-                if (!Objects.equals(src[i], val) || (Objects.equals(src[i], val) && i == end - 1))
+                int realEnd = (Objects.equals(current, val) && i == end - 1) ? end : i;
+                if (sortInfos.size() > 1)
                 {
-                    int realEnd = (Objects.equals(src[i], val) && i == end - 1) ? end : i;
-                    if (sortInfos.size() > 1)
-                    {
-                        sort(copy, sortInfos.subList(1, sortInfos.size()), subStart, realEnd, ranges);
-                    }
-                    else
-                    {
-                        ranges.add(Tuples.pair(subStart, realEnd));
-                    }
-                    val = src[i];
-                    subStart = i;
+                    sort(order, buffer, sortInfos.subList(1, sortInfos.size()), subStart, realEnd, ranges);
                 }
+                else
+                {
+                    ranges.add(Tuples.pair(subStart, realEnd));
+                }
+                val = current;
+                subStart = i;
             }
         }
         if (ranges.getLast() != null)
@@ -669,35 +796,67 @@ public abstract class TestTDS
         }
     }
 
-    private void sortOneLevel(TestTDS copy, SortInfo sortInfo, int start, int end)
+    // Stable sort of the rows in [start, end) on the values, nulls last (first when descending)
+    private static void sortOneLevel(int[] order, int[] buffer, Object[] values, SortDirection direction, int start, int end)
+    {
+        mergeSort(order, buffer, values, start, end);
+        if (direction == SortDirection.DESC)
+        {
+            for (int i = start, j = end - 1; i < j; i++, j--)
+            {
+                int row = order[i];
+                order[i] = order[j];
+                order[j] = row;
+            }
+        }
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, Object[] values, int start, int end)
     {
-        String columnName = sortInfo.columnName;
-        MutableList<Pair<Integer, Comparable<Object>>> list = Lists.mutable.empty();
+        if (end - start < 2)
+        {
+            return;
+        }
+        int middle = (start + end) >>> 1;
+        mergeSort(order, buffer, values, start, middle);
+        mergeSort(order, buffer, values, middle, end);
+        if (VALUE_COMPARATOR.compare(values[order[middle - 1]], values[order[middle]]) <= 0)
+        {
+            return;
+        }
+        System.arraycopy(order, start, buffer, start, end - start);
+        int left = start;
+        int right = middle;
         for (int i = start; i < end; i++)
         {
-            list.add(Tuples.pair(i, (Comparable<Object>) copy.getValue(columnName, i)));
+            order[i] = (right >= end || (left < middle && VALUE_COMPARATOR.compare(values[buffer[left]], values[buffer[right]]) <= 0)) ? buffer[left++] : buffer[right++];
         }
-        list.sortThis(Comparators.bySecondOfPair(Comparators.safeNullsHigh(Comparators.byFunction(p -> p))));
-        if (sortInfo.direction == SortDirection.DESC)
+    }
+
+    private static int[] identityOrder(int rows)
+    {
+        int[] order = new int[rows];
+        for (int i = 0; i < rows; i++)
         {
-            list.reverseThis();
+            order[i] = i;
         }
-        this.reorder(copy, list.collect(Pair::getOne), start, end);
+        return order;
     }
 
-    private void reorder(TestTDS copy, MutableList<Integer> indices, int start, int end)
+    // A copy of this TDS whose row i is the row sourceRows[i] of this one
+    private TestTDS reorder(int[] sourceRows)
     {
-        for (String columnName : copy.dataByColumnName.keysView())
+        TestTDS result = this.copy();
+        result.dataByColumnName.forEachKeyValue((columnName, dataAsObject) ->
         {
-            Object dataAsObject = copy.dataByColumnName.get(columnName);
-            Object[] src = (Object[]) dataAsObject;
-            Object[] result = (Object[]) Array.newInstance(src.getClass().getComponentType(), (int) copy.rowCount);
-            for (int i = 0; i < indices.size(); i++)
+            Object[] src = (Object[]) this.dataByColumnName.get(columnName);
+            Object[] target = (Object[]) dataAsObject;
+            for (int i = 0; i < sourceRows.length; i++)
             {
-                result[i] = src[indices.get(i)];
+                target[i] = src[sourceRows[i]];
             }
-            System.arraycopy(result, 0, src, start, end - start);
-        }
+        });
+        return result;
     }
 
     public String toString()
@@ -781,13 +940,12 @@ public abstract class TestTDS
     {
         if (!transformedSort.isEmpty())
         {
-            TestTDS res = source.getOne().newEmptyTDS();
-            for (int j = 0; j < source.getTwo().size(); j++)
-            {
-                Pair<Integer, Integer> r = source.getTwo().get(j);
-                res = res.concatenate(source.getOne().slice(r.getOne(), r.getTwo()).sort(transformedSort).getOne());
-            }
-            source = Tuples.pair(res, source.getTwo());
+            // each partition is sorted in place in a single permutation, and the columns are copied once at the end
+            TestTDS tds = source.getOne();
+            int[] order = identityOrder((int) tds.rowCount);
+            int[] buffer = new int[order.length];
+            source.getTwo().forEach(r -> tds.sort(order, buffer, transformedSort, r.getOne(), r.getTwo(), Lists.mutable.empty()));
+            source = Tuples.pair(tds.reorder(order), source.getTwo());
         }
         return source;
     }
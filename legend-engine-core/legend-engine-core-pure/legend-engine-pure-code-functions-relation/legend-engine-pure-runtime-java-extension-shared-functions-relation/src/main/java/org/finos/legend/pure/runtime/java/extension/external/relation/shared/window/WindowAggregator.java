@@ -0,0 +1,543 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.external.relation.shared.window;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.math.BigDecimal;
+
+/**
+ * Evaluates an aggregation over the frame of each row of a sorted partition.
+ * <p>
+ * The frames of consecutive rows only move forward, so their bounds are found with two pointers rather than by testing
+ * every row of the partition. Sums, counts, minimums and maximums are maintained incrementally while the frame slides (a
+ * monotonic deque keeps the minimum or maximum); any other reduce is evaluated on the values of the frame, once per
+ * distinct frame.
+ */
+public class WindowAggregator<T>
+{
+    public enum Aggregate
+    {
+        SUM, COUNT, MIN, MAX
+    }
+
+    public interface BoundComparator
+    {
+        boolean lessThanEqual(Object left, Object right);
+    }
+
+    private final MutableList<T> values;
+    private final Function<? super MutableList<T>, ? extends T> reduce;
+    private final Aggregate aggregate;
+    private final Function<? super T, ?> unwrap;
+    private final Function<Object, ? extends T> wrap;
+
+    /**
+     * @param values    the mapped value of each row of the partition, nulls included
+     * @param reduce    the reduce of the aggregation, called with the non null values of a frame
+     * @param aggregate what the reduce is known to compute, or null for an arbitrary reduce
+     * @param unwrap    the Java value (Long, Double, BigDecimal, String, PureDate...) of a mapped value
+     * @param wrap      the reduce result for a Java value, or null when it can't be represented
+     */
+    public WindowAggregator(MutableList<T> values, Function<? super MutableList<T>, ? extends T> reduce, Aggregate aggregate, Function<? super T, ?> unwrap, Function<Object, ? extends T> wrap)
+    {
+        this.values = values;
+        this.reduce = reduce;
+        this.aggregate = aggregate;
+        this.unwrap = unwrap;
+        this.wrap = wrap;
+    }
+
+    /**
+     * What a reduce lambda computes, when it is a single call of sum, plus, count, min or max on its parameter.
+     */
+    public static Aggregate aggregateOf(CoreInstance reduceLambda)
+    {
+        try
+        {
+            ListIterable<? extends CoreInstance> expressions = reduceLambda.getValueForMetaPropertyToMany("expressionSequence");
+            CoreInstance functionType = reduceLambda.getValueForMetaPropertyToOne("classifierGenericType").getValueForMetaPropertyToMany("typeArguments").getFirst().getValueForMetaPropertyToOne("rawType");
+            ListIterable<? extends CoreInstance> parameters = functionType.getValueForMetaPropertyToMany("parameters");
+            if (expressions.size() != 1 || parameters.size() != 1)
+            {
+                return null;
+            }
+            CoreInstance expression = expressions.getFirst();
+            CoreInstance function = expression.getValueForMetaPropertyToOne("func");
+            ListIterable<? extends CoreInstance> arguments = expression.getValueForMetaPropertyToMany("parametersValues");
+            if (function == null || arguments.size() != 1 || !parameters.getFirst().getValueForMetaPropertyToOne("name").getName().equals(nameOf(arguments.getFirst())))
+            {
+                return null;
+            }
+            String functionPackage = PackageableElement.getUserPathForPackageableElement(function.getValueForMetaPropertyToOne("package"));
+            if (!"meta::pure::functions::math".equals(functionPackage) && !"meta::pure::functions::collection".equals(functionPackage))
+            {
+                return null;
+            }
+            switch (function.getValueForMetaPropertyToOne("functionName").getName())
+            {
+                case "sum":
+                case "plus":
+                    return Aggregate.SUM;
+                case "count":
+                    return Aggregate.COUNT;
+                case "min":
+                    return Aggregate.MIN;
+                case "max":
+                    return Aggregate.MAX;
+                default:
+                    return null;
+            }
+        }
+        catch (RuntimeException e)
+        {
+            // not a lambda we can look into, evaluate the reduce as is
+            return null;
+        }
+    }
+
+    private static String nameOf(CoreInstance variableExpression)
+    {
+        CoreInstance name = variableExpression.getValueForMetaPropertyToOne("name");
+        return name == null ? null : name.getName();
+    }
+
+    /**
+     * Bounds (inclusive, empty when high &lt; low) of the range frame of each row of a partition sorted on the given order by
+     * values. Nulls sort last in ascending order and first in descending order: the frame of a null row is the null rows, and
+     * the null rows belong to the frame of the other rows when the frame is unbounded on their side.
+     *
+     * @param start the value the frame of a non null row starts from, in the sort order (not called when unbounded)
+     * @param end   the value the frame of a non null row ends at, in the sort order (not called when unbounded)
+     */
+    public static int[][] rangeFrames(ListIterable<?> orderByValues, SortDirection direction, boolean startUnbounded, boolean endUnbounded, IntToObjectFunction<Object> start, IntToObjectFunction<Object> end, BoundComparator comparator)
+    {
+        int size = orderByValues.size();
+        int[] low = new int[size];
+        int[] high = new int[size];
+        boolean ascending = direction == SortDirection.ASC;
+        int nonNullStart = 0;
+        int nonNullEnd = size;
+        if (ascending)
+        {
+            while (nonNullEnd > 0 && orderByValues.get(nonNullEnd - 1) == null)
+            {
+                nonNullEnd--;
+            }
+        }
+        else
+        {
+            while (nonNullStart < size && orderByValues.get(nonNullStart) == null)
+            {
+                nonNullStart++;
+            }
+        }
+
+        int lo = nonNullStart;
+        int hi = nonNullStart - 1;
+        for (int i = 0; i < size; i++)
+        {
+            if (i < nonNullStart || i >= nonNullEnd)
+            {
+                low[i] = ascending ? nonNullEnd : 0;
+                high[i] = ascending ? size - 1 : nonNullStart - 1;
+                continue;
+            }
+            if (startUnbounded)
+            {
+                low[i] = 0;
+            }
+            else
+            {
+                Object bound = start.valueOf(i);
+                while (lo < nonNullEnd && !(ascending ? comparator.lessThanEqual(bound, orderByValues.get(lo)) : comparator.lessThanEqual(orderByValues.get(lo), bound)))
+                {
+                    lo++;
+                }
+                low[i] = lo;
+            }
+            if (endUnbounded)
+            {
+                high[i] = size - 1;
+            }
+            else
+            {
+                Object bound = end.valueOf(i);
+                while (hi + 1 < nonNullEnd && (ascending ? comparator.lessThanEqual(orderByValues.get(hi + 1), bound) : comparator.lessThanEqual(bound, orderByValues.get(hi + 1))))
+                {
+                    hi++;
+                }
+                high[i] = hi;
+            }
+        }
+        return new int[][]{low, high};
+    }
+
+    /**
+     * Bounds of the rows frame of each row of a partition; rows whose frame is outside the partition get an empty frame.
+     */
+    public static int[][] rowsFrames(Frame frame, int size)
+    {
+        int[] low = new int[size];
+        int[] high = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            if (i + (Integer) frame.getOffsetTo(size) < 0 || i + (Integer) frame.getOffsetFrom() >= size)
+            {
+                low[i] = 0;
+                high[i] = -1;
+            }
+            else
+            {
+                low[i] = frame.getLow(i);
+                high[i] = frame.getHigh(i, size);
+            }
+        }
+        return new int[][]{low, high};
+    }
+
+    /**
+     * Aggregates the frame of each row. Empty frames give null; frames whose values are all null give null too, unless
+     * reduceEmptyFrames is set, in which case the reduce is called with no values.
+     */
+    public void evaluate(int[][] frames, boolean reduceEmptyFrames, Procedure2<Integer, ? super T> setter)
+    {
+        int[] low = frames[0];
+        int[] high = frames[1];
+        Sliding sliding = newSliding();
+        boolean hasPrevious = false;
+        int previousLow = 0;
+        int previousHigh = -1;
+        T previous = null;
+        for (int i = 0; i < low.length; i++)
+        {
+            T result;
+            if (high[i] < low[i])
+            {
+                result = null;
+            }
+            else if (hasPrevious && low[i] == previousLow && high[i] == previousHigh)
+            {
+                result = previous;
+            }
+            else
+            {
+                result = null;
+                boolean done = false;
+                if (sliding != null)
+                {
+                    if (sliding.slide(low[i], high[i]))
+                    {
+                        if (sliding.count == 0)
+                        {
+                            result = reduceEmptyFrames ? this.reduce.valueOf(Lists.mutable.empty()) : null;
+                            done = true;
+                        }
+                        else
+                        {
+                            result = sliding.result();
+                            done = result != null;
+                        }
+                    }
+                    if (!done)
+                    {
+                        sliding = null;
+                    }
+                }
+                if (!done)
+                {
+                    result = reduceFrame(low[i], high[i], reduceEmptyFrames);
+                }
+                hasPrevious = true;
+                previousLow = low[i];
+                previousHigh = high[i];
+                previous = result;
+            }
+            setter.value(i, result);
+        }
+    }
+
+    private T reduceFrame(int low, int high, boolean reduceEmptyFrames)
+    {
+        MutableList<T> frame = Lists.mutable.empty();
+        for (int k = low; k <= high; k++)
+        {
+            T value = this.values.get(k);
+            if (value != null)
+            {
+                frame.add(value);
+            }
+        }
+        return frame.isEmpty() && !reduceEmptyFrames ? null : this.reduce.valueOf(frame);
+    }
+
+    private Sliding newSliding()
+    {
+        if (this.aggregate == null)
+        {
+            return null;
+        }
+        if (this.aggregate == Aggregate.COUNT)
+        {
+            return new Count();
+        }
+        // incremental aggregation needs values of a single Java type
+        Object[] unwrapped = new Object[this.values.size()];
+        Class<?> type = null;
+        for (int i = 0; i < unwrapped.length; i++)
+        {
+            T value = this.values.get(i);
+            if (value != null)
+            {
+                Object javaValue = this.unwrap.valueOf(value);
+                if (javaValue == null || (type != null && type != javaValue.getClass()))
+                {
+                    return null;
+                }
+                type = javaValue.getClass();
+                unwrapped[i] = javaValue;
+            }
+        }
+        if (type == null)
+        {
+            return new Count();
+        }
+        switch (this.aggregate)
+        {
+            case SUM:
+                return type == Long.class || type == Double.class || type == BigDecimal.class ? new Sum(unwrapped, type) : null;
+            case MIN:
+                return Comparable.class.isAssignableFrom(type) ? new Extremum(unwrapped, 1) : null;
+            case MAX:
+                return Comparable.class.isAssignableFrom(type) ? new Extremum(unwrapped, -1) : null;
+            default:
+                return null;
+        }
+    }
+
+    private abstract class Sliding
+    {
+        // the window holds the values of the rows [from, to)
+        private int from;
+        private int to;
+        int count;
+
+        /**
+         * Moves the window to the frame; false when the aggregate can't be maintained for it.
+         */
+        boolean slide(int low, int high)
+        {
+            if (low < this.from || high + 1 < this.to || low > this.to)
+            {
+                clear();
+                this.from = low;
+                this.to = low;
+                this.count = 0;
+            }
+            while (this.to <= high)
+            {
+                if (values.get(this.to) != null)
+                {
+                    this.count++;
+                    if (!add(this.to))
+                    {
+                        return false;
+                    }
+                }
+                this.to++;
+            }
+            while (this.from < low)
+            {
+                if (values.get(this.from) != null)
+                {
+                    this.count--;
+                    if (!remove(this.from))
+                    {
+                        return false;
+                    }
+                }
+                this.from++;
+            }
+            return true;
+        }
+
+        abstract void clear();
+
+        abstract boolean add(int row);
+
+        abstract boolean remove(int row);
+
+        abstract T result();
+    }
+
+    private class Count extends Sliding
+    {
+        @Override
+        void clear()
+        {
+        }
+
+        @Override
+        boolean add(int row)
+        {
+            return true;
+        }
+
+        @Override
+        boolean remove(int row)
+        {
+            return true;
+        }
+
+        @Override
+        T result()
+        {
+            return wrap.valueOf((long) this.count);
+        }
+    }
+
+    private class Sum extends Sliding
+    {
+        private final Object[] unwrapped;
+        private final Class<?> type;
+        private long longSum;
+        private double doubleSum;
+        private BigDecimal decimalSum;
+
+        private Sum(Object[] unwrapped, Class<?> type)
+        {
+            this.unwrapped = unwrapped;
+            this.type = type;
+        }
+
+        @Override
+        void clear()
+        {
+            this.longSum = 0;
+            this.doubleSum = 0;
+            this.decimalSum = null;
+        }
+
+        @Override
+        boolean add(int row)
+        {
+            Object value = this.unwrapped[row];
+            if (this.type == Long.class)
+            {
+                try
+                {
+                    this.longSum = Math.addExact(this.longSum, (Long) value);
+                }
+                catch (ArithmeticException e)
+                {
+                    return false;
+                }
+            }
+            else if (this.type == Double.class)
+            {
+                this.doubleSum += (Double) value;
+            }
+            else
+            {
+                this.decimalSum = this.decimalSum == null ? (BigDecimal) value : this.decimalSum.add((BigDecimal) value);
+            }
+            return true;
+        }
+
+        @Override
+        boolean remove(int row)
+        {
+            // subtracting floating point or decimal values would not give the result (or scale) of summing the frame
+            if (this.type != Long.class)
+            {
+                return false;
+            }
+            try
+            {
+                this.longSum = Math.subtractExact(this.longSum, (Long) this.unwrapped[row]);
+            }
+            catch (ArithmeticException e)
+            {
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        T result()
+        {
+            return wrap.valueOf(this.type == Long.class ? (Object) this.longSum : this.type == Double.class ? (Object) this.doubleSum : this.decimalSum);
+        }
+    }
+
+    private class Extremum extends Sliding
+    {
+        private final Object[] unwrapped;
+        private final int sign;
+        private final int[] deque;
+        private int head;
+        private int tail;
+
+        private Extremum(Object[] unwrapped, int sign)
+        {
+            this.unwrapped = unwrapped;
+            this.sign = sign;
+            this.deque = new int[unwrapped.length];
+        }
+
+        @Override
+        void clear()
+        {
+            this.head = 0;
+            this.tail = 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean add(int row)
+        {
+            Comparable<Object> value = (Comparable<Object>) this.unwrapped[row];
+            while (this.tail > this.head && this.sign * ((Comparable<Object>) this.unwrapped[this.deque[this.tail - 1]]).compareTo(value) > 0)
+            {
+                this.tail--;
+            }
+            this.deque[this.tail++] = row;
+            return true;
+        }
+
+        @Override
+        boolean remove(int row)
+        {
+            if (this.head < this.tail && this.deque[this.head] == row)
+            {
+                this.head++;
+            }
+            return true;
+        }
+
+        @Override
+        T result()
+        {
+            return values.get(this.deque[this.head]);
+        }
+    }
+}
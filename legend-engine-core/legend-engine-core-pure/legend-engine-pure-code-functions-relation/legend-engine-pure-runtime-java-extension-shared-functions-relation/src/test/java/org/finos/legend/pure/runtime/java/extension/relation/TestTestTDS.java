@@ -15,6 +15,8 @@
 package org.finos.legend.pure.runtime.java.extension.relation;
 
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
@@ -101,6 +103,66 @@ public class TestTestTDS
         Assert.assertEquals("[0:1, 1:2, 2:3, 3:4, 4:5, 5:6, 6:8]", tds.sort(Lists.mutable.with(new SortInfo("id", SortDirection.ASC), new SortInfo("name", SortDirection.ASC))).getTwo().toString());
     }
 
+    @org.junit.Test
+    public void testSortPartitions()
+    {
+        String initialTDS = "id, name, otherOne\n" +
+                "4, Simple, D\n" +
+                "4, Simple, A\n" +
+                "3, Ephrim, C\n" +
+                "2, Bla, B\n" +
+                "3, Ok, D\n" +
+                "3, Nop, E\n" +
+                "2, Neema, F\n" +
+                "1, Pierre, F";
+        TestTDS tds = new TestTDSImpl(initialTDS);
+
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = TestTDS.sortPartitions(Lists.mutable.with(new SortInfo("otherOne", SortDirection.DESC)), tds.group(Lists.mutable.with("id")));
+        Assert.assertEquals("id, name, otherOne\n" +
+                "1, Pierre, F\n" +
+                "2, Neema, F\n" +
+                "2, Bla, B\n" +
+                "3, Nop, E\n" +
+                "3, Ok, D\n" +
+                "3, Ephrim, C\n" +
+                "4, Simple, D\n" +
+                "4, Simple, A", sorted.getOne().toString());
+        Assert.assertEquals("[0:1, 1:3, 3:6, 6:8]", sorted.getTwo().toString());
+        Assert.assertEquals(initialTDS, tds.toString());
+    }
+
+    @org.junit.Test
+    public void testGroup()
+    {
+        String initialTDS = "id, name, otherOne\n" +
+                "4, Simple, D\n" +
+                "4, Simple, A\n" +
+                "3, Ephrim, C\n" +
+                "2, Bla, B\n" +
+                "3, Ok, D\n" +
+                "3, Nop, E\n" +
+                "2, Neema, F\n" +
+                "1, Pierre, F";
+        TestTDS tds = new TestTDSImpl(initialTDS);
+
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> grouped = tds.group(Lists.mutable.with("id", "name"));
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> sorted = tds.sort(Lists.mutable.with(new SortInfo("id", SortDirection.ASC), new SortInfo("name", SortDirection.ASC)));
+        Assert.assertEquals(sorted.getOne().toString(), grouped.getOne().toString());
+        Assert.assertEquals(sorted.getTwo(), grouped.getTwo());
+
+        Pair<TestTDS, MutableList<Pair<Integer, Integer>>> byOtherOne = tds.group(Lists.mutable.with("otherOne"));
+        Assert.assertEquals("id, name, otherOne\n" +
+                "4, Simple, A\n" +
+                "2, Bla, B\n" +
+                "3, Ephrim, C\n" +
+                "4, Simple, D\n" +
+                "3, Ok, D\n" +
+                "3, Nop, E\n" +
+                "2, Neema, F\n" +
+                "1, Pierre, F", byOtherOne.getOne().toString());
+        Assert.assertEquals("[0:1, 1:2, 2:3, 3:5, 5:6, 6:8]", byOtherOne.getTwo().toString());
+    }
+
     @org.junit.Test
     public void testDistinct()
     {
@@ -0,0 +1,116 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.relation;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.Rows;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.WindowAggregator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestWindowAggregator
+{
+    private static final WindowAggregator.BoundComparator LONGS = (left, right) -> (Long) left <= (Long) right;
+
+    @Test
+    public void testRangeFramesAscending()
+    {
+        MutableList<Object> orderBy = Lists.mutable.with(1L, 2L, 2L, 5L, 9L, null);
+        int[][] frames = WindowAggregator.rangeFrames(orderBy, SortDirection.ASC, false, false, row -> (Long) orderBy.get(row) - 1, row -> (Long) orderBy.get(row) + 1, LONGS);
+        Assert.assertArrayEquals(new int[]{0, 0, 0, 3, 4, 5}, frames[0]);
+        Assert.assertArrayEquals(new int[]{2, 2, 2, 3, 4, 5}, frames[1]);
+
+        int[][] unbounded = WindowAggregator.rangeFrames(orderBy, SortDirection.ASC, true, false, null, row -> (Long) orderBy.get(row), LONGS);
+        Assert.assertArrayEquals(new int[]{0, 0, 0, 0, 0, 5}, unbounded[0]);
+        Assert.assertArrayEquals(new int[]{0, 2, 2, 3, 4, 5}, unbounded[1]);
+    }
+
+    @Test
+    public void testRangeFramesDescending()
+    {
+        MutableList<Object> orderBy = Lists.mutable.with(null, 9L, 5L, 2L, 2L, 1L);
+        int[][] frames = WindowAggregator.rangeFrames(orderBy, SortDirection.DESC, true, false, null, row -> (Long) orderBy.get(row) - 3, LONGS);
+        Assert.assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0}, frames[0]);
+        Assert.assertArrayEquals(new int[]{0, 1, 4, 5, 5, 5}, frames[1]);
+    }
+
+    @Test
+    public void testIncrementalAggregatesMatchReduce()
+    {
+        MutableList<Long> values = Lists.mutable.with(3L, null, 7L, -2L, 7L, 1L, null, 4L, 0L, -5L);
+        Rows[] frames = {new Rows(-2, 0), new Rows(-1, 1), new Rows(1, 3), new Rows(true, 0), new Rows(0, true), new Rows(-20, -15)};
+        for (Rows frame : frames)
+        {
+            int[][] bounds = WindowAggregator.rowsFrames(frame, values.size());
+            assertIncremental(values, bounds, WindowAggregator.Aggregate.SUM, l -> l.injectInto(0L, Long::sum));
+            assertIncremental(values, bounds, WindowAggregator.Aggregate.COUNT, l -> (long) l.size());
+            assertIncremental(values, bounds, WindowAggregator.Aggregate.MIN, l -> l.isEmpty() ? null : l.min());
+            assertIncremental(values, bounds, WindowAggregator.Aggregate.MAX, l -> l.isEmpty() ? null : l.max());
+        }
+    }
+
+    @Test
+    public void testIdenticalFramesAreReducedOnce()
+    {
+        MutableList<Long> values = Lists.mutable.with(1L, 2L, 3L, 4L);
+        AtomicInteger calls = new AtomicInteger();
+        MutableList<Long> results = Lists.mutable.with(new Long[values.size()]);
+        new WindowAggregator<Long>(values, l -> (long) calls.incrementAndGet(), null, v -> v, v -> (Long) v)
+                .evaluate(WindowAggregator.rowsFrames(new Rows(true, true), values.size()), true, results::set);
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(Lists.mutable.with(1L, 1L, 1L, 1L), results);
+    }
+
+    @Test
+    public void testSumRecomputedWhenRemovingOverflows()
+    {
+        // sliding from {-1, MAX} to {MAX, 1} adds 1 without overflowing, then removing -1 overflows
+        MutableList<Long> values = Lists.mutable.with(-1L, Long.MAX_VALUE, 1L);
+        AtomicInteger calls = new AtomicInteger();
+        MutableList<Long> results = Lists.mutable.with(new Long[values.size()]);
+        new WindowAggregator<Long>(values, l ->
+        {
+            calls.incrementAndGet();
+            return l.injectInto(0L, Long::sum);
+        }, WindowAggregator.Aggregate.SUM, v -> v, v -> (Long) v).evaluate(WindowAggregator.rowsFrames(new Rows(-1, 0), values.size()), true, results::set);
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(Lists.mutable.with(-1L, Long.MAX_VALUE - 1, Long.MAX_VALUE + 1), results);
+    }
+
+    private static void assertIncremental(MutableList<Long> values, int[][] bounds, WindowAggregator.Aggregate aggregate, Function<MutableList<Long>, Long> reduce)
+    {
+        MutableList<Long> expected = Lists.mutable.empty();
+        for (int i = 0; i < values.size(); i++)
+        {
+            MutableList<Long> frame = Lists.mutable.empty();
+            for (int k = bounds[0][i]; k <= bounds[1][i]; k++)
+            {
+                if (values.get(k) != null)
+                {
+                    frame.add(values.get(k));
+                }
+            }
+            expected.add(bounds[1][i] < bounds[0][i] ? null : reduce.valueOf(frame));
+        }
+        MutableList<Long> actual = Lists.mutable.with(new Long[values.size()]);
+        new WindowAggregator<Long>(values, reduce, aggregate, v -> v, v -> (Long) v).evaluate(bounds, true, actual::set);
+        Assert.assertEquals(aggregate.toString(), expected, actual);
+    }
+}
@@ -141,6 +141,7 @@ public abstract class PureIDEServer extends Application<ServerConfiguration>
                     }
                 });
                 LOGGER.info("Initialization of Pure runtime completed in {}s.", TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - ct));
+                this.pureSession.getSourceIndex().refresh();
             }
             catch (Exception e)
             {
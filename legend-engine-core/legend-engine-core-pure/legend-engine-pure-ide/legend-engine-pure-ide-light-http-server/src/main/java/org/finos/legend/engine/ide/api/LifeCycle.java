@@ -58,6 +58,7 @@ public class LifeCycle
             {
                 pureRuntime.reset();
                 pureRuntime.initialize(pureSession.message);
+                pureSession.getSourceIndex().refresh();
                 outStream.write("{\"text\":\"Full recompile completed successfully\", \"cached\":".getBytes());
                 outStream.write((pureRuntime.getCache().getCacheState().isCached() + "}").getBytes());
                 outStream.close();
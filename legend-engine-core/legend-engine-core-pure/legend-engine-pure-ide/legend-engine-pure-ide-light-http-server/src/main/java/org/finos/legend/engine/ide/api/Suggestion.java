@@ -23,10 +23,8 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.finos.legend.engine.ide.helpers.response.ExceptionTranslation;
 import org.finos.legend.engine.ide.session.PureSession;
-import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.engine.ide.session.SymbolIndex.Symbol;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.extension.Profile;
-import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunction;
-import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.Property;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Enumeration;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.InstanceValue;
@@ -36,7 +34,6 @@ import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation._class._Class;
-import org.finos.legend.pure.m3.navigation.function.Function;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
@@ -50,9 +47,12 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 @Api(tags = "Suggestion")
 @Path("/")
@@ -103,78 +103,13 @@ public class Suggestion
             IncompletePathSuggestionInput input,
             @Context HttpServletResponse response)
     {
-        PureRuntime runtime = this.session.getPureRuntime();
-        ProcessorSupport processorSupport = runtime.getProcessorSupport();
         try
         {
-            CoreInstance coreInstance = runtime.getCoreInstance(input.path);
-            if (coreInstance instanceof Package)
-            {
-                ListIterable<? extends CoreInstance> children = coreInstance.getValueForMetaPropertyToMany(M3Properties.children)
-                        .select(child -> input.types == null || input.types.isEmpty() || input.types.contains(child.getClassifier().getName()));
-
-                return Response.ok((StreamingOutput) outputStream ->
-                {
-                    outputStream.write("[".getBytes());
-                    for (int i = 0; i < children.size(); i++)
-                    {
-                        CoreInstance child = children.get(i);
-                        String pureName = child instanceof PackageableFunction ? child.getValueForMetaPropertyToOne(M3Properties.functionName).getName() : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
-                        String text = child instanceof PackageableFunction ? Function.prettyPrint(child, processorSupport) : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
-                        MutableList<Property> requiredClassProperties = child instanceof Class ? _Class.getSimpleProperties(child, processorSupport)
-                                // NOTE: make sure to only consider required (non-qualified) properties: i.e. multiplicity lower bound != 0
-                                .selectInstancesOf(Property.class).select(prop ->
-                                        {
-                                            CoreInstance lowerBound = prop.getValueForMetaPropertyToOne(M3Properties.multiplicity).getValueForMetaPropertyToOne(M3Properties.lowerBound);
-                                            // NOTE: here the lower bound can be nullish when there's multiplicity parameter being used
-                                            // but we skip that case for now
-                                            return lowerBound != null && !lowerBound.getValueForMetaPropertyToOne(M3Properties.value).getName().equals("0");
-                                        }
-                                ).toList() : Lists.mutable.empty();
-
-                        outputStream.write("{\"pureType\":\"".getBytes());
-                        outputStream.write(JSONValue.escape(child.getClassifier().getName()).getBytes());
-                        outputStream.write("\",\"pureName\":\"".getBytes());
-                        outputStream.write(JSONValue.escape(pureName).getBytes());
-                        outputStream.write("\",\"pureId\":\"".getBytes());
-                        outputStream.write(JSONValue.escape(PackageableElement.getUserPathForPackageableElement(child)).getBytes());
-                        outputStream.write("\",\"text\":\"".getBytes());
-                        outputStream.write(JSONValue.escape(text).getBytes());
-                        outputStream.write("\"".getBytes());
-
-                        if (requiredClassProperties.notEmpty())
-                        {
-                            outputStream.write(",\"requiredClassProperties\":[".getBytes());
-
-                            for (int j = 0; j < requiredClassProperties.size(); j++)
-                            {
-                                outputStream.write("\"".getBytes());
-                                outputStream.write(JSONValue.escape(requiredClassProperties.get(j).getValueForMetaPropertyToOne(M3Properties.name).getName()).getBytes());
-                                outputStream.write("\"".getBytes());
-
-                                if (j != requiredClassProperties.size() - 1)
-                                {
-                                    outputStream.write(",".getBytes());
-                                }
-                            }
-
-                            outputStream.write("]".getBytes());
-                        }
-
-                        outputStream.write("}".getBytes());
-
-                        if (i != children.size() - 1)
-                        {
-                            outputStream.write(",".getBytes());
-                        }
-                    }
-                    outputStream.write("]".getBytes());
-                    outputStream.close();
-                }).build();
-            }
+            ListIterable<Symbol> children = this.session.getSymbolIndex().getChildren(input.path);
+            ListIterable<Symbol> selected = (children == null) ? Lists.immutable.empty() : children.select(child -> input.types == null || input.types.isEmpty() || input.types.contains(child.getPureType()));
             return Response.ok((StreamingOutput) outputStream ->
             {
-                outputStream.write("[]".getBytes());
+                writeSymbols(outputStream, selected);
                 outputStream.close();
             }).build();
         }
@@ -200,76 +135,19 @@ public class Suggestion
                                                 IdentifierSuggestionInput input,
                                                 @Context HttpServletResponse response)
     {
-        PureRuntime runtime = this.session.getPureRuntime();
-        ProcessorSupport processorSupport = runtime.getProcessorSupport();
         // NOTE: here we take into account: first, the imported packages in scope, then the root package (::) and lastly
         // the auto imported packages in the global scope
         MutableList<String> allPackagePaths = Lists.mutable.withAll(input.importPaths).with("::").withAll(AUTO_IMPORTS).distinct();
 
         try
         {
-            MutableList<Package> packages = allPackagePaths.collect(runtime::getCoreInstance).selectInstancesOf(Package.class);
+            ListIterable<Symbol> children = allPackagePaths.collect(this.session.getSymbolIndex()::getChildren).reject(Objects::isNull).flatCollect(symbols -> symbols)
+                    // we do not need to get the packages here
+                    .reject(Symbol::isPackage)
+                    .select(child -> input.types == null || input.types.isEmpty() || input.types.contains(child.getPureType()));
             return Response.ok((StreamingOutput) outputStream ->
             {
-                List<? extends CoreInstance> children = packages.flatCollect(pack -> pack.getValueForMetaPropertyToMany(M3Properties.children))
-                        // we do not need to get the packages here
-                        .select(child -> !(child instanceof Package))
-                        .select(child -> input.types == null || input.types.isEmpty() || input.types.contains(child.getClassifier().getName()));
-
-                outputStream.write("[".getBytes());
-                for (int i = 0; i < children.size(); i++)
-                {
-                    CoreInstance child = children.get(i);
-                    String pureName = child instanceof PackageableFunction ? child.getValueForMetaPropertyToOne(M3Properties.functionName).getName() : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
-                    String text = child instanceof PackageableFunction ? Function.prettyPrint(child, processorSupport) : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
-                    MutableList<Property> requiredClassProperties = child instanceof Class ? _Class.getSimpleProperties(child, processorSupport)
-                            // NOTE: make sure to only consider required (non-qualified) properties: i.e. multiplicity lower bound != 0
-                            .selectInstancesOf(Property.class).select(prop ->
-                                    {
-                                        CoreInstance lowerBound = prop.getValueForMetaPropertyToOne(M3Properties.multiplicity).getValueForMetaPropertyToOne(M3Properties.lowerBound);
-                                        // NOTE: here the lower bound can be nullish when there's multiplicity parameter being used
-                                        // but we skip that case for now
-                                        return lowerBound != null && !lowerBound.getValueForMetaPropertyToOne(M3Properties.value).getName().equals("0");
-                                    }
-                            ).toList() : Lists.mutable.empty();
-
-                    outputStream.write("{\"pureType\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(child.getClassifier().getName()).getBytes());
-                    outputStream.write("\",\"pureName\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(pureName).getBytes());
-                    outputStream.write("\",\"pureId\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(PackageableElement.getUserPathForPackageableElement(child)).getBytes());
-                    outputStream.write("\",\"text\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(text).getBytes());
-                    outputStream.write("\"".getBytes());
-
-                    if (requiredClassProperties.notEmpty())
-                    {
-                        outputStream.write(",\"requiredClassProperties\":[".getBytes());
-
-                        for (int j = 0; j < requiredClassProperties.size(); j++)
-                        {
-                            outputStream.write("\"".getBytes());
-                            outputStream.write(JSONValue.escape(requiredClassProperties.get(j).getValueForMetaPropertyToOne(M3Properties.name).getName()).getBytes());
-                            outputStream.write("\"".getBytes());
-
-                            if (j != requiredClassProperties.size() - 1)
-                            {
-                                outputStream.write(",".getBytes());
-                            }
-                        }
-
-                        outputStream.write("]".getBytes());
-                    }
-
-                    outputStream.write("}".getBytes());
-
-                    if (i != children.size() - 1)
-                    {
-                        outputStream.write(",".getBytes());
-                    }
-                }
-                outputStream.write("]".getBytes());
+                writeSymbols(outputStream, children);
                 outputStream.close();
             }).build();
         }
@@ -407,50 +285,25 @@ public class Suggestion
                                            ClassSuggestionInput input,
                                            @Context HttpServletResponse response)
     {
-        PureRuntime runtime = this.session.getPureRuntime();
-        ProcessorSupport processorSupport = runtime.getProcessorSupport();
         MutableList<String> packagePaths = Lists.mutable.withAll(input.importPaths).withAll(AUTO_IMPORTS).distinct();
 
         try
         {
-            MutableList<Class> classes = packagePaths.collect(runtime::getCoreInstance)
-                    .flatCollect(pkg -> pkg.getValueForMetaPropertyToMany(M3Properties.children))
-                    .selectInstancesOf(Class.class);
+            MutableList<Symbol> classes = packagePaths.collect(this.session.getSymbolIndex()::getChildren).reject(Objects::isNull).flatCollect(symbols -> symbols)
+                    .select(Symbol::isClass);
             return Response.ok((StreamingOutput) outputStream ->
             {
                 outputStream.write("[".getBytes());
                 for (int i = 0; i < classes.size(); i++)
                 {
-                    Class<?> cls = classes.get(i);
-                    MutableList<Property> requiredClassProperties = _Class.getSimpleProperties(cls, processorSupport)
-                            // NOTE: make sure to only consider required (non-qualified) properties: i.e. multiplicity lower bound != 0
-                            .selectInstancesOf(Property.class).select(prop ->
-                                    {
-                                        CoreInstance lowerBound = prop.getValueForMetaPropertyToOne(M3Properties.multiplicity).getValueForMetaPropertyToOne(M3Properties.lowerBound);
-                                        // NOTE: here the lower bound can be nullish when there's multiplicity parameter being used
-                                        // but we skip that case for now
-                                        return lowerBound != null && !lowerBound.getValueForMetaPropertyToOne(M3Properties.value).getName().equals("0");
-                                    }
-                            ).toList();
+                    Symbol cls = classes.get(i);
 
                     outputStream.write("{\"pureName\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(cls.getValueForMetaPropertyToOne(M3Properties.name).getName()).getBytes());
+                    outputStream.write(JSONValue.escape(cls.getPureName()).getBytes());
                     outputStream.write("\",\"pureId\":\"".getBytes());
-                    outputStream.write(JSONValue.escape(PackageableElement.getUserPathForPackageableElement(cls)).getBytes());
+                    outputStream.write(JSONValue.escape(cls.getPureId()).getBytes());
                     outputStream.write("\",\"requiredClassProperties\":[".getBytes());
-
-                    for (int j = 0; j < requiredClassProperties.size(); j++)
-                    {
-                        outputStream.write("\"".getBytes());
-                        outputStream.write(JSONValue.escape(requiredClassProperties.get(j).getValueForMetaPropertyToOne(M3Properties.name).getName()).getBytes());
-                        outputStream.write("\"".getBytes());
-
-                        if (j != requiredClassProperties.size() - 1)
-                        {
-                            outputStream.write(",".getBytes());
-                        }
-                    }
-
+                    writeRequiredClassProperties(outputStream, cls.getRequiredClassProperties());
                     outputStream.write("]}".getBytes());
 
                     if (i != classes.size() - 1)
@@ -551,4 +404,53 @@ public class Suggestion
         public int line;
         public int column;
     }
+
+    private static void writeSymbols(OutputStream outputStream, ListIterable<Symbol> symbols) throws IOException
+    {
+        outputStream.write("[".getBytes());
+        for (int i = 0; i < symbols.size(); i++)
+        {
+            Symbol symbol = symbols.get(i);
+
+            outputStream.write("{\"pureType\":\"".getBytes());
+            outputStream.write(JSONValue.escape(symbol.getPureType()).getBytes());
+            outputStream.write("\",\"pureName\":\"".getBytes());
+            outputStream.write(JSONValue.escape(symbol.getPureName()).getBytes());
+            outputStream.write("\",\"pureId\":\"".getBytes());
+            outputStream.write(JSONValue.escape(symbol.getPureId()).getBytes());
+            outputStream.write("\",\"text\":\"".getBytes());
+            outputStream.write(JSONValue.escape(symbol.getText()).getBytes());
+            outputStream.write("\"".getBytes());
+
+            if (symbol.getRequiredClassProperties().notEmpty())
+            {
+                outputStream.write(",\"requiredClassProperties\":[".getBytes());
+                writeRequiredClassProperties(outputStream, symbol.getRequiredClassProperties());
+                outputStream.write("]".getBytes());
+            }
+
+            outputStream.write("}".getBytes());
+
+            if (i != symbols.size() - 1)
+            {
+                outputStream.write(",".getBytes());
+            }
+        }
+        outputStream.write("]".getBytes());
+    }
+
+    private static void writeRequiredClassProperties(OutputStream outputStream, ListIterable<String> requiredClassProperties) throws IOException
+    {
+        for (int j = 0; j < requiredClassProperties.size(); j++)
+        {
+            outputStream.write("\"".getBytes());
+            outputStream.write(JSONValue.escape(requiredClassProperties.get(j)).getBytes());
+            outputStream.write("\"".getBytes());
+
+            if (j != requiredClassProperties.size() - 1)
+            {
+                outputStream.write(",".getBytes());
+            }
+        }
+    }
 }
@@ -74,11 +74,11 @@ public class FindInSources
                 if (regex)
                 {
                     Pattern pattern = Pattern.compile(string, caseSensitive ? 0 : Pattern.CASE_INSENSITIVE);
-                    results = session.getPureRuntime().getSourceRegistry().find(pattern, sourcePattern);
+                    results = session.getSourceIndex().find(pattern, sourcePattern);
                 }
                 else
                 {
-                    results = session.getPureRuntime().getSourceRegistry().find(string, caseSensitive, sourcePattern);
+                    results = session.getSourceIndex().find(string, caseSensitive, sourcePattern);
                 }
 
                 response.setContentType("application/json");
@@ -153,6 +153,7 @@ public class UpdateSource
 
                 session.getPureRuntime().modify(path, buffer.toString());
             }
+            this.session.getSourceIndex().refresh();
 
             outStream.write("{".getBytes());
             outStream.write(("\"text\":\"").getBytes());
@@ -57,6 +57,8 @@ import static org.finos.legend.engine.ide.helpers.response.ExceptionTranslation.
 public class PureSession
 {
     private final PureRuntime pureRuntime;
+    private final SourceIndex sourceIndex;
+    private final SymbolIndex symbolIndex;
     public MutableRepositoryCodeStorage codeStorage;
     private final FunctionExecution functionExecution;
     private final SourceLocationConfiguration sourceLocationConfiguration;
@@ -106,6 +108,9 @@ public class PureSession
                 })
                 .build();
 
+        this.sourceIndex = new SourceIndex(this.pureRuntime);
+        this.symbolIndex = new SymbolIndex(this.pureRuntime, this.sourceIndex);
+
         this.functionExecution.init(this.pureRuntime, this.message);
         this.codeStorage.initialize(this.message);
     }
@@ -120,6 +125,16 @@ public class PureSession
         return this.pureRuntime;
     }
 
+    public SourceIndex getSourceIndex()
+    {
+        return this.sourceIndex;
+    }
+
+    public SymbolIndex getSymbolIndex()
+    {
+        return this.symbolIndex;
+    }
+
     public FunctionExecution getFunctionExecution()
     {
         return this.functionExecution;
@@ -172,6 +187,7 @@ public class PureSession
             this.executionCount.incrementAndGet();
             JSONObject mainObject = this.saveFiles(request, response);
             SourceMutation sourceMutation = this.getPureRuntime().compile();
+            this.sourceIndex.refresh();
             JSONArray array = (mainObject.get("modifiedFiles") != null) ? (JSONArray) mainObject.get("modifiedFiles") : new JSONArray();
             Iterate.addAllIterable(sourceMutation.getModifiedFiles(), array);
             mainObject.put("modifiedFiles", array);
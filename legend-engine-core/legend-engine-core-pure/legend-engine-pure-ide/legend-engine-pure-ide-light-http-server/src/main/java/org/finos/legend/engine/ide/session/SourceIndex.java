@@ -0,0 +1,383 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.ide.session;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.serialization.runtime.SourceCoordinates;
+
+import java.util.regex.Pattern;
+
+/**
+ * Trigram index over the text of the sources of a {@link PureRuntime}, used to narrow down the sources a find has to scan.
+ * <p>
+ * The index is kept up to date incrementally: {@link #refresh()} re-indexes only the sources whose content changed since
+ * the last refresh, and drops the ones that were deleted. It is refreshed eagerly when sources are updated or compiled, and
+ * again before each search so that changes made by any other endpoint are picked up. Each refresh that sees a change (in
+ * content or in compilation state) bumps the generation, which caches built on the compiled graph use for invalidation.
+ * <p>
+ * Trigrams are case folded, so the candidates found for a search are a superset of the sources it matches in, whether
+ * the search is case sensitive or not.
+ */
+public class SourceIndex
+{
+    private static final int MIN_LITERAL_LENGTH = 3;
+
+    private final Function0<? extends RichIterable<Source>> sources;
+    private final MutableMap<String, IndexedSource> indexedById = Maps.mutable.empty();
+    private final LongObjectHashMap<MutableSet<String>> sourceIdsByTrigram = LongObjectHashMap.newMap();
+    private long generation = 0;
+
+    public SourceIndex(PureRuntime pureRuntime)
+    {
+        this(() -> pureRuntime.getSourceRegistry().getSources());
+    }
+
+    SourceIndex(Function0<? extends RichIterable<Source>> sources)
+    {
+        this.sources = sources;
+    }
+
+    public RichIterable<SourceCoordinates> find(String string, boolean caseSensitive, Pattern sourceIdPattern)
+    {
+        // case-insensitive matching of non-ASCII text may not be char by char, so only ASCII is prefiltered
+        boolean indexable = caseSensitive || string.chars().allMatch(c -> c < 128);
+        return getSourcesForSearch(indexable ? Lists.mutable.with(string) : Lists.mutable.empty(), sourceIdPattern)
+                .flatCollect(source -> source.find(string, caseSensitive));
+    }
+
+    public RichIterable<SourceCoordinates> find(Pattern pattern, Pattern sourceIdPattern)
+    {
+        return getSourcesForSearch(getRequiredLiterals(pattern), sourceIdPattern).flatCollect(source -> source.find(pattern));
+    }
+
+    /**
+     * Bring the index up to date with the sources of the runtime.
+     *
+     * @return the generation of the index, which changes whenever a source was added, modified, deleted or (re)compiled
+     */
+    public synchronized long refresh()
+    {
+        boolean changed = false;
+        MutableSet<String> sourceIds = Sets.mutable.empty();
+        for (Source source : this.sources.value())
+        {
+            sourceIds.add(source.getId());
+            IndexedSource indexed = this.indexedById.get(source.getId());
+            if ((indexed == null) || (indexed.source != source) || (indexed.content != source.getContent()))
+            {
+                if (indexed != null)
+                {
+                    unindex(indexed);
+                }
+                index(new IndexedSource(source));
+                changed = true;
+            }
+            else if (indexed.compiled != source.isCompiled())
+            {
+                indexed.compiled = source.isCompiled();
+                changed = true;
+            }
+        }
+        if (sourceIds.size() != this.indexedById.size())
+        {
+            this.indexedById.valuesView().reject(indexed -> sourceIds.contains(indexed.source.getId())).toList().forEach(this::unindex);
+            changed = true;
+        }
+        if (changed)
+        {
+            this.generation++;
+        }
+        return this.generation;
+    }
+
+    private LazyIterable<Source> getSourcesForSearch(MutableList<String> requiredLiterals, Pattern sourceIdPattern)
+    {
+        refresh();
+        LazyIterable<Source> sources = getCandidateSources(requiredLiterals).asLazy();
+        return (sourceIdPattern == null) ? sources : sources.select(source -> sourceIdPattern.matcher(source.getId()).find());
+    }
+
+    private synchronized MutableList<Source> getCandidateSources(MutableList<String> requiredLiterals)
+    {
+        MutableSet<String> candidateIds = null;
+        for (String literal : requiredLiterals)
+        {
+            if (literal.length() >= MIN_LITERAL_LENGTH)
+            {
+                LongHashSet trigrams = trigrams(literal);
+                for (long trigram : trigrams.toArray())
+                {
+                    MutableSet<String> sourceIds = this.sourceIdsByTrigram.get(trigram);
+                    if (sourceIds == null)
+                    {
+                        return Lists.mutable.empty();
+                    }
+                    candidateIds = (candidateIds == null) ? Sets.mutable.withAll(sourceIds) : candidateIds.select(sourceIds::contains);
+                    if (candidateIds.isEmpty())
+                    {
+                        return Lists.mutable.empty();
+                    }
+                }
+            }
+        }
+        return (candidateIds == null) ?
+               this.indexedById.valuesView().collect(indexed -> indexed.source, Lists.mutable.empty()) :
+               candidateIds.collect(id -> this.indexedById.get(id).source, Lists.mutable.empty());
+    }
+
+    private void index(IndexedSource indexed)
+    {
+        this.indexedById.put(indexed.source.getId(), indexed);
+        indexed.trigrams.forEach(trigram -> this.sourceIdsByTrigram.getIfAbsentPut(trigram, Sets.mutable::empty).add(indexed.source.getId()));
+    }
+
+    private void unindex(IndexedSource indexed)
+    {
+        this.indexedById.remove(indexed.source.getId());
+        indexed.trigrams.forEach(trigram ->
+        {
+            MutableSet<String> sourceIds = this.sourceIdsByTrigram.get(trigram);
+            if ((sourceIds != null) && sourceIds.remove(indexed.source.getId()) && sourceIds.isEmpty())
+            {
+                this.sourceIdsByTrigram.remove(trigram);
+            }
+        });
+    }
+
+    private static LongHashSet trigrams(String text)
+    {
+        LongHashSet trigrams = new LongHashSet();
+        if (text != null)
+        {
+            long trigram = 0;
+            for (int i = 0; i < text.length(); i++)
+            {
+                trigram = ((trigram << 16) | Character.toLowerCase(Character.toUpperCase(text.charAt(i)))) & 0xFFFF_FFFF_FFFFL;
+                if (i >= 2)
+                {
+                    trigrams.add(trigram);
+                }
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Literal strings that any match of the pattern must contain. This is a conservative analysis: patterns it does not
+     * fully understand (alternations, inline flags, quoting, special escapes) yield no literal, meaning no prefiltering.
+     */
+    static MutableList<String> getRequiredLiterals(Pattern pattern)
+    {
+        if ((pattern.flags() & Pattern.LITERAL) != 0)
+        {
+            return Lists.mutable.with(pattern.pattern());
+        }
+        if ((pattern.flags() & Pattern.COMMENTS) != 0)
+        {
+            return Lists.mutable.empty();
+        }
+
+        String regex = pattern.pattern();
+        MutableList<String> literals = Lists.mutable.empty();
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            int end;
+            Character literal = null;
+            switch (c)
+            {
+                case '\\':
+                {
+                    if (i + 1 >= regex.length() || Character.isDigit(regex.charAt(i + 1)) || "pPxuckQNRX".indexOf(regex.charAt(i + 1)) >= 0)
+                    {
+                        return Lists.mutable.empty();
+                    }
+                    char escaped = regex.charAt(i + 1);
+                    literal = Character.isLetter(escaped) ? null : escaped;
+                    end = i + 2;
+                    break;
+                }
+                case '[':
+                case '(':
+                {
+                    if ((c == '(') && regex.startsWith("(?", i) && !regex.startsWith("(?:", i))
+                    {
+                        return Lists.mutable.empty();
+                    }
+                    end = (c == '[') ? skipClass(regex, i) : skipGroup(regex, i);
+                    if (end < 0)
+                    {
+                        return Lists.mutable.empty();
+                    }
+                    break;
+                }
+                case '|':
+                case ')':
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                {
+                    return Lists.mutable.empty();
+                }
+                case '.':
+                case '^':
+                case '$':
+                {
+                    end = i + 1;
+                    break;
+                }
+                default:
+                {
+                    literal = c;
+                    end = i + 1;
+                }
+            }
+
+            // quantifier applying to the atom
+            char quantifier = (end < regex.length()) ? regex.charAt(end) : 0;
+            boolean optional = (quantifier == '?') || (quantifier == '*') || (quantifier == '{');
+            if (optional || (quantifier == '+'))
+            {
+                end = (quantifier == '{') ? regex.indexOf('}', end) + 1 : end + 1;
+                if (end == 0)
+                {
+                    return Lists.mutable.empty();
+                }
+                if ((end < regex.length()) && ((regex.charAt(end) == '?') || (regex.charAt(end) == '+')))
+                {
+                    end++;
+                }
+            }
+            if ((literal != null) && !optional)
+            {
+                current.append(literal.charValue());
+            }
+            if ((literal == null) || optional || (quantifier == '+'))
+            {
+                addLiteral(literals, current);
+            }
+            i = end;
+        }
+        addLiteral(literals, current);
+        return ((pattern.flags() & Pattern.CASE_INSENSITIVE) == 0) ? literals : literals.select(literal -> literal.chars().allMatch(c -> c < 128));
+    }
+
+    private static void addLiteral(MutableList<String> literals, StringBuilder current)
+    {
+        if (current.length() >= MIN_LITERAL_LENGTH)
+        {
+            literals.add(current.toString());
+        }
+        current.setLength(0);
+    }
+
+    // Index after the group starting at start, or -1 if it is not closed
+    private static int skipGroup(String regex, int start)
+    {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            if (c == '\\')
+            {
+                i += 2;
+            }
+            else if (c == '[')
+            {
+                i = skipClass(regex, i);
+                if (i < 0)
+                {
+                    return -1;
+                }
+            }
+            else
+            {
+                depth += (c == '(') ? 1 : ((c == ')') ? -1 : 0);
+                i++;
+                if (depth == 0)
+                {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Index after the character class starting at start, or -1 if it is not closed
+    private static int skipClass(String regex, int start)
+    {
+        int i = start + 1;
+        // a ']' right after the opening bracket (or its negation) is a literal
+        if ((i < regex.length()) && (regex.charAt(i) == '^'))
+        {
+            i++;
+        }
+        if ((i < regex.length()) && (regex.charAt(i) == ']'))
+        {
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length())
+        {
+            char c = regex.charAt(i);
+            if (c == '\\')
+            {
+                i++;
+            }
+            else if (c == '[')
+            {
+                depth++;
+            }
+            else if ((c == ']') && (--depth == 0))
+            {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static class IndexedSource
+    {
+        private final Source source;
+        private final String content;
+        private final LongHashSet trigrams;
+        private boolean compiled;
+
+        private IndexedSource(Source source)
+        {
+            this.source = source;
+            this.content = source.getContent();
+            this.trigrams = trigrams(this.content);
+            this.compiled = source.isCompiled();
+        }
+    }
+}
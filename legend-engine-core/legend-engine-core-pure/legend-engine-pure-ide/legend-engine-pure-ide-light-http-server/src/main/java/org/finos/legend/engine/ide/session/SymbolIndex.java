@@ -0,0 +1,147 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.ide.session;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.pure.m3.coreinstance.Package;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunction;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.property.Property;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation._class._Class;
+import org.finos.legend.pure.m3.navigation.function.Function;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Index of the elements of each package (name, path, signature and required properties) used for suggestions. Packages are
+ * indexed the first time they are asked for, and the whole index is dropped whenever the {@link SourceIndex} generation
+ * changes, i.e. when a source was modified or compiled.
+ */
+public class SymbolIndex
+{
+    private final PureRuntime pureRuntime;
+    private final SourceIndex sourceIndex;
+    private final MutableMap<String, ListIterable<Symbol>> symbolsByPackage = Maps.mutable.empty();
+    private long generation = -1;
+
+    public SymbolIndex(PureRuntime pureRuntime, SourceIndex sourceIndex)
+    {
+        this.pureRuntime = pureRuntime;
+        this.sourceIndex = sourceIndex;
+    }
+
+    /**
+     * The elements of the package at the given path, or null if there is no such package.
+     */
+    public synchronized ListIterable<Symbol> getChildren(String packagePath)
+    {
+        long currentGeneration = this.sourceIndex.refresh();
+        if (currentGeneration != this.generation)
+        {
+            this.symbolsByPackage.clear();
+            this.generation = currentGeneration;
+        }
+        if (!this.symbolsByPackage.containsKey(packagePath))
+        {
+            CoreInstance coreInstance = this.pureRuntime.getCoreInstance(packagePath);
+            this.symbolsByPackage.put(packagePath, (coreInstance instanceof Package) ? indexChildren(coreInstance) : null);
+        }
+        return this.symbolsByPackage.get(packagePath);
+    }
+
+    private ListIterable<Symbol> indexChildren(CoreInstance pkg)
+    {
+        ProcessorSupport processorSupport = this.pureRuntime.getProcessorSupport();
+        return pkg.getValueForMetaPropertyToMany(M3Properties.children).collect(child ->
+        {
+            String pureName = child instanceof PackageableFunction ? child.getValueForMetaPropertyToOne(M3Properties.functionName).getName() : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
+            String text = child instanceof PackageableFunction ? Function.prettyPrint(child, processorSupport) : child.getValueForMetaPropertyToOne(M3Properties.name).getName();
+            ListIterable<String> requiredClassProperties = child instanceof Class ? _Class.getSimpleProperties(child, processorSupport)
+                    // NOTE: make sure to only consider required (non-qualified) properties: i.e. multiplicity lower bound != 0
+                    .selectInstancesOf(Property.class).select(prop ->
+                            {
+                                CoreInstance lowerBound = prop.getValueForMetaPropertyToOne(M3Properties.multiplicity).getValueForMetaPropertyToOne(M3Properties.lowerBound);
+                                // NOTE: here the lower bound can be nullish when there's multiplicity parameter being used
+                                // but we skip that case for now
+                                return lowerBound != null && !lowerBound.getValueForMetaPropertyToOne(M3Properties.value).getName().equals("0");
+                            }
+                    ).collect(prop -> prop.getValueForMetaPropertyToOne(M3Properties.name).getName(), Lists.mutable.empty()) : Lists.immutable.empty();
+            return new Symbol(child.getClassifier().getName(), pureName, PackageableElement.getUserPathForPackageableElement(child), text, child instanceof Package, child instanceof Class, requiredClassProperties);
+        }).toImmutable();
+    }
+
+    public static class Symbol
+    {
+        private final String pureType;
+        private final String pureName;
+        private final String pureId;
+        private final String text;
+        private final boolean isPackage;
+        private final boolean isClass;
+        private final ListIterable<String> requiredClassProperties;
+
+        private Symbol(String pureType, String pureName, String pureId, String text, boolean isPackage, boolean isClass, ListIterable<String> requiredClassProperties)
+        {
+            this.pureType = pureType;
+            this.pureName = pureName;
+            this.pureId = pureId;
+            this.text = text;
+            this.isPackage = isPackage;
+            this.isClass = isClass;
+            this.requiredClassProperties = requiredClassProperties;
+        }
+
+        public String getPureType()
+        {
+            return this.pureType;
+        }
+
+        public String getPureName()
+        {
+            return this.pureName;
+        }
+
+        public String getPureId()
+        {
+            return this.pureId;
+        }
+
+        public String getText()
+        {
+            return this.text;
+        }
+
+        public boolean isPackage()
+        {
+            return this.isPackage;
+        }
+
+        public boolean isClass()
+        {
+            return this.isClass;
+        }
+
+        public ListIterable<String> getRequiredClassProperties()
+        {
+            return this.requiredClassProperties;
+        }
+    }
+}
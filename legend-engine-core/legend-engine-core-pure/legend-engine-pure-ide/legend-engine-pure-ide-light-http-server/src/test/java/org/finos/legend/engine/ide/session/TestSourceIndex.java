@@ -0,0 +1,242 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.ide.session;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.serialization.runtime.SourceCoordinates;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+public class TestSourceIndex
+{
+    private final MutableList<Source> sources = Lists.mutable.with(
+            new Source("/platform/pure/collection.pure", true, false,
+                    "function meta::pure::functions::collection::size(set:Any[*]):Integer[1]\n" +
+                            "{\n" +
+                            "  $set->fold({x, count | $count + 1}, 0)\n" +
+                            "}\n" +
+                            "function meta::pure::functions::collection::isEmpty(set:Any[*]):Boolean[1]\n" +
+                            "{\n" +
+                            "  $set->size() == 0\n" +
+                            "}\n"),
+            new Source("/platform/pure/string.pure", true, false,
+                    "function meta::pure::functions::string::toUpper(s:String[1]):String[1]\n" +
+                            "{\n" +
+                            "  $s->toOne()\n" +
+                            "}\n" +
+                            "function meta::pure::functions::string::joinStrings(s:String[*]):String[1]\n" +
+                            "{\n" +
+                            "  'caf\u00e9' + $s->toOneMany()->getAll()\n" +
+                            "}\n"),
+            new Source("/model/firm.pure", false, false,
+                    "Class model::Firm\n" +
+                            "{\n" +
+                            "  name : String[1];\n" +
+                            "  employees : model::Person[*];\n" +
+                            "}\n" +
+                            "Class model::Person\n" +
+                            "{\n" +
+                            "  firstName : String[1];\n" +
+                            "}\n" +
+                            "function model::allFirms():model::Firm[*]\n" +
+                            "{\n" +
+                            "  model::Firm.all()->filter(f | $f.name == 'GETALL')\n" +
+                            "}\n"));
+    private final SourceIndex sourceIndex = new SourceIndex(() -> this.sources);
+
+    @Test
+    public void testLiteralSearches()
+    {
+        for (String string : Lists.mutable.with("getAll", "GETALL", "meta::pure::functions::collection", "Class", "->", "caf\u00e9", "CAF\u00c9", "zzzNotInAnySource"))
+        {
+            assertFindsSameAsScan(string, true, null);
+            assertFindsSameAsScan(string, false, null);
+        }
+    }
+
+    @Test
+    public void testRegexSearches()
+    {
+        for (String regex : Lists.mutable.with("function\\s+meta::pure::functions::string::\\w+", "Class\\s+model::\\w+", "get[A-Z]\\w*\\(", "toOne|toOneMany", "(?i)class\\s+\\w+", "name.*'", "\\d", "zzz\\w+"))
+        {
+            assertFindsSameAsScan(Pattern.compile(regex), null);
+        }
+        assertFindsSameAsScan(Pattern.compile("getall", Pattern.CASE_INSENSITIVE), null);
+    }
+
+    @Test
+    public void testSourceIdFilter()
+    {
+        Pattern sourceIdPattern = Pattern.compile("^/platform/pure/");
+        assertFindsSameAsScan("String", true, sourceIdPattern);
+        assertFindsSameAsScan("string", false, sourceIdPattern);
+        assertFindsSameAsScan(Pattern.compile("String\\[\\w\\]"), sourceIdPattern);
+        Assert.assertEquals(Lists.mutable.empty(), describe(this.sourceIndex.find("Person", true, sourceIdPattern)));
+    }
+
+    @Test
+    public void testIndexFollowsSourceChanges()
+    {
+        long generation = this.sourceIndex.refresh();
+        Assert.assertEquals(generation, this.sourceIndex.refresh());
+
+        String sourceId = "/model/marker.pure";
+        this.sources.add(new Source(sourceId, false, false, "function test::sourceIndexMarker():String[1]\n{\n  'xyzzyMarker'\n}\n"));
+        long added = this.sourceIndex.refresh();
+        Assert.assertNotEquals(generation, added);
+        Assert.assertEquals(Lists.mutable.with(sourceId), this.sourceIndex.find("xyzzyMarker", true, null).collect(SourceCoordinates::getSourceId, Lists.mutable.empty()));
+        assertFindsSameAsScan("xyzzyMarker", true, null);
+
+        this.sources.set(3, new Source(sourceId, false, false, "function test::sourceIndexMarker():String[1]\n{\n  'plugh'\n}\n"));
+        long modified = this.sourceIndex.refresh();
+        Assert.assertNotEquals(added, modified);
+        Assert.assertTrue(this.sourceIndex.find("xyzzyMarker", true, null).isEmpty());
+        assertFindsSameAsScan("plugh", true, null);
+
+        this.sources.remove(3);
+        Assert.assertNotEquals(modified, this.sourceIndex.refresh());
+        Assert.assertTrue(this.sourceIndex.find("plugh", true, null).isEmpty());
+    }
+
+    @Test
+    public void testPlainText()
+    {
+        assertRequiredLiterals("getAll", "getAll");
+        assertRequiredLiterals("^getAll$", "getAll");
+        assertRequiredLiterals("ab");
+    }
+
+    @Test
+    public void testLiteralFlag()
+    {
+        assertRequiredLiterals(Pattern.compile("a|b(c*", Pattern.LITERAL), "a|b(c*");
+    }
+
+    @Test
+    public void testCommentsFlag()
+    {
+        assertRequiredLiterals(Pattern.compile("getAll # comment", Pattern.COMMENTS));
+    }
+
+    @Test
+    public void testCaseInsensitiveFlag()
+    {
+        assertRequiredLiterals(Pattern.compile("Person", Pattern.CASE_INSENSITIVE), "Person");
+        assertRequiredLiterals(Pattern.compile("caf\u00e9Bar", Pattern.CASE_INSENSITIVE));
+        assertRequiredLiterals(Pattern.compile("caf\u00e9Bar"), "caf\u00e9Bar");
+    }
+
+    @Test
+    public void testInlineFlags()
+    {
+        assertRequiredLiterals("(?i)Person");
+        assertRequiredLiterals("Per(?i:son)");
+    }
+
+    @Test
+    public void testEscapes()
+    {
+        assertRequiredLiterals("meta\\.pure", "meta.pure");
+        assertRequiredLiterals("a\\(b\\)c", "a(b)c");
+        assertRequiredLiterals("Class\\s+Person", "Class", "Person");
+        assertRequiredLiterals("\\d+abc", "abc");
+        assertRequiredLiterals("ab\\wcd");
+    }
+
+    @Test
+    public void testUnsupportedEscapes()
+    {
+        assertRequiredLiterals("\\Qa.b\\Eabc");
+        assertRequiredLiterals("(abc)\\1def");
+        assertRequiredLiterals("\\p{Alpha}abc");
+        assertRequiredLiterals("\\x41abc");
+        assertRequiredLiterals("\\u0041abc");
+    }
+
+    @Test
+    public void testCharacterClasses()
+    {
+        assertRequiredLiterals("Cla[sz]sName", "Cla", "sName");
+        assertRequiredLiterals("a[bc]*defg", "defg");
+        assertRequiredLiterals("[]a]bcde", "bcde");
+        assertRequiredLiterals("[^]a]bcde", "bcde");
+        assertRequiredLiterals("ab[c\\]d]efg", "efg");
+        assertRequiredLiterals("[a-z&&[^x]]abc", "abc");
+    }
+
+    @Test
+    public void testGroups()
+    {
+        assertRequiredLiterals("(?:abc)def", "def");
+        assertRequiredLiterals("(abc)+def", "def");
+        assertRequiredLiterals("get(a|b)Value", "get", "Value");
+        assertRequiredLiterals("get(a[)]b)Value", "get", "Value");
+        assertRequiredLiterals("(?<name>abc)def");
+        assertRequiredLiterals("abc(?=def)");
+        assertRequiredLiterals("abc(?!def)");
+    }
+
+    @Test
+    public void testAlternation()
+    {
+        assertRequiredLiterals("abc|def");
+        assertRequiredLiterals("abcdef|");
+    }
+
+    @Test
+    public void testQuantifiers()
+    {
+        assertRequiredLiterals("abcd?efg", "abc", "efg");
+        assertRequiredLiterals("abcd*efg", "abc", "efg");
+        assertRequiredLiterals("abcd+efg", "abcd", "efg");
+        assertRequiredLiterals("abcd*?efg", "abc", "efg");
+        assertRequiredLiterals("abcd++efg", "abcd", "efg");
+        assertRequiredLiterals("abc{2}def", "def");
+        assertRequiredLiterals("abcd{2,3}?efg", "abc", "efg");
+        assertRequiredLiterals("abc.*def", "abc", "def");
+    }
+
+    private void assertFindsSameAsScan(String string, boolean caseSensitive, Pattern sourceIdPattern)
+    {
+        RichIterable<SourceCoordinates> scan = this.sources.select(s -> sourceIdPattern == null || sourceIdPattern.matcher(s.getId()).find()).flatCollect(s -> s.find(string, caseSensitive));
+        Assert.assertEquals("'" + string + "'" + (caseSensitive ? "" : " (case insensitive)"), describe(scan), describe(this.sourceIndex.find(string, caseSensitive, sourceIdPattern)));
+    }
+
+    private void assertFindsSameAsScan(Pattern pattern, Pattern sourceIdPattern)
+    {
+        RichIterable<SourceCoordinates> scan = this.sources.select(s -> sourceIdPattern == null || sourceIdPattern.matcher(s.getId()).find()).flatCollect(s -> s.find(pattern));
+        Assert.assertEquals("/" + pattern + "/", describe(scan), describe(this.sourceIndex.find(pattern, sourceIdPattern)));
+    }
+
+    private static MutableList<String> describe(RichIterable<SourceCoordinates> coordinates)
+    {
+        return coordinates.collect(c -> c.getSourceId() + ":" + c.getStartLine() + ":" + c.getStartColumn() + "-" + c.getEndLine() + ":" + c.getEndColumn(), Lists.mutable.empty()).sortThis();
+    }
+
+    private static void assertRequiredLiterals(String regex, String... expected)
+    {
+        assertRequiredLiterals(Pattern.compile(regex), expected);
+    }
+
+    private static void assertRequiredLiterals(Pattern pattern, String... expected)
+    {
+        Assert.assertEquals(pattern.pattern(), Lists.mutable.with(expected), SourceIndex.getRequiredLiterals(pattern));
+    }
+}
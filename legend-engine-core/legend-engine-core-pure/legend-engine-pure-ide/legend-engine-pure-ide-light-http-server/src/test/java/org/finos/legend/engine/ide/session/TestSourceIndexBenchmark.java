@@ -0,0 +1,117 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.ide.session;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m3.serialization.runtime.SourceCoordinates;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Latency of the searches of the IDE over the full platform source set, with the index and with the linear scan of the
+ * source registry it replaces. The timings are logged; {@link TestSourceIndex} checks that both find the same matches.
+ * <p>
+ * Excluded from the default build, run with -Pbenchmark.
+ */
+public class TestSourceIndexBenchmark
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestSourceIndexBenchmark.class);
+
+    private static final int RUNS = 10;
+
+    private static PureRuntime runtime;
+    private static SourceIndex sourceIndex;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        RichIterable<CodeRepository> repositories = CodeRepositorySet.newBuilder().withCodeRepositories(CodeRepositoryProviderHelper.findCodeRepositories()).build().subset("platform").getRepositories();
+        runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(repositories))).setTransactionalByDefault(false).buildAndInitialize();
+        sourceIndex = new SourceIndex(runtime);
+
+        long start = System.nanoTime();
+        sourceIndex.refresh();
+        LOGGER.info("Indexed {} sources in {}ms", runtime.getSourceRegistry().getSources().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Test
+    public void testLiteralSearches()
+    {
+        for (String string : Lists.mutable.with("getAll", "meta::pure::functions::collection", "ProcessorSupport", "zzzNotInAnySource"))
+        {
+            benchmark("'" + string + "'",
+                    () -> runtime.getSourceRegistry().find(string, true, null),
+                    () -> sourceIndex.find(string, true, null));
+            benchmark("'" + string + "' (case insensitive)",
+                    () -> runtime.getSourceRegistry().find(string, false, null),
+                    () -> sourceIndex.find(string, false, null));
+        }
+    }
+
+    @Test
+    public void testRegexSearches()
+    {
+        for (String regex : Lists.mutable.with("function\\s+meta::pure::functions::string::\\w+", "Class\\s+meta::pure::metamodel::type::\\w+", "get[A-Z]\\w*\\(", "toOne|toOneMany"))
+        {
+            Pattern pattern = Pattern.compile(regex);
+            benchmark("/" + regex + "/",
+                    () -> runtime.getSourceRegistry().find(pattern, null),
+                    () -> sourceIndex.find(pattern, null));
+        }
+    }
+
+    @Test
+    public void testSourceIdFilter()
+    {
+        Pattern sourceIdPattern = Pattern.compile("^/platform/pure/");
+        benchmark("'Class' in " + sourceIdPattern,
+                () -> runtime.getSourceRegistry().find("Class", true, sourceIdPattern),
+                () -> sourceIndex.find("Class", true, sourceIdPattern));
+    }
+
+    private static void benchmark(String search, Function0<RichIterable<SourceCoordinates>> scan, Function0<RichIterable<SourceCoordinates>> indexed)
+    {
+        long scanNanos = minNanos(scan);
+        long indexedNanos = minNanos(indexed);
+        LOGGER.info("{}: {} matches, scan {}us, indexed {}us", search, indexed.value().size(), TimeUnit.NANOSECONDS.toMicros(scanNanos), TimeUnit.NANOSECONDS.toMicros(indexedNanos));
+    }
+
+    private static long minNanos(Function0<RichIterable<SourceCoordinates>> search)
+    {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++)
+        {
+            long start = System.nanoTime();
+            // the results are lazy, so make sure the search actually runs
+            search.value().size();
+            min = Math.min(min, System.nanoTime() - start);
+        }
+        return min;
+    }
+}
@@ -73,6 +73,20 @@ public class MetricsHandler
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
+    private static final Gauge MAXIMUM_POOL_SIZE = Gauge.build("legend_engine_connection_pool_maximum_size", "Current maximum size of a connection pool").labelNames("poolName").register(getMetricsRegistry());
+    private static final Gauge THREADS_AWAITING_CONNECTION = Gauge.build("legend_engine_connection_pool_threads_awaiting", "Threads waiting for a connection from a pool").labelNames("poolName").register(getMetricsRegistry());
+    private static final Histogram CONNECTION_ACQUISITION_LATENCY = Histogram.build().name("legend_engine_connection_acquisition_latency")
+            .help("Measure how long it takes to get a connection from a pool, in seconds")
+            .buckets(.001, .005, .01, .05, .1, .5, 1, 5, 10, 30)
+            .labelNames("poolName")
+            .register(getMetricsRegistry());
+    private static final Counter CONNECTION_POOL_PURGES = Counter.build("legend_engine_connection_pool_purges", "Count connection pools evicted for being unused").register(getMetricsRegistry());
+    private static final Counter CONCURRENT_EXECUTION_REQUESTED = Counter.build("legend_engine_concurrent_execution_requested", "Count child nodes submitted for concurrent execution").labelNames("poolName").register(getMetricsRegistry());
+    private static final Counter CONCURRENT_EXECUTION_GRANTED = Counter.build("legend_engine_concurrent_execution_granted", "Count threads granted to concurrent executions").labelNames("poolName").register(getMetricsRegistry());
+    private static final Counter CANCELLED_EXECUTIONS = Counter.build("legend_engine_cancelled_executions", "Count cancelled executions").register(getMetricsRegistry());
+    private static final Counter CANCELLED_NODES = Counter.build("legend_engine_cancelled_nodes", "Count execution nodes not run because their execution was cancelled").register(getMetricsRegistry());
+    private static final Counter CANCELLED_EXECUTABLES = Counter.build("legend_engine_cancelled_executables", "Count running store executables (e.g. SQL statements) cancelled").register(getMetricsRegistry());
+    private static final Gauge GRAPH_FETCH_CACHE_STATS = Gauge.build("legend_engine_graph_fetch_cache", "Shared graph fetch cache statistics").labelNames("cacheName", "subTree", "statistic").register(getMetricsRegistry());
 
     public static CollectorRegistry getMetricsRegistry()
     {
@@ -143,11 +157,66 @@ public class MetricsHandler
         }
     }
 
+    public static void setConnectionPoolSizeMetrics(String poolName, double maximumPoolSize, double threadsAwaitingConnection)
+    {
+        if (!poolName.contains("DefaultH2"))
+        {
+            MAXIMUM_POOL_SIZE.labels(poolName).set(maximumPoolSize);
+            THREADS_AWAITING_CONNECTION.labels(poolName).set(threadsAwaitingConnection);
+        }
+    }
+
+    public static void observeConnectionAcquisition(String poolName, long durationInNanos)
+    {
+        if (!poolName.contains("DefaultH2"))
+        {
+            CONNECTION_ACQUISITION_LATENCY.labels(poolName).observe(durationInNanos / 1_000_000_000D);
+        }
+    }
+
+    public static void incrementConnectionPoolPurges(int count)
+    {
+        CONNECTION_POOL_PURGES.inc(count);
+    }
+
     public static void removeConnectionMetrics(String poolName)
     {
         ACTIVE_CONNECTIONS.remove(poolName);
         TOTAL_CONNECTIONS.remove(poolName);
         IDLE_CONNECTIONS.remove(poolName);
+        MAXIMUM_POOL_SIZE.remove(poolName);
+        THREADS_AWAITING_CONNECTION.remove(poolName);
+        CONNECTION_ACQUISITION_LATENCY.remove(poolName);
+    }
+
+    public static void observeConcurrentExecution(String poolName, int requested, int granted)
+    {
+        CONCURRENT_EXECUTION_REQUESTED.labels(poolName).inc(requested);
+        CONCURRENT_EXECUTION_GRANTED.labels(poolName).inc(granted);
+    }
+
+    public static void incrementCancelledExecutionCount()
+    {
+        CANCELLED_EXECUTIONS.inc();
+    }
+
+    public static void incrementCancelledNodeCount()
+    {
+        CANCELLED_NODES.inc();
+    }
+
+    public static void incrementCancelledExecutableCount(int count)
+    {
+        CANCELLED_EXECUTABLES.inc(count);
+    }
+
+    public static void setGraphFetchCacheMetrics(String cacheName, String subTree, double hitCount, double missCount, double loadCount, double evictionCount, double size)
+    {
+        GRAPH_FETCH_CACHE_STATS.labels(cacheName, subTree, "hits").set(hitCount);
+        GRAPH_FETCH_CACHE_STATS.labels(cacheName, subTree, "misses").set(missCount);
+        GRAPH_FETCH_CACHE_STATS.labels(cacheName, subTree, "loads").set(loadCount);
+        GRAPH_FETCH_CACHE_STATS.labels(cacheName, subTree, "evictions").set(evictionCount);
+        GRAPH_FETCH_CACHE_STATS.labels(cacheName, subTree, "size").set(size);
     }
 
     public static void incrementJavaCompilationCount()
@@ -0,0 +1,156 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.extension;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records how long the process spends loading extensions and in named startup phases, so slow extensions and phases show up
+ * without a profiler. Extensions are timed individually (discovery and instantiation, which includes static initialization of
+ * the extension class) as well as per extension type.
+ */
+public class StartupProfile
+{
+    public static final String EXTENSIONS = "extensions";
+    public static final String PHASE = "phase";
+
+    // extensions loaded outside of a cached loader would otherwise grow this forever
+    private static final int MAX_TIMINGS = 10_000;
+    private static final ConcurrentLinkedQueue<Timing> TIMINGS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger TIMING_COUNT = new AtomicInteger();
+
+    /**
+     * Loads the extensions of the given type through {@link ServiceLoader}, timing each of them.
+     */
+    public static <T> MutableList<T> loadExtensions(Class<T> extensionType)
+    {
+        long start = System.nanoTime();
+        MutableList<T> extensions = Lists.mutable.empty();
+        Iterator<T> iterator = ServiceLoader.load(extensionType).iterator();
+        long extensionStart = System.nanoTime();
+        while (iterator.hasNext())
+        {
+            T extension = iterator.next();
+            long now = System.nanoTime();
+            record(extensionType.getSimpleName(), extension.getClass().getName(), now - extensionStart);
+            extensions.add(extension);
+            extensionStart = now;
+        }
+        record(EXTENSIONS, extensionType.getSimpleName(), System.nanoTime() - start);
+        return extensions;
+    }
+
+    /**
+     * Starts timing a phase; the phase ends when the returned handle is closed.
+     */
+    public static Phase phase(String name)
+    {
+        return new Phase(name);
+    }
+
+    public static void record(String category, String name, long durationNanos)
+    {
+        if (TIMING_COUNT.getAndIncrement() < MAX_TIMINGS)
+        {
+            TIMINGS.add(new Timing(category, name, durationNanos));
+        }
+    }
+
+    public static List<Timing> getTimings()
+    {
+        return Lists.mutable.withAll(TIMINGS);
+    }
+
+    // for tests, as the timings are kept for the whole process
+    static void reset()
+    {
+        TIMINGS.clear();
+        TIMING_COUNT.set(0);
+    }
+
+    /**
+     * Phases in the order they were recorded, followed by the slowest extension types and extensions.
+     */
+    public static String report(int slowest)
+    {
+        MutableList<Timing> timings = Lists.mutable.withAll(TIMINGS);
+        StringBuilder builder = new StringBuilder("Startup profile:");
+        timings.select(t -> PHASE.equals(t.category)).forEach(t -> builder.append("\n  phase ").append(t));
+        ListIterate.take(timings.select(t -> EXTENSIONS.equals(t.category)).sortThisBy(t -> -t.durationNanos), slowest).forEach(t -> builder.append("\n  extension type ").append(t));
+        ListIterate.take(timings.reject(t -> PHASE.equals(t.category) || EXTENSIONS.equals(t.category)).sortThisBy(t -> -t.durationNanos), slowest).forEach(t -> builder.append("\n  extension ").append(t.category).append(' ').append(t));
+        return builder.toString();
+    }
+
+    public static class Phase implements AutoCloseable
+    {
+        private final String name;
+        private final long start = System.nanoTime();
+
+        private Phase(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public void close()
+        {
+            record(PHASE, this.name, System.nanoTime() - this.start);
+        }
+    }
+
+    public static class Timing
+    {
+        private final String category;
+        private final String name;
+        private final long durationNanos;
+
+        private Timing(String category, String name, long durationNanos)
+        {
+            this.category = category;
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getCategory()
+        {
+            return this.category;
+        }
+
+        public String getName()
+        {
+            return this.name;
+        }
+
+        public long getDurationMillis()
+        {
+            return TimeUnit.NANOSECONDS.toMillis(this.durationNanos);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.name + ": " + getDurationMillis() + "ms";
+        }
+    }
+}
@@ -0,0 +1,109 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.shared.core.extension;
+
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TestStartupProfile
+{
+    @Before
+    public void setUp()
+    {
+        StartupProfile.reset();
+    }
+
+    @After
+    public void tearDown()
+    {
+        StartupProfile.reset();
+    }
+
+    @Test
+    public void testRecord()
+    {
+        StartupProfile.record("Extension", "org.example.Slow", TimeUnit.MILLISECONDS.toNanos(12));
+
+        List<StartupProfile.Timing> timings = StartupProfile.getTimings();
+        Assert.assertEquals(1, timings.size());
+        Assert.assertEquals("Extension", timings.get(0).getCategory());
+        Assert.assertEquals("org.example.Slow", timings.get(0).getName());
+        Assert.assertEquals(12, timings.get(0).getDurationMillis());
+        Assert.assertEquals("org.example.Slow: 12ms", timings.get(0).toString());
+    }
+
+    @Test
+    public void testPhase()
+    {
+        try (StartupProfile.Phase outer = StartupProfile.phase("outer"))
+        {
+            try (StartupProfile.Phase inner = StartupProfile.phase("inner"))
+            {
+                Assert.assertTrue(StartupProfile.getTimings().isEmpty());
+            }
+        }
+
+        // phases are recorded when they end
+        List<StartupProfile.Timing> timings = StartupProfile.getTimings();
+        Assert.assertEquals(Arrays.asList("inner", "outer"), ListIterate.collect(timings, StartupProfile.Timing::getName));
+        timings.forEach(timing -> Assert.assertEquals(StartupProfile.PHASE, timing.getCategory()));
+        Assert.assertTrue(timings.get(1).getDurationMillis() >= timings.get(0).getDurationMillis());
+    }
+
+    @Test
+    public void testReport()
+    {
+        StartupProfile.record(StartupProfile.PHASE, "Store executors", TimeUnit.MILLISECONDS.toNanos(30));
+        StartupProfile.record(StartupProfile.EXTENSIONS, "FastExtension", TimeUnit.MILLISECONDS.toNanos(1));
+        StartupProfile.record(StartupProfile.EXTENSIONS, "SlowExtension", TimeUnit.MILLISECONDS.toNanos(20));
+        StartupProfile.record("SlowExtension", "org.example.Slow", TimeUnit.MILLISECONDS.toNanos(15));
+        StartupProfile.record("SlowExtension", "org.example.Fast", TimeUnit.MILLISECONDS.toNanos(2));
+        StartupProfile.record(StartupProfile.PHASE, "API registration", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Assert.assertEquals("Startup profile:" +
+                        "\n  phase Store executors: 30ms" +
+                        "\n  phase API registration: 5ms" +
+                        "\n  extension type SlowExtension: 20ms" +
+                        "\n  extension SlowExtension org.example.Slow: 15ms",
+                StartupProfile.report(1));
+        Assert.assertEquals("Startup profile:" +
+                        "\n  phase Store executors: 30ms" +
+                        "\n  phase API registration: 5ms" +
+                        "\n  extension type SlowExtension: 20ms" +
+                        "\n  extension type FastExtension: 1ms" +
+                        "\n  extension SlowExtension org.example.Slow: 15ms" +
+                        "\n  extension SlowExtension org.example.Fast: 2ms",
+                StartupProfile.report(20));
+    }
+
+    @Test
+    public void testTimingsAreCapped()
+    {
+        for (int i = 0; i < 10_005; i++)
+        {
+            StartupProfile.record("Extension", "extension" + i, 0);
+        }
+        List<StartupProfile.Timing> timings = StartupProfile.getTimings();
+        Assert.assertEquals(10_000, timings.size());
+        Assert.assertEquals("extension9999", timings.get(9_999).getName());
+    }
+}
@@ -169,8 +169,13 @@ public class FunctionTestRunner implements TestRunner
     {
         try
         {
-            // build plan
-            SingleExecutionPlan executionPlan = PlanGenerator.generateExecutionPlan(this.modifiedFunctionDefinition != null ? this.modifiedFunctionDefinition : this.functionDefinition, null, null, null, context.getPureModel(), this.pureVersion, PlanPlatform.JAVA, null, context.getRouterExtensions(), context.getExecutionPlanTransformers());
+            // build plan, the function and test data are the same for all the tests of the suite
+            SingleExecutionPlan executionPlan = context.getPlan();
+            if (executionPlan == null)
+            {
+                executionPlan = PlanGenerator.generateExecutionPlan(this.modifiedFunctionDefinition != null ? this.modifiedFunctionDefinition : this.functionDefinition, null, null, null, context.getPureModel(), this.pureVersion, PlanPlatform.JAVA, null, context.getRouterExtensions(), context.getExecutionPlanTransformers());
+                context.setPlan(executionPlan);
+            }
             // execute assertion
             TestAssertion assertion = functionTest.assertions.get(0);
             // add execute
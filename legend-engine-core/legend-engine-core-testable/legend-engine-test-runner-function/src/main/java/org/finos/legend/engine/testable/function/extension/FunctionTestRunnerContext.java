@@ -22,6 +22,7 @@ import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.generation.transformers.PlanTransformer;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.connection.ConnectionVisitor;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.data.DataElement;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.function.FunctionTestSuite;
@@ -42,6 +43,7 @@ public class FunctionTestRunnerContext
     private final ConnectionVisitor<Root_meta_core_runtime_Connection> connectionVisitor;
     private final RichIterable<? extends Root_meta_pure_extension_Extension> routerExtensions;
     private final PlanExecutor.ExecuteArgsBuilder executeBuilder;
+    private SingleExecutionPlan plan;
 
     public FunctionTestRunnerContext(Pair<PureModelContextData, PureModel> models, Pair<FunctionTestSuite, Root_meta_legend_function_metamodel_FunctionTestSuite> suites,
                                      MutableList<PlanTransformer> executionPlanTransformers,
@@ -112,4 +114,14 @@ public class FunctionTestRunnerContext
         return executionPlanTransformers;
     }
 
+    public SingleExecutionPlan getPlan()
+    {
+        return plan;
+    }
+
+    public void setPlan(SingleExecutionPlan plan)
+    {
+        this.plan = plan;
+    }
+
 }
@@ -80,6 +80,13 @@ public class MappingTestRunner implements TestRunner
         this.extensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
     }
 
+    @Override
+    public boolean canRunConcurrently()
+    {
+        // test runtimes are built by the runner, the graph itself is left untouched
+        return true;
+    }
+
     @Override
     public TestResult executeAtomicTest(Root_meta_pure_test_AtomicTest atomicTest, PureModel pureModel, PureModelContextData pmcd)
     {
@@ -26,12 +26,15 @@ import org.finos.legend.engine.protocol.pure.v1.model.test.result.*;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
+import org.finos.legend.engine.testable.TestableRunner;
 import org.finos.legend.engine.testable.extension.TestRunner;
+import org.finos.legend.engine.testable.model.RunTestsTestableInput;
 import org.finos.legend.pure.generated.Root_meta_pure_test_TestSuite;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAccessor;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -781,6 +784,53 @@ public class TestMappingTestRunner
         testFailingTest(findTestById(graphFetchCheckedSuite, "failingTest"), e, a);
     }
 
+    @Test
+    public void testTestableRunnerInParallel()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(TEST_SUITE_2 + grammar2);
+        PureModel pureModel = Compiler.compile(modelData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        List<RunTestsTestableInput> inputs = Arrays.asList(testableInput("test::modelToModelMapping"), testableInput("test::modelToModelTestMapping"));
+
+        List<String> expected = Arrays.asList(
+                "test::modelToModelMapping.testSuite1.test1: PASS",
+                "test::modelToModelMapping.testSuite1.test2: FAIL",
+                "test::modelToModelTestMapping.testSuite1.test1: PASS");
+        Assert.assertEquals(expected, describe(new TestableRunner().doTests(inputs, pureModel, modelData).results));
+        Assert.assertEquals(expected, describe(new TestableRunner(2).doTests(inputs, pureModel, modelData).results));
+        Assert.assertEquals(expected, describe(new TestableRunner(8).doTests(inputs, pureModel, modelData).results));
+    }
+
+    @Test
+    public void testTestableRunnerInParallelKeepsOrderOfTestables()
+    {
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel(TEST_SUITE_2 + grammar2);
+        PureModel pureModel = Compiler.compile(modelData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        List<RunTestsTestableInput> inputs = Arrays.asList(testableInput("test::modelToModelTestMapping"), testableInput("test::modelToModelMapping"));
+
+        List<String> expected = Arrays.asList(
+                "test::modelToModelTestMapping.testSuite1.test1: PASS",
+                "test::modelToModelMapping.testSuite1.test1: PASS",
+                "test::modelToModelMapping.testSuite1.test2: FAIL");
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertEquals(expected, describe(new TestableRunner(2).doTests(inputs, pureModel, modelData).results));
+        }
+    }
+
+    private RunTestsTestableInput testableInput(String testable)
+    {
+        RunTestsTestableInput input = new RunTestsTestableInput();
+        input.testable = testable;
+        return input;
+    }
+
+    private List<String> describe(List<TestResult> results)
+    {
+        return results.stream()
+                .map(result -> result.testable + "." + result.testSuiteId + "." + result.atomicTestId + ": " + guaranteedTestExecuted(result).testExecutionStatus)
+                .collect(Collectors.toList());
+    }
+
 
     private void testFailingTest(TestResult testResult, String expected, String actual)
     {
@@ -68,9 +68,14 @@ public class TestableApi
     private final ModelManager modelManager;
 
     public TestableApi(ModelManager modelManager)
+    {
+        this(modelManager, 1);
+    }
+
+    public TestableApi(ModelManager modelManager, int parallelism)
     {
         this.modelManager = modelManager;
-        this.testableRunner = new TestableRunner();
+        this.testableRunner = new TestableRunner(parallelism);
         this.objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
     }
 
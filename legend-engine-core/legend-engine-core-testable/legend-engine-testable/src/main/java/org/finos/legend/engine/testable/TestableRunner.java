@@ -14,6 +14,8 @@
 
 package org.finos.legend.engine.testable;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
@@ -31,14 +33,36 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Test;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAccessor;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Testable;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class TestableRunner
 {
+    private final int parallelism;
+
+    public TestableRunner()
+    {
+        this(1);
+    }
+
+    /**
+     * @param parallelism number of test suites and atomic tests which can be run at the same time. Results are reported in the same order
+     *                    as when tests are run one after the other.
+     */
+    public TestableRunner(int parallelism)
+    {
+        this.parallelism = Math.max(1, parallelism);
+    }
 
     public RunTestsResult doTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
-        RunTestsResult runTestsResult = new RunTestsResult();
+        MutableList<TestRun> testRuns = Lists.mutable.empty();
         for (RunTestsTestableInput testableInput : runTestsTestableInputs)
         {
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement packageableElement = pureModel.getPackageableElement(testableInput.testable);
@@ -56,7 +80,7 @@ public class TestableRunner
                 // We run all testIds if no `unitTestIds` are provided
                 if ((test instanceof Root_meta_pure_test_AtomicTest) && (testIds.isEmpty() || testIdStrings.contains(test._id())))
                 {
-                    runTestsResult.results.add(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data));
+                    testRuns.add(new TestRun(testRunner, () -> Collections.singletonList(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data))));
                 }
 
                 if (test instanceof Root_meta_pure_test_TestSuite)
@@ -68,14 +92,72 @@ public class TestableRunner
                         List<String> updatedTestIds = testIds.isEmpty()
                             ? testSuite._tests().collect(TestAccessor::_id).toList()
                             : testIdsForSuite;
-                        runTestsResult.results.addAll(testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data));
+                        testRuns.add(new TestRun(testRunner, () -> testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data)));
                     }
                 }
             }
         }
+        RunTestsResult runTestsResult = new RunTestsResult();
+        runTestsResult.results.addAll(this.run(testRuns));
         return runTestsResult;
     }
 
+    private List<TestResult> run(MutableList<TestRun> testRuns)
+    {
+        int concurrentRunCount = testRuns.count(testRun -> testRun.concurrent);
+        if ((this.parallelism == 1) || (concurrentRunCount < 2))
+        {
+            return testRuns.flatCollect(testRun -> testRun.run.get());
+        }
+
+        // runs which cannot share the graph with other tests go first, one after the other, before the others are run in parallel
+        List<List<TestResult>> results = Lists.mutable.withNValues(testRuns.size(), () -> null);
+        testRuns.forEachWithIndex((testRun, i) ->
+        {
+            if (!testRun.concurrent)
+            {
+                results.set(i, testRun.run.get());
+            }
+        });
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, concurrentRunCount), runnable ->
+        {
+            Thread thread = new Thread(runnable, "testable-runner-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try
+        {
+            List<Future<List<TestResult>>> futures = testRuns.collect(testRun -> testRun.concurrent ? executor.submit(testRun.run::get) : null);
+            for (int i = 0; i < futures.size(); i++)
+            {
+                if (futures.get(i) != null)
+                {
+                    results.set(i, futures.get(i).get());
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        return ListIterate.flatCollect(results, r -> r);
+    }
+
 
     public DebugTestsResult debugTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
@@ -120,4 +202,16 @@ public class TestableRunner
         }
         return debugTestsResult;
     }
+
+    private static class TestRun
+    {
+        private final boolean concurrent;
+        private final Supplier<List<TestResult>> run;
+
+        private TestRun(TestRunner testRunner, Supplier<List<TestResult>> run)
+        {
+            this.concurrent = testRunner.canRunConcurrently();
+            this.run = run;
+        }
+    }
 }
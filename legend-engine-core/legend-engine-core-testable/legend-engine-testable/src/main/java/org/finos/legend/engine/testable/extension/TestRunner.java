@@ -39,4 +39,13 @@ public interface TestRunner
     {
         return Collections.emptyList();
     }
+
+    /**
+     * Whether the suites and tests of this runner can run at the same time as other tests against the same graph. Runners which alter the
+     * graph while setting up their test data must not.
+     */
+    default boolean canRunConcurrently()
+    {
+        return false;
+    }
 }
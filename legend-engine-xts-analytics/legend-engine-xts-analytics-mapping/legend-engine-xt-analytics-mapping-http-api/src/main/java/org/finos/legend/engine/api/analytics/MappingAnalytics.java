@@ -86,7 +86,9 @@ public class MappingAnalytics
         {
             try
             {
-                MappingModelCoverageAnalysisResult result = MappingModelCoverageAnalysis.analyze(mapping, pureModel, pureModelContextData, input.clientVersion, this.objectMapper, returnMappedEntityInfo, returnMappedPropertyInfo, returnLightGraph);
+                MappingModelCoverageAnalysisResult result = this.modelManager.pureModelScopedCache.get(pureModel,
+                        () -> MappingModelCoverageAnalysis.analyze(mapping, pureModel, pureModelContextData, input.clientVersion, this.objectMapper, returnMappedEntityInfo, returnMappedPropertyInfo, returnLightGraph),
+                        "mappingModelCoverage", input.mapping, input.clientVersion, returnMappedEntityInfo, returnMappedPropertyInfo, returnLightGraph);
                 return ManageConstantResult.manageResult(identity.getName(), result);
             }
             catch (Exception e)
@@ -107,17 +109,21 @@ public class MappingAnalytics
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         Identity identity = Identity.makeIdentity(profiles);
         PureModelContextData pureModelContextData = this.modelManager.loadData(input.model, input.clientVersion, identity);
-        PureModel pureModel = this.modelManager.loadModel(pureModelContextData, input.clientVersion, identity, null);
+        // compile from the context itself rather than the resolved data so pointers reuse the cached model and its analyses
+        PureModel pureModel = this.modelManager.loadModel(input.model, input.clientVersion, identity, null);
         Mapping mapping = input.mapping == null ? null : pureModel.getMapping(input.mapping);
         try (Scope scope = GlobalTracer.get().buildSpan("Mapping: analysis").startActive(true))
         {
             try
             {
-                return ManageConstantResult.manageResult(identity.getName(), new MappingRuntimeCompatibilityAnalysisResult(
-                        ListIterate.collect(HelperRuntimeBuilder.getMappingCompatibleRuntimes(
-                                mapping,
-                                ListIterate.selectInstancesOf(pureModelContextData.getElements(), PackageableRuntime.class),
-                                pureModel), runtime -> HelperModelBuilder.getElementFullPath(runtime, pureModel.getExecutionSupport()))));
+                MappingRuntimeCompatibilityAnalysisResult result = this.modelManager.pureModelScopedCache.get(pureModel,
+                        () -> new MappingRuntimeCompatibilityAnalysisResult(
+                                ListIterate.collect(HelperRuntimeBuilder.getMappingCompatibleRuntimes(
+                                        mapping,
+                                        ListIterate.selectInstancesOf(pureModelContextData.getElements(), PackageableRuntime.class),
+                                        pureModel), runtime -> HelperModelBuilder.getElementFullPath(runtime, pureModel.getExecutionSupport()))),
+                        "mappingRuntimeCompatibility", input.mapping, input.clientVersion);
+                return ManageConstantResult.manageResult(identity.getName(), result);
             }
             catch (Exception e)
             {
@@ -88,7 +88,8 @@ public class DataSpaceAnalytics
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         Identity identity = Identity.makeIdentity(profiles);
         PureModelContextData pureModelContextData = this.modelManager.loadData(input.model, input.clientVersion, identity);
-        PureModel pureModel = this.modelManager.loadModel(pureModelContextData, input.clientVersion, identity, null);
+        // compile from the context itself rather than the resolved data so pointers reuse the cached model and its analyses
+        PureModel pureModel = this.modelManager.loadModel(input.model, input.clientVersion, identity, null);
         PackageableElement dataSpaceProtocol = pureModelContextData.getElements().stream().filter(el -> input.dataSpace.equals(el.getPath())).findFirst().orElse(null);
         Assert.assertTrue(dataSpaceProtocol instanceof DataSpace, () -> "Can't find data space '" + input.dataSpace + "'");
         Root_meta_pure_metamodel_dataSpace_DataSpace dataSpace = HelperDataSpaceBuilder.getDataSpace(input.dataSpace, null, pureModel.getContext());
@@ -97,7 +98,9 @@ public class DataSpaceAnalytics
         {
             try
             {
-                return ManageConstantResult.manageResult(identity.getName(), DataSpaceAnalyticsHelper.analyzeDataSpace(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion, this.generatorExtensions, this.entitlementServiceExtensions, false), objectMapper);
+                return ManageConstantResult.manageResult(identity.getName(), this.modelManager.pureModelScopedCache.get(pureModel,
+                        () -> DataSpaceAnalyticsHelper.analyzeDataSpace(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion, this.generatorExtensions, this.entitlementServiceExtensions, false),
+                        "dataSpaceRender", input.dataSpace, input.clientVersion), objectMapper);
             }
             catch (Exception e)
             {
@@ -116,7 +119,8 @@ public class DataSpaceAnalytics
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(pm);
         Identity identity = Identity.makeIdentity(profiles);
         PureModelContextData pureModelContextData = this.modelManager.loadData(input.model, input.clientVersion, identity);
-        PureModel pureModel = this.modelManager.loadModel(pureModelContextData, input.clientVersion, identity, null);
+        // compile from the context itself rather than the resolved data so pointers reuse the cached model and its analyses
+        PureModel pureModel = this.modelManager.loadModel(input.model, input.clientVersion, identity, null);
         PackageableElement dataSpaceProtocol = pureModelContextData.getElements().stream().filter(el -> input.dataSpace.equals(el.getPath())).findFirst().orElse(null);
         Assert.assertTrue(dataSpaceProtocol instanceof DataSpace, () -> "Can't find data space '" + input.dataSpace + "'");
         Root_meta_pure_metamodel_dataSpace_DataSpace dataSpace = HelperDataSpaceBuilder.getDataSpace(input.dataSpace, null, pureModel.getContext());
@@ -125,7 +129,9 @@ public class DataSpaceAnalytics
         {
             try
             {
-                return ManageConstantResult.manageResult(identity.getName(), DataSpaceAnalyticsHelper.analyzeDataSpaceCoverage(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion, this.generatorExtensions, this.entitlementServiceExtensions, true), objectMapper);
+                return ManageConstantResult.manageResult(identity.getName(), this.modelManager.pureModelScopedCache.get(pureModel,
+                        () -> DataSpaceAnalyticsHelper.analyzeDataSpaceCoverage(dataSpace, pureModel, (DataSpace) dataSpaceProtocol, pureModelContextData, input.clientVersion, this.generatorExtensions, this.entitlementServiceExtensions, true),
+                        "dataSpaceCoverage", input.dataSpace, input.clientVersion), objectMapper);
             }
             catch (Exception e)
             {
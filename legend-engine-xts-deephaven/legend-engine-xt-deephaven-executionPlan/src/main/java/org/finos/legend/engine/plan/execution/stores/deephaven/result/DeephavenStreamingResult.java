@@ -35,10 +35,17 @@ public class DeephavenStreamingResult extends Result
         return new StreamBuilder();
     }
 
+    @Override
+    public boolean isStreamed()
+    {
+        return true;
+    }
+
     @Override
     public void close()
     {
         // No resources to close
+        super.close();
     }
 
     @Override
@@ -34,6 +34,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -55,6 +63,7 @@ import org.eclipse.collections.impl.lazy.iterator.CollectIterator;
 import org.eclipse.collections.impl.lazy.iterator.FlatCollectIterator;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeTDSResultHelper;
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
@@ -109,6 +118,14 @@ import org.slf4j.Logger;
 public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ExecutionRequestVisitor.class);
+    private static final int MAX_PREFETCH_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    // bounded and without queue: when all threads are busy, the next page is fetched when it is needed instead
+    private static final ExecutorService PREFETCH_EXECUTOR = new ThreadPoolExecutor(0, MAX_PREFETCH_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable ->
+    {
+        Thread thread = new Thread(runnable, "elasticsearch-v7-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final HttpClient client;
     private final HttpClientContext httpClientContext;
@@ -628,6 +645,9 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         private InputStream currInputStream = EmptyInputStream.INSTANCE;
         private MultiBucketBase lastBucket = null;
         private long totalBuckets = 0L;
+        // request of the next composite page, only recorded as an activity once the page is consumed
+        private HttpUriRequest nextCompositePageRequest = null;
+        private Future<CompositePage> nextCompositePage = null;
 
         private ElasticsearchResultSpliterator(SearchRequest searchRequest, List<ExecutionActivity> activities)
         {
@@ -644,6 +664,8 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         {
             if (!this.closed)
             {
+                ExecutionRequestVisitor.this.executionState.getCancellationToken().throwIfCancelled();
+
                 // close previous, just in case...
                 this.closeCurrentInputStream();
 
@@ -667,28 +689,8 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 
                         if (aggregationContainer.composite != null)
                         {
-                            next = true; // only composite aggregation can handle multiple request
-
-                            if (!activities.isEmpty())
-                            {
-                                // we called once already, check if we need to call again
-                                if (this.totalBuckets == MAX_COMPOSITE_BUCKETS_PER_REQUEST)
-                                {
-                                    // reset
-                                    this.totalBuckets = 0L;
-                                    // search after last bucket
-                                    aggregationContainer.composite.after = ((CompositeBucket) this.lastBucket).key;
-                                }
-                                else
-                                {
-                                    return false; // if we got less than requested, we are done...
-                                }
-                            }
-                            else
-                            {
-                                Assert.assertTrue(aggregationContainer.composite.size == null, () -> "Limit/Take on group by not supported yet");
-                                aggregationContainer.composite.size = LiteralOrExpression.literal(MAX_COMPOSITE_BUCKETS_PER_REQUEST);
-                            }
+                            // only composite aggregation can handle multiple request
+                            return this.tryAdvanceComposite(aggregationContainer, action);
                         }
                         else if (aggregationContainer.terms != null)
                         {
@@ -734,19 +736,11 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
                     return false;
                 }
 
-                HttpUriRequest request = this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
-                String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
-
-                ElasticsearchV7ExecutionActivity executionActivity = new ElasticsearchV7ExecutionActivity(request.getURI(), query);
-                this.activities.add(executionActivity);
-
-                Span span = GlobalTracer.get().buildSpan("Elasticsearch Request Execution").start();
-                try (Scope ignore = GlobalTracer.get().activateSpan(span))
+                boolean hasNext = next;
+                HttpUriRequest request = this.toHttpRequest();
+                return this.execute(request, (inputStream, span) ->
                 {
-                    span.log(Collections.singletonMap("query", query));
-                    long start = System.currentTimeMillis();
-                    LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_START, ExecutionRequestVisitor.this.executionState.authId, query));
-                    this.currInputStream = ExecutionRequestVisitor.this.post(request, span, start);
+                    this.currInputStream = inputStream;
 
                     JsonParser parser = toResponseBodyJsonParser(this.currInputStream, span);
 
@@ -754,26 +748,165 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 
                     action.accept(StreamSupport.stream(Spliterators.spliteratorUnknownSize(stream, Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED), false));
 
-                    return next;
+                    return hasNext;
+                });
+            }
+            else
+            {
+                return false;
+            }
+        }
+
+        private boolean tryAdvanceComposite(AggregationContainer aggregationContainer, Consumer<? super Stream<Object[]>> action)
+        {
+            HttpUriRequest pageRequest = this.nextCompositePageRequest;
+            Future<CompositePage> page = this.nextCompositePage;
+            this.nextCompositePageRequest = null;
+            this.nextCompositePage = null;
+
+            if (pageRequest == null)
+            {
+                if (!this.activities.isEmpty())
+                {
+                    return false; // if we got less than requested, we are done...
+                }
+
+                Assert.assertTrue(aggregationContainer.composite.size == null, () -> "Limit/Take on group by not supported yet");
+                aggregationContainer.composite.size = LiteralOrExpression.literal(MAX_COMPOSITE_BUCKETS_PER_REQUEST);
+                HttpUriRequest request = this.toHttpRequest();
+                page = CompletableFuture.completedFuture(this.fetchCompositePage(request));
+            }
+            else
+            {
+                this.recordActivity(pageRequest);
+                if (page == null)
+                {
+                    page = CompletableFuture.completedFuture(this.fetchCompositePage(pageRequest));
                 }
-                catch (Exception e)
+            }
+
+            CompositePage currentPage = this.awaitCompositePage(page);
+
+            // a full page means there may be more buckets: request the next page while the caller consumes this one
+            if (currentPage.totalBuckets == MAX_COMPOSITE_BUCKETS_PER_REQUEST)
+            {
+                // search after last bucket
+                aggregationContainer.composite.after = ((CompositeBucket) currentPage.lastBucket).key;
+                HttpUriRequest request = this.buildHttpRequest();
+                this.nextCompositePageRequest = request;
+                try
                 {
-                    throw new EngineException("Error while executing query: " + query, e, ExceptionCategory.USER_EXECUTION_ERROR);
+                    this.nextCompositePage = PREFETCH_EXECUTOR.submit(() -> this.fetchCompositePage(request));
                 }
-                finally
+                catch (RejectedExecutionException ignore)
                 {
-                    span.finish();
+                    // no prefetch thread available, the page is fetched on the next advance
                 }
             }
-            else
+
+            action.accept(currentPage.rows.stream());
+            return true;
+        }
+
+        private CompositePage fetchCompositePage(HttpUriRequest request)
+        {
+            return this.execute(request, (inputStream, span) ->
             {
-                return false;
+                // the page is bounded to MAX_COMPOSITE_BUCKETS_PER_REQUEST buckets, so read it fully and release the connection
+                try (InputStream ignore = inputStream)
+                {
+                    CompositePage page = new CompositePage();
+                    JsonParser parser = toResponseBodyJsonParser(inputStream, span);
+                    Iterator<Object[]> rows = ExecutionRequestVisitor.this.processAggregateResponse(this.searchRequest, parser, span, b ->
+                    {
+                        page.lastBucket = b;
+                        page.totalBuckets++;
+                    });
+                    rows.forEachRemaining(page.rows::add);
+                    return page;
+                }
+            });
+        }
+
+        private CompositePage awaitCompositePage(Future<CompositePage> page)
+        {
+            try
+            {
+                return page.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new EngineException("Interrupted while waiting for Elasticsearch response", e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof EngineException)
+                {
+                    throw (EngineException) e.getCause();
+                }
+                throw new EngineException("Error while executing query", e.getCause(), ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+        }
+
+        private HttpUriRequest toHttpRequest()
+        {
+            HttpUriRequest request = this.buildHttpRequest();
+            this.recordActivity(request);
+            return request;
+        }
+
+        private HttpUriRequest buildHttpRequest()
+        {
+            return this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
+        }
+
+        private void recordActivity(HttpUriRequest request)
+        {
+            String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
+
+            ElasticsearchV7ExecutionActivity executionActivity = new ElasticsearchV7ExecutionActivity(request.getURI(), query);
+            this.activities.add(executionActivity);
+        }
+
+        private <T> T execute(HttpUriRequest request, ThrowingFunction2<InputStream, Span, T> responseHandler)
+        {
+            String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
+            // cancelling the execution aborts the request, failing the wait for (or the read of) its response
+            CancellationToken cancellationToken = ExecutionRequestVisitor.this.executionState.getCancellationToken();
+            cancellationToken.throwIfCancelled();
+            Runnable abort = request::abort;
+            cancellationToken.addCancelListener(abort);
+            Span span = GlobalTracer.get().buildSpan("Elasticsearch Request Execution").start();
+            try (Scope ignore = GlobalTracer.get().activateSpan(span))
+            {
+                span.log(Collections.singletonMap("query", query));
+                long start = System.currentTimeMillis();
+                LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_START, ExecutionRequestVisitor.this.executionState.authId, query));
+                InputStream inputStream = ExecutionRequestVisitor.this.post(request, span, start);
+                return responseHandler.safeValue(inputStream, span);
+            }
+            catch (Exception e)
+            {
+                cancellationToken.throwIfCancelled();
+                throw new EngineException("Error while executing query: " + query, e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+            finally
+            {
+                cancellationToken.removeCancelListener(abort);
+                span.finish();
             }
         }
 
         public void close()
         {
             closeCurrentInputStream();
+            if (this.nextCompositePage != null)
+            {
+                this.nextCompositePage.cancel(true);
+                this.nextCompositePage = null;
+            }
+            this.nextCompositePageRequest = null;
             this.closed = true;
         }
 
@@ -789,4 +922,11 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
             }
         }
     }
+
+    private static class CompositePage
+    {
+        private final List<Object[]> rows = Lists.mutable.empty();
+        private MultiBucketBase lastBucket = null;
+        private long totalBuckets = 0L;
+    }
 }
@@ -0,0 +1,264 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.TDSResult;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.Elasticsearch7RequestExecutionNode;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.tds.TDSColumnResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.executionPlan.tds.TDSMetadata;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.AggregateResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.DocCountAggregateResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.ResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.SourceFieldResultPath;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.ElasticsearchObjectMapperProvider;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.LiteralOrExpression;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequestBody;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AggregationContainer;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.CompositeAggregation;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestExecutionRequestVisitor
+{
+    private static final int PAGE_SIZE = 1000;
+
+    @Test
+    public void testCompositeAggregationFetchesAllPages()
+    {
+        StubElasticsearchClient client = new StubElasticsearchClient(2_500, false);
+        TDSResult result = this.execute(client);
+
+        List<Object[]> rows = result.rowsStream().collect(Collectors.toList());
+        result.close();
+
+        Assert.assertEquals(2_500, rows.size());
+        Assert.assertEquals(Arrays.asList("k00000", 1L), Arrays.asList(rows.get(0)));
+        Assert.assertEquals(Arrays.asList("k02499", 1L), Arrays.asList(rows.get(2_499)));
+        Assert.assertEquals(3, client.requests.get());
+        Assert.assertEquals(3, result.activities.size());
+    }
+
+    @Test
+    public void testCancelledPrefetchIsNotRecorded() throws Exception
+    {
+        StubElasticsearchClient client = new StubElasticsearchClient(2_500, true);
+        TDSResult result = this.execute(client);
+
+        Iterator<Object[]> rows = result.rowsStream().iterator();
+        Assert.assertEquals("k00000", rows.next()[0]);
+        Assert.assertTrue(client.prefetchStarted.await(10, TimeUnit.SECONDS));
+
+        result.close();
+
+        Assert.assertTrue(client.prefetchInterrupted.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, client.requests.get());
+        Assert.assertEquals(1, result.activities.size());
+    }
+
+    @Test
+    public void testCancellingExecutionAbortsRequestInFlight() throws Exception
+    {
+        StubElasticsearchClient client = new StubElasticsearchClient(2_500, true);
+        ExecutionState executionState = new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList());
+        TDSResult result = this.execute(client, executionState);
+
+        Iterator<Object[]> rows = result.rowsStream().iterator();
+        Assert.assertEquals("k00000", rows.next()[0]);
+        Assert.assertTrue(client.prefetchStarted.await(10, TimeUnit.SECONDS));
+
+        executionState.getCancellationToken().cancel();
+
+        Assert.assertTrue(client.prefetchAborted.await(10, TimeUnit.SECONDS));
+        // the rows of the first page are already read, the next page is not fetched
+        EngineException e = Assert.assertThrows(EngineException.class, () -> rows.forEachRemaining(row ->
+        {
+        }));
+        Assert.assertEquals("Execution cancelled", e.getMessage());
+        Assert.assertEquals(2, client.requests.get());
+        result.close();
+    }
+
+    private TDSResult execute(StubElasticsearchClient client)
+    {
+        return this.execute(client, new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    private TDSResult execute(StubElasticsearchClient client, ExecutionState executionState)
+    {
+        Elasticsearch7RequestExecutionNode node = new Elasticsearch7RequestExecutionNode();
+        TDSResultType resultType = new TDSResultType();
+        resultType.tdsColumns = Arrays.asList(new TDSColumn("key", "String"), new TDSColumn("count", "Integer"));
+        node.resultType = resultType;
+
+        SourceFieldResultPath sourceField = new SourceFieldResultPath();
+        sourceField.fieldPath = Collections.singletonList("key");
+        AggregateResultPath keyPath = new AggregateResultPath();
+        keyPath.fieldPath = Collections.singletonList("key");
+        keyPath.fieldToAggregate = sourceField;
+        DocCountAggregateResultPath countPath = new DocCountAggregateResultPath();
+        countPath.fieldPath = Collections.singletonList("count");
+        TDSMetadata metadata = new TDSMetadata();
+        metadata.columnResultPaths = Arrays.asList(columnResultPath(keyPath), columnResultPath(countPath));
+        node.metadata = metadata;
+
+        AggregationContainer aggregation = new AggregationContainer();
+        aggregation.composite = new CompositeAggregation();
+        SearchRequest request = new SearchRequest();
+        request.index = Collections.singletonList(LiteralOrExpression.literal("index"));
+        request.body = new SearchRequestBody();
+        request.body.aggregations = Collections.singletonMap("groupBy", aggregation);
+
+        ExecutionRequestVisitor visitor = new ExecutionRequestVisitor(client, HttpClientContext.create(), URI.create("http://localhost:9200"), node, executionState);
+        return (TDSResult) request.accept(visitor);
+    }
+
+    private static TDSColumnResultPath columnResultPath(ResultPath path)
+    {
+        TDSColumnResultPath columnResultPath = new TDSColumnResultPath();
+        columnResultPath.resultPath = path;
+        return columnResultPath;
+    }
+
+    private static class StubElasticsearchClient extends CloseableHttpClient
+    {
+        private final int buckets;
+        private final boolean blockPrefetch;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final CountDownLatch prefetchStarted = new CountDownLatch(1);
+        private final CountDownLatch prefetchInterrupted = new CountDownLatch(1);
+        private final CountDownLatch prefetchAborted = new CountDownLatch(1);
+        private final AtomicBoolean first = new AtomicBoolean(true);
+
+        private StubElasticsearchClient(int buckets, boolean blockPrefetch)
+        {
+            this.buckets = buckets;
+            this.blockPrefetch = blockPrefetch;
+        }
+
+        @Override
+        protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException
+        {
+            this.requests.incrementAndGet();
+            JsonNode body = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readTree(EntityUtils.toString(((HttpEntityEnclosingRequest) request).getEntity()));
+            JsonNode after = body.path("aggregations").path("groupBy").path("composite").path("after").path("key");
+            int start = after.isMissingNode() ? 0 : Integer.parseInt(after.asText().substring(1)) + 1;
+
+            if (this.blockPrefetch && !this.first.getAndSet(false))
+            {
+                // blocks until the request is aborted or the prefetch thread is interrupted
+                ((HttpRequestBase) request).setCancellable(() ->
+                {
+                    this.prefetchAborted.countDown();
+                    return true;
+                });
+                this.prefetchStarted.countDown();
+                try
+                {
+                    if (this.prefetchAborted.await(10, TimeUnit.SECONDS))
+                    {
+                        throw new IOException("Request aborted");
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    this.prefetchInterrupted.countDown();
+                    throw new InterruptedIOException();
+                }
+            }
+
+            StringBuilder bucketsJson = new StringBuilder();
+            int end = Math.min(start + PAGE_SIZE, this.buckets);
+            for (int i = start; i < end; i++)
+            {
+                bucketsJson.append(i == start ? "" : ",").append(String.format("{\"key\":{\"key\":\"k%05d\"},\"doc_count\":1}", i));
+            }
+            String response = "{\"took\":1,\"timed_out\":false," +
+                    "\"hits\":{\"total\":{\"value\":" + this.buckets + ",\"relation\":\"eq\"}}," +
+                    "\"aggregations\":{\"composite#groupBy\":{\"buckets\":[" + bucketsJson + "]}}}";
+
+            StubResponse httpResponse = new StubResponse();
+            httpResponse.setEntity(new StringEntity(response, ContentType.APPLICATION_JSON));
+            return httpResponse;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        @Deprecated
+        public HttpParams getParams()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @Deprecated
+        public ClientConnectionManager getConnectionManager()
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class StubResponse extends BasicHttpResponse implements CloseableHttpResponse
+    {
+        private StubResponse()
+        {
+            super(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.finos.legend.engine.external.language.java.generation;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.generated.Root_meta_external_language_java_metamodel_Class;
 import org.finos.legend.pure.generated.Root_meta_external_language_java_metamodel_project_Project;
 import org.finos.legend.pure.generated.Root_meta_external_language_java_metamodel_project_ProjectDirectory;
@@ -35,6 +36,8 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.support
 import org.finos.legend.pure.runtime.java.compiled.metadata.ClassCache;
 import org.finos.legend.pure.runtime.java.compiled.metadata.FunctionCache;
 import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -42,10 +45,21 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class GenerateJavaProject
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerateJavaProject.class);
+
     private final String outputDirectory;
+    private final ClassLoader classLoader;
     private final CompiledExecutionSupport executionSupport;
 
     protected GenerateJavaProject(String outputDirectory)
@@ -53,6 +67,7 @@ public abstract class GenerateJavaProject
         this.outputDirectory = outputDirectory;
 
         ClassLoader classLoader = Pure.class.getClassLoader();
+        this.classLoader = classLoader;
         this.executionSupport = new CompiledExecutionSupport(
                 new JavaCompilerState(null, classLoader),
                 new CompiledProcessorSupport(classLoader, MetadataLazy.fromClassLoader(classLoader, CodeRepositoryProviderHelper.findCodeRepositories(classLoader).collect(CodeRepository::getName)), Sets.mutable.empty()),
@@ -73,6 +88,7 @@ public abstract class GenerateJavaProject
 
     public void execute()
     {
+        long start = System.nanoTime();
         Root_meta_external_language_java_metamodel_project_Project project = doExecute(executionSupport);
         Root_meta_external_language_java_serialization_Stringifier stringifier = core_external_language_java_metamodel_serialization.Root_meta_external_language_java_serialization_newStringifier_Project_1__Stringifier_1_(project, executionSupport);
 
@@ -80,39 +96,117 @@ public abstract class GenerateJavaProject
                 ._subdirectories().detect(sd -> "src".equals(sd._name()))
                 ._subdirectories().detect(sd -> "main".equals(sd._name()))
                 ._subdirectories().detect(sd -> "java".equals(sd._name()));
-        javaDir._subdirectories().forEach(dir -> processDir(dir, Paths.get(outputDirectory), stringifier));
+        MutableList<Path> paths = Lists.mutable.empty();
+        MutableList<Root_meta_external_language_java_metamodel_Class> classes = Lists.mutable.empty();
+        javaDir._subdirectories().forEach(dir -> collectClasses(dir, Paths.get(outputDirectory), paths, classes));
+        start = reportPhase("Project generation", classes.size() + " classes", start);
+
+        List<String> code = serializeClasses(classes, stringifier);
+        start = reportPhase("Serialization", classes.size() + " classes", start);
+
+        int written = 0;
+        for (int i = 0; i < classes.size(); i++)
+        {
+            if (writeIfChanged(paths.get(i), code.get(i)))
+            {
+                written++;
+            }
+        }
+        reportPhase("Write", written + " files written, " + (classes.size() - written) + " unchanged", start);
     }
 
     protected abstract Root_meta_external_language_java_metamodel_project_Project doExecute(CompiledExecutionSupport executionSupport);
 
-    private void processDir(Root_meta_external_language_java_metamodel_project_ProjectDirectory directory, Path dirPath, Root_meta_external_language_java_serialization_Stringifier stringifier)
+    private void collectClasses(Root_meta_external_language_java_metamodel_project_ProjectDirectory directory, Path dirPath, MutableList<Path> paths, MutableList<Root_meta_external_language_java_metamodel_Class> classes)
     {
-        try
+        Path newDirPath = dirPath.resolve(directory._name());
+        directory._classes().forEach(cls ->
         {
-            Path newDirPath = dirPath.resolve(directory._name());
-            Files.createDirectories(newDirPath);
-
-            directory._classes().forEach(cls -> writeClass(cls, newDirPath, stringifier));
+            paths.add(newDirPath.resolve(cls._simpleName() + ".java"));
+            classes.add(cls);
+        });
+        directory._subdirectories().forEach(dir -> collectClasses(dir, newDirPath, paths, classes));
+    }
 
-            directory._subdirectories().forEach(dir -> processDir(dir, newDirPath, stringifier));
+    // Classes are serialized independently of each other, results are kept in the order of the project.
+    // The execution support is shared by the workers the way the execution support of a PureModel is shared by the
+    // concurrent requests of a server: compiled Pure functions only look up the lazily loaded metadata through it.
+    private List<String> serializeClasses(MutableList<Root_meta_external_language_java_metamodel_Class> classes, Root_meta_external_language_java_serialization_Stringifier stringifier)
+    {
+        int parallelism = Math.max(1, Math.min(classes.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r ->
+        {
+            Thread thread = new Thread(r, "java-project-serialization-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            // generated Pure code is resolved through the context class loader, which for threads of the common pool
+            // is the system one: it does not see the classes when the generation runs in a build plugin
+            thread.setContextClassLoader(this.classLoader);
+            return thread;
+        });
+        try
+        {
+            MutableList<Future<String>> futures = classes.collect(cls -> executor.submit(() -> serializeClass(cls, stringifier)));
+            MutableList<String> code = Lists.mutable.ofInitialCapacity(classes.size());
+            for (Future<String> future : futures)
+            {
+                code.add(future.get());
+            }
+            return code;
         }
-        catch (IOException e)
+        catch (InterruptedException e)
         {
-            throw new UncheckedIOException(e);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        finally
+        {
+            executor.shutdownNow();
         }
     }
 
-    private void writeClass(Root_meta_external_language_java_metamodel_Class cls, Path dirPath, Root_meta_external_language_java_serialization_Stringifier stringifier)
+    private String serializeClass(Root_meta_external_language_java_metamodel_Class cls, Root_meta_external_language_java_serialization_Stringifier stringifier)
+    {
+        return core_external_language_java_metamodel_serialization.Root_meta_external_language_java_serialization_ofClass_Stringifier_1__Class_1__String_1_(stringifier, core_external_language_java_metamodel_factories.Root_meta_external_language_java_factory_inferImports_Class_1__Class_1_(cls, executionSupport), executionSupport);
+    }
+
+    // Files whose content did not change are left untouched, so that their timestamp does not trigger recompilation
+    private boolean writeIfChanged(Path javaFilePath, String code)
     {
         try
         {
-            Path javaFilePath = dirPath.resolve(cls._simpleName() + ".java");
-            String code = core_external_language_java_metamodel_serialization.Root_meta_external_language_java_serialization_ofClass_Stringifier_1__Class_1__String_1_(stringifier, core_external_language_java_metamodel_factories.Root_meta_external_language_java_factory_inferImports_Class_1__Class_1_(cls, executionSupport), executionSupport);
-            Files.write(javaFilePath, code.getBytes(StandardCharsets.UTF_8));
+            byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+            if (Files.exists(javaFilePath) && Arrays.equals(bytes, Files.readAllBytes(javaFilePath)))
+            {
+                return false;
+            }
+            Files.createDirectories(javaFilePath.getParent());
+            Files.write(javaFilePath, bytes);
+            return true;
         }
         catch (IOException e)
         {
             throw new UncheckedIOException(e);
         }
     }
+
+    private long reportPhase(String phase, String details, long start)
+    {
+        long end = System.nanoTime();
+        LOGGER.info("{}: {} in {}ms", phase, details, TimeUnit.NANOSECONDS.toMillis(end - start));
+        return end;
+    }
 }
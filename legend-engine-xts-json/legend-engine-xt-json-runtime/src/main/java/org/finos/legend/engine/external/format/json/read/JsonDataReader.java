@@ -34,9 +34,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
@@ -51,6 +53,17 @@ import java.util.stream.StreamSupport;
 
 public abstract class JsonDataReader<T>
 {
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper BIG_DECIMAL_OBJECT_MAPPER = new ObjectMapper().configure(com.fasterxml.jackson.databind.DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
+    private static final ClassValue<Set<String>> DECLARED_METHOD_NAMES = new ClassValue<Set<String>>()
+    {
+        @Override
+        protected Set<String> computeValue(Class<?> type)
+        {
+            return Collections.unmodifiableSet(Arrays.stream(type.getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet()));
+        }
+    };
+
     private  JsonParser parser;
     private  ObjectMapper objectMapper;
 
@@ -63,7 +76,8 @@ public abstract class JsonDataReader<T>
     private JsonNode nextNode;
 
     private final Queue<IChecked<T>> queue = new LinkedList<>();
-    private final Set<String> declaredMethods = Arrays.stream(this.getClass().getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+    private final Set<String> declaredMethods = DECLARED_METHOD_NAMES.get(this.getClass());
+    private final Map<String, Method> readMethods = new HashMap<>();
 
     public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
     {
@@ -79,11 +93,7 @@ public abstract class JsonDataReader<T>
                 this.parser = baseParser;
             }
 
-            this.objectMapper = new ObjectMapper();
-            if (useBigDecimalForFloats)
-            {
-                this.objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
-            }
+            this.objectMapper = useBigDecimalForFloats ? BIG_DECIMAL_OBJECT_MAPPER : DEFAULT_OBJECT_MAPPER;
         }
         catch (IOException e)
         {
@@ -173,7 +183,7 @@ public abstract class JsonDataReader<T>
         {
             this.recordCount++;
             JsonNode node = this.objectMapper.readValue(this.parser, JsonNode.class);
-            return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node.toString())));
+            return Collections.singleton(readCheckedObject(node, JsonDataRecord.deferred(this.recordCount, node)));
         }
         catch (IOException e)
         {
@@ -263,21 +273,24 @@ public abstract class JsonDataReader<T>
 
     protected Object readMethodInvoke(String name, JsonNode node)
     {
-        Method m;
+        Method m = this.readMethods.computeIfAbsent(name, this::findReadMethod);
         try
         {
-            m = this.getClass().getMethod(name, JsonNode.class);
+            return m.invoke(this, node);
         }
-        catch (NoSuchMethodException e)
+        catch (IllegalAccessException | InvocationTargetException e)
         {
             throw new RuntimeException(e.getMessage());
         }
+    }
 
+    private Method findReadMethod(String name)
+    {
         try
         {
-            return m.invoke(this, node);
+            return this.getClass().getMethod(name, JsonNode.class);
         }
-        catch (IllegalAccessException | InvocationTargetException e)
+        catch (NoSuchMethodException e)
         {
             throw new RuntimeException(e.getMessage());
         }
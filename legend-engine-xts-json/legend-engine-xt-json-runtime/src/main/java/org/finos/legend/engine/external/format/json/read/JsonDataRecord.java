@@ -21,6 +21,7 @@ public class JsonDataRecord
     private final long number;
     private String record;
     private JsonNode jsonNode;
+    private boolean deferRecord;
 
     public JsonDataRecord(long number, String record)
     {
@@ -34,6 +35,17 @@ public class JsonDataRecord
         this.jsonNode = jsonNode;
     }
 
+    /**
+     * Creates a record whose source text is only rendered from the parsed node when it is
+     * first requested (e.g. when a defect or constraint needs to report the source record).
+     */
+    public static JsonDataRecord deferred(long number, JsonNode jsonNode)
+    {
+        JsonDataRecord result = new JsonDataRecord(number, jsonNode);
+        result.deferRecord = true;
+        return result;
+    }
+
     public long getNumber()
     {
         return number;
@@ -41,6 +53,11 @@ public class JsonDataRecord
 
     public String getRecord()
     {
+        if (this.deferRecord)
+        {
+            this.record = this.jsonNode.toString();
+            this.deferRecord = false;
+        }
         return record;
     }
 
@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.json.read.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.finos.legend.engine.external.format.json.read.JsonDataReader;
+import org.finos.legend.engine.external.format.json.read.JsonDataRecord;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestJsonDataReader
+{
+    @Test
+    public void testDefectsReportTheSourceRecord()
+    {
+        String json = "[{\"name\": \"Acme\"},\n  {\"ranking\" : 1, \"offices\": [\"London\", \"New York\"]}]";
+        List<IChecked<String>> firms = new FirmReader(json).startStream().collect(Collectors.toList());
+
+        Assert.assertEquals(2, firms.size());
+        Assert.assertEquals("Acme", firms.get(0).getValue());
+        Assert.assertEquals(Collections.emptyList(), firms.get(0).getDefects());
+
+        Assert.assertNull(firms.get(1).getValue());
+        Assert.assertEquals("name is missing", firms.get(1).getDefects().get(0).getMessage());
+        // the record is rendered once the defect asks for it, after the reader has moved on
+        JsonDataRecord source = (JsonDataRecord) firms.get(1).getSource();
+        Assert.assertEquals(2, source.getNumber());
+        Assert.assertEquals("{\"ranking\":1,\"offices\":[\"London\",\"New York\"]}", source.getRecord());
+        Assert.assertSame(source.getRecord(), source.getRecord());
+    }
+
+    @Test
+    public void testReadMethodsAreResolvedPerReader() throws Exception
+    {
+        JsonNode node = new ObjectMapper().readTree("{\"name\": \"x\"}");
+        FirmReader firmReader = new FirmReader("{}");
+        OtherReader otherReader = new OtherReader("{}");
+
+        Assert.assertTrue(firmReader.hasReadMethod("read_Person"));
+        Assert.assertFalse(firmReader.hasReadMethod("read_Animal"));
+        Assert.assertTrue(otherReader.hasReadMethod("read_Animal"));
+
+        // readers of different classes declaring the same read method each call their own, whichever resolved it first
+        Assert.assertEquals("firm person x", firmReader.read("read_Person", node));
+        Assert.assertEquals("other person x", otherReader.read("read_Person", node));
+        Assert.assertEquals("other animal x", otherReader.read("read_Animal", node));
+        Assert.assertEquals("firm person x", new FirmReader("{}").read("read_Person", node));
+        Assert.assertEquals("firm person x", firmReader.read("read_Person", node));
+        Assert.assertEquals("other person x", otherReader.read("read_Person", node));
+    }
+
+    public abstract static class TestReader extends JsonDataReader<String>
+    {
+        TestReader(String json)
+        {
+            super(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), false, null);
+        }
+
+        @Override
+        protected IChecked<String> readCheckedObject(JsonNode node, JsonDataRecord source)
+        {
+            JsonNode name = node.get("name");
+            return name == null
+                    ? BasicChecked.newChecked(null, source, BasicDefect.newInvalidInputErrorDefect("name is missing", "test::Firm"))
+                    : BasicChecked.newChecked(name.asText(), source);
+        }
+
+        public boolean hasReadMethod(String name)
+        {
+            return this.readMethodExists(name);
+        }
+
+        public Object read(String name, JsonNode node)
+        {
+            return this.readMethodInvoke(name, node);
+        }
+    }
+
+    public static class FirmReader extends TestReader
+    {
+        FirmReader(String json)
+        {
+            super(json);
+        }
+
+        public Object read_Person(JsonNode node)
+        {
+            return "firm person " + node.get("name").asText();
+        }
+    }
+
+    public static class OtherReader extends TestReader
+    {
+        OtherReader(String json)
+        {
+            super(json);
+        }
+
+        public Object read_Person(JsonNode node)
+        {
+            return "other person " + node.get("name").asText();
+        }
+
+        public Object read_Animal(JsonNode node)
+        {
+            return "other animal " + node.get("name").asText();
+        }
+    }
+}
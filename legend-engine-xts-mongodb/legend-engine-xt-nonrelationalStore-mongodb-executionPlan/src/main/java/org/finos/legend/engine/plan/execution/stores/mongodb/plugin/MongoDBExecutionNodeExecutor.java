@@ -28,6 +28,7 @@ import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.ExecutionNodeJavaPlatformHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
@@ -106,7 +107,14 @@ public class MongoDBExecutionNodeExecutor implements ExecutionNodeVisitor<Result
 
             CredentialProviderProvider credentialProviderProvider = ((MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB)).getStoreExecutionConfiguration().getCredentialProviderProvider();
 
-            return new MongoDBExecutor(credentialProviderProvider).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity);
+            MongoDBResult result = new MongoDBExecutor(credentialProviderProvider).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity);
+
+            // cancelling the execution closes the client, which fails the read the cursor is blocked on
+            CancellationToken cancellationToken = this.executionState.getCancellationToken();
+            Runnable closeClient = result::closeClient;
+            cancellationToken.addCancelListener(closeClient);
+            result.addCloseListener(() -> cancellationToken.removeCancelListener(closeClient));
+            return result;
         }
         catch (IOException e)
         {
@@ -146,7 +154,7 @@ public class MongoDBExecutionNodeExecutor implements ExecutionNodeVisitor<Result
             // checked made true and enableConstraints made false as these are incorporated in ExternalFormatRuntime centrally
             StoreStreamReadingObjectsIterator<?> storeObjectsIterator = StoreStreamReadingObjectsIterator.newObjectsIterator(specifics.streamReader(mongoDBResult), false, true);
 
-            Stream<?> objectStream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(storeObjectsIterator, Spliterator.ORDERED), false);
+            Stream<?> objectStream = executionState.getCancellationToken().cancellable(StreamSupport.stream(Spliterators.spliteratorUnknownSize(storeObjectsIterator, Spliterator.ORDERED), false));
             return new StreamingObjectResult<>(objectStream, mongoDBResult.getResultBuilder(), mongoDBResult);
         }
         catch (Exception e)
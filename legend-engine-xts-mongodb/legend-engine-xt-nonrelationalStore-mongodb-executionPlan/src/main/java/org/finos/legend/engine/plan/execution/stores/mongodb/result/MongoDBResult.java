@@ -32,6 +32,8 @@ public class MongoDBResult extends Result
 
     private final MongoClient mongoClient;
 
+    private volatile boolean clientClosed = false;
+
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor)
     {
         this(mongoClient, mongoCursor, Collections.emptyList());
@@ -54,10 +56,30 @@ public class MongoDBResult extends Result
         return new StreamBuilder();
     }
 
+    /**
+     * Closes the client, failing any read of the cursor blocked on the server. Used to stop a cancelled execution from
+     * another thread; the cursor cannot be closed once its client is.
+     */
+    public void closeClient()
+    {
+        this.clientClosed = true;
+        this.mongoClient.close();
+    }
+
+    @Override
+    public boolean isStreamed()
+    {
+        return true;
+    }
+
     @Override
     public void close()
     {
-        this.mongoCursor.close();
+        super.close();
+        if (!this.clientClosed)
+        {
+            this.mongoCursor.close();
+        }
         this.mongoClient.close();
     }
 
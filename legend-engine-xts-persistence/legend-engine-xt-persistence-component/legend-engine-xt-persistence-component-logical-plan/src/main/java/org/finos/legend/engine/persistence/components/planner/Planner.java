@@ -57,6 +57,7 @@ import org.finos.legend.engine.persistence.components.util.LockInfoUtils;
 import org.finos.legend.engine.persistence.components.util.LogicalPlanUtils;
 import org.finos.legend.engine.persistence.components.util.MetadataDataset;
 import org.finos.legend.engine.persistence.components.util.MetadataUtils;
+import org.finos.legend.engine.persistence.components.util.StatisticsPlanCombiner;
 import org.finos.legend.engine.persistence.components.util.ValidationCategory;
 
 import java.util.ArrayList;
@@ -449,6 +450,16 @@ public abstract class Planner
         return postRunStatisticsResult;
     }
 
+    /**
+     * The post-run statistics combined into one query per table, see {@link StatisticsPlanCombiner}.
+     * Empty if statistics are not collected or cannot be combined, in which case the plans of
+     * {@link #buildLogicalPlanForPostRunStatistics(Resources)} are to be run one by one.
+     */
+    public Optional<LogicalPlan> buildLogicalPlanForCombinedPostRunStatistics(Resources resources)
+    {
+        return StatisticsPlanCombiner.combine(buildLogicalPlanForPostRunStatistics(resources));
+    }
+
     public Map<DedupAndVersionErrorSqlType, LogicalPlan> buildLogicalPlanForDeduplicationAndVersioningErrorChecks(Resources resources)
     {
         Map<DedupAndVersionErrorSqlType, LogicalPlan> dedupAndVersioningErrorChecks = new HashMap<>();
@@ -0,0 +1,277 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.util;
+
+import org.finos.legend.engine.persistence.components.common.StatisticName;
+import org.finos.legend.engine.persistence.components.logicalplan.LogicalPlan;
+import org.finos.legend.engine.persistence.components.logicalplan.conditions.Condition;
+import org.finos.legend.engine.persistence.components.logicalplan.conditions.Or;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.Dataset;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DatasetReference;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DatasetReferenceImpl;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.Selection;
+import org.finos.legend.engine.persistence.components.logicalplan.operations.Operation;
+import org.finos.legend.engine.persistence.components.logicalplan.values.All;
+import org.finos.legend.engine.persistence.components.logicalplan.values.Case;
+import org.finos.legend.engine.persistence.components.logicalplan.values.DiffBinaryValueOperator;
+import org.finos.legend.engine.persistence.components.logicalplan.values.FieldValue;
+import org.finos.legend.engine.persistence.components.logicalplan.values.FunctionImpl;
+import org.finos.legend.engine.persistence.components.logicalplan.values.FunctionName;
+import org.finos.legend.engine.persistence.components.logicalplan.values.NumericalValue;
+import org.finos.legend.engine.persistence.components.logicalplan.values.ObjectValue;
+import org.finos.legend.engine.persistence.components.logicalplan.values.Pair;
+import org.finos.legend.engine.persistence.components.logicalplan.values.SelectValue;
+import org.finos.legend.engine.persistence.components.logicalplan.values.SumBinaryValueOperator;
+import org.finos.legend.engine.persistence.components.logicalplan.values.Value;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+Combines the statistics plans built per statistic into one query per table.
+
+All the counts taken on the same table (COUNT(*) with a filter, possibly combined with + and -) are computed in a single scan
+using conditional aggregation, restricted to the rows matching any of the filters:
+
+    SELECT stats.count_0 - stats.count_1 as rowsTerminated, stats.count_1 as rowsUpdated, ...
+    FROM (SELECT COALESCE(SUM(CASE WHEN filter_0 THEN 1 ELSE 0 END),0) as count_0, ...
+          FROM table WHERE filter_0 OR filter_1 ...) as stats
+
+Statistics that are not such counts are kept as their own query, and constants are added to the first query.
+Each column of the combined plan is aliased with the name of its statistic.
+*/
+public class StatisticsPlanCombiner
+{
+    private static final String STATS_ALIAS = "stats";
+    private static final String COUNT_FIELD_PREFIX = "count_";
+
+    private final Map<Dataset, TableCounts> countsByTable = new LinkedHashMap<>();
+    private final List<Selection> standaloneSelections = new ArrayList<>();
+    private final List<Value> constants = new ArrayList<>();
+
+    private StatisticsPlanCombiner()
+    {
+    }
+
+    /**
+     * The combined plan for the given statistics plans, or empty if there are none or if any of them is not a single
+     * selection of one field aliased with the name of its statistic.
+     */
+    public static Optional<LogicalPlan> combine(Map<StatisticName, LogicalPlan> statisticsPlans)
+    {
+        if (statisticsPlans.isEmpty())
+        {
+            return Optional.empty();
+        }
+        StatisticsPlanCombiner combiner = new StatisticsPlanCombiner();
+        for (StatisticName statistic : StatisticName.values())
+        {
+            LogicalPlan plan = statisticsPlans.get(statistic);
+            if (plan != null && !combiner.add(statistic, plan))
+            {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(combiner.build());
+    }
+
+    private boolean add(StatisticName statistic, LogicalPlan plan)
+    {
+        if (plan.ops().size() != 1 || !(plan.ops().get(0) instanceof Selection))
+        {
+            return false;
+        }
+        Selection selection = (Selection) plan.ops().get(0);
+        if (!isPlainSelection(selection) || selection.fields().size() != 1 || !selection.fields().get(0).alias().equals(Optional.of(statistic.get())))
+        {
+            return false;
+        }
+
+        Value field = selection.fields().get(0);
+        if (selection.source().isPresent())
+        {
+            if (isCount(selection))
+            {
+                TableCounts tableCounts = countsByTable.computeIfAbsent(selection.source().get(), TableCounts::new);
+                tableCounts.statistics.add(tableCounts.count(selection.condition()).withAlias(field.alias()));
+            }
+            else
+            {
+                standaloneSelections.add(selection);
+            }
+            return true;
+        }
+
+        Set<Dataset> countedTables = new HashSet<>();
+        collectCountedTables(field, countedTables);
+        if (countedTables.isEmpty())
+        {
+            constants.add(field);
+        }
+        else if (countedTables.size() == 1)
+        {
+            TableCounts tableCounts = countsByTable.computeIfAbsent(countedTables.iterator().next(), TableCounts::new);
+            tableCounts.statistics.add(tableCounts.rewrite(field));
+        }
+        else
+        {
+            standaloneSelections.add(selection);
+        }
+        return true;
+    }
+
+    private LogicalPlan build()
+    {
+        List<Operation> operations = new ArrayList<>();
+        for (TableCounts tableCounts : countsByTable.values())
+        {
+            operations.add(tableCounts.toSelection(operations.isEmpty() ? constants : new ArrayList<>()));
+        }
+        if (operations.isEmpty() && !constants.isEmpty())
+        {
+            operations.add(Selection.builder().addAllFields(constants).build());
+        }
+        operations.addAll(standaloneSelections);
+        return LogicalPlan.of(operations);
+    }
+
+    private static void collectCountedTables(Value value, Set<Dataset> tables)
+    {
+        if (value instanceof SelectValue && isCount(((SelectValue) value).selection()))
+        {
+            tables.add(((SelectValue) value).selection().source().get());
+        }
+        else if (value instanceof DiffBinaryValueOperator)
+        {
+            collectCountedTables(((DiffBinaryValueOperator) value).left(), tables);
+            collectCountedTables(((DiffBinaryValueOperator) value).right(), tables);
+        }
+        else if (value instanceof SumBinaryValueOperator)
+        {
+            collectCountedTables(((SumBinaryValueOperator) value).left(), tables);
+            collectCountedTables(((SumBinaryValueOperator) value).right(), tables);
+        }
+    }
+
+    private static boolean isPlainSelection(Selection selection)
+    {
+        return !selection.quantifier().isPresent()
+            && !selection.groupByFields().isPresent()
+            && !selection.havingCondition().isPresent()
+            && !selection.limit().isPresent();
+    }
+
+    private static boolean isCount(Selection selection)
+    {
+        if (!selection.source().isPresent() || !isPlainSelection(selection) || selection.fields().size() != 1 || !(selection.fields().get(0) instanceof FunctionImpl))
+        {
+            return false;
+        }
+        FunctionImpl function = (FunctionImpl) selection.fields().get(0);
+        return function.functionName() == FunctionName.COUNT && function.value().size() == 1 && function.value().get(0) instanceof All;
+    }
+
+    private static class TableCounts
+    {
+        private final Dataset table;
+        private final DatasetReference statsReference = DatasetReferenceImpl.builder().alias(STATS_ALIAS).build();
+        private final List<Optional<Condition>> conditions = new ArrayList<>();
+        private final List<Value> statistics = new ArrayList<>();
+
+        private TableCounts(Dataset table)
+        {
+            this.table = table;
+        }
+
+        private FieldValue count(Optional<Condition> condition)
+        {
+            int index = conditions.indexOf(condition);
+            if (index < 0)
+            {
+                conditions.add(condition);
+                index = conditions.size() - 1;
+            }
+            return FieldValue.builder().datasetRef(statsReference).fieldName(COUNT_FIELD_PREFIX + index).build();
+        }
+
+        private Value rewrite(Value value)
+        {
+            if (value instanceof SelectValue && isCount(((SelectValue) value).selection()))
+            {
+                return count(((SelectValue) value).selection().condition()).withAlias(value.alias());
+            }
+            if (value instanceof DiffBinaryValueOperator)
+            {
+                DiffBinaryValueOperator diff = (DiffBinaryValueOperator) value;
+                return DiffBinaryValueOperator.of(rewrite(diff.left()), rewrite(diff.right())).withAlias(diff.alias());
+            }
+            if (value instanceof SumBinaryValueOperator)
+            {
+                SumBinaryValueOperator sum = (SumBinaryValueOperator) value;
+                return SumBinaryValueOperator.of(rewrite(sum.left()), rewrite(sum.right())).withAlias(sum.alias());
+            }
+            return value;
+        }
+
+        private Selection toSelection(List<Value> additionalFields)
+        {
+            // Only the rows matching one of the filters need to be scanned, unless one of the counts is unfiltered
+            boolean allFiltered = conditions.stream().allMatch(Optional::isPresent);
+            Optional<Condition> whereCondition = Optional.empty();
+            if (allFiltered)
+            {
+                whereCondition = conditions.size() == 1 ? conditions.get(0) : Optional.of(Or.builder().addAllConditions(conditions.stream().map(Optional::get).collect(Collectors.toList())).build());
+            }
+
+            List<Value> countFields = new ArrayList<>();
+            for (int i = 0; i < conditions.size(); i++)
+            {
+                Optional<Condition> condition = conditions.get(i);
+                String alias = COUNT_FIELD_PREFIX + i;
+                if (!condition.isPresent() || (allFiltered && conditions.size() == 1))
+                {
+                    countFields.add(FunctionImpl.builder().functionName(FunctionName.COUNT).addValue(All.INSTANCE).alias(alias).build());
+                }
+                else
+                {
+                    Case matches = Case.builder()
+                        .addConditionValueList(Pair.of(condition.get(), NumericalValue.of(1L)))
+                        .elseValue(NumericalValue.of(0L))
+                        .build();
+                    FunctionImpl sum = FunctionImpl.builder().functionName(FunctionName.SUM).addValue(matches).build();
+                    countFields.add(FunctionImpl.builder().functionName(FunctionName.COALESCE).addValue(sum, ObjectValue.of(0)).alias(alias).build());
+                }
+            }
+
+            Selection counts = Selection.builder()
+                .source(table)
+                .addAllFields(countFields)
+                .condition(whereCondition)
+                .alias(STATS_ALIAS)
+                .build();
+            return Selection.builder()
+                .source(counts)
+                .addAllFields(statistics)
+                .addAllFields(additionalFields)
+                .build();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.finos.legend.engine.persistence.components.relational.api.GeneratorRe
 import org.finos.legend.engine.persistence.components.testcases.ingestmode.unitemporal.UnitmemporalDeltaBatchIdBasedTestCases;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -72,6 +73,15 @@ public class UnitemporalDeltaBatchIdBasedTest extends UnitmemporalDeltaBatchIdBa
         String rowsTerminated = "SELECT 0 as \"rowsTerminated\"";
 
         verifyStats(operations, incomingRecordCount, rowsUpdated, rowsDeleted, rowsInserted, rowsTerminated);
+
+        String combinedStagingStats = "SELECT stats.\"count_0\" as \"incomingRecordCount\",0 as \"rowsTerminated\",0 as \"rowsDeleted\" " +
+                "FROM (SELECT COUNT(*) as \"count_0\" FROM \"mydb\".\"staging\" as stage) as stats";
+        String combinedMainStats = "SELECT stats.\"count_0\"-stats.\"count_1\" as \"rowsInserted\",stats.\"count_1\" as \"rowsUpdated\" " +
+                "FROM (SELECT COALESCE(SUM((CASE WHEN sink.\"batch_id_in\" = (SELECT COALESCE(MAX(batch_metadata.\"table_batch_id\"),0)+1 FROM batch_metadata as batch_metadata WHERE UPPER(batch_metadata.\"table_name\") = 'MAIN') THEN 1 ELSE 0 END)),0) as \"count_0\"," +
+                "COALESCE(SUM((CASE WHEN sink.\"batch_id_out\" = (SELECT COALESCE(MAX(batch_metadata.\"table_batch_id\"),0)+1 FROM batch_metadata as batch_metadata WHERE UPPER(batch_metadata.\"table_name\") = 'MAIN')-1 THEN 1 ELSE 0 END)),0) as \"count_1\" " +
+                "FROM \"mydb\".\"main\" as sink " +
+                "WHERE (sink.\"batch_id_in\" = (SELECT COALESCE(MAX(batch_metadata.\"table_batch_id\"),0)+1 FROM batch_metadata as batch_metadata WHERE UPPER(batch_metadata.\"table_name\") = 'MAIN')) OR (sink.\"batch_id_out\" = (SELECT COALESCE(MAX(batch_metadata.\"table_batch_id\"),0)+1 FROM batch_metadata as batch_metadata WHERE UPPER(batch_metadata.\"table_name\") = 'MAIN')-1)) as stats";
+        Assertions.assertEquals(Arrays.asList(combinedStagingStats, combinedMainStats), operations.postIngestStatisticsCombinedSql());
     }
 
     @Override
@@ -256,6 +266,15 @@ public class UnitemporalDeltaBatchIdBasedTest extends UnitmemporalDeltaBatchIdBa
         Assertions.assertEquals(getExpectedMetadataTableIngestQueryWithUpperCase(), metadataIngestSql.get(0));
         Assertions.assertEquals(lockInitializedUpperCaseQuery, initializeLockSql.get(0));
         Assertions.assertEquals(lockAcquiredUpperCaseQuery, acquireLockSql.get(0));
+
+        String combinedStagingStats = "SELECT stats.\"COUNT_0\" as \"INCOMINGRECORDCOUNT\",0 as \"ROWSTERMINATED\",0 as \"ROWSDELETED\" " +
+                "FROM (SELECT COUNT(*) as \"COUNT_0\" FROM \"MYDB\".\"STAGING\" as stage) as stats";
+        String combinedMainStats = "SELECT stats.\"COUNT_0\"-stats.\"COUNT_1\" as \"ROWSINSERTED\",stats.\"COUNT_1\" as \"ROWSUPDATED\" " +
+                "FROM (SELECT COALESCE(SUM((CASE WHEN sink.\"BATCH_ID_IN\" = (SELECT COALESCE(MAX(BATCH_METADATA.\"TABLE_BATCH_ID\"),0)+1 FROM BATCH_METADATA as BATCH_METADATA WHERE UPPER(BATCH_METADATA.\"TABLE_NAME\") = 'MAIN') THEN 1 ELSE 0 END)),0) as \"COUNT_0\"," +
+                "COALESCE(SUM((CASE WHEN sink.\"BATCH_ID_OUT\" = (SELECT COALESCE(MAX(BATCH_METADATA.\"TABLE_BATCH_ID\"),0)+1 FROM BATCH_METADATA as BATCH_METADATA WHERE UPPER(BATCH_METADATA.\"TABLE_NAME\") = 'MAIN')-1 THEN 1 ELSE 0 END)),0) as \"COUNT_1\" " +
+                "FROM \"MYDB\".\"MAIN\" as sink " +
+                "WHERE (sink.\"BATCH_ID_IN\" = (SELECT COALESCE(MAX(BATCH_METADATA.\"TABLE_BATCH_ID\"),0)+1 FROM BATCH_METADATA as BATCH_METADATA WHERE UPPER(BATCH_METADATA.\"TABLE_NAME\") = 'MAIN')) OR (sink.\"BATCH_ID_OUT\" = (SELECT COALESCE(MAX(BATCH_METADATA.\"TABLE_BATCH_ID\"),0)+1 FROM BATCH_METADATA as BATCH_METADATA WHERE UPPER(BATCH_METADATA.\"TABLE_NAME\") = 'MAIN')-1)) as stats";
+        Assertions.assertEquals(Arrays.asList(combinedStagingStats, combinedMainStats), operations.postIngestStatisticsCombinedSql());
     }
 
     @Override
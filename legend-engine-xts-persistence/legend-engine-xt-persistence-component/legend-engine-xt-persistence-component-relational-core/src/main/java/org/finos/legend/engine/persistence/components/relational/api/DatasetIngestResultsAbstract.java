@@ -16,6 +16,7 @@ package org.finos.legend.engine.persistence.components.relational.api;
 
 import org.immutables.value.Value;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +37,10 @@ public abstract class DatasetIngestResultsAbstract
     public abstract String dataset();
 
     public abstract List<IngestStageResult> ingestStageResults();
+
+    /**
+     * Wall-clock time taken by each ingest stage of the dataset, in stage order.
+     */
+    @Value.Auxiliary
+    public abstract List<Duration> ingestStageDurations();
 }
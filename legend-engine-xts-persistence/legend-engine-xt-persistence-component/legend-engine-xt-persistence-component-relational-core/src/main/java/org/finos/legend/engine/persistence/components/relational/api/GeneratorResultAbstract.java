@@ -82,6 +82,8 @@ public abstract class GeneratorResultAbstract
 
     public abstract Map<StatisticName, SqlPlan> postIngestStatisticsSqlPlan();
 
+    public abstract Optional<SqlPlan> postIngestStatisticsCombinedSqlPlan();
+
     public List<String> preActionsSql()
     {
         return preActionsSqlPlan().getSqlList();
@@ -193,6 +195,13 @@ public abstract class GeneratorResultAbstract
                 }));
     }
 
+    public List<String> postIngestStatisticsCombinedSql()
+    {
+        return postIngestStatisticsCombinedSqlPlan().map(SqlPlanAbstract::getSqlList).orElse(Collections.emptyList()).stream()
+            .map(sql -> ingestDataSplitRange().isPresent() ? enrichSqlWithDataSplits(sql, ingestDataSplitRange().get()) : sql)
+            .collect(Collectors.toList());
+    }
+
     private String enrichSqlWithDataSplits(String sql, DataSplitRange dataSplitRange)
     {
         return sql
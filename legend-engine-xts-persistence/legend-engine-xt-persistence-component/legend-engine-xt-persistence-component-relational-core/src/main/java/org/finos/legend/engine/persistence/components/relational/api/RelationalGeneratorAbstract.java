@@ -376,6 +376,7 @@ public abstract class RelationalGeneratorAbstract
         {
             postIngestStatisticsSqlPlan.put(statistic, transformer.generatePhysicalPlan(postIngestStatisticsLogicalPlan.get(statistic)));
         }
+        Optional<SqlPlan> postIngestStatisticsCombinedSqlPlan = planner.buildLogicalPlanForCombinedPostRunStatistics(resources).map(transformer::generatePhysicalPlan);
 
         return GeneratorResult.builder()
             .preActionsSqlPlan(preActionsSqlPlan)
@@ -395,6 +396,7 @@ public abstract class RelationalGeneratorAbstract
             .putAllDeduplicationAndVersioningErrorChecksSqlPlan(deduplicationAndVersioningErrorChecksSqlPlan)
             .putAllPreIngestStatisticsSqlPlan(preIngestStatisticsSqlPlan)
             .putAllPostIngestStatisticsSqlPlan(postIngestStatisticsSqlPlan)
+            .postIngestStatisticsCombinedSqlPlan(postIngestStatisticsCombinedSqlPlan)
             .build();
     }
 
@@ -489,6 +491,7 @@ public abstract class RelationalGeneratorAbstract
         {
             postIngestStatisticsSqlPlan.put(statistic, transformer.generatePhysicalPlan(postIngestStatisticsLogicalPlan.get(statistic)));
         }
+        Optional<SqlPlan> postIngestStatisticsCombinedSqlPlan = planner.buildLogicalPlanForCombinedPostRunStatistics(resources).map(transformer::generatePhysicalPlan);
 
         return GeneratorResult.builder()
             .ingestSqlPlan(ingestSqlPlan)
@@ -498,6 +501,7 @@ public abstract class RelationalGeneratorAbstract
             .putAllDeduplicationAndVersioningErrorChecksSqlPlan(deduplicationAndVersioningErrorChecksSqlPlan)
             .putAllPreIngestStatisticsSqlPlan(preIngestStatisticsSqlPlan)
             .putAllPostIngestStatisticsSqlPlan(postIngestStatisticsSqlPlan)
+            .postIngestStatisticsCombinedSqlPlan(postIngestStatisticsCombinedSqlPlan)
             .preActionsSqlPlan(SqlPlan.builder().build())
             .build();
     }
@@ -54,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -65,6 +66,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils.ADDITIONAL_METADATA_KEY_PATTERN;
@@ -95,8 +102,17 @@ public abstract class RelationalMultiDatasetIngestorAbstract
 
     public abstract Optional<BatchErrorDataset> batchErrorDataset();
 
+    /**
+     * Invoked from the ingestion threads: when datasets are ingested concurrently, the callback must be thread safe.
+     */
     public abstract Optional<IngestStageCallBack> ingestStageCallBack();
 
+    /**
+     * Connections used to ingest datasets concurrently, one per dataset. Required when {@link #maxConcurrentDatasets()} is
+     * greater than 1.
+     */
+    public abstract Optional<Supplier<RelationalConnection>> datasetConnectionSupplier();
+
     //-------------------- FLAGS --------------------
 
     @Value.Default
@@ -151,6 +167,33 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         return 20;
     }
 
+    /**
+     * Number of datasets ingested at the same time by {@link #ingest()}, each on its own connection and transaction. The
+     * stages of a dataset always run in order.
+     * <p>
+     * Note that the batch is then no longer atomic: the dataset transactions are committed one after the other once all
+     * datasets succeeded, and before the transaction holding the lock and the new batch id. If one of these commits
+     * fails, the datasets committed before it keep the data of the batch while the batch id is not advanced.
+     */
+    @Value.Default
+    public int maxConcurrentDatasets()
+    {
+        return 1;
+    }
+
+    @Value.Check
+    void validate()
+    {
+        if (maxConcurrentDatasets() < 1)
+        {
+            throw new IllegalStateException("maxConcurrentDatasets must be at least 1");
+        }
+        if (maxConcurrentDatasets() > 1 && !datasetConnectionSupplier().isPresent())
+        {
+            throw new IllegalStateException("datasetConnectionSupplier is required when maxConcurrentDatasets is greater than 1");
+        }
+    }
+
     @Value.Derived
     protected TransformOptions transformOptions()
     {
@@ -210,6 +253,9 @@ public abstract class RelationalMultiDatasetIngestorAbstract
     /**
      * Ingest multi datasets. Transaction boundaries are controlled by this method.
      * Each dataset can have multiple stages
+     * When maxConcurrentDatasets is greater than 1, independent datasets are ingested concurrently, each in its own
+     * transaction, while the lock is held by the transaction of this ingestor. The dataset transactions are only committed
+     * once all datasets succeeded and the batch id is written to the lock table, and are all reverted otherwise.
      * @return List of DatasetIngestResults
      */
     public List<DatasetIngestResults> ingest()
@@ -218,7 +264,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         try
         {
             executor.begin();
-            result = ingestInCurrentTransaction();
+            result = ingestInCurrentTransaction(maxConcurrentDatasets() > 1);
             executor.commit();
         }
         catch (Exception e)
@@ -243,6 +289,11 @@ public abstract class RelationalMultiDatasetIngestorAbstract
      * @return List of DatasetIngestResults
      */
     public List<DatasetIngestResults> ingestInCurrentTransaction()
+    {
+        return ingestInCurrentTransaction(false);
+    }
+
+    private List<DatasetIngestResults> ingestInCurrentTransaction(boolean concurrent)
     {
         // 1. Validate initialization has been performed
         validateInitialization();
@@ -251,7 +302,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         long batchId = acquireLockAndGetNextBatchId();
 
         // 3. Perform ingestion
-        List<DatasetIngestResults> result = performIngestionForMultiDatasets(batchId);
+        List<DatasetIngestResults> result = performIngestionForMultiDatasets(batchId, concurrent);
         LOGGER.info("Ingestion completed");
 
         return result;
@@ -466,7 +517,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         executor.executePhysicalPlan(acquireLockSqlPlan);
     }
 
-    private List<DatasetIngestResults> performIngestionForMultiDatasets(long batchId)
+    private List<DatasetIngestResults> performIngestionForMultiDatasets(long batchId, boolean concurrent)
     {
         // Put batch ID into placeholder map - this is needed to handled DerivedDataset whose filter was built using placeholders
         Map<String, PlaceholderValue> placeHolderKeyValues = new HashMap<>();
@@ -484,9 +535,15 @@ public abstract class RelationalMultiDatasetIngestorAbstract
         }
 
         // perform Ingestion if request not already processed
+        if (concurrent && ingestStageMetadataMap.size() > 1)
+        {
+            // the batch id is written before the datasets are committed, so that a failure to write it reverts them
+            return performConcurrentIngestionForDatasets(batchId, placeHolderKeyValues, () -> updateBachIdInLockTable(batchId));
+        }
+
         for (String dataset : ingestStageMetadataMap.keySet())
         {
-            DatasetIngestResults ingestStageResults = performIngestionForDataset(batchId, placeHolderKeyValues, dataset);
+            DatasetIngestResults ingestStageResults = performIngestionForDataset(batchId, placeHolderKeyValues, dataset, executor, transformer);
             results.add(ingestStageResults);
         }
 
@@ -541,16 +598,91 @@ public abstract class RelationalMultiDatasetIngestorAbstract
     }
 
 
-    private DatasetIngestResults performIngestionForDataset(long batchId, Map<String, PlaceholderValue> placeHolderKeyValues, String dataset)
+    private List<DatasetIngestResults> performConcurrentIngestionForDatasets(long batchId, Map<String, PlaceholderValue> placeHolderKeyValues, Runnable beforeCommit)
+    {
+        LOGGER.info(String.format("Ingesting %d datasets with up to %d concurrently", ingestStageMetadataMap.size(), maxConcurrentDatasets()));
+        List<Executor<SqlGen, TabularData, SqlPlan>> datasetExecutors = Collections.synchronizedList(new ArrayList<>());
+        List<Executor<SqlGen, TabularData, SqlPlan>> committedExecutors = new ArrayList<>();
+        ExecutorService threadPool = Executors.newFixedThreadPool(Math.min(maxConcurrentDatasets(), ingestStageMetadataMap.size()));
+        List<Future<DatasetIngestResults>> futures = new ArrayList<>();
+        try
+        {
+            for (String dataset : ingestStageMetadataMap.keySet())
+            {
+                futures.add(threadPool.submit(() ->
+                {
+                    Executor<SqlGen, TabularData, SqlPlan> datasetExecutor = relationalSink().getRelationalExecutor(datasetConnectionSupplier().get().get());
+                    datasetExecutors.add(datasetExecutor);
+                    datasetExecutor.setSqlLogging(sqlLogging());
+                    datasetExecutor.begin();
+                    return performIngestionForDataset(batchId, placeHolderKeyValues, dataset, datasetExecutor, new RelationalTransformer(relationalSink(), transformOptions()));
+                }));
+            }
+
+            List<DatasetIngestResults> results = new ArrayList<>();
+            for (Future<DatasetIngestResults> future : futures)
+            {
+                results.add(future.get());
+            }
+            beforeCommit.run();
+            while (!datasetExecutors.isEmpty())
+            {
+                datasetExecutors.get(0).commit();
+                committedExecutors.add(datasetExecutors.remove(0));
+            }
+            return results;
+        }
+        catch (Exception e)
+        {
+            // Let the running datasets finish before reverting, the queued ones are not started
+            futures.forEach(future -> future.cancel(false));
+            awaitTermination(threadPool);
+            if (!committedExecutors.isEmpty())
+            {
+                LOGGER.error(String.format("Failed to commit all datasets: %d dataset(s) already committed the data of batch %d", committedExecutors.size(), batchId));
+            }
+            datasetExecutors.forEach(Executor::revert);
+            if (e instanceof InterruptedException)
+            {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = (e instanceof ExecutionException) ? e.getCause() : e;
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new RuntimeException(cause);
+        }
+        finally
+        {
+            awaitTermination(threadPool);
+            datasetExecutors.forEach(Executor::close);
+            committedExecutors.forEach(Executor::close);
+        }
+    }
+
+    private void awaitTermination(ExecutorService threadPool)
+    {
+        threadPool.shutdown();
+        try
+        {
+            threadPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DatasetIngestResults performIngestionForDataset(long batchId, Map<String, PlaceholderValue> placeHolderKeyValues, String dataset,
+                                                            Executor<SqlGen, TabularData, SqlPlan> executor, Transformer<SqlGen, SqlPlan> transformer)
     {
         List<IngestStageMetadata> ingestStageMetadataList = ingestStageMetadataMap.get(dataset);
         List<IngestStageResult> ingestStageResults = new ArrayList<>();
+        List<Duration> ingestStageDurations = new ArrayList<>();
 
         // Run all the stages
         for (int i = 0; i < ingestStageMetadataList.size(); i++)
         {
             IngestStageMetadata ingestStageMetadata = ingestStageMetadataList.get(i);
             Instant stageStartInstant = executionTimestampClock().instant();
+            long stageStartNanos = System.nanoTime();
 
             IngestMode enrichedIngestMode = ingestStageMetadata.ingestMode();
             Datasets enrichedDatasets = ingestStageMetadata.datasets();
@@ -617,6 +749,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
                 // 5. Build ingest stage result
                 List<IngestStageResult> mappedResults = Collections.unmodifiableList(ingestorResults.stream().map(this::buildIngestStageResult).collect(Collectors.toList()));
                 ingestStageResults.addAll(mappedResults);
+                ingestStageDurations.add(Duration.ofNanos(System.nanoTime() - stageStartNanos));
 
                 ingestStageCallBack().ifPresent(ingestStageCallBack -> ingestStageCallBack.onStageSuccess(dataset, batchId, ingestStageMetadata.ingestMode(), mappedResults));
             }
@@ -632,6 +765,7 @@ public abstract class RelationalMultiDatasetIngestorAbstract
                 .ingestRequestId(ingestRequestId())
                 .batchId(batchId)
                 .addAllIngestStageResults(ingestStageResults)
+                .addAllIngestStageDurations(ingestStageDurations)
                 .build();
     }
 
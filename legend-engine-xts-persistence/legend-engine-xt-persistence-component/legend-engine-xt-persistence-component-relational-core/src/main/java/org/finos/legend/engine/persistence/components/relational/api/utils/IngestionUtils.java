@@ -189,8 +189,16 @@ public class IngestionUtils
         // Execute ingest SqlPlan
         executor.executePhysicalPlan(generatorResult.ingestSqlPlan(), placeHolderKeyValues);
         // Extract postIngest Statistics
-        statisticsResultMap.putAll(
-            executeStatisticsPhysicalPlan(executor, generatorResult.postIngestStatisticsSqlPlan(), placeHolderKeyValues));
+        if (generatorResult.postIngestStatisticsCombinedSqlPlan().isPresent())
+        {
+            statisticsResultMap.putAll(
+                executeCombinedStatisticsPhysicalPlan(executor, generatorResult.postIngestStatisticsCombinedSqlPlan().get(), generatorResult.postIngestStatisticsSqlPlan().keySet(), placeHolderKeyValues));
+        }
+        else
+        {
+            statisticsResultMap.putAll(
+                executeStatisticsPhysicalPlan(executor, generatorResult.postIngestStatisticsSqlPlan(), placeHolderKeyValues));
+        }
         // Execute metadata ingest SqlPlan
         // add batchEndTimestamp
         placeHolderKeyValues.put(BATCH_END_TS_PATTERN, PlaceholderValue.of(LocalDateTime.now(executionTimestampClock).format(DATE_TIME_FORMATTER), false));
@@ -214,6 +222,31 @@ public class IngestionUtils
         return results;
     }
 
+    public static Map<StatisticName, Object> executeCombinedStatisticsPhysicalPlan(Executor<SqlGen, TabularData, SqlPlan> executor,
+                                                                             SqlPlan combinedStatisticsSqlPlan,
+                                                                             Set<StatisticName> statistics,
+                                                                             Map<String, PlaceholderValue> placeHolderKeyValues)
+    {
+        Map<StatisticName, Object> results = new HashMap<>();
+        statistics.forEach(statistic -> results.put(statistic, null));
+        // Each query returns a single row, with one column per statistic named after it (modulo case conversion)
+        for (TabularData result : executor.executePhysicalPlanAndGetResults(combinedStatisticsSqlPlan, placeHolderKeyValues))
+        {
+            for (Map<String, Object> row : result.data())
+            {
+                for (Map.Entry<String, Object> column : row.entrySet())
+                {
+                    statistics.stream()
+                        .filter(statistic -> statistic.get().equalsIgnoreCase(column.getKey()))
+                        .findFirst()
+                        // Counts summed over conditions may be returned as decimals
+                        .ifPresent(statistic -> results.put(statistic, column.getValue() instanceof Number ? ((Number) column.getValue()).longValue() : column.getValue()));
+                }
+            }
+        }
+        return results;
+    }
+
     public static List<IngestorResult> performBulkLoad(Datasets datasets, Transformer<SqlGen, SqlPlan> transformer, Planner planner,
                                                        Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult,
                                                        IngestMode ingestMode, SchemaEvolutionResult schemaEvolutionResult,
@@ -327,6 +327,74 @@ public class RelationalMultiDatasetIngestorTest extends BaseTest
         return buildDatasetIngestDetails(Arrays.asList(ingestStage1ForDataset1, ingestStage2ForDataset1), Arrays.asList(ingestStage1ForDataset2, ingestStage2ForDataset2));
     }
 
+    /*
+    Test Case:
+        - [Dataset1: [BulkLoad, UnitemporalDelta],
+           Dataset2: [BulkLoad, UnitemporalDelta]]
+       - Datasets ingested concurrently
+     */
+    @Test
+    public void testSameIngestModeConcurrently() throws IOException
+    {
+        // Register UDF
+        H2DigestUtil.registerMD5Udf(h2Sink, digestUDF);
+
+        RelationalMultiDatasetIngestor ingestor = RelationalMultiDatasetIngestor.builder()
+            .relationalSink(H2Sink.get())
+            .lockInfoDataset(lockInfoDataset)
+            .ingestRequestId(requestId1)
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .maxConcurrentDatasets(2)
+            .datasetConnectionSupplier(() -> JdbcConnection.of(H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL)))
+            .build();
+
+        List<DatasetIngestDetails> datasetIngestDetails = configureForTest1("src/test/resources/data/multi-dataset/set1/input/file1_for_dataset1.csv", "src/test/resources/data/multi-dataset/set1/input/file1_for_dataset2.csv");
+
+        // Run ingestion
+        ingestor.init(datasetIngestDetails, JdbcConnection.of(h2Sink.connection()));
+        ingestor.create();
+        List<DatasetIngestResults> actual = ingestor.ingest();
+
+        // Verify results
+        IngestStageResult ingestStageResult1ForDataset1 = buildIngestStageResultForBulkLoad("2000-01-01 00:00:00.000000", "2000-01-01 00:00:00.000000", 3);
+        IngestStageResult ingestStageResult2ForDataset1 = buildIngestStageResult("2000-01-01 00:00:00.000000", "2000-01-01 00:00:00.000000", 3, 0, 3, 0, 0);
+        IngestStageResult ingestStageResult1ForDataset2 = buildIngestStageResultForBulkLoad("2000-01-01 00:00:00.000000", "2000-01-01 00:00:00.000000", 4);
+        IngestStageResult ingestStageResult2ForDataset2 = buildIngestStageResult("2000-01-01 00:00:00.000000", "2000-01-01 00:00:00.000000", 4, 0, 4, 0, 0);
+
+        List<DatasetIngestResults> expected = new ArrayList<>();
+        expected.add(DatasetIngestResults.builder()
+            .dataset(dataset1)
+            .batchId(1L)
+            .ingestRequestId(requestId1)
+            .addAllIngestStageResults(Arrays.asList(ingestStageResult1ForDataset1, ingestStageResult2ForDataset1))
+            .build());
+        expected.add(DatasetIngestResults.builder()
+            .dataset(dataset2)
+            .batchId(1L)
+            .ingestRequestId(requestId1)
+            .addAllIngestStageResults(Arrays.asList(ingestStageResult1ForDataset2, ingestStageResult2ForDataset2))
+            .build());
+
+        verifyResults(
+            actual, expected,
+            Arrays.asList("src/test/resources/data/multi-dataset/set1/expected/expected_pass1_for_dataset1_append.csv",
+                "src/test/resources/data/multi-dataset/set1/expected/expected_pass1_for_dataset1_final.csv",
+                "src/test/resources/data/multi-dataset/set1/expected/expected_pass1_for_dataset2_append.csv",
+                "src/test/resources/data/multi-dataset/set1/expected/expected_pass1_for_dataset2_final.csv"),
+            Arrays.asList(dataset1 + suffixForAppendTable,
+                dataset1 + suffixForFinalTable,
+                dataset2 + suffixForAppendTable,
+                dataset2 + suffixForFinalTable),
+            Arrays.asList(new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, batchIdName},
+                new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, batchIdInName, batchIdOutName, batchTimeInName, batchTimeOutName},
+                new String[]{idName, nameName, ratingName, startTimeName, digestName, batchIdName},
+                new String[]{idName, nameName, ratingName, startTimeName, digestName, batchIdInName, batchIdOutName, batchTimeInName, batchTimeOutName}));
+
+        // One duration per stage
+        Assertions.assertEquals(2, actual.get(0).ingestStageDurations().size());
+        Assertions.assertEquals(2, actual.get(1).ingestStageDurations().size());
+    }
+
     /*
     Test Case:
         - [Dataset1: [BulkLoad, UnitemporalDelta],
@@ -802,6 +870,105 @@ public class RelationalMultiDatasetIngestorTest extends BaseTest
         // Register UDF
         H2DigestUtil.registerMD5Udf(h2Sink, digestUDF);
 
+        List<DatasetIngestDetails> datasetIngestDetails = configureForFailureTest();
+
+        RelationalMultiDatasetIngestor ingestor = RelationalMultiDatasetIngestor.builder()
+            .relationalSink(H2Sink.get())
+            .lockInfoDataset(lockInfoDataset)
+            .batchErrorDataset(batchErrorDataset)
+            .ingestRequestId(requestId1)
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .build();
+
+        // Run ingestion
+        ingestor.init(datasetIngestDetails, JdbcConnection.of(h2Sink.connection()));
+        ingestor.create();
+        try
+        {
+            List<DatasetIngestResults> actual = ingestor.ingest();
+            Assertions.fail("Exception was not thrown");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertTrue(e instanceof MultiDatasetException);
+            MultiDatasetException multiDatasetException = (MultiDatasetException) e;
+            Assertions.assertTrue(multiDatasetException.getMessage().contains("Encountered exception for dataset: [DATASET_2] : Encountered Duplicates, Failing the batch as Fail on Duplicates is set as Deduplication strategy"));
+            Assertions.assertEquals("DATASET_2", multiDatasetException.getDataset());
+            Assertions.assertEquals(1, multiDatasetException.getStageIndex());
+
+            List<Map<String, Object>> tableData1 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForAppendTable + "\"");
+            List<Map<String, Object>> tableData2 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForFinalTable + "\"");
+            List<Map<String, Object>> tableData3 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForBatchMetadataTable + "\"");
+            List<Map<String, Object>> tableData4 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForAppendTable + "\"");
+            List<Map<String, Object>> tableData5 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForFinalTable + "\"");
+            List<Map<String, Object>> tableData6 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForBatchMetadataTable + "\"");
+            Assertions.assertTrue(tableData1.isEmpty());
+            Assertions.assertTrue(tableData2.isEmpty());
+            Assertions.assertTrue(tableData3.isEmpty());
+            Assertions.assertTrue(tableData4.isEmpty());
+            Assertions.assertTrue(tableData5.isEmpty());
+            Assertions.assertTrue(tableData6.isEmpty());
+        }
+    }
+
+    /*
+    Test Case:
+        - [Dataset1: [BulkLoad, UnitemporalDelta],
+           Dataset2: [BulkLoad, UnitemporalDelta]]
+       - FailOnDuplicates
+       - Datasets ingested concurrently
+       - Execution fails at second stage of Dataset2, nothing is committed and the batch id is not advanced
+     */
+    @Test
+    public void testFirstDatasetSuccessAndSecondDatasetFailureConcurrently()
+    {
+        // Register UDF
+        H2DigestUtil.registerMD5Udf(h2Sink, digestUDF);
+
+        List<DatasetIngestDetails> datasetIngestDetails = configureForFailureTest();
+
+        RelationalMultiDatasetIngestor ingestor = RelationalMultiDatasetIngestor.builder()
+            .relationalSink(H2Sink.get())
+            .lockInfoDataset(lockInfoDataset)
+            .batchErrorDataset(batchErrorDataset)
+            .ingestRequestId(requestId1)
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .maxConcurrentDatasets(2)
+            .datasetConnectionSupplier(() -> JdbcConnection.of(H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL)))
+            .build();
+
+        // Run ingestion
+        ingestor.init(datasetIngestDetails, JdbcConnection.of(h2Sink.connection()));
+        ingestor.create();
+        List<Map<String, Object>> lockDataBefore = h2Sink.executeQuery("select * from \"TEST\".\"" + lockDataset + "\"");
+        try
+        {
+            ingestor.ingest();
+            Assertions.fail("Exception was not thrown");
+        }
+        catch (MultiDatasetException multiDatasetException)
+        {
+            Assertions.assertTrue(multiDatasetException.getMessage().contains("Encountered exception for dataset: [DATASET_2] : Encountered Duplicates, Failing the batch as Fail on Duplicates is set as Deduplication strategy"));
+            Assertions.assertEquals("DATASET_2", multiDatasetException.getDataset());
+            Assertions.assertEquals(1, multiDatasetException.getStageIndex());
+
+            // Dataset1 succeeded but is not committed
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForAppendTable + "\"").isEmpty());
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForFinalTable + "\"").isEmpty());
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForBatchMetadataTable + "\"").isEmpty());
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForAppendTable + "\"").isEmpty());
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForFinalTable + "\"").isEmpty());
+            Assertions.assertTrue(h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForBatchMetadataTable + "\"").isEmpty());
+
+            // The batch id is not advanced
+            List<Map<String, Object>> lockDataAfter = h2Sink.executeQuery("select * from \"TEST\".\"" + lockDataset + "\"");
+            Assertions.assertEquals(1, lockDataAfter.size());
+            Assertions.assertEquals(lockDataBefore.get(0).get(lockInfoDataset.batchIdField()), lockDataAfter.get(0).get(lockInfoDataset.batchIdField()));
+        }
+    }
+
+    private List<DatasetIngestDetails> configureForFailureTest()
+    {
         // Configure ingest modes
         BulkLoad bulkLoad = BulkLoad.builder()
             .digestGenStrategy(UDFBasedDigestGenStrategy.builder().digestUdfName(digestUDF).digestField(digestName).build())
@@ -874,45 +1041,7 @@ public class RelationalMultiDatasetIngestorTest extends BaseTest
         IngestStage ingestStage1ForDataset2 = IngestStage.builder().ingestMode(bulkLoad).stagingDataset(bulkLoadStageTableForDataset2).mainDataset(bulkLoadMainTableForDataset2).build();
         IngestStage ingestStage2ForDataset2 = IngestStage.builder().ingestMode(unitemporalDelta).stagingDataset(unitemporalDeltaStageTableForDataset2).mainDataset(unitemporalDeltaMainTableForDataset2).batchIdField(batchIdName).build();
 
-        List<DatasetIngestDetails> datasetIngestDetails = buildDatasetIngestDetails(Arrays.asList(ingestStage1ForDataset1, ingestStage2ForDataset1), Arrays.asList(ingestStage1ForDataset2, ingestStage2ForDataset2));
-
-        RelationalMultiDatasetIngestor ingestor = RelationalMultiDatasetIngestor.builder()
-            .relationalSink(H2Sink.get())
-            .lockInfoDataset(lockInfoDataset)
-            .batchErrorDataset(batchErrorDataset)
-            .ingestRequestId(requestId1)
-            .executionTimestampClock(fixedClock_2000_01_01)
-            .build();
-
-        // Run ingestion
-        ingestor.init(datasetIngestDetails, JdbcConnection.of(h2Sink.connection()));
-        ingestor.create();
-        try
-        {
-            List<DatasetIngestResults> actual = ingestor.ingest();
-            Assertions.fail("Exception was not thrown");
-        }
-        catch (Exception e)
-        {
-            Assertions.assertTrue(e instanceof MultiDatasetException);
-            MultiDatasetException multiDatasetException = (MultiDatasetException) e;
-            Assertions.assertTrue(multiDatasetException.getMessage().contains("Encountered exception for dataset: [DATASET_2] : Encountered Duplicates, Failing the batch as Fail on Duplicates is set as Deduplication strategy"));
-            Assertions.assertEquals("DATASET_2", multiDatasetException.getDataset());
-            Assertions.assertEquals(1, multiDatasetException.getStageIndex());
-
-            List<Map<String, Object>> tableData1 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForAppendTable + "\"");
-            List<Map<String, Object>> tableData2 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForFinalTable + "\"");
-            List<Map<String, Object>> tableData3 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset1 + suffixForBatchMetadataTable + "\"");
-            List<Map<String, Object>> tableData4 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForAppendTable + "\"");
-            List<Map<String, Object>> tableData5 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForFinalTable + "\"");
-            List<Map<String, Object>> tableData6 = h2Sink.executeQuery("select * from \"TEST\".\"" + dataset2 + suffixForBatchMetadataTable + "\"");
-            Assertions.assertTrue(tableData1.isEmpty());
-            Assertions.assertTrue(tableData2.isEmpty());
-            Assertions.assertTrue(tableData3.isEmpty());
-            Assertions.assertTrue(tableData4.isEmpty());
-            Assertions.assertTrue(tableData5.isEmpty());
-            Assertions.assertTrue(tableData6.isEmpty());
-        }
+        return buildDatasetIngestDetails(Arrays.asList(ingestStage1ForDataset1, ingestStage2ForDataset1), Arrays.asList(ingestStage1ForDataset2, ingestStage2ForDataset2));
     }
 
     /*
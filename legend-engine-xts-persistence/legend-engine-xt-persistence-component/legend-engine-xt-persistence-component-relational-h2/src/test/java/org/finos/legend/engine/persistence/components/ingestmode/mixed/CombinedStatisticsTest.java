@@ -0,0 +1,211 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.persistence.components.ingestmode.mixed;
+
+import org.finos.legend.engine.persistence.components.BaseTest;
+import org.finos.legend.engine.persistence.components.TestUtils;
+import org.finos.legend.engine.persistence.components.common.Datasets;
+import org.finos.legend.engine.persistence.components.common.StatisticName;
+import org.finos.legend.engine.persistence.components.ingestmode.BitemporalDelta;
+import org.finos.legend.engine.persistence.components.ingestmode.IngestMode;
+import org.finos.legend.engine.persistence.components.ingestmode.UnitemporalDelta;
+import org.finos.legend.engine.persistence.components.ingestmode.deduplication.FilterDuplicates;
+import org.finos.legend.engine.persistence.components.ingestmode.transactionmilestoning.BatchId;
+import org.finos.legend.engine.persistence.components.ingestmode.validitymilestoning.ValidDateTime;
+import org.finos.legend.engine.persistence.components.ingestmode.validitymilestoning.derivation.SourceSpecifiesFromDateTime;
+import org.finos.legend.engine.persistence.components.logicalplan.LogicalPlan;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DataType;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.DatasetDefinition;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.Field;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.FieldType;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.SchemaDefinition;
+import org.finos.legend.engine.persistence.components.logicalplan.datasets.Selection;
+import org.finos.legend.engine.persistence.components.logicalplan.values.FieldValue;
+import org.finos.legend.engine.persistence.components.planner.PlannerOptions;
+import org.finos.legend.engine.persistence.components.relational.CaseConversion;
+import org.finos.legend.engine.persistence.components.relational.SqlPlan;
+import org.finos.legend.engine.persistence.components.relational.api.GeneratorResult;
+import org.finos.legend.engine.persistence.components.relational.api.RelationalGenerator;
+import org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils;
+import org.finos.legend.engine.persistence.components.relational.h2.H2Sink;
+import org.finos.legend.engine.persistence.components.relational.transformer.RelationalTransformer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.finos.legend.engine.persistence.components.TestUtils.*;
+
+/*
+The post ingest statistics are computed with one query per table when they can be combined.
+These tests check the combined queries and the statistics they return, with the identifiers converted to upper case.
+*/
+class CombinedStatisticsTest extends BaseTest
+{
+    private final String unitemporalInputPath = "src/test/resources/data/unitemporal-incremental-milestoning/input/batch_id_based/without_delete_ind/";
+    private final String unitemporalExpectedPath = "src/test/resources/data/unitemporal-incremental-milestoning/expected/batch_id_based/without_delete_ind/";
+    private final String bitemporalInputPath = "src/test/resources/data/bitemporal-incremental-milestoning/input/batch_id_based/source_specifies_from/without_delete_ind/set_1/";
+    private final String bitemporalExpectedPath = "src/test/resources/data/bitemporal-incremental-milestoning/expected/batch_id_based/source_specifies_from/without_delete_ind/set_1/";
+
+    @Test
+    void testCombinedStatisticsSqlWithUpperCase()
+    {
+        UnitemporalDelta ingestMode = UnitemporalDelta.builder()
+            .digestField(digestName)
+            .transactionMilestoning(BatchId.builder()
+                .batchIdInName(batchIdInName)
+                .batchIdOutName(batchIdOutName)
+                .build())
+            .build();
+        Datasets datasets = Datasets.of(TestUtils.getDefaultMainTable(), TestUtils.getBasicStagingTable());
+
+        GeneratorResult operations = generateWithUpperCase(ingestMode, datasets);
+
+        String batchId = "(SELECT COALESCE(MAX(BATCH_METADATA.\"TABLE_BATCH_ID\"),0)+1 FROM BATCH_METADATA as BATCH_METADATA WHERE UPPER(BATCH_METADATA.\"TABLE_NAME\") = 'MAIN')";
+        String combinedStagingStats = "SELECT stats.\"COUNT_0\" as \"INCOMINGRECORDCOUNT\",0 as \"ROWSTERMINATED\",0 as \"ROWSDELETED\" " +
+            "FROM (SELECT COUNT(*) as \"COUNT_0\" FROM \"TEST\".\"STAGING\" as staging) as stats";
+        String combinedMainStats = "SELECT stats.\"COUNT_0\"-stats.\"COUNT_1\" as \"ROWSINSERTED\",stats.\"COUNT_1\" as \"ROWSUPDATED\" " +
+            "FROM (SELECT COALESCE(SUM((CASE WHEN main.\"BATCH_ID_IN\" = " + batchId + " THEN 1 ELSE 0 END)),0) as \"COUNT_0\"," +
+            "COALESCE(SUM((CASE WHEN main.\"BATCH_ID_OUT\" = " + batchId + "-1 THEN 1 ELSE 0 END)),0) as \"COUNT_1\" " +
+            "FROM \"TEST\".\"MAIN\" as main " +
+            "WHERE (main.\"BATCH_ID_IN\" = " + batchId + ") OR (main.\"BATCH_ID_OUT\" = " + batchId + "-1)) as stats";
+        Assertions.assertEquals(Arrays.asList(combinedStagingStats, combinedMainStats), operations.postIngestStatisticsCombinedSql());
+    }
+
+    @Test
+    void testUnitemporalDeltaCombinedStatisticsWithUpperCase() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getBasicStagingTable();
+
+        String[] schema = new String[]{idName.toUpperCase(), nameName.toUpperCase(), incomeName.toUpperCase(), startTimeName.toUpperCase(), expiryDateName.toUpperCase(), digestName.toUpperCase(), batchIdInName.toUpperCase(), batchIdOutName.toUpperCase()};
+
+        // Create staging table without primary keys, as the staging data has duplicates
+        h2Sink.executeStatement("CREATE TABLE IF NOT EXISTS \"TEST\".\"STAGING\"(\"ID\" INTEGER NOT NULL,\"NAME\" VARCHAR(64) NOT NULL,\"INCOME\" BIGINT,\"START_TIME\" TIMESTAMP NOT NULL,\"EXPIRY_DATE\" DATE,\"DIGEST\" VARCHAR)");
+
+        UnitemporalDelta ingestMode = UnitemporalDelta.builder()
+            .digestField(digestName)
+            .transactionMilestoning(BatchId.builder()
+                .batchIdInName(batchIdInName)
+                .batchIdOutName(batchIdOutName)
+                .build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .build();
+
+        PlannerOptions options = PlannerOptions.builder().cleanupStagingData(false).collectStatistics(true).build();
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        Assertions.assertTrue(generateWithUpperCase(ingestMode, datasets).postIngestStatisticsCombinedSqlPlan().isPresent());
+
+        // ------------ Perform Pass1 ------------------------
+        loadBasicStagingDataInUpperCase(unitemporalInputPath + "staging_data_pass1.csv");
+        Map<String, Object> expectedStats = createExpectedStatsMap(3, 0, 3, 0, 0);
+        executePlansAndVerifyForCaseConversion(ingestMode, options, datasets, schema, unitemporalExpectedPath + "expected_pass1.csv", expectedStats);
+
+        // ------------ Perform Pass2 ------------------------
+        loadBasicStagingDataInUpperCase(unitemporalInputPath + "staging_data_pass2.csv");
+        expectedStats = createExpectedStatsMap(6, 0, 1, 1, 0);
+        executePlansAndVerifyForCaseConversion(ingestMode, options, datasets, schema, unitemporalExpectedPath + "expected_pass2.csv", expectedStats);
+    }
+
+    @Test
+    void testBitemporalDeltaCombinedStatisticsWithUpperCase() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getBitemporalFromOnlyMainTableIdBased();
+        DatasetDefinition stagingTable = TestUtils.getBitemporalFromOnlyStagingTableIdBased();
+
+        String[] schema = new String[]{indexName.toUpperCase(), balanceName.toUpperCase(), digestName.toUpperCase(),
+            startDateTimeName.toUpperCase(), endDateTimeName.toUpperCase(), batchIdInName.toUpperCase(), batchIdOutName.toUpperCase()};
+
+        // Create staging table
+        h2Sink.executeStatement("CREATE TABLE IF NOT EXISTS \"TEST\".\"STAGING\"(\"INDEX\" INTEGER NOT NULL,\"DATETIME\" TIMESTAMP NOT NULL,\"BALANCE\" BIGINT,\"DIGEST\" VARCHAR,PRIMARY KEY (\"INDEX\", \"DATETIME\"))");
+
+        BitemporalDelta ingestMode = BitemporalDelta.builder()
+            .digestField(digestName)
+            .transactionMilestoning(BatchId.builder()
+                .batchIdInName(batchIdInName)
+                .batchIdOutName(batchIdOutName)
+                .build())
+            .validityMilestoning(ValidDateTime.builder()
+                .dateTimeFromName(startDateTimeName)
+                .dateTimeThruName(endDateTimeName)
+                .validityDerivation(SourceSpecifiesFromDateTime.builder()
+                    .sourceDateTimeFromField(dateTimeName)
+                    .build())
+                .build())
+            .build();
+
+        PlannerOptions options = PlannerOptions.builder().collectStatistics(true).build();
+        Datasets datasets = Datasets.builder().mainDataset(mainTable).stagingDataset(stagingTable).build();
+        Assertions.assertTrue(generateWithUpperCase(ingestMode, datasets).postIngestStatisticsCombinedSqlPlan().isPresent());
+
+        // Pass 5 only updates, so the inserted rows are computed from two counts on the main table
+        int[][] statsPerPass = new int[][]{
+            {1, 0, 1, 0, 0},
+            {1, 0, 1, 1, 0},
+            {1, 0, 1, 1, 0},
+            {1, 0, 1, 1, 0},
+            {1, 0, 0, 1, 0}};
+        for (int pass = 1; pass <= statsPerPass.length; pass++)
+        {
+            int[] stats = statsPerPass[pass - 1];
+            loadStagingDataForBitemporalFromOnlyWithUpperCase(bitemporalInputPath + "staging_data_pass" + pass + ".csv");
+            Map<String, Object> expectedStats = createExpectedStatsMap(stats[0], stats[1], stats[2], stats[3], stats[4]);
+            executePlansAndVerifyForCaseConversion(ingestMode, options, datasets, schema, bitemporalExpectedPath + "expected_pass" + pass + ".csv", expectedStats);
+        }
+    }
+
+    @Test
+    void testCombinedStatisticsReturnedAsDecimals() throws Exception
+    {
+        // Counts summed over conditions come back as decimals on some sinks
+        h2Sink.executeStatement("CREATE TABLE IF NOT EXISTS \"TEST\".\"STATS\"(\"COUNT_0\" DECIMAL(38,0))");
+        h2Sink.executeStatement("INSERT INTO \"TEST\".\"STATS\" VALUES (3)");
+
+        DatasetDefinition statsTable = DatasetDefinition.builder()
+            .group(testSchemaName)
+            .name("STATS")
+            .alias("stats")
+            .schema(SchemaDefinition.builder()
+                .addFields(Field.builder().name("COUNT_0").type(FieldType.of(DataType.DECIMAL, 38, 0)).build())
+                .build())
+            .build();
+        Selection selection = Selection.builder()
+            .source(statsTable)
+            .addFields(FieldValue.builder().datasetRef(statsTable.datasetReference()).fieldName("COUNT_0").alias("INCOMINGRECORDCOUNT").build())
+            .build();
+        SqlPlan plan = new RelationalTransformer(H2Sink.get()).generatePhysicalPlan(LogicalPlan.builder().addOps(selection).build());
+
+        Map<StatisticName, Object> stats = IngestionUtils.executeCombinedStatisticsPhysicalPlan(executor, plan,
+            EnumSet.of(StatisticName.INCOMING_RECORD_COUNT, StatisticName.ROWS_INSERTED), Collections.emptyMap());
+
+        Assertions.assertEquals(3L, stats.get(StatisticName.INCOMING_RECORD_COUNT));
+        Assertions.assertTrue(stats.containsKey(StatisticName.ROWS_INSERTED));
+        Assertions.assertNull(stats.get(StatisticName.ROWS_INSERTED));
+    }
+
+    private GeneratorResult generateWithUpperCase(IngestMode ingestMode, Datasets datasets)
+    {
+        RelationalGenerator generator = RelationalGenerator.builder()
+            .ingestMode(ingestMode)
+            .relationalSink(H2Sink.get())
+            .collectStatistics(true)
+            .caseConversion(CaseConversion.TO_UPPER)
+            .build();
+        return generator.generateOperations(datasets);
+    }
+}
@@ -40,6 +40,7 @@ import javax.security.auth.Subject;
 import javax.sql.DataSource;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.function.Supplier;
@@ -185,7 +186,17 @@ public abstract class DataSourceSpecification
                 scope.span().setTag("Pool", poolName);
                 int requests = dataSourceWithStatistics.requestConnection();
                 LOGGER.info("Principal [{}] has requested [{}] connections for pool [{}]", principal, requests, poolName);
-                return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                long start = System.nanoTime();
+                try
+                {
+                    return authenticationStrategy.getConnection(dataSourceWithStatistics, identityState.getIdentity());
+                }
+                finally
+                {
+                    long duration = System.nanoTime() - start;
+                    dataSourceWithStatistics.getStatistics().observeConnectionAcquisition(duration);
+                    MetricsHandler.observeConnectionAcquisition(poolName, duration);
+                }
             }
             catch (ConnectionException ce)
             {
@@ -196,6 +207,28 @@ public abstract class DataSourceSpecification
         }
     }
 
+    /**
+     * Creates the pool for the given identity if needed and keeps at least {@code minimumIdle} connections open in it,
+     * so that the first requests do not pay for pool and connection creation.
+     */
+    public void prewarm(Identity identity, Optional<CredentialSupplier> databaseCredentialSupplierHolder, int minimumIdle)
+    {
+        try (Connection ignored = this.getConnectionUsingIdentity(identity, databaseCredentialSupplierHolder))
+        {
+            DataSourceWithStatistics dataSourceWithStatistics = this.connectionStateManager.get(poolNameFor(identity));
+            if (dataSourceWithStatistics != null)
+            {
+                int poolMinimumIdle = Math.min(minimumIdle, this.maxPoolSize);
+                dataSourceWithStatistics.prewarm(poolMinimumIdle);
+                LOGGER.info("Pre-warmed pool [{}] with minimum idle [{}]", dataSourceWithStatistics.getPoolName(), poolMinimumIdle);
+            }
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     private String poolNameFor(Identity identity)
     {
         return this.connectionStateManager.poolNameFor(identity, getConnectionKey());
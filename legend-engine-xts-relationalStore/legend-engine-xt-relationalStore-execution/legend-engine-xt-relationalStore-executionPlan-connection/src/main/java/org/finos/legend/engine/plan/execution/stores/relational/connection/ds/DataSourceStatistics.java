@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.st
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class DataSourceStatistics
 {
@@ -27,6 +28,9 @@ public class DataSourceStatistics
     private final AtomicInteger connectionErrors;
     private final AtomicLong firstConnectionRequest;
     private AtomicLong lastConnectionRequest;
+    // connection acquisitions since the pool was last sized; not part of equals as they are reset by the housekeeper
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquisitionNanos = new LongAdder();
 
     public DataSourceStatistics()
     {
@@ -108,6 +112,22 @@ public class DataSourceStatistics
         return this.connectionErrors.get();
     }
 
+    public void observeConnectionAcquisition(long durationInNanos)
+    {
+        this.acquisitions.increment();
+        this.acquisitionNanos.add(durationInNanos);
+    }
+
+    /**
+     * Average time taken to get a connection since the last call, in milliseconds (0 when there were no acquisitions).
+     */
+    public double resetAverageConnectionAcquisitionMillis()
+    {
+        long count = this.acquisitions.sumThenReset();
+        long nanos = this.acquisitionNanos.sumThenReset();
+        return count == 0 ? 0 : nanos / (count * 1_000_000D);
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -16,6 +16,7 @@ package org.finos.legend.engine.plan.execution.stores.relational.connection.ds;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.finos.legend.engine.authentication.credential.CredentialSupplier;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionKey;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.AuthenticationStrategy;
@@ -34,6 +35,7 @@ public class DataSourceWithStatistics
     private final DataSource dataSource;
     private final IdentityState identityState;
     private final DataSourceSpecification dataSourceSpecification;
+    private volatile boolean prewarmed;
 
     public DataSourceWithStatistics(String poolName, DataSource dataSource, IdentityState identityState, DataSourceSpecification dataSourceSpecification, DataSourceStatistics statistics)
     {
@@ -171,6 +173,37 @@ public class DataSourceWithStatistics
         return hasIdleConnections() ? ((HikariDataSource) dataSource).getHikariPoolMXBean().getIdleConnections() : 0.00;
     }
 
+    public int getThreadsAwaitingConnection()
+    {
+        HikariPoolMXBean mxBean = this.dataSource == null ? null : ((HikariDataSource) this.dataSource).getHikariPoolMXBean();
+        return mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection();
+    }
+
+    public int getMaximumPoolSize()
+    {
+        return this.dataSource == null ? 0 : ((HikariDataSource) this.dataSource).getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize)
+    {
+        ((HikariDataSource) this.dataSource).getHikariConfigMXBean().setMaximumPoolSize(maximumPoolSize);
+    }
+
+    /**
+     * Keeps at least the given number of idle connections open and exempts the pool from eviction when unused.
+     */
+    public void prewarm(int minimumIdle)
+    {
+        ((HikariDataSource) this.dataSource).getHikariConfigMXBean().setMinimumIdle(minimumIdle);
+        this.prewarmed = true;
+    }
+
+    @JsonIgnore
+    public boolean isPrewarmed()
+    {
+        return this.prewarmed;
+    }
+
     public Properties getProperties()
     {
         return ((HikariDataSource) this.dataSource).getDataSourceProperties();
@@ -116,6 +116,12 @@ public class ConnectionStateManager implements Closeable
     public static final long DEFAULT_EVICTION_DURATION_IN_SECONDS = Duration.ofMinutes(10).getSeconds();
     public static String EVICTION_DURATION_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionStateEvictionDurationInSeconds";
 
+    public static String POOL_SIZING_MAXIMUM_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionPoolSizingMaximum";
+    public static String POOL_SIZING_PERIOD_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionPoolSizingPeriodInSeconds";
+    public static String POOL_SIZING_WAIT_THRESHOLD_SYSTEM_PROPERTY = "org.finos.legend.engine.execution.connectionPoolSizingWaitThresholdInMillis";
+    public static final long DEFAULT_POOL_SIZING_PERIOD_IN_SECONDS = 30;
+    public static final long DEFAULT_POOL_SIZING_WAIT_THRESHOLD_IN_MILLIS = 50;
+
     public static String POOL_NAME_KEY = "POOL_NAME_KEY";
     private static final String SEPARATOR = "_";
     private static final String DBPOOL = "DBPool_";
@@ -132,6 +138,15 @@ public class ConnectionStateManager implements Closeable
         EXECUTOR_SERVICE = Executors.newScheduledThreadPool(1, threadFactory);
         EXECUTOR_SERVICE.scheduleWithFixedDelay(connectionStateHousekeepingTask, 0, evictionDurationInSeconds, TimeUnit.SECONDS);
         LOGGER.info("ConnectionStateManager.HouseKeeper thread frequency. Time period={}, Time unit={}", evictionDurationInSeconds, TimeUnit.SECONDS);
+
+        int poolSizingMaximum = Integer.getInteger(POOL_SIZING_MAXIMUM_SYSTEM_PROPERTY, 0);
+        if (poolSizingMaximum > 0)
+        {
+            long poolSizingPeriodInSeconds = Long.getLong(POOL_SIZING_PERIOD_SYSTEM_PROPERTY, DEFAULT_POOL_SIZING_PERIOD_IN_SECONDS);
+            long waitThresholdInMillis = Long.getLong(POOL_SIZING_WAIT_THRESHOLD_SYSTEM_PROPERTY, DEFAULT_POOL_SIZING_WAIT_THRESHOLD_IN_MILLIS);
+            EXECUTOR_SERVICE.scheduleWithFixedDelay(new ConnectionPoolSizingTask(poolSizingMaximum, waitThresholdInMillis), poolSizingPeriodInSeconds, poolSizingPeriodInSeconds, TimeUnit.SECONDS);
+            LOGGER.info("ConnectionStateManager.HouseKeeper pool sizing enabled. Maximum={}, Time period={}, Time unit={}", poolSizingMaximum, poolSizingPeriodInSeconds, TimeUnit.SECONDS);
+        }
     }
 
     static long resolveEvictionDuration()
@@ -231,7 +246,7 @@ public class ConnectionStateManager implements Closeable
     protected Set<Pair<String, DataSourceStatistics>> findUnusedPoolsOlderThan(Duration duration)
     {
         return this.connectionPools.values().stream()
-                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections())
+                .filter(ds -> ds.getStatistics().getLastConnectionRequestAge() > duration.toMillis() && !ds.hasActiveConnections() && !ds.isPrewarmed())
                 .map(ds -> Tuples.pair(ds.getPoolName(), DataSourceStatistics.clone(ds.getStatistics())))
                 .collect(Collectors.toSet());
     }
@@ -283,6 +298,7 @@ public class ConnectionStateManager implements Closeable
         this.evictUnusedPoolsOlderThan(Duration.ofSeconds(durationInSeconds));
         int sizeAfterPurge = this.size();
         LOGGER.info("ConnectionStateManager.HouseKeeper: Evicted={}", sizeBeforePurge - sizeAfterPurge);
+        MetricsHandler.incrementConnectionPoolPurges(Math.max(0, sizeBeforePurge - sizeAfterPurge));
     }
 
     public Optional<ConnectionStateManagerPOJO.ConnectionPool> findByPoolName(String poolName)
@@ -334,14 +350,79 @@ public class ConnectionStateManager implements Closeable
         }
     }
 
+    static class ConnectionPoolSizingTask implements Runnable
+    {
+        private final int maximumPoolSize;
+        private final long waitThresholdInMillis;
+
+        public ConnectionPoolSizingTask(int maximumPoolSize, long waitThresholdInMillis)
+        {
+            this.maximumPoolSize = maximumPoolSize;
+            this.waitThresholdInMillis = waitThresholdInMillis;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                ConnectionStateManager.getInstance().resizeConnectionPools(this.maximumPoolSize, this.waitThresholdInMillis);
+            }
+            catch (Exception e)
+            {
+                LOGGER.error("ConnectionStateManager.HouseKeeper pool sizing failed {}", e);
+            }
+        }
+    }
+
     private void updateMetricsForConnectionPools()
     {
         this.connectionPools.forEach(p ->
         {
             MetricsHandler.setConnectionMetrics(p.getPoolName(), p.getActiveConnections(), p.getTotalConnections(), p.getIdleConnections());
+            MetricsHandler.setConnectionPoolSizeMetrics(p.getPoolName(), p.getMaximumPoolSize(), p.getThreadsAwaitingConnection());
         });
     }
 
+    /*
+        Grows the maximum size of pools whose callers wait for connections, up to the given maximum, and shrinks it back towards the
+        size the pool was configured with once they no longer do. Pools are never sized below their configured size.
+     */
+    void resizeConnectionPools(int maximumPoolSize, long waitThresholdInMillis)
+    {
+        this.connectionPools.forEach(p ->
+        {
+            if (p.getDataSource() != null)
+            {
+                int current = p.getMaximumPoolSize();
+                int next = nextMaximumPoolSize(current, p.getDataSourceSpecification().getHikariMaxPoolSize(), maximumPoolSize, (int) p.getActiveConnections(),
+                        p.getThreadsAwaitingConnection(), p.getStatistics().resetAverageConnectionAcquisitionMillis(), waitThresholdInMillis);
+                if (next != current)
+                {
+                    LOGGER.info("ConnectionStateManager.HouseKeeper : resizing pool {} from {} to {}", p.getPoolName(), current, next);
+                    p.setMaximumPoolSize(next);
+                }
+                MetricsHandler.setConnectionPoolSizeMetrics(p.getPoolName(), next, p.getThreadsAwaitingConnection());
+            }
+        });
+    }
+
+    static int nextMaximumPoolSize(int current, int configured, int maximum, int active, int awaiting, double averageAcquisitionMillis, long waitThresholdInMillis)
+    {
+        int upper = Math.max(configured, maximum);
+        int step = Math.max(1, current / 4);
+        boolean waiting = awaiting > 0 || averageAcquisitionMillis > waitThresholdInMillis;
+        if (waiting && active >= current)
+        {
+            return Math.min(upper, current + Math.max(step, awaiting));
+        }
+        if (!waiting && current > configured && active <= current / 2)
+        {
+            return Math.max(configured, Math.max(current - step, active));
+        }
+        return Math.max(configured, Math.min(upper, current));
+    }
+
     public DataSourceWithStatistics getDataSourceForIdentityIfAbsentBuild(IdentityState identityState, DataSourceSpecification dataSourceSpecification, Supplier<DataSource> dataSourceBuilder)
     {
 
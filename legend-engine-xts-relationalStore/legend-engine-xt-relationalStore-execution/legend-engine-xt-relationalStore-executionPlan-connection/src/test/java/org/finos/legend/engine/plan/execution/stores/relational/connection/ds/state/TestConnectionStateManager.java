@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state;
 
+import com.zaxxer.hikari.HikariDataSource;
 import io.prometheus.client.CollectorRegistry;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.TestDatabaseAuthenticationStrategy;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Manager;
@@ -37,6 +38,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.finos.legend.engine.plan.execution.stores.relational.connection.ds.specifications.TestLocalH2ConcurrentConnectionAcquisition.plainTextCredentialSupplier;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -67,6 +69,26 @@ public class TestConnectionStateManager extends TestConnectionManagement
         assertEquals(4567, evictionDurationInSeconds);
     }
 
+    @Test
+    public void testPoolGrowsWhileCallersWaitForConnections()
+    {
+        assertEquals(16, ConnectionStateManager.nextMaximumPoolSize(10, 10, 40, 10, 6, 0, 50));
+        assertEquals(12, ConnectionStateManager.nextMaximumPoolSize(10, 10, 40, 10, 0, 120, 50));
+        assertEquals(40, ConnectionStateManager.nextMaximumPoolSize(38, 10, 40, 38, 5, 0, 50));
+        // waits without the pool being exhausted are not down to its size
+        assertEquals(10, ConnectionStateManager.nextMaximumPoolSize(10, 10, 40, 4, 0, 120, 50));
+    }
+
+    @Test
+    public void testPoolShrinksBackToConfiguredSize()
+    {
+        assertEquals(30, ConnectionStateManager.nextMaximumPoolSize(40, 10, 40, 5, 0, 1, 50));
+        assertEquals(10, ConnectionStateManager.nextMaximumPoolSize(12, 10, 40, 0, 0, 0, 50));
+        assertEquals(10, ConnectionStateManager.nextMaximumPoolSize(10, 10, 40, 0, 0, 0, 50));
+        // busy pools keep their size
+        assertEquals(30, ConnectionStateManager.nextMaximumPoolSize(30, 10, 40, 20, 0, 1, 50));
+    }
+
 
     @Test
     public void testDataSourceConnectionsRequest()
@@ -313,6 +335,49 @@ public class TestConnectionStateManager extends TestConnectionManagement
         assertPoolStateExists(pool3);
     }
 
+    @Test
+    public void testPrewarmKeepsIdleConnectionsWithinPoolSize()
+    {
+        Identity user1 = new Identity("user1");
+        Identity user2 = new Identity("user2");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+
+        ds1.prewarm(user1, plainTextCredentialSupplier(), 2);
+        DataSourceWithStatistics pool1 = connectionStateManager.getDataSourceByPoolName(connectionStateManager.poolNameFor(user1, ds1.getConnectionKey()));
+        Assert.assertTrue(pool1.isPrewarmed());
+        Assert.assertEquals(2, ((HikariDataSource) pool1.getDataSource()).getMinimumIdle());
+
+        ds1.prewarm(user2, plainTextCredentialSupplier(), Integer.MAX_VALUE);
+        DataSourceWithStatistics pool2 = connectionStateManager.getDataSourceByPoolName(connectionStateManager.poolNameFor(user2, ds1.getConnectionKey()));
+        Assert.assertTrue(pool2.isPrewarmed());
+        Assert.assertEquals(ds1.getHikariMaxPoolSize().intValue(), ((HikariDataSource) pool2.getDataSource()).getMinimumIdle());
+    }
+
+    @Test
+    public void testPrewarmedPoolIsNotEvicted() throws SQLException
+    {
+        Identity user1 = new Identity("user1");
+        Identity user2 = new Identity("user2");
+        DataSourceSpecification ds1 = buildLocalDataSourceSpecification(Collections.emptyList());
+        String pool1 = connectionStateManager.poolNameFor(user1, ds1.getConnectionKey());
+        String pool2 = connectionStateManager.poolNameFor(user2, ds1.getConnectionKey());
+
+        ConnectionStateManager.ConnectionStateHousekeepingTask houseKeeper = new ConnectionStateManager.ConnectionStateHousekeepingTask(Duration.ofMinutes(5).getSeconds());
+
+        ds1.prewarm(user1, plainTextCredentialSupplier(), 1);
+        requestConnection(user2, ds1).close();
+        Assert.assertEquals(2, connectionStateManager.size());
+        Assert.assertFalse(connectionStateManager.getDataSourceByPoolName(pool2).isPrewarmed());
+
+        // both pools are unused for longer than the eviction duration, only the pre-warmed one is kept
+        clock.advance(Duration.ofMinutes(11));
+        houseKeeper.run();
+
+        Assert.assertEquals(1, connectionStateManager.size());
+        Assert.assertNotNull(connectionStateManager.getDataSourceByPoolName(pool1));
+        Assert.assertNull(connectionStateManager.getDataSourceByPoolName(pool2));
+    }
+
     @Test
     public void testDataSourceEvictionWithUnclosedConnection() throws SQLException
     {
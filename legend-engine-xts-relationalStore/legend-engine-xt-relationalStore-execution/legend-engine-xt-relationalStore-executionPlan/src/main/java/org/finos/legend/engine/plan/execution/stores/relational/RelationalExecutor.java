@@ -39,6 +39,7 @@ import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
 import org.finos.legend.engine.plan.execution.stores.relational.blockConnection.BlockConnection;
+import org.finos.legend.engine.plan.execution.stores.relational.config.ConnectionPrewarmConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
@@ -71,6 +72,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -123,6 +125,39 @@ public class RelationalExecutor
         return this.connectionManager;
     }
 
+    /**
+     * Creates the pools of the connections declared as hot in the configuration, in the background so that startup is not
+     * held up by slow databases. Failures are logged: the pool is then created on first use as usual. The returned future
+     * completes once all the connections have been tried.
+     */
+    public CompletableFuture<Void> prewarmConnections()
+    {
+        List<ConnectionPrewarmConfiguration> prewarmConnections = this.relationalExecutionConfiguration.prewarmConnections;
+        if (prewarmConnections == null || prewarmConnections.isEmpty())
+        {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread thread = new Thread(() ->
+        {
+            prewarmConnections.forEach(c ->
+            {
+                try
+                {
+                    this.connectionManager.prewarmConnection(new Identity(c.identity), c.connection, c.minimumIdle);
+                }
+                catch (Exception e)
+                {
+                    LOGGER.warn("Unable to pre-warm connection pool for {}", c.identity, e);
+                }
+            });
+            done.complete(null);
+        }, "RelationalExecutor.Prewarm");
+        thread.setDaemon(true);
+        thread.start();
+        return done;
+    }
+
     public Result execute(RelationalExecutionNode node, Identity identity, ExecutionState executionState)
     {
         Connection connectionManagerConnection;
@@ -0,0 +1,39 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+
+/**
+ * A connection whose pool is created at startup. Pools are per identity, so the pool is warmed for the named identity
+ * (e.g. the service account the connection is used with).
+ */
+public class ConnectionPrewarmConfiguration
+{
+    public String identity;
+    public DatabaseConnection connection;
+    public int minimumIdle = 1;
+
+    public ConnectionPrewarmConfiguration()
+    {
+    }
+
+    public ConnectionPrewarmConfiguration(String identity, DatabaseConnection connection, int minimumIdle)
+    {
+        this.identity = identity;
+        this.connection = connection;
+        this.minimumIdle = minimumIdle;
+    }
+}
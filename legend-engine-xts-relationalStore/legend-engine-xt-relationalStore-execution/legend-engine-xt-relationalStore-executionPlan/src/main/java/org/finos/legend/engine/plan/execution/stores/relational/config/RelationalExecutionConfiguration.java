@@ -30,6 +30,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     public TemporaryTestDbConfiguration temporarytestdb;
     public String tempPath;
     public List<OAuthProfile> oauthProfiles = Lists.mutable.empty();
+    public List<ConnectionPrewarmConfiguration> prewarmConnections = Lists.mutable.empty();
     private DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration;
     private Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass;
     private CredentialProviderProvider credentialProviderProvider;
@@ -100,6 +101,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     {
         public String tempPath;
         public List<OAuthProfile> oauthProfiles = Lists.mutable.empty();
+        public List<ConnectionPrewarmConfiguration> prewarmConnections = Lists.mutable.empty();
         private Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass;
         private DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration;
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
@@ -124,6 +126,11 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withPrewarmConnections(List<ConnectionPrewarmConfiguration> prewarmConnections)
+        {
+            this.prewarmConnections = prewarmConnections;
+            return this;
+        }
 
         public Builder withDatabaseAuthenticationFlowProvider(Class<? extends DatabaseAuthenticationFlowProvider> flowProviderClass, DatabaseAuthenticationFlowProviderConfiguration flowProviderConfiguration)
         {
@@ -156,6 +163,7 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
             relationalExecutionConfiguration.tempPath = this.tempPath;
             relationalExecutionConfiguration.oauthProfiles = this.oauthProfiles;
+            relationalExecutionConfiguration.prewarmConnections = this.prewarmConnections;
             relationalExecutionConfiguration.flowProviderClass = this.flowProviderClass;
             relationalExecutionConfiguration.flowProviderConfiguration = this.flowProviderConfiguration;
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
@@ -34,6 +34,7 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 
 import javax.security.auth.Subject;
 import java.sql.Connection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -72,12 +73,12 @@ public class ConnectionManagerSelector
     public Connection getDatabaseConnection(Subject subject, DatabaseConnection databaseConnection, StoreExecutionState.RuntimeContext runtimeContext)
     {
         Identity identity = Identity.makeIdentity(subject);
-        return this.getDatabaseConnectionInternal(identity, databaseConnection, java.util.Collections.emptyMap(), runtimeContext, false);
+        return this.getDatabaseConnectionInternal(identity, databaseConnection, Collections.emptyMap(), runtimeContext, false);
     }
 
     public Connection getDatabaseConnection(Identity identity, DatabaseConnection databaseConnection)
     {
-        return this.getDatabaseConnectionInternal(identity, databaseConnection, java.util.Collections.emptyMap(), StoreExecutionState.emptyRuntimeContext(), false);
+        return this.getDatabaseConnectionInternal(identity, databaseConnection, Collections.emptyMap(), StoreExecutionState.emptyRuntimeContext(), false);
     }
 
     public Connection getDatabaseConnection(Identity identity, DatabaseConnection databaseConnection, Map<String, Result> allocationResults, StoreExecutionState.RuntimeContext runtimeContext)
@@ -87,7 +88,7 @@ public class ConnectionManagerSelector
 
     public Connection getDatabaseConnection(Identity identity, DatabaseConnection databaseConnection, StoreExecutionState.RuntimeContext runtimeContext)
     {
-        return this.getDatabaseConnectionInternal(identity, databaseConnection, java.util.Collections.emptyMap(), runtimeContext, false);
+        return this.getDatabaseConnectionInternal(identity, databaseConnection, Collections.emptyMap(), runtimeContext, false);
     }
 
     public Connection getDatabaseConnection(Identity identity, DatabaseConnection databaseConnection, Map<String, Result> allocationResults, StoreExecutionState.RuntimeContext runtimeContext, boolean skipPreprocessing)
@@ -95,6 +96,19 @@ public class ConnectionManagerSelector
         return this.getDatabaseConnectionInternal(identity, databaseConnection, allocationResults, runtimeContext, skipPreprocessing);
     }
 
+    /**
+     * Creates the pool the given identity would use for the connection, keeping at least {@code minimumIdle} connections open.
+     */
+    public void prewarmConnection(Identity identity, DatabaseConnection databaseConnection, int minimumIdle)
+    {
+        DatabaseConnection resolvedConnection = this.preprocessConnection(databaseConnection, identity, Collections.emptyMap());
+        DataSourceSpecification datasource = getDataSourceSpecification(resolvedConnection);
+        Optional<CredentialSupplier> databaseCredentialHolder = resolvedConnection instanceof RelationalDatabaseConnection
+                ? RelationalConnectionManager.getCredential(flowProviderHolder, (RelationalDatabaseConnection) resolvedConnection, identity, StoreExecutionState.emptyRuntimeContext())
+                : Optional.empty();
+        datasource.prewarm(identity, databaseCredentialHolder, minimumIdle);
+    }
+
     /**
      * Preprocesses a {@link DatabaseConnection} by delegating to the registered
      * {@link ConnectionManager} instances. Extensions may enrich the connection
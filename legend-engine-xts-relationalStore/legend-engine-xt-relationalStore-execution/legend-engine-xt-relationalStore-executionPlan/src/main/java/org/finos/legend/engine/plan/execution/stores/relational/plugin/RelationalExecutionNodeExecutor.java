@@ -162,6 +162,9 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -1506,24 +1509,68 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
 
             boolean isUnion = setIdCount > 1;
             AtomicLong batchIndex = new AtomicLong(0L);
+
+            /* Children of a batch can be fetched in the background while the next batches are read from the root result set */
+            ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool = this.executionState.getGraphFetchExecutionNodeExecutorPool();
+            RelationalGraphFetchExecutor relationalGraphFetchExecutor = ((RelationalStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.Relational)).getRelationalGraphFetchExecutor();
+            long maxPipelinedBatches = (!isLeaf && (graphFetchExecutionNodeExecutorPool != null) && this.executionState.getGraphFetchExecutionConfiguration().canExecuteInParallel() && relationalGraphFetchExecutor.canExecuteInParallel()) ?
+                    this.executionState.getGraphFetchExecutionConfiguration().getMaxPipelinedBatches() :
+                    0L;
+            String dbConnectionKeyWithIdentity = (maxPipelinedBatches > 0) ?
+                    ((RelationalStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.Relational)).getRelationalExecutor().getConnectionManager().generateKeyFromDatabaseConnection(databaseConnection).shortId() + "_" + this.identity.getName() :
+                    null;
+
+            // batches whose children are being fetched, in the order they were read
+            Queue<RootGraphFetchBatch> inFlightBatches = new LinkedList<>();
             Spliterator<GraphObjectsBatch> graphObjectsBatchSpliterator = new Spliterators.AbstractSpliterator<GraphObjectsBatch>(Long.MAX_VALUE, Spliterator.ORDERED)
             {
+                private boolean rootResultExhausted = false;
+
                 @Override
                 public boolean tryAdvance(Consumer<? super GraphObjectsBatch> action)
+                {
+                    RelationalExecutionNodeExecutor.this.executionState.getCancellationToken().throwIfCancelled();
+                    RootGraphFetchBatch batch;
+                    if (maxPipelinedBatches <= 0)
+                    {
+                        batch = this.readBatch();
+                        this.fetchChildren(batch, RelationalExecutionNodeExecutor.this);
+                    }
+                    else
+                    {
+                        try
+                        {
+                            while (!this.rootResultExhausted && (inFlightBatches.size() < maxPipelinedBatches))
+                            {
+                                RootGraphFetchBatch nextBatch = this.readBatch();
+                                this.rootResultExhausted = nextBatch.resultObjects.isEmpty();
+                                this.submitFetchChildren(nextBatch);
+                                inFlightBatches.add(nextBatch);
+                            }
+                            batch = this.awaitBatch(inFlightBatches.peek());
+                            inFlightBatches.poll();
+                        }
+                        catch (RuntimeException e)
+                        {
+                            cancelInFlightBatches(inFlightBatches, relationalGraphFetchExecutor, graphFetchExecutionNodeExecutorPool, dbConnectionKeyWithIdentity);
+                            throw e;
+                        }
+                    }
+
+                    action.accept(batch.graphObjectsBatch);
+
+                    return !batch.resultObjects.isEmpty();
+                }
+
+                private RootGraphFetchBatch readBatch()
                 {
                     long batchSize;
                     boolean useAdaptiveBatching = executionState.getGraphFetchExecutionConfiguration().shouldUseAdaptiveBatching() && (node.batchSize == null);
                     batchSize = useAdaptiveBatching ? AdaptiveBatching.getAdaptiveBatchSize(executionState) : (node.batchSize == null ? executionState.getGraphFetchExecutionConfiguration().getGraphFetchDefaultBatchSize() : node.batchSize);
 
-                    /* Ensure all children run in the same connection */
-                    RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational);
-                    BlockConnectionContext oldBlockConnectionContext = relationalStoreExecutionState.getBlockConnectionContext();
-                    boolean oldRetainConnectionFlag = relationalStoreExecutionState.retainConnection();
-                    relationalStoreExecutionState.setBlockConnectionContext(new BlockConnectionContext());
-                    relationalStoreExecutionState.setRetainConnection(true);
-
                     long currentBatch = batchIndex.incrementAndGet();
-                    try (Scope ignored = GlobalTracer.get().buildSpan("graph fetch batch").withTag("storeType", "relational").withTag("batchIndex", currentBatch).withTag("batchSizeConfig", batchSize).withTag("class", ((RootGraphFetchTree) node.graphFetchTree)._class).asChildOf(graphFetchSpan).startActive(true))
+                    Span batchSpan = GlobalTracer.get().buildSpan("graph fetch batch").withTag("storeType", "relational").withTag("batchIndex", currentBatch).withTag("batchSizeConfig", batchSize).withTag("class", ((RootGraphFetchTree) node.graphFetchTree)._class).asChildOf(graphFetchSpan).start();
+                    try (Scope ignored = GlobalTracer.get().activateSpan(batchSpan))
                     {
                         RelationalGraphObjectsBatch relationalGraphObjectsBatch;
                         if (useAdaptiveBatching)
@@ -1535,8 +1582,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             relationalGraphObjectsBatch = new RelationalGraphObjectsBatch(currentBatch, executionState.getGraphFetchExecutionConfiguration().getGraphFetchBatchMemorySoftLimit());
                         }
 
-                        List<Object> resultObjects = new ArrayList<>();
-                        List<Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>>> instancesToDeepFetchAndCache = new ArrayList<>();
+                        RootGraphFetchBatch batch = new RootGraphFetchBatch(relationalGraphObjectsBatch, batchSpan);
                         // stores a list of concrete objects you want to fetch. cache in case multiple parents map to the same child.
                         int objectCount = 0;
                         while ((!rootResultSet.isClosed()) && rootResultSet.next())
@@ -1550,7 +1596,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             if (shouldDeepFetchOnThisInstance)
                             {
                                 IGraphInstance<? extends IReferencedObject> wrappedObject = nodeSpecifics.nextGraphInstance(); // nodeSpecifics holds reference to the resultSet and reads the object
-                                instancesToDeepFetchAndCache.add(Tuples.pair(wrappedObject, multiSetCache.setCaches.get(setIndex)));
+                                batch.instancesToDeepFetchAndCache.add(Tuples.pair(wrappedObject, multiSetCache.setCaches.get(setIndex)));
                                 object = wrappedObject.getValue();
                             }
                             else
@@ -1559,11 +1605,11 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                             }
                             if (node.checked != null && node.checked)
                             {
-                                resultObjects.add(BasicChecked.newChecked(object, null));
+                                batch.resultObjects.add(BasicChecked.newChecked(object, null));
                             }
                             else
                             {
-                                resultObjects.add(object);
+                                batch.resultObjects.add(object);
                             }
 
                             objectCount += 1;
@@ -1574,13 +1620,97 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         }
 
                         // for each node index, we are storing a list of java Objects. the objects are not fully populated yet and references to the parent need to be added.
-                        relationalGraphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, resultObjects);
+                        relationalGraphObjectsBatch.setObjectsForNodeIndex(node.nodeIndex, batch.resultObjects);
+                        return batch;
+                    }
+                    catch (SQLException e)
+                    {
+                        batchSpan.finish();
+                        throw new RuntimeException(e);
+                    }
+                    catch (RuntimeException e)
+                    {
+                        batchSpan.finish();
+                        throw e;
+                    }
+                }
 
-                        if (!instancesToDeepFetchAndCache.isEmpty())
+                private void submitFetchChildren(RootGraphFetchBatch batch)
+                {
+                    if (!batch.instancesToDeepFetchAndCache.isEmpty() && relationalGraphFetchExecutor.acquireThreads(graphFetchExecutionNodeExecutorPool, dbConnectionKeyWithIdentity, 1, sqlExecutionResult.getDatabaseType()))
+                    {
+                        batch.childrenExecutionState = executionState.copy();
+                        batch.childrenExecutionState.setGraphFetchCaches(executionState.graphFetchCaches);
+                        batch.childrenFetch = graphFetchExecutionNodeExecutorPool.submit(() ->
+                        {
+                            if (!batch.childrenFetchStarted.compareAndSet(false, true))
+                            {
+                                // cancelled before it started, the thread has already been released
+                                return batch;
+                            }
+                            try
+                            {
+                                this.fetchChildren(batch, new RelationalExecutionNodeExecutor(batch.childrenExecutionState, identity));
+                                return batch;
+                            }
+                            finally
+                            {
+                                relationalGraphFetchExecutor.releaseThreads(graphFetchExecutionNodeExecutorPool, dbConnectionKeyWithIdentity, 1);
+                            }
+                        });
+                        return;
+                    }
+
+                    // no spare thread: fetch in line, in this execution's connections
+                    this.fetchChildren(batch, RelationalExecutionNodeExecutor.this);
+                }
+
+                private RootGraphFetchBatch awaitBatch(RootGraphFetchBatch batch)
+                {
+                    if (batch.childrenFetch == null)
+                    {
+                        return batch;
+                    }
+                    try
+                    {
+                        batch.childrenFetch.get();
+                        // report the activities (e.g. the children queries) of the background fetch on this execution
+                        executionState.activities.addAll(batch.childrenExecutionState.activities.select(a -> !executionState.activities.contains(a)));
+                        return batch;
+                    }
+                    catch (InterruptedException e)
+                    {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                    catch (ExecutionException e)
+                    {
+                        if (e.getCause() instanceof RuntimeException)
+                        {
+                            throw (RuntimeException) e.getCause();
+                        }
+                        throw new RuntimeException(e.getCause());
+                    }
+                }
+
+                private void fetchChildren(RootGraphFetchBatch batch, RelationalExecutionNodeExecutor batchExecutor)
+                {
+                    RelationalGraphObjectsBatch relationalGraphObjectsBatch = batch.graphObjectsBatch;
+
+                    /* Ensure all children run in the same connection */
+                    RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) batchExecutor.executionState.getStoreExecutionState(StoreType.Relational);
+                    BlockConnectionContext oldBlockConnectionContext = relationalStoreExecutionState.getBlockConnectionContext();
+                    boolean oldRetainConnectionFlag = relationalStoreExecutionState.retainConnection();
+                    relationalStoreExecutionState.setBlockConnectionContext(new BlockConnectionContext());
+                    relationalStoreExecutionState.setRetainConnection(true);
+
+                    try (Scope ignored = GlobalTracer.get().activateSpan(batch.span))
+                    {
+                        if (!batch.instancesToDeepFetchAndCache.isEmpty())
                         {
                             RealizedRelationalResult realizedRelationalResult = RealizedRelationalResult.emptyRealizedRelationalResult(node.columns);
                             DoubleStrategyHashMap<Object, Object, SQLExecutionResult> rootMap = new DoubleStrategyHashMap<>(RelationalGraphFetchUtils.objectSQLResultDoubleHashStrategyWithEmptySecondStrategy(primaryKeyGetters));
-                            for (Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>> instanceAndCache : instancesToDeepFetchAndCache)
+                            for (Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>> instanceAndCache : batch.instancesToDeepFetchAndCache)
                             {
                                 IGraphInstance<? extends IReferencedObject> rootGraphInstance = instanceAndCache.getOne();
                                 Object rootObject = rootGraphInstance.getValue();
@@ -1588,29 +1718,25 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                                 relationalGraphObjectsBatch.addObjectMemoryUtilization(rootGraphInstance.instanceSize());
                                 if (!isLeaf) // objects which aren't fetched completely and need to be added in a temp table
                                 {
-                                    RelationalExecutionNodeExecutor.this.addKeyRowToRealizedRelationalResult(rootObject, primaryKeyGetters, realizedRelationalResult);
+                                    batchExecutor.addKeyRowToRealizedRelationalResult(rootObject, primaryKeyGetters, realizedRelationalResult);
                                 }
                             }
 
                             /* Execute store local children */
                             if (!isLeaf)
                             {
-                                executionState.graphObjectsBatch = relationalGraphObjectsBatch;
-                                RelationalExecutionNodeExecutor.this.executeRootTempTableNodeChildren(node, realizedRelationalResult, databaseConnection, sqlExecutionResult.getDatabaseType(), sqlExecutionResult.getDatabaseTimeZone(), rootMap, primaryKeyGetters);
+                                batchExecutor.executionState.graphObjectsBatch = relationalGraphObjectsBatch;
+                                batchExecutor.executeRootTempTableNodeChildren(node, realizedRelationalResult, databaseConnection, sqlExecutionResult.getDatabaseType(), sqlExecutionResult.getDatabaseTimeZone(), rootMap, primaryKeyGetters);
                             }
                         }
 
-                        instancesToDeepFetchAndCache.stream().filter(x -> x.getTwo() != null).forEach(x ->
+                        batch.instancesToDeepFetchAndCache.stream().filter(x -> x.getTwo() != null).forEach(x ->
                         {
                             Object object = x.getOne().getValue();
                             x.getTwo().put(new RelationalGraphFetchUtils.RelationalObjectGraphFetchCacheKey(object, primaryKeyGetters), object);
                         });
-
-                        action.accept(relationalGraphObjectsBatch);
-
-                        return !resultObjects.isEmpty();
                     }
-                    catch (SQLException | InvocationTargetException | IllegalAccessException e)
+                    catch (InvocationTargetException | IllegalAccessException e)
                     {
                         throw new RuntimeException(e);
                     }
@@ -1620,11 +1746,13 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                         relationalStoreExecutionState.getBlockConnectionContext().closeAllBlockConnectionsAsync();
                         relationalStoreExecutionState.setBlockConnectionContext(oldBlockConnectionContext);
                         relationalStoreExecutionState.setRetainConnection(oldRetainConnectionFlag);
+                        batch.span.finish();
                     }
                 }
             };
 
-            Stream<GraphObjectsBatch> graphObjectsBatchStream = StreamSupport.stream(graphObjectsBatchSpliterator, false);
+            Stream<GraphObjectsBatch> graphObjectsBatchStream = StreamSupport.stream(graphObjectsBatchSpliterator, false)
+                    .onClose(() -> cancelInFlightBatches(inFlightBatches, relationalGraphFetchExecutor, graphFetchExecutionNodeExecutorPool, dbConnectionKeyWithIdentity));
             return new GraphFetchResult(graphObjectsBatchStream, rootResult).withGraphFetchSpan(graphFetchSpan);
         }
         catch (RuntimeException e)
@@ -2339,7 +2467,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         return columnNames;
     }
 
-    private synchronized boolean checkForCachingAndPopulateCachingHelpers(List<Pair<String, String>> allInstanceSetImplementations, boolean nodeSupportsCaching, GraphFetchTree nodeSubTree, SQLExecutionResult sqlExecutionResult, Function<Integer, List<String>> pkColumnsFunction, RelationalMultiSetExecutionCacheWrapper multiSetCaches)
+    private boolean checkForCachingAndPopulateCachingHelpers(List<Pair<String, String>> allInstanceSetImplementations, boolean nodeSupportsCaching, GraphFetchTree nodeSubTree, SQLExecutionResult sqlExecutionResult, Function<Integer, List<String>> pkColumnsFunction, RelationalMultiSetExecutionCacheWrapper multiSetCaches)
     {
         boolean cachingEnabledForNode = (this.executionState.graphFetchCaches != null) && nodeSupportsCaching && RelationalGraphFetchUtils.subTreeValidForCaching(nodeSubTree);
         ResultSet sqlResultSet = sqlExecutionResult.getResultSet();
@@ -2379,6 +2507,41 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
         return null;
     }
 
+    private static void cancelInFlightBatches(Queue<RootGraphFetchBatch> inFlightBatches, RelationalGraphFetchExecutor relationalGraphFetchExecutor, ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool, String dbConnectionKeyWithIdentity)
+    {
+        RootGraphFetchBatch batch;
+        while ((batch = inFlightBatches.poll()) != null)
+        {
+            if (batch.childrenFetch != null)
+            {
+                if (batch.childrenFetchStarted.compareAndSet(false, true))
+                {
+                    // the fetch will never run: release its thread here as it won't reach its finally block
+                    relationalGraphFetchExecutor.releaseThreads(graphFetchExecutionNodeExecutorPool, dbConnectionKeyWithIdentity, 1);
+                    batch.span.finish();
+                }
+                batch.childrenFetch.cancel(true);
+            }
+        }
+    }
+
+    private static class RootGraphFetchBatch
+    {
+        private final RelationalGraphObjectsBatch graphObjectsBatch;
+        private final Span span;
+        private final List<Object> resultObjects = new ArrayList<>();
+        private final List<Pair<IGraphInstance<? extends IReferencedObject>, ExecutionCache<GraphFetchCacheKey, Object>>> instancesToDeepFetchAndCache = new ArrayList<>();
+        private final AtomicBoolean childrenFetchStarted = new AtomicBoolean(false);
+        private ExecutionState childrenExecutionState;
+        private Future<RootGraphFetchBatch> childrenFetch;
+
+        private RootGraphFetchBatch(RelationalGraphObjectsBatch graphObjectsBatch, Span span)
+        {
+            this.graphObjectsBatch = graphObjectsBatch;
+            this.span = span;
+        }
+    }
+
     private static class RelationalMultiSetExecutionCacheWrapper
     {
         List<Boolean> setCachingEnabled;
@@ -295,21 +295,8 @@ class RelationalGraphFetchUtils
 
         String subTree = getSubTreeString(graphFetchTree);
 
-        GraphFetchCacheByEqualityKeys matchingUtilizedCache = null;
-        for (GraphFetchCache c : graphFetchCaches)
-        {
-            if (c instanceof GraphFetchCacheByEqualityKeys)
-            {
-                GraphFetchCacheByEqualityKeys ce = (GraphFetchCacheByEqualityKeys) c;
-                if (ce.isCacheUtilized() && mappingId.equals(ce.getMappingId()) && instanceSetId.equals(ce.getInstanceSetId()) && subTree.equals(ce.getSubTree()))
-                {
-                    matchingUtilizedCache = ce;
-                    break;
-                }
-            }
-        }
-
-        if (matchingUtilizedCache == null)
+        // caches are claimed atomically, so concurrent executions sharing the caches need no lock here
+        while (true)
         {
             GraphFetchCacheByEqualityKeys unUtilizedCache = null;
             for (GraphFetchCache c : graphFetchCaches)
@@ -317,24 +304,31 @@ class RelationalGraphFetchUtils
                 if (c instanceof GraphFetchCacheByEqualityKeys)
                 {
                     GraphFetchCacheByEqualityKeys ce = (GraphFetchCacheByEqualityKeys) c;
-                    if (!ce.isCacheUtilized() && mappingId.equals(ce.getMappingId()) && instanceSetId.equals(ce.getInstanceSetId()))
+                    if (mappingId.equals(ce.getMappingId()) && instanceSetId.equals(ce.getInstanceSetId()))
                     {
-                        unUtilizedCache = ce;
-                        break;
+                        String cacheSubTree = ce.getSubTree();
+                        if (subTree.equals(cacheSubTree))
+                        {
+                            return ce;
+                        }
+                        if ((cacheSubTree == null) && (unUtilizedCache == null))
+                        {
+                            unUtilizedCache = ce;
+                        }
                     }
                 }
             }
 
-            if (unUtilizedCache != null)
+            if (unUtilizedCache == null)
+            {
+                return null;
+            }
+            if (unUtilizedCache.claimSubTree(subTree))
             {
-                unUtilizedCache.setSubTree(subTree);
                 return unUtilizedCache;
             }
-
-            return null;
+            // another execution claimed it for a different sub tree, look again
         }
-
-        return matchingUtilizedCache;
     }
 
     private static int hashWithKeys(Object obj, List<Method> getters)
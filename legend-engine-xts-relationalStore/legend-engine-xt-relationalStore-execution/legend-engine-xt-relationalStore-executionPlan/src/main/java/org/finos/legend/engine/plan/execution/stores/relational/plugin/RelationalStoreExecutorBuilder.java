@@ -74,6 +74,7 @@ public class RelationalStoreExecutorBuilder implements StoreExecutorBuilder
         }
         Optional<DatabaseAuthenticationFlowProvider> flowProviderHolder = this.configureDatabaseAuthenticationFlowProvider(relationalExecutionConfiguration);
         RelationalStoreState state = new RelationalStoreState(relationalExecutionConfiguration.temporarytestdb, relationalExecutionConfiguration, flowProviderHolder);
+        state.getRelationalExecutor().prewarmConnections();
         return new RelationalStoreExecutor(state);
     }
 
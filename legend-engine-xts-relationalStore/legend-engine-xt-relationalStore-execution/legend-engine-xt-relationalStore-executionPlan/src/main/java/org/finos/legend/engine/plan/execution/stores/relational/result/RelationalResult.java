@@ -433,6 +433,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
                 LOGGER.error("error closing connection", e);
             }
         }
+        super.close();
     }
 
     public List<TDSColumn> getTdsColumns()
@@ -15,12 +15,15 @@
 package org.finos.legend.engine.plan.execution.stores.relational.serialization;
 
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.function.Function;
 
 public class ValueTransformer
 {
+    private static final int SECONDS_PER_DAY = 86400;
+
     private final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private final DateTimeFormatter timeFormatterWithZ = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.nnnnnnnnnZ");
     private final ZoneOffset offset = ZoneOffset.UTC;
@@ -34,12 +37,12 @@ public class ValueTransformer
     {
         if (relationalValue instanceof Timestamp)
         {
-            return "\"" + timeFormatterWithZ.format(((Timestamp) relationalValue).toInstant().atOffset(offset)) + "\"";
+            return formatTimestamp((Timestamp) relationalValue, true);
 
         }
         else if (relationalValue instanceof java.sql.Date)
         {
-            return "\"" + ((java.sql.Date) relationalValue).toLocalDate().format(dateFormat) + "\"";
+            return formatDate((java.sql.Date) relationalValue, true);
         }
         else
         {
@@ -52,12 +55,12 @@ public class ValueTransformer
     {
         if (relationalValue instanceof Timestamp)
         {
-            return timeFormatterWithZ.format(((Timestamp) relationalValue).toInstant().atOffset(offset));
+            return formatTimestamp((Timestamp) relationalValue, false);
 
         }
         else if (relationalValue instanceof java.sql.Date)
         {
-            return ((java.sql.Date) relationalValue).toLocalDate().format(dateFormat);
+            return formatDate((java.sql.Date) relationalValue, false);
         }
         else
         {
@@ -65,4 +68,83 @@ public class ValueTransformer
         }
     }
 
+    /*
+    The formats below are written out character by character: timestamps and dates are serialized for every row of a
+    result, and going through the pattern formatters (and the intermediate temporal objects) dominates the cost of
+    serializing them. Years outside of 1-9999, which the patterns print differently, fall back to the formatters.
+    */
+
+    private String formatTimestamp(Timestamp timestamp, boolean quoted)
+    {
+        long epochSecond = Math.floorDiv(timestamp.getTime(), 1000);
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+        if (date.getYear() < 1 || date.getYear() > 9999)
+        {
+            String formatted = timeFormatterWithZ.format(timestamp.toInstant().atOffset(offset));
+            return quoted ? "\"" + formatted + "\"" : formatted;
+        }
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+0000
+        char[] chars = new char[quoted ? 36 : 34];
+        int i = quoted ? 1 : 0;
+        i = writeDate(chars, i, date);
+        chars[i++] = 'T';
+        i = writeDigits(chars, i, secondOfDay / 3600, 2);
+        chars[i++] = ':';
+        i = writeDigits(chars, i, (secondOfDay / 60) % 60, 2);
+        chars[i++] = ':';
+        i = writeDigits(chars, i, secondOfDay % 60, 2);
+        chars[i++] = '.';
+        i = writeDigits(chars, i, timestamp.getNanos(), 9);
+        chars[i++] = '+';
+        i = writeDigits(chars, i, 0, 4);
+        if (quoted)
+        {
+            chars[0] = '"';
+            chars[i] = '"';
+        }
+        return new String(chars);
+    }
+
+    private String formatDate(java.sql.Date sqlDate, boolean quoted)
+    {
+        LocalDate date = sqlDate.toLocalDate();
+        if (date.getYear() < 1 || date.getYear() > 9999)
+        {
+            String formatted = date.format(dateFormat);
+            return quoted ? "\"" + formatted + "\"" : formatted;
+        }
+
+        // yyyy-MM-dd
+        char[] chars = new char[quoted ? 12 : 10];
+        int i = writeDate(chars, quoted ? 1 : 0, date);
+        if (quoted)
+        {
+            chars[0] = '"';
+            chars[i] = '"';
+        }
+        return new String(chars);
+    }
+
+    private static int writeDate(char[] chars, int start, LocalDate date)
+    {
+        int i = writeDigits(chars, start, date.getYear(), 4);
+        chars[i++] = '-';
+        i = writeDigits(chars, i, date.getMonthValue(), 2);
+        chars[i++] = '-';
+        return writeDigits(chars, i, date.getDayOfMonth(), 2);
+    }
+
+    // Write the value as the given number of digits (zero padded), returning the index after them
+    private static int writeDigits(char[] chars, int start, int value, int digits)
+    {
+        int end = start + digits;
+        for (int i = end - 1; i >= start; i--)
+        {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
 }
@@ -0,0 +1,79 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.plan.execution.stores.relational.config.ConnectionPrewarmConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.ConnectionStateManager;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.ConnectionStateManagerPOJO;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TestRelationalExecutorPrewarm
+{
+    @Test
+    public void testPrewarmConnections() throws Exception
+    {
+        String connectionStr =
+                "{\n" +
+                        "  \"_type\": \"RelationalDatabaseConnection\",\n" +
+                        "  \"type\": \"H2\",\n" +
+                        "  \"authenticationStrategy\" : {\n" +
+                        "    \"_type\" : \"test\"\n" +
+                        "  },\n" +
+                        "  \"datasourceSpecification\" : {\n" +
+                        "    \"_type\" : \"h2Local\",\n" +
+                        "    \"testDataSetupSqls\" : []\n" +
+                        "  }\n" +
+                        "}";
+        RelationalDatabaseConnection connection = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports().readValue(connectionStr, RelationalDatabaseConnection.class);
+        // no connection manager supports this connection, which must not stop the other connections from being pre-warmed
+        DatabaseConnection unsupportedConnection = new DatabaseConnection()
+        {
+        };
+
+        RelationalExecutionConfiguration configuration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(-1))
+                .withPrewarmConnections(Lists.mutable.with(
+                        new ConnectionPrewarmConfiguration("prewarmUnsupported", unsupportedConnection, 1),
+                        new ConnectionPrewarmConfiguration("prewarmUser", connection, 2)))
+                .build();
+        RelationalExecutor executor = new RelationalExecutor(configuration.temporarytestdb, configuration);
+
+        executor.prewarmConnections().get(1, TimeUnit.MINUTES);
+
+        List<ConnectionStateManagerPOJO.ConnectionPool> pools = ConnectionStateManager.getInstance().getPoolInformationByUser("prewarmUser");
+        Assert.assertEquals(1, pools.size());
+        Assert.assertTrue(ConnectionStateManager.getInstance().getDataSourceByPoolName(pools.get(0).name).isPrewarmed());
+        Assert.assertTrue(ConnectionStateManager.getInstance().getPoolInformationByUser("prewarmUnsupported").isEmpty());
+    }
+
+    @Test
+    public void testPrewarmWithoutConnections() throws Exception
+    {
+        RelationalExecutionConfiguration configuration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(-1))
+                .build();
+        Assert.assertTrue(new RelationalExecutor(configuration.temporarytestdb, configuration).prewarmConnections().isDone());
+    }
+}
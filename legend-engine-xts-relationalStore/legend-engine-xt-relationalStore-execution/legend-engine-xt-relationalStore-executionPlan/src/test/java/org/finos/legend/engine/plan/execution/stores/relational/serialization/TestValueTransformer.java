@@ -42,4 +42,23 @@ public class TestValueTransformer
 
     }
 
+    @Test
+    public void testValueTransformerTimestampBoundaries()
+    {
+        ValueTransformer valueTransformer = new ValueTransformer();
+        Function<Object, String> transform = value -> value + "Transformed";
+
+        Assert.assertEquals("1970-01-01T00:00:00.000000000+0000", valueTransformer.transformRelationalValue(new Timestamp(0L), transform));
+        Assert.assertEquals("1969-12-31T23:59:59.999000000+0000", valueTransformer.transformRelationalValue(new Timestamp(-1L), transform));
+        Assert.assertEquals("9999-12-31T23:59:59.999000000+0000", valueTransformer.transformRelationalValue(new Timestamp(253402300799999L), transform));
+
+        Timestamp nanos = new Timestamp(1696532242123L);
+        nanos.setNanos(123456789);
+        Assert.assertEquals("2023-10-05T18:57:22.123456789+0000", valueTransformer.transformRelationalValue(nanos, transform));
+        Assert.assertEquals("\"2023-10-05T18:57:22.123456789+0000\"", valueTransformer.transformWrappedRelationalValueForJSON(nanos, transform));
+
+        // years beyond 9999 are not written with four digits
+        Assert.assertEquals("+10000-01-01T00:00:00.000000000+0000", valueTransformer.transformRelationalValue(new Timestamp(253402300800000L), transform));
+    }
+
 }
@@ -0,0 +1,251 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.full.graphFetch.concurrent;
+
+import org.eclipse.collections.impl.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
+import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.graphFetch.ParallelGraphFetchExecutionConfig;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamToPureFormatSerializer;
+import org.finos.legend.engine.plan.execution.result.json.JsonStreamingResult;
+import org.finos.legend.engine.plan.execution.result.object.StreamingObjectResult;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalGraphFetchExecutionConfig;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+public class TestPipelinedRelationalGraphFetchExecution extends AlloyTestServer
+{
+    private static final String LOGICAL_MODEL = "###Pure\n" +
+            "Class test::Firm\n" +
+            "{\n" +
+            "  legalName: String[1];\n" +
+            "  employees: test::Person[*];\n" +
+            "}\n\n" +
+            "Class test::Person\n" +
+            "{\n" +
+            "  name: String[1];\n" +
+            "}\n\n";
+
+    private static final String STORE_MODEL = "###Relational\n" +
+            "Database test::DB\n" +
+            "(\n" +
+            "  Table firm\n" +
+            "  (\n" +
+            "    ID INTEGER PRIMARY KEY,\n" +
+            "    LEGAL_NAME VARCHAR(100)\n" +
+            "  )\n\n" +
+            "  Table person\n" +
+            "  (\n" +
+            "    ID INTEGER PRIMARY KEY,\n" +
+            "    NAME VARCHAR(100),\n" +
+            "    FIRM_ID INTEGER\n" +
+            "  )\n" +
+            "\n" +
+            "  Join firm_person(firm.ID = person.FIRM_ID)\n" +
+            ")\n\n";
+
+    private static final String MAPPING = "###Mapping\n" +
+            "Mapping test::Map\n" +
+            "(\n" +
+            "  test::Firm: Relational\n" +
+            "  {\n" +
+            "    legalName: [test::DB]firm.LEGAL_NAME,\n" +
+            "    employees: [test::DB]@firm_person\n" +
+            "  }\n" +
+            "  test::Person: Relational\n" +
+            "  {\n" +
+            "    name: [test::DB]person.NAME\n" +
+            "  }\n" +
+            ")\n\n";
+
+    private static final String RUNTIME = "###Runtime\n" +
+            "Runtime test::Runtime\n" +
+            "{\n" +
+            "  mappings:\n" +
+            "  [\n" +
+            "    test::Map\n" +
+            "  ];\n" +
+            "  connections:\n" +
+            "  [\n" +
+            "    test::DB:\n" +
+            "    [\n" +
+            "      connection_1:\n" +
+            "      #{\n" +
+            "        RelationalDatabaseConnection\n" +
+            "        {\n" +
+            "          store: test::DB;\n" +
+            "          type: H2;\n" +
+            "          specification: LocalH2\n" +
+            "          {\n" +
+            "          };\n" +
+            "          auth: DefaultH2;\n" +
+            "        }\n" +
+            "      }#\n" +
+            "    ]\n" +
+            "  ];\n" +
+            "}\n\n";
+
+    private static final String TREE = "#{\n" +
+            "  test::Firm{\n" +
+            "    legalName,\n" +
+            "    employees{\n" +
+            "      name\n" +
+            "    }\n" +
+            "  }\n" +
+            "}#";
+
+    private static final int FIRM_COUNT = 10;
+
+    private final ParallelGraphFetchExecutionConfig parallelGraphFetchExecutionConfig = new ParallelGraphFetchExecutionConfig();
+    private final ParallelGraphFetchExecutionExecutorPool graphFetchExecutionNodeExecutorPool = new ParallelGraphFetchExecutionExecutorPool(this.parallelGraphFetchExecutionConfig, "test");
+
+    @After
+    public void closePool() throws Exception
+    {
+        this.graphFetchExecutionNodeExecutorPool.close();
+    }
+
+    @Override
+    protected PlanExecutor buildRelationalPlanExecutor()
+    {
+        RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+        try
+        {
+            relationalGraphFetchExecutionConfig = objectMapper.readValue("{\"parallelizeGraphFetchQueries\": true}", RelationalGraphFetchExecutionConfig.class);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        RelationalExecutionConfiguration relationalExecutionConfiguration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(serverPort))
+                .withRelationalGraphFetchExecutionConfig(relationalGraphFetchExecutionConfig)
+                .build();
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutor(Relational.build(relationalExecutionConfiguration));
+        planExecutor.injectGraphFetchExecutionNodeExecutorPool(this.graphFetchExecutionNodeExecutorPool);
+        return planExecutor;
+    }
+
+    @Test
+    public void testPipelinedBatchesGiveSameResultAndActivities()
+    {
+        String fetchFunction = "###Pure\n" +
+                "function test::fetch(): String[1]\n" +
+                "{\n" +
+                "  test::Firm.all()->graphFetch(" + TREE + ", 2)->serialize(" + TREE + ")\n" +
+                "}";
+        SingleExecutionPlan plan = buildPlan(LOGICAL_MODEL + STORE_MODEL + MAPPING + RUNTIME + fetchFunction);
+
+        ExecutionState sequentialState = this.newExecutionState(plan, 0);
+        String sequentialResult = this.flush(plan, sequentialState);
+
+        ExecutionState pipelinedState = this.newExecutionState(plan, 3);
+        String pipelinedResult = this.flush(plan, pipelinedState);
+
+        Assert.assertEquals(sequentialResult, pipelinedResult);
+        Assert.assertEquals(FIRM_COUNT, pipelinedResult.split("legalName", -1).length - 1);
+        Assert.assertTrue(pipelinedResult, pipelinedResult.contains("{\"name\":\"P09_2\"}"));
+        // the children queries run on copies of the execution state and are reported back on it
+        Assert.assertEquals(relationalActivityCount(sequentialState), relationalActivityCount(pipelinedState));
+        assertAllThreadsReleased();
+    }
+
+    @Test
+    public void testClosingResultEarlyCancelsPipelinedBatches()
+    {
+        String fetchFunction = "###Pure\n" +
+                "function test::fetch(): test::Firm[*]\n" +
+                "{\n" +
+                "  test::Firm.all()->graphFetch(" + TREE + ", 1)\n" +
+                "}";
+        SingleExecutionPlan plan = buildPlan(LOGICAL_MODEL + STORE_MODEL + MAPPING + RUNTIME + fetchFunction);
+
+        StreamingObjectResult<?> result = (StreamingObjectResult<?>) this.planExecutor.execute(plan, this.newExecutionState(plan, 5), null, Identity.getAnonymousIdentity());
+        Iterator<?> objects = result.getObjectStream().iterator();
+        Assert.assertTrue(objects.hasNext());
+        Assert.assertNotNull(objects.next());
+        result.close();
+
+        assertAllThreadsReleased();
+    }
+
+    private ExecutionState newExecutionState(SingleExecutionPlan plan, long maxPipelinedBatches)
+    {
+        this.planExecutor.setGraphFetchExecutionConfiguration(new GraphFetchExecutionConfiguration(this.parallelGraphFetchExecutionConfig).withMaxPipelinedBatches(maxPipelinedBatches));
+        return this.planExecutor.buildDefaultExecutionState(plan, Maps.mutable.empty());
+    }
+
+    private String flush(SingleExecutionPlan plan, ExecutionState state)
+    {
+        JsonStreamingResult result = (JsonStreamingResult) this.planExecutor.execute(plan, state, null, Identity.getAnonymousIdentity());
+        return result.flush(new JsonStreamToPureFormatSerializer(result));
+    }
+
+    private static long relationalActivityCount(ExecutionState state)
+    {
+        return state.activities.count(a -> a instanceof RelationalExecutionActivity);
+    }
+
+    private void assertAllThreadsReleased()
+    {
+        int poolSize = (int) this.parallelGraphFetchExecutionConfig.parallelExecutionPoolSize;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!this.graphFetchExecutionNodeExecutorPool.acquireThreads(poolSize))
+        {
+            Assert.assertTrue("Graph fetch threads were not released", System.currentTimeMillis() < deadline);
+            try
+            {
+                Thread.sleep(10);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+        this.graphFetchExecutionNodeExecutorPool.releaseThreads(poolSize);
+    }
+
+    @Override
+    protected void insertTestData(Statement s) throws SQLException
+    {
+        s.execute("Drop table if exists firm;");
+        s.execute("Create Table firm(ID INT PRIMARY KEY, LEGAL_NAME VARCHAR(100));");
+        s.execute("Drop table if exists person;");
+        s.execute("Create Table person(ID INT PRIMARY KEY, NAME VARCHAR(100), FIRM_ID INT);");
+        for (int i = 1; i <= FIRM_COUNT; i++)
+        {
+            String firm = String.format("%02d", i);
+            s.execute("insert into firm (ID, LEGAL_NAME) VALUES (" + i + ", 'F" + firm + "')");
+            s.execute("insert into person (ID, NAME, FIRM_ID) VALUES (" + (2 * i) + ", 'P" + firm + "_1', " + i + ")");
+            s.execute("insert into person (ID, NAME, FIRM_ID) VALUES (" + (2 * i + 1) + ", 'P" + firm + "_2', " + i + ")");
+        }
+    }
+}
@@ -35,13 +35,11 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.Assert;
 import org.finos.legend.engine.shared.core.url.StreamProvider;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -282,6 +280,11 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
 
                 planExecutionContext = new PlanExecutionContext(graphFetchCaches);
             }
+            else if (serviceRunnerInput.getOperationalContext() != null && serviceRunnerInput.getOperationalContext().getGraphFetchCacheService() != null)
+            {
+                List<GraphFetchCache> graphFetchCaches = serviceRunnerInput.getOperationalContext().getGraphFetchCacheService().getCrossKeysCaches(this.servicePath, this.plan);
+                planExecutionContext = new PlanExecutionContext(graphFetchCaches);
+            }
         }
         return this.executor.execute(this.plan, parameters, streamProvider, identity, planExecutionContext);
     }
@@ -586,9 +589,9 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
         {
             throw new RuntimeException("Could not find execution plan: " + planResourceName);
         }
-        try (Reader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)))
+        try (InputStream stream = new BufferedInputStream(url.openStream()))
         {
-            return PlanExecutor.readExecutionPlan(reader);
+            return PlanExecutor.readExecutionPlan(stream);
         }
         catch (IOException e)
         {
@@ -598,9 +601,9 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
 
     protected static ExecutionPlan readPlanFromFile(Path planFile)
     {
-        try (Reader reader = Files.newBufferedReader(planFile, StandardCharsets.UTF_8))
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(planFile)))
         {
-            return PlanExecutor.readExecutionPlan(reader);
+            return PlanExecutor.readExecutionPlan(stream);
         }
         catch (IOException e)
         {
@@ -16,6 +16,7 @@ package org.finos.legend.engine.language.pure.dsl.service.execution;
 
 import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheService;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 public class OperationalContext
 {
     private Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> graphFetchCrossAssociationKeysCacheConfig;
+    private GraphFetchCacheService graphFetchCacheService;
 
     public static OperationalContext newInstance()
     {
@@ -51,6 +53,21 @@ public class OperationalContext
         return this.graphFetchCrossAssociationKeysCacheConfig;
     }
 
+    /**
+     * Use caches from the given service for cross association keys, shared by all executions of the service. An explicit cache config
+     * takes precedence.
+     */
+    public OperationalContext withGraphFetchCacheService(GraphFetchCacheService graphFetchCacheService)
+    {
+        this.graphFetchCacheService = Objects.requireNonNull(graphFetchCacheService, "graphFetchCacheService must not be null");
+        return this;
+    }
+
+    GraphFetchCacheService getGraphFetchCacheService()
+    {
+        return this.graphFetchCacheService;
+    }
+
     private static void assertSharedCachesValidity(Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> cacheConfig)
     {
         Map<ExecutionCache<GraphFetchCacheKey, List<Object>>, List<GraphFetchCrossAssociationKeys>> reverseCacheMap =
@@ -107,6 +107,13 @@ public class ServiceTestRunner implements TestRunner
         this.pureVersion = pureVersion;
     }
 
+    @Override
+    public boolean canRunConcurrently()
+    {
+        // test runtimes are built by the runner, the graph itself is left untouched
+        return true;
+    }
+
     @Override
     public TestResult executeAtomicTest(Root_meta_pure_test_AtomicTest atomicTest, PureModel pureModel, PureModelContextData data)
     {
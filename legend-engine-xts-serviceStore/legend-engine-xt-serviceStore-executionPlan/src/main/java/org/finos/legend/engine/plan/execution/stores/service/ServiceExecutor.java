@@ -29,6 +29,7 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.InputStreamResult;
@@ -48,6 +49,8 @@ import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.s
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.ServiceParameter;
 import org.finos.legend.engine.shared.core.identity.Identity;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -60,10 +63,17 @@ import java.util.Map;
 public class ServiceExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final CancellationToken cancellationToken;
 
     public ServiceExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, new CancellationToken());
+    }
+
+    public ServiceExecutor(CredentialProviderProvider credentialProviderProvider, CancellationToken cancellationToken)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.cancellationToken = cancellationToken;
     }
 
     public InputStreamResult executeHttpService(String url, List<Header> headers, StringEntity requestBodyEntity, HttpMethod httpMethod, String mimeType, List<SecurityScheme> securitySchemes, List<AuthenticationSchemeRequirement> authenticationSchemeRequirements, Identity identity)
@@ -95,7 +105,7 @@ public class ServiceExecutor
 
 
             HttpConnectionBuilder httpConnectionBuilder = serviceStoreConnectionProvider.makeConnection(connectionSpecification, authenticationSpecification, identity);
-            CloseableHttpResponse httpResponse = httpConnectionBuilder.execute();
+            CloseableHttpResponse httpResponse = httpConnectionBuilder.execute(this.cancellationToken);
 
             int statusCode = httpResponse.getStatusLine().getStatusCode();
 
@@ -117,14 +127,32 @@ public class ServiceExecutor
                 throw new RuntimeException("HTTP request [" + httpMethod.toString() + " " + uri.toString() + "] failed with error - " + explanation);
             }
 
-            return new InputStreamResult(httpResponse.getEntity().getContent(), Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Collections.singletonList(httpResponse));
+            InputStreamResult result = new InputStreamResult(httpResponse.getEntity().getContent(), Lists.mutable.with(new ServiceStoreExecutionActivity(url)), Collections.singletonList(httpResponse));
+
+            // cancelling the execution closes the response, failing the read of its content
+            Runnable closeResponse = () ->
+            {
+                try
+                {
+                    httpResponse.close();
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            this.cancellationToken.addCancelListener(closeResponse);
+            result.addCloseListener(() -> this.cancellationToken.removeCancelListener(closeResponse));
+            return result;
         }
         catch (RuntimeException e)
         {
+            this.cancellationToken.throwIfCancelled();
             throw e;
         }
         catch (Exception e)
         {
+            this.cancellationToken.throwIfCancelled();
             throw new RuntimeException(e);
         }
     }
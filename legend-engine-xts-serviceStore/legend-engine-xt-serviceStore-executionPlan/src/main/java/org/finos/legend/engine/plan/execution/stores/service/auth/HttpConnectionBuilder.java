@@ -19,6 +19,7 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.finos.legend.engine.plan.execution.nodes.state.CancellationToken;
 
 public class HttpConnectionBuilder
 {
@@ -32,9 +33,24 @@ public class HttpConnectionBuilder
     }
 
     public CloseableHttpResponse execute() throws Exception
+    {
+        return execute(new CancellationToken());
+    }
+
+    public CloseableHttpResponse execute(CancellationToken cancellationToken) throws Exception
     {
         CloseableHttpClient httpClient = httpClientBuilder.build();
         HttpUriRequest request = requestBuilder.build();
-        return httpClient.execute(request);
+        // cancelling the execution aborts the request while it waits for the response
+        Runnable abort = request::abort;
+        cancellationToken.addCancelListener(abort);
+        try
+        {
+            return httpClient.execute(request);
+        }
+        finally
+        {
+            cancellationToken.removeCancelListener(abort);
+        }
     }
 }
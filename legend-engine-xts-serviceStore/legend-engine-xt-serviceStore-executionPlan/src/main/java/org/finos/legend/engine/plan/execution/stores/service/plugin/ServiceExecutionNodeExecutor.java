@@ -95,7 +95,7 @@ public class ServiceExecutionNodeExecutor implements ExecutionNodeVisitor<Result
                 List<Header> headers = ServiceExecutor.getProcessedHeaders(node.params, mappedParameters, this.executionState);
                 StringEntity requestBodyEntity = ServiceExecutor.getRequestBodyEntity(node.requestBodyDescription, this.executionState);
                 CredentialProviderProvider credentialProviderProvider = ((ServiceStoreExecutionState) executionState.getStoreExecutionState(StoreType.Service)).getCredentialProviderProvider();
-                return new ServiceExecutor(credentialProviderProvider).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
+                return new ServiceExecutor(credentialProviderProvider, this.executionState.getCancellationToken()).executeHttpService(processedUrl, headers, requestBodyEntity, node.method, node.mimeType, node.securitySchemes,node.authenticationSchemes, this.identity);
             }
         }
         else if (executionNode instanceof ServiceParametersResolutionExecutionNode)
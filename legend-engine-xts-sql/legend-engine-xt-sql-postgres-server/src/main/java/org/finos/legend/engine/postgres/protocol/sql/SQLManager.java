@@ -145,6 +145,8 @@ public class SQLManager
             hikariConfig.setMaximumPoolSize(METADATA_MAX_CONNECTIONS - 10); //leave some connections free for other DB operations
             hikariConfig.setMinimumIdle(10);
             hikariConfig.setPoolName("LegendMetadataPool");
+            // catalogs are loaded with batched inserts, sent as multi-row inserts
+            hikariConfig.addDataSourceProperty("reWriteBatchedInserts", "true");
 
             this.dataSource = new HikariDataSource(hikariConfig);
 
@@ -190,7 +192,7 @@ public class SQLManager
                     }
                     case Metadata_User_Specific:
                     {
-                        CatalogManager catalogManager = catalogManagersBySession.getIfAbsentPut(session.getId(), () -> new CatalogManager(session.getIdentity(), session.getDatabaseName(), findClient(clients, session.getDatabaseName()), this::getMetadataConnection));
+                        CatalogManager catalogManager = getCatalogManager(session);
                         return new JDBCPostgresPreparedStatement(this::getMetadataConnection, CatalogManager.reprocessQuery(query, new SQLRewrite(session, catalogManager)));
                     }
                     case TX:
@@ -205,6 +207,13 @@ public class SQLManager
         return null;
     }
 
+    private CatalogManager getCatalogManager(Session session)
+    {
+        CatalogManager catalogManager = catalogManagersBySession.getIfAbsentPut(session.getId(), () -> new CatalogManager(session.getIdentity(), session.getDatabaseName(), findClient(clients, session.getDatabaseName()), this::getMetadataConnection));
+        session.setSchemaVersion(catalogManager.getSchemaVersion());
+        return catalogManager;
+    }
+
     public PostgresStatement buildStatement(String query, Session session)
     {
         try
@@ -220,7 +229,7 @@ public class SQLManager
                     case Metadata_Generic:
                         return new JDBCPostgresStatement(this::getMetadataConnection, new SQLRewrite(session, null));
                     case Metadata_User_Specific:
-                        CatalogManager catalogManager = catalogManagersBySession.getIfAbsentPut(session.getId(), () -> new CatalogManager(session.getIdentity(), session.getDatabaseName(), findClient(clients, session.getDatabaseName()), () -> getMetadataConnection()));
+                        CatalogManager catalogManager = getCatalogManager(session);
                         return new JDBCPostgresStatement(this::getMetadataConnection, new SQLRewrite(session, catalogManager));
                     case TX:
                         return new TxnIsolationStatement();
@@ -24,6 +24,7 @@ import java.sql.Connection;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -36,7 +37,7 @@ public class JDBCPostgresPreparedStatement implements PostgresPreparedStatement,
     private final String query;
 
     private Connection connection;
-    private PreparedStatement preparedStatement;
+    private volatile PreparedStatement preparedStatement;
     private boolean isExecuted = false;
     private int maxRows = 0;
 
@@ -86,6 +87,16 @@ public class JDBCPostgresPreparedStatement implements PostgresPreparedStatement,
         }
     }
 
+    @Override
+    public void cancel() throws Exception
+    {
+        Statement statement = this.preparedStatement;
+        if (statement != null)
+        {
+            statement.cancel();
+        }
+    }
+
     @Override
     public void close() throws Exception
     {
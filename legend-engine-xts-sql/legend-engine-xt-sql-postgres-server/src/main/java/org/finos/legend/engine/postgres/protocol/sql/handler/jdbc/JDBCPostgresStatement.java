@@ -35,7 +35,7 @@ public class JDBCPostgresStatement implements PostgresStatement, AutoCloseable
     private final SQLRewrite sqlRewrite;
 
     private Connection connection;
-    private Statement postgresStatement;
+    private volatile Statement postgresStatement;
 
     public JDBCPostgresStatement(Supplier<Connection> connectionSupplier, SQLRewrite sqlRewrite) throws SQLException
     {
@@ -64,6 +64,16 @@ public class JDBCPostgresStatement implements PostgresStatement, AutoCloseable
         return new JDBCPostgresResultSet(postgresStatement.getResultSet(), this::closeConnectionAndStatement);
     }
 
+    @Override
+    public void cancel() throws Exception
+    {
+        Statement statement = this.postgresStatement;
+        if (statement != null)
+        {
+            statement.cancel();
+        }
+    }
+
     @Override
     public void close() throws Exception
     {
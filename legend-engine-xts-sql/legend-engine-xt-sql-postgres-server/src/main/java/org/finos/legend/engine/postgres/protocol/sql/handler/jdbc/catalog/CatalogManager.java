@@ -17,6 +17,7 @@ package org.finos.legend.engine.postgres.protocol.sql.handler.jdbc.catalog;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.impl.utility.ListIterate;
@@ -35,15 +36,23 @@ import org.finos.legend.engine.query.sql.api.schema.SchemaResult;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.credential.LegendConstrainedKerberosCredential;
 import org.finos.legend.engine.shared.core.identity.credential.LegendKerberosCredential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.security.auth.Subject;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -51,14 +60,25 @@ import static org.finos.legend.engine.postgres.protocol.wire.serialization.types
 
 public class CatalogManager
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogManager.class);
+    private static final int BATCH_SIZE = 1000;
+
     private static final AtomicInteger counter = new AtomicInteger(0);
+
+    // Catalogs are shared by all the sessions (whatever the user) whose project schema is the same, keyed by the hash of the schema.
+    // A catalog nobody uses anymore is kept (one per database) and refreshed in place, schema by schema, when the project changes.
+    // The lock only guards the maps and reference counts, the metadata tables are created and refreshed outside of it.
+    private static final Object CATALOGS_LOCK = new Object();
+    private static final MutableMap<String, Catalog> catalogsByHash = Maps.mutable.empty();
+    private static final MutableMap<String, Catalog> idleCatalogsByDatabase = Maps.mutable.empty();
+
     private final int id;
     private final Supplier<Connection> connectionSupplier;
+    private final Catalog catalog;
+    private boolean closed;
 
     public CatalogManager(Identity identity, String databaseFromConnectionString, LegendExecution legendExecution, Supplier<Connection> connectionSupplier)
     {
-        id = counter.incrementAndGet();
-
         this.connectionSupplier = connectionSupplier;
 
         SchemaResult schemaResult;
@@ -83,14 +103,18 @@ public class CatalogManager
         {
             try
             {
-                setupMetadataTables(getMetadataSchemaName());
-                Database metadataDatabase = buildDatabaseFromSchema(databaseFromConnectionString, schemaResult);
-                insertDatabaseInMetadataTables(metadataDatabase, getMetadataSchemaName());
+                this.catalog = acquire(buildDatabaseFromSchema(databaseFromConnectionString, schemaResult), connectionSupplier);
             }
             catch (Exception e)
             {
                 throw new RuntimeException(e);
             }
+            this.id = this.catalog.id;
+        }
+        else
+        {
+            this.catalog = null;
+            this.id = counter.incrementAndGet();
         }
     }
 
@@ -99,15 +123,222 @@ public class CatalogManager
         return id;
     }
 
+    // The id of a catalog is kept when it is refreshed for a changed schema, the hash of the schema tells the versions apart
+    public String getSchemaVersion()
+    {
+        return this.catalog == null ? null : this.catalog.hash;
+    }
+
     public void close() throws SQLException
+    {
+        if (this.catalog == null)
+        {
+            return;
+        }
+        Catalog toDrop;
+        synchronized (CATALOGS_LOCK)
+        {
+            if (this.closed)
+            {
+                return;
+            }
+            this.closed = true;
+            if (--this.catalog.references > 0)
+            {
+                return;
+            }
+            toDrop = idleCatalogsByDatabase.put(this.catalog.database.getName(), this.catalog);
+            if (toDrop != null)
+            {
+                catalogsByHash.remove(toDrop.hash);
+            }
+        }
+        if (toDrop != null)
+        {
+            dropSchema(toDrop, connectionSupplier);
+        }
+    }
+
+    private static Catalog acquire(Database database, Supplier<Connection> connectionSupplier) throws Exception
+    {
+        MutableMap<String, String> schemaSignatures = database.getSchemas().toMap(Schema::getName, CatalogManager::signature);
+        String hash = hash(database.getName(), schemaSignatures.valuesView().toSortedList());
+        Catalog catalog;
+        Catalog idle = null;
+        boolean load = false;
+        synchronized (CATALOGS_LOCK)
+        {
+            catalog = catalogsByHash.get(hash);
+            if (catalog == null)
+            {
+                // reserve the catalog: it is created (or refreshed) outside the lock, the sessions needing it meanwhile wait for it
+                idle = idleCatalogsByDatabase.remove(database.getName());
+                if (idle != null)
+                {
+                    catalogsByHash.remove(idle.hash);
+                    catalog = new Catalog(idle.id, hash, idle.database, schemaSignatures);
+                }
+                else
+                {
+                    catalog = new Catalog(counter.incrementAndGet(), hash, database, schemaSignatures);
+                }
+                catalogsByHash.put(hash, catalog);
+                load = true;
+            }
+            else if (catalog.references == 0)
+            {
+                idleCatalogsByDatabase.remove(database.getName(), catalog);
+            }
+            catalog.references++;
+        }
+
+        if (!load)
+        {
+            try
+            {
+                catalog.loaded.get();
+            }
+            catch (ExecutionException e)
+            {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            return catalog;
+        }
+
+        try
+        {
+            if (idle != null)
+            {
+                refresh(idle, database, schemaSignatures, connectionSupplier);
+            }
+            else
+            {
+                create(catalog, connectionSupplier);
+            }
+            catalog.loaded.complete(null);
+            return catalog;
+        }
+        catch (Exception e)
+        {
+            synchronized (CATALOGS_LOCK)
+            {
+                catalogsByHash.remove(hash, catalog);
+            }
+            catalog.loaded.completeExceptionally(e);
+            // the metadata tables are partially created or refreshed: nobody can use them anymore
+            try
+            {
+                dropSchema(catalog, connectionSupplier);
+            }
+            catch (Exception dropException)
+            {
+                e.addSuppressed(dropException);
+            }
+            throw e;
+        }
+    }
+
+    private static void create(Catalog catalog, Supplier<Connection> connectionSupplier) throws Exception
+    {
+        long start = System.currentTimeMillis();
+        Database database = catalog.database;
+        setupMetadataTables(catalog.getSchemaName(), connectionSupplier);
+        try (Connection connection = connectionSupplier.get())
+        {
+            inTransaction(connection, () ->
+            {
+                insertDatabaseInMetadataTables(connection, database, catalog.getSchemaName());
+                insertSchemasInMetadataTables(connection, database.getSchemas(), catalog.getSchemaName());
+            });
+        }
+        LOGGER.info("Created catalog {} for database {} ({} schemas) in {}ms", catalog.getSchemaName(), database.getName(), database.getSchemas().size(), System.currentTimeMillis() - start);
+    }
+
+    private static void refresh(Catalog catalog, Database database, MutableMap<String, String> schemaSignatures, Supplier<Connection> connectionSupplier) throws Exception
+    {
+        long start = System.currentTimeMillis();
+        // unchanged schemas (and their ids) are kept, the others are replaced
+        MutableList<Schema> removed = catalog.database.getSchemas().reject(s -> Objects.equals(catalog.schemaSignatures.get(s.getName()), schemaSignatures.get(s.getName())));
+        MutableList<Schema> added = database.getSchemas().reject(s -> Objects.equals(catalog.schemaSignatures.get(s.getName()), schemaSignatures.get(s.getName())));
+        try (Connection connection = connectionSupplier.get())
+        {
+            inTransaction(connection, () ->
+            {
+                deleteSchemasFromMetadataTables(connection, removed, catalog.getSchemaName());
+                insertSchemasInMetadataTables(connection, added, catalog.getSchemaName());
+            });
+        }
+        catalog.database.getSchemas().removeAll(removed);
+        added.forEach(catalog.database::schema);
+        LOGGER.info("Refreshed catalog {} for database {} ({} schemas removed, {} added) in {}ms", catalog.getSchemaName(), database.getName(), removed.size(), added.size(), System.currentTimeMillis() - start);
+    }
+
+    private static void dropSchema(Catalog catalog, Supplier<Connection> connectionSupplier) throws SQLException
     {
         try (Connection connection = connectionSupplier.get())
         {
-            executeSQLWithCleanUp(connection, "DROP SCHEMA IF EXISTS " + getMetadataSchemaName() + " CASCADE;");
+            executeSQLWithCleanUp(connection, "DROP SCHEMA IF EXISTS " + catalog.getSchemaName() + " CASCADE;");
+        }
+    }
+
+    private static class Catalog
+    {
+        private final int id;
+        private final String hash;
+        private final Database database;
+        private final MutableMap<String, String> schemaSignatures;
+        // completed once the metadata tables are created (or refreshed)
+        private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+        // guarded by CATALOGS_LOCK
+        private int references;
+
+        private Catalog(int id, String hash, Database database, MutableMap<String, String> schemaSignatures)
+        {
+            this.id = id;
+            this.hash = hash;
+            this.database = database;
+            this.schemaSignatures = schemaSignatures;
+        }
+
+        private String getSchemaName()
+        {
+            return "metadata_" + this.id;
+        }
+    }
+
+    private static String signature(Schema schema)
+    {
+        StringBuilder builder = new StringBuilder(schema.getName());
+        schema.getTables().forEach(table ->
+        {
+            builder.append("\n").append(table.getName()).append('(');
+            table.getColumns().forEach(column -> builder.append(column.getName()).append(' ').append(column.getType().oid()).append(' ').append(column.getType().typeMod()).append(','));
+            builder.append(')');
+        });
+        schema.getFunctions().forEach(function -> builder.append("\n").append(function.getName()).append(function.getParameters().collect(PGType::oid).makeString("(", ",", ")")).append(function.getReturnType().oid()).append(function.getReturnSet()));
+        return builder.toString();
+    }
+
+    private static String hash(String database, List<String> schemaSignatures)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(database.getBytes(StandardCharsets.UTF_8));
+            for (String schemaSignature : schemaSignatures)
+            {
+                digest.update((byte) 0);
+                digest.update(schemaSignature.getBytes(StandardCharsets.UTF_8));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new RuntimeException(e);
         }
     }
 
-    private void setupMetadataTables(String schemaName) throws Exception
+    private static void setupMetadataTables(String schemaName, Supplier<Connection> connectionSupplier) throws Exception
     {
         try (Connection connection = connectionSupplier.get())
         {
@@ -198,73 +429,191 @@ public class CatalogManager
     //  schema.table(new Table("pierreTable"))
     //         .columns(Lists.mutable.with(new Column("pierreColumn", BooleanType.INSTANCE)));
     //  schema.function(new Function("myFunc", Lists.mutable.with(BooleanType.INSTANCE, IntegerType.INSTANCE), VarCharType.INSTANCE, false));
-    //  insertDatabaseInMetadataTables(db, legendSessionHandler);
-    private void insertDatabaseInMetadataTables(Database database, String metadataSchemaName) throws Exception
+    //  insertDatabaseInMetadataTables(connection, db, metadataSchemaName);
+    //  insertSchemasInMetadataTables(connection, db.getSchemas(), metadataSchemaName);
+    private static void insertDatabaseInMetadataTables(Connection connection, Database database, String metadataSchemaName) throws SQLException
     {
-        try (Connection connection = connectionSupplier.get())
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "insert into " + metadataSchemaName + ".database (oid, datname, datdba, encoding, datcollate, datctype, datistemplate, datallowconn, datconnlimit, datlastsysoid, datfrozenxid, datminmxid, dattablespace, datacl)" +
+                        " values " +
+                        "(?, ?, 10, 6, 'en_US.utf8', 'en_US.utf8', false, true, -1, 12993, 549::varchar::xid, 1::varchar::xid, 1663, null);"))
         {
-            // Create DB
-            executeSQLWithCleanUp(connection,
-                    "insert into " + metadataSchemaName + ".database (oid, datname, datdba, encoding, datcollate, datctype, datistemplate, datallowconn, datconnlimit, datlastsysoid, datfrozenxid, datminmxid, dattablespace, datacl)" +
-                            " values " +
-                            "(" + database.getDbId() + ", '" + database.getName() + "', 10, 6, 'en_US.utf8', 'en_US.utf8', false, true, -1, 12993, 549::varchar::xid, 1::varchar::xid, 1663, null);"
-            );
+            stmt.setInt(1, database.getDbId());
+            stmt.setString(2, database.getName());
+            stmt.execute();
+        }
+    }
 
-            // Create Schema
-            for (Schema schema : database.getSchemas())
+    private static void insertSchemasInMetadataTables(Connection connection, List<Schema> schemas, String metadataSchemaName) throws SQLException
+    {
+        try (Batch namespaces = new Batch(connection,
+                "insert into " + metadataSchemaName + ".namespace (oid, nspname, nspowner, nspacl)" +
+                        " values " +
+                        "(?, ?, 10, null);");
+             Batch classes = new Batch(connection,
+                     "insert into " + metadataSchemaName + ".class (oid, relname, relnamespace, reltype, reloftype, relowner, relam, relfilenode, reltablespace, relpages, reltuples, relallvisible, reltoastrelid, relhasindex, relisshared, relpersistence, relkind, relnatts, relchecks, relhasoids, relhaspkey, relhasrules, relhastriggers, relhassubclass, relrowsecurity, relforcerowsecurity, relispopulated, relreplident, relispartition, relfrozenxid, relminmxid, relacl, reloptions, relpartbound)" +
+                             " values " +
+                             "(?, ?, ?, null, 0, 10, 0, null, 0, 0, 0, 0, null, false, false, 'p', 'r', null, 0, true, false, false, false, false, false, false, true, 'd', false, null, 1::varchar::xid, null, null, null);");
+             Batch attributes = new Batch(connection,
+                     "insert into " + metadataSchemaName + ".attribute (attrelid, attname, atttypid, attstattarget, attlen, attnum, attndims, attcacheoff, atttypmod, attbyval, attstorage, attalign, attnotnull, atthasdef, attidentity, attisdropped, attislocal, attinhcount, attcollation, attacl, attoptions, attfdwoptions)" +
+                             " values " +
+                             "(?, ?, ?, -1, ?, ?, 0, -1, ?, true, 'p', 'i', true, false, '', false, true, 0, 0, null, null, null);");
+             Batch procs = new Batch(connection,
+                     "insert into " + metadataSchemaName + ".proc (proname, pronamespace, proowner, prolang, procost, prorows, provariadic, protransform, proisagg, proiswindow, prosecdef, proleakproof, proisstrict, proretset, provolatile, proparallel, pronargs, pronargdefaults, prorettype, proargtypes, proallargtypes, proargmodes, proargnames, proargdefaults, protrftypes, prosrc, probin, proconfig, proacl)" +
+                             " values " +
+                             "(?, ?, 10, 14, 1, 1000, 0, '-', false, false, false, false, true, ?, 's', 's', ?, 0, ?, ?::oidvector,  null, null, null, null, null, 'xx', null, null, null);"))
+        {
+            for (Schema schema : schemas)
             {
-                executeSQLWithCleanUp(connection,
-                        "insert into " + metadataSchemaName + ".namespace (oid, nspname, nspowner, nspacl)" +
-                                " values " +
-                                "(" + schema.getSchemaId() + ", '" + schema.getName() + "', 10, null);"
-                );
+                // Create Schema
+                namespaces.add(stmt ->
+                {
+                    stmt.setInt(1, schema.getSchemaId());
+                    stmt.setString(2, schema.getName());
+                });
 
                 for (Table table : schema.getTables())
                 {
                     // Create Table
-                    executeSQLWithCleanUp(connection,
-                            "insert into " + metadataSchemaName + ".class (oid, relname, relnamespace, reltype, reloftype, relowner, relam, relfilenode, reltablespace, relpages, reltuples, relallvisible, reltoastrelid, relhasindex, relisshared, relpersistence, relkind, relnatts, relchecks, relhasoids, relhaspkey, relhasrules, relhastriggers, relhassubclass, relrowsecurity, relforcerowsecurity, relispopulated, relreplident, relispartition, relfrozenxid, relminmxid, relacl, reloptions, relpartbound)" +
-                                    " values " +
-                                    "(" + table.getTableId() + ", '" + table.getName() + "', " + schema.getSchemaId() + ", null, 0, 10, 0, null, 0, 0, 0, 0, null, false, false, 'p', 'r', null, 0, true, false, false, false, false, false, false, true, 'd', false, null, 1::varchar::xid, null, null, null);"
-                    );
+                    classes.add(stmt ->
+                    {
+                        stmt.setInt(1, table.getTableId());
+                        stmt.setString(2, table.getName());
+                        stmt.setInt(3, schema.getSchemaId());
+                    });
 
                     int attNum = 1;
                     for (Column column : table.getColumns())
                     {
                         // Create Column
-                        executeSQLWithCleanUp(connection,
-                                "insert into " + metadataSchemaName + ".attribute (attrelid, attname, atttypid, attstattarget, attlen, attnum, attndims, attcacheoff, atttypmod, attbyval, attstorage, attalign, attnotnull, atthasdef, attidentity, attisdropped, attislocal, attinhcount, attcollation, attacl, attoptions, attfdwoptions)" +
-                                        " values " +
-                                        "(" + table.getTableId() + ", '" + column.getName() + "', " + column.getType().oid() + ", -1, " + column.getType().typeLen() + ", " + (attNum++) + ", 0, -1, " + column.getType().typeMod() + ", true, 'p', 'i', true, false, '', false, true, 0, 0, null, null, null);"
-                        );
-
+                        int columnNumber = attNum++;
+                        attributes.add(stmt ->
+                        {
+                            stmt.setInt(1, table.getTableId());
+                            stmt.setString(2, column.getName());
+                            stmt.setInt(3, column.getType().oid());
+                            stmt.setInt(4, column.getType().typeLen());
+                            stmt.setInt(5, columnNumber);
+                            stmt.setInt(6, column.getType().typeMod());
+                        });
                     }
                 }
 
                 for (Function function : schema.getFunctions())
                 {
                     // Create Function
-                    executeSQLWithCleanUp(connection,
-                            "insert into " + metadataSchemaName + ".proc (proname, pronamespace, proowner, prolang, procost, prorows, provariadic, protransform, proisagg, proiswindow, prosecdef, proleakproof, proisstrict, proretset, provolatile, proparallel, pronargs, pronargdefaults, prorettype, proargtypes, proallargtypes, proargmodes, proargnames, proargdefaults, protrftypes, prosrc, probin, proconfig, proacl)" +
-                                    " values " +
-                                    "('" + function.getName() + "', " + schema.getSchemaId() + ", 10, 14, 1, 1000, 0, '-', false, false, false, false, true, " + function.getReturnSet() + ", 's', 's', " + function.getParameters().size() + ", 0, " + function.getReturnType().oid() + ", '" + function.getParameters().collect(PGType::oid).makeString(" ") + "',  null, null, null, null, null, 'xx', null, null, null);"
-                    );
+                    procs.add(stmt ->
+                    {
+                        stmt.setString(1, function.getName());
+                        stmt.setInt(2, schema.getSchemaId());
+                        stmt.setBoolean(3, function.getReturnSet());
+                        stmt.setInt(4, function.getParameters().size());
+                        stmt.setInt(5, function.getReturnType().oid());
+                        stmt.setString(6, function.getParameters().collect(PGType::oid).makeString(" "));
+                    });
                 }
             }
         }
     }
 
-    private static void executeSQLWithCleanUp(Connection connection, String query) throws SQLException
+    private static void deleteSchemasFromMetadataTables(Connection connection, List<Schema> schemas, String metadataSchemaName) throws SQLException
     {
-        try (PreparedStatement stmt = connection.prepareStatement(query))
+        // the attributes are deleted by table rather than through their class rows: the batches are not sent in order
+        try (Batch attributes = new Batch(connection, "delete from " + metadataSchemaName + ".attribute where attrelid = ?;");
+             Batch classes = new Batch(connection, "delete from " + metadataSchemaName + ".class where relnamespace = ?;");
+             Batch procs = new Batch(connection, "delete from " + metadataSchemaName + ".proc where pronamespace = ?;");
+             Batch namespaces = new Batch(connection, "delete from " + metadataSchemaName + ".namespace where oid = ?;"))
         {
-            stmt.execute();
+            for (Schema schema : schemas)
+            {
+                for (Table table : schema.getTables())
+                {
+                    attributes.add(stmt -> stmt.setInt(1, table.getTableId()));
+                }
+                classes.add(stmt -> stmt.setInt(1, schema.getSchemaId()));
+                procs.add(stmt -> stmt.setInt(1, schema.getSchemaId()));
+                namespaces.add(stmt -> stmt.setInt(1, schema.getSchemaId()));
+            }
+        }
+    }
+
+    private static void inTransaction(Connection connection, SQLAction action) throws SQLException
+    {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try
+        {
+            action.run();
+            connection.commit();
+        }
+        catch (SQLException | RuntimeException e)
+        {
+            connection.rollback();
+            throw e;
+        }
+        finally
+        {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private interface SQLAction
+    {
+        void run() throws SQLException;
+    }
+
+    private interface Parameters
+    {
+        void set(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Rows added to a parameterized statement and sent in batches; the remaining rows are sent on close.
+     */
+    private static class Batch implements AutoCloseable
+    {
+        private final PreparedStatement statement;
+        private int size;
+
+        private Batch(Connection connection, String sql) throws SQLException
+        {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        private void add(Parameters parameters) throws SQLException
+        {
+            parameters.set(this.statement);
+            this.statement.addBatch();
+            if (++this.size == BATCH_SIZE)
+            {
+                this.statement.executeBatch();
+                this.size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException
+        {
+            try
+            {
+                if (this.size > 0)
+                {
+                    this.statement.executeBatch();
+                }
+            }
+            finally
+            {
+                this.statement.close();
+            }
         }
     }
 
-    private String getMetadataSchemaName()
+    private static void executeSQLWithCleanUp(Connection connection, String query) throws SQLException
     {
-        return "metadata_" + id;
+        try (PreparedStatement stmt = connection.prepareStatement(query))
+        {
+            stmt.execute();
+        }
     }
 
     public static String reprocessQuery(String query, SQLRewrite sqlRewrite)
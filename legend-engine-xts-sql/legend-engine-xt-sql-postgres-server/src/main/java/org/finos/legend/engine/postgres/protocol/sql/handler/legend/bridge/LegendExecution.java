@@ -24,6 +24,18 @@ public interface LegendExecution
 
     LegendExecutionResult executeQuery(String query, String database, String options);
 
+    /**
+     * Executes the query under the given request id, so that it can later be stopped with {@link #cancel(String)}.
+     */
+    default LegendExecutionResult executeQuery(String query, String database, String options, String requestId)
+    {
+        return executeQuery(query, database, options);
+    }
+
+    default void cancel(String requestId)
+    {
+    }
+
     boolean supports(String database);
 
     SchemaResult getProjectSchema(String database);
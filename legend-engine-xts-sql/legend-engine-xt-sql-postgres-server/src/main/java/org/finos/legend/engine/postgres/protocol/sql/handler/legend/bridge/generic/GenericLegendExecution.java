@@ -57,6 +57,8 @@ import java.util.List;
 public class GenericLegendExecution implements LegendExecution
 {
     private static final ObjectMapper MAPPER = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
+    // the engine tracks the executables of a request under this header, see RequestContextHelper
+    private static final String LEGEND_REQUEST_ID = "x-legend-request-id";
 
     private final String protocol;
     private final String host;
@@ -113,6 +115,12 @@ public class GenericLegendExecution implements LegendExecution
 
     @Override
     public LegendExecutionResult executeQuery(String query, String database, String options)
+    {
+        return executeQuery(query, database, options, null);
+    }
+
+    @Override
+    public LegendExecutionResult executeQuery(String query, String database, String options, String requestId)
     {
         try
         {
@@ -125,7 +133,7 @@ public class GenericLegendExecution implements LegendExecution
             bodyEntity.setContentType("application/json");
             // Execute Input --------------------------
 
-            return callServer(bodyEntity, "pure/v1/execution/execute", x ->
+            return callServer(bodyEntity, "pure/v1/execution/execute", requestId, x ->
             {
                 try
                 {
@@ -149,6 +157,20 @@ public class GenericLegendExecution implements LegendExecution
         }
     }
 
+    @Override
+    public void cancel(String requestId)
+    {
+        try
+        {
+            // cancels both the statements the engine is running for the request and the plan nodes it has still to run
+            callServer(new StringEntity(""), "executionPlan/v1/execution/cancel/" + requestId, null, x -> null);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("The execution '" + requestId + "' can't be cancelled", e);
+        }
+    }
+
     @Override
     public boolean supports(String database)
     {
@@ -329,7 +351,7 @@ public class GenericLegendExecution implements LegendExecution
 
     private <T> T callServer(StringEntity bodyEntity, String url, Class<T> c) throws Exception
     {
-        return callServer(bodyEntity, url, x ->
+        return callServer(bodyEntity, url, null, x ->
         {
             try
             {
@@ -342,10 +364,14 @@ public class GenericLegendExecution implements LegendExecution
         });
     }
 
-    private <T> T callServer(StringEntity bodyEntity, String url, Function<InputStream, T> transformer) throws Exception
+    private <T> T callServer(StringEntity bodyEntity, String url, String requestId, Function<InputStream, T> transformer) throws Exception
     {
         HttpPost request = new HttpPost(protocol + "://" + host + ":" + port + "/api/" + url);
         request.setEntity(bodyEntity);
+        if (requestId != null)
+        {
+            request.setHeader(LEGEND_REQUEST_ID, requestId);
+        }
         try
         {
             HttpClient httpClient = HttpClientBuilder.getHttpClient(new BasicCookieStore());
@@ -28,6 +28,7 @@ import javax.security.auth.Subject;
 import java.security.PrivilegedAction;
 import java.sql.ParameterMetaData;
 import java.util.Optional;
+import java.util.UUID;
 
 public class LegendPreparedStatement implements PostgresPreparedStatement
 {
@@ -37,6 +38,8 @@ public class LegendPreparedStatement implements PostgresPreparedStatement
     private boolean isExecuted;
     private int maxRows;
     private LegendResultSet legendResultSet;
+    private volatile String requestId;
+    private LegendResultSetMetaData metaData;
     private final String database;
     private final String options;
 
@@ -58,24 +61,22 @@ public class LegendPreparedStatement implements PostgresPreparedStatement
     @Override
     public PostgresResultSetMetaData getMetaData() throws Exception
     {
-        Optional<LegendKerberosCredential> legendKerberosCredential = identity.getCredential(LegendKerberosCredential.class);
-        Optional<LegendConstrainedKerberosCredential> legendConstrainedKerberosCreds = identity.getCredential(LegendConstrainedKerberosCredential.class);
-        if (legendKerberosCredential.isPresent())
-        {
-            LegendKerberosCredential credential = legendKerberosCredential.get();
-            return Subject.doAs(credential.getSubject(), (PrivilegedAction<LegendResultSetMetaData>) () ->
-                    new LegendResultSetMetaData(client.getSchema(query, database)));
-        }
-        else if (legendConstrainedKerberosCreds.isPresent())
-        {
-            LegendConstrainedKerberosCredential credential = legendConstrainedKerberosCreds.get();
-            return Subject.doAs(credential.getMergedSubject(), (PrivilegedAction<LegendResultSetMetaData>) () ->
-                    new LegendResultSetMetaData(client.getSchema(query, database)));
-        }
-        else
+        if (metaData == null)
         {
-            return new LegendResultSetMetaData(client.getSchema(query, database));
+            metaData = fetchMetaData();
         }
+        return metaData;
+    }
+
+    @Override
+    public boolean isDescribeCacheable()
+    {
+        return true;
+    }
+
+    private LegendResultSetMetaData fetchMetaData()
+    {
+        return doAsIdentity(() -> new LegendResultSetMetaData(client.getSchema(query, database)));
     }
 
     @Override
@@ -115,30 +116,49 @@ public class LegendPreparedStatement implements PostgresPreparedStatement
     public boolean execute()
     {
         isExecuted = true;
+        return doAsIdentity(this::executePrivate);
+    }
+
+    private boolean executePrivate()
+    {
+        requestId = UUID.randomUUID().toString();
+        legendResultSet = new LegendResultSet(client.executeQuery(query, database, options, requestId));
+        return true;
+    }
+
+    @Override
+    public void cancel()
+    {
+        String id = requestId;
+        if (id != null)
+        {
+            // the engine only lets the user who sent an execution cancel it
+            doAsIdentity(() ->
+            {
+                client.cancel(id);
+                return null;
+            });
+        }
+    }
+
+    private <T> T doAsIdentity(PrivilegedAction<T> action)
+    {
         Optional<LegendKerberosCredential> legendKerberosCredential = identity.getCredential(LegendKerberosCredential.class);
         Optional<LegendConstrainedKerberosCredential> legendConstrainedKerberosCreds = identity.getCredential(LegendConstrainedKerberosCredential.class);
         if (legendKerberosCredential.isPresent())
         {
-            LegendKerberosCredential credential = legendKerberosCredential.get();
-            return Subject.doAs(credential.getSubject(), (PrivilegedAction<Boolean>) this::executePrivate);
+            return Subject.doAs(legendKerberosCredential.get().getSubject(), action);
         }
         else if (legendConstrainedKerberosCreds.isPresent())
         {
-            LegendConstrainedKerberosCredential credential = legendConstrainedKerberosCreds.get();
-            return Subject.doAs(credential.getMergedSubject(),(PrivilegedAction<Boolean>) this::executePrivate);
+            return Subject.doAs(legendConstrainedKerberosCreds.get().getMergedSubject(), action);
         }
         else
         {
-            return executePrivate();
+            return action.run();
         }
     }
 
-    private boolean executePrivate()
-    {
-        legendResultSet = new LegendResultSet(client.executeQuery(query, database, options));
-        return true;
-    }
-
     @Override
     public PostgresResultSet getResultSet()
     {
@@ -25,12 +25,14 @@ import org.finos.legend.engine.shared.core.identity.credential.LegendKerberosCre
 import javax.security.auth.Subject;
 import java.security.PrivilegedAction;
 import java.util.Optional;
+import java.util.UUID;
 
 public class LegendStatement implements PostgresStatement
 {
 
     private final LegendExecution client;
     private LegendResultSet legendResultSet;
+    private volatile String requestId;
     private final Identity identity;
     private final String database;
     private final String options;
@@ -45,34 +47,50 @@ public class LegendStatement implements PostgresStatement
 
     @Override
     public boolean execute(String query) throws Exception
+    {
+        return doAsIdentity(() -> executePrivate(query));
+    }
+
+    private boolean executePrivate(String query)
+    {
+        requestId = UUID.randomUUID().toString();
+        legendResultSet = new LegendResultSet(client.executeQuery(query, database, options, requestId));
+        return true;
+    }
+
+    @Override
+    public void cancel()
+    {
+        String id = requestId;
+        if (id != null)
+        {
+            // the engine only lets the user who sent an execution cancel it
+            doAsIdentity(() ->
+            {
+                client.cancel(id);
+                return null;
+            });
+        }
+    }
+
+    private <T> T doAsIdentity(PrivilegedAction<T> action)
     {
         Optional<LegendKerberosCredential> legendKerberosCredential = identity.getCredential(LegendKerberosCredential.class);
         Optional<LegendConstrainedKerberosCredential> legendConstrainedKerberosCreds = identity.getCredential(LegendConstrainedKerberosCredential.class);
         if (legendKerberosCredential.isPresent())
         {
-            LegendKerberosCredential credential = legendKerberosCredential.get();
-            return Subject.doAs(credential.getSubject(), (PrivilegedAction<Boolean>) () ->
-                    executePrivate(query));
+            return Subject.doAs(legendKerberosCredential.get().getSubject(), action);
         }
         else if (legendConstrainedKerberosCreds.isPresent())
         {
-            LegendConstrainedKerberosCredential credential = legendConstrainedKerberosCreds.get();
-            return Subject.doAs(credential.getMergedSubject(), (PrivilegedAction<Boolean>) () ->
-                    executePrivate(query));
+            return Subject.doAs(legendConstrainedKerberosCreds.get().getMergedSubject(), action);
         }
         else
         {
-            return executePrivate(query);
-
+            return action.run();
         }
     }
 
-    private boolean executePrivate(String query)
-    {
-        legendResultSet = new LegendResultSet(client.executeQuery(query, database, options));
-        return true;
-    }
-
     @Override
     public PostgresResultSet getResultSet()
     {
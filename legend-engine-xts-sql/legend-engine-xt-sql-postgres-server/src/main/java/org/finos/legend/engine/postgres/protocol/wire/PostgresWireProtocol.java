@@ -638,7 +638,7 @@ public class PostgresWireProtocol
         MDC.put("user", authenticatedUser.getName());
         messages.sendAuthenticationOK(channel)
                 .addListener(f -> sendParams(channel))
-                //.addListener(f -> messages.sendKeyData(channel, session.id(), session.secret()))
+                .addListener(f -> messages.sendKeyData(channel, session.getId(), session.getSecret()))
                 .addListener(f ->
                 {
                     messages.sendReadyForQuery(channel);
@@ -687,9 +687,10 @@ public class PostgresWireProtocol
                 channel.flush();
             }*/
 
-            //since we don't handle buffering we should flash right away
-            //TODO understand when this is called
+            // short acknowledgements (ParseComplete, BindComplete, ...) are written without flushing so that
+            // pipelined extended-protocol messages go out together; deliver them once everything queued so far has run
             session.sync();
+            this.addTaskToQueue(channel::flush);
         }
         catch (Throwable t)
         {
@@ -949,7 +950,7 @@ public class PostgresWireProtocol
             //
             // To ensure clients receive messages in the correct order we delay all writes
             // The "finish" logic of the ResultReceivers writes out all pending writes/unblocks the channel
-            this.composeTaskInQueue(() -> session.execute(portalName, maxRows, q -> new ResultSetReceiver(q, channel, false, null, messages)));
+            this.composeTaskInQueue(() -> session.execute(portalName, maxRows, q -> new ResultSetReceiver(q, channel, false, session.getResultFormatCodes(portalName), messages)));
         }
         catch (Exception e)
         {
@@ -1110,12 +1111,11 @@ public class PostgresWireProtocol
 
     private void handleCancelRequestBody(ByteBuf buffer, Channel channel)
     {
-   /*     var keyData = KeyData.of(buffer);
-
-        sessions.cancel(keyData);*/
-
-        // Cancel request is sent by the client over a new connection.
-        // This closes the new connection, not the one running the query.
+        // Cancel request is sent by the client over a new connection, with the key data sent to it after authentication.
+        // This cancels the statements running in the session of that key and closes the new connection, which has no session.
+        int pid = buffer.readInt();
+        int secret = buffer.readInt();
+        Session.cancel(pid, secret);
         channel.close();
 
         try
@@ -358,8 +358,8 @@ public class Messages
      * above length.
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    void sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
-                     FormatCodes.FormatCode[] formatCodes) throws Exception
+    ChannelFuture sendDataRow(Channel channel, PostgresResultSet rs, List<PGType<?>> columnTypes,
+                              FormatCodes.FormatCode[] formatCodes) throws Exception
     {
         int length = 4 + 2;
         Assert.assertTrue(columnTypes.size() == rs.getMetaData().getColumnCount(),
@@ -409,7 +409,8 @@ public class Messages
         }
 
         buffer.setInt(1, length);
-        channel.writeAndFlush(buffer);
+        // flushing is left to the caller so that rows can be sent in batches
+        return channel.write(buffer);
     }
 
     void writeCString(ByteBuf buffer, byte[] valBytes)
@@ -585,7 +586,10 @@ public class Messages
     }
 
     /**
-     * Send a message that just contains the msgType and the msg length
+     * Send a message that just contains the msgType and the msg length.
+     * <p>
+     * The message is not flushed: these are acknowledgements within an extended-query pipeline, and are
+     * delivered by the next Sync (ReadyForQuery), Flush or result flush.
      *
      * @return
      */
@@ -595,7 +599,7 @@ public class Messages
         buffer.writeByte(msgType);
         buffer.writeInt(4);
 
-        ChannelFuture channelFuture = channel.writeAndFlush(buffer);
+        ChannelFuture channelFuture = channel.write(buffer);
         if (LOGGER.isTraceEnabled())
         {
             channelFuture.addListener((ChannelFutureListener) future -> LOGGER.trace(traceLogMsg));
@@ -95,10 +95,17 @@ public class ResultSetReceiver
                 while ((maxRows == 0 || rowCount < maxRows) && rs.next())
                 {
                     rowCount++;
-                    messages.sendDataRow(directChannel, rs, columnTypes, null);
-                    if ((maxRows != 0 && rowCount % maxRows == 0) || rowCount % 10000 == 0)
-                    {   //TODO REMOVE FLASH FROM messages.sendDataRow
+                    ChannelFuture lastWrite = messages.sendDataRow(directChannel, rs, columnTypes, formatCodes);
+                    if (!directChannel.isWritable())
+                    {
+                        // outbound buffer is above its high water mark: push what we have and wait for the client
+                        // to drain it rather than buffering the whole result in memory
                         directChannel.flush();
+                        lastWrite.awaitUninterruptibly();
+                        if (!lastWrite.isSuccess())
+                        {
+                            throw new ClientInterrupted();
+                        }
                         span.addEvent("sentRows", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
                     }
                 }
@@ -21,6 +21,7 @@
 
 package org.finos.legend.engine.postgres.protocol.wire.serialization.types;
 
+import io.netty.buffer.ByteBuf;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -32,6 +33,7 @@ import java.time.format.ResolverStyle;
 import java.time.zone.ZoneRules;
 import java.util.Locale;
 import java.util.Objects;
+import org.finos.legend.engine.shared.core.operational.Assert;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 
 
@@ -42,6 +44,10 @@ public final class DateType extends BaseTimestampType
 
     private static final int OID = 1082;
     private static final String NAME = "date";
+    private static final int DATE_TYPE_LEN = 4;
+    // amount of days between 1970-01-01 and 2000-01-01
+    private static final long EPOCH_DIFF_IN_DAYS = 10_957L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
 
     private static final DateTimeFormatter ISO_FORMATTER = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
@@ -55,7 +61,27 @@ public final class DateType extends BaseTimestampType
 
     private DateType()
     {
-        super(OID, TYPE_LEN, TYPE_MOD, NAME);
+        super(OID, DATE_TYPE_LEN, TYPE_MOD, NAME);
+    }
+
+    /**
+     * Binary dates are int32 days since 2000-01-01 (unlike timestamps, which are int64 microseconds)
+     */
+    @Override
+    public int writeAsBinary(ByteBuf buffer, Object value)
+    {
+        long epochDay = Math.floorDiv((long) value, MILLIS_PER_DAY);
+        buffer.writeInt(DATE_TYPE_LEN);
+        buffer.writeInt((int) (epochDay - EPOCH_DIFF_IN_DAYS));
+        return INT32_BYTE_SIZE + DATE_TYPE_LEN;
+    }
+
+    @Override
+    public Object readBinaryValue(ByteBuf buffer, int valueLength)
+    {
+        Assert.assertTrue(valueLength == DATE_TYPE_LEN, () -> "valueLength must be " + DATE_TYPE_LEN +
+                " because date is a 32 bit int. Actual length: " + valueLength);
+        return (buffer.readInt() + EPOCH_DIFF_IN_DAYS) * MILLIS_PER_DAY;
     }
 
     @Override
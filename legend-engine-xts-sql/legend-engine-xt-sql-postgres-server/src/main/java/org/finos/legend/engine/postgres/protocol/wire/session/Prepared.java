@@ -21,6 +21,7 @@
 
 package org.finos.legend.engine.postgres.protocol.wire.session;
 
+import org.finos.legend.engine.postgres.protocol.wire.serialization.DescribeResult;
 import org.finos.legend.engine.postgres.protocol.wire.session.statements.prepared.PostgresPreparedStatement;
 
 /**
@@ -48,4 +49,9 @@ public class Prepared
      * The list of param types
      */
     public Integer[] paramType;
+
+    /**
+     * The description of the statement, once computed
+     */
+    public DescribeResult describeResult;
 }
@@ -27,15 +27,22 @@ import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import org.finos.legend.engine.postgres.protocol.sql.handler.jdbc.catalog.CatalogManager;
@@ -55,24 +62,56 @@ import org.slf4j.LoggerFactory;
 public class Session implements AutoCloseable
 {
     private static AtomicInteger counter = new AtomicInteger(0);
+    private static final SecureRandom SECRETS = new SecureRandom();
+    // open sessions by id, so that a cancel request (sent by the client over a new connection) can find its session
+    private static final Map<Integer, Session> SESSIONS = new ConcurrentHashMap<>();
     private int id;
+    private final int secret;
+    // statements currently executing, cancelled when the client sends a cancel request
+    private final Set<Cancellable> running = ConcurrentHashMap.newKeySet();
     private static final Logger LOGGER = LoggerFactory.getLogger(Session.class);
     public static final String FAILED_TO_EXECUTE = "Failed to execute";
     private final Map<String, Prepared> parsed = new ConcurrentHashMap<>();
     private final Map<String, Portal> portals = new ConcurrentHashMap<>();
+    private static final int MAX_DESCRIBED_QUERIES = 128;
+    private static final long DESCRIBED_QUERY_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    // clients commonly re-parse the same SQL (e.g. the unnamed statement) for every execution, keep the descriptions
+    // of recent queries so that each one does not go back to the engine for its schema. Entries are keyed on the
+    // schema version of the session's catalog, when known, and expire after a while: the project schema can change
+    // while the session is open and only describing the query again tells whether its columns changed.
+    private final Map<String, DescribedQuery> describedQueries = Collections.synchronizedMap(new LinkedHashMap<String, DescribedQuery>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DescribedQuery> eldest)
+        {
+            return size() > MAX_DESCRIBED_QUERIES;
+        }
+    });
+    private final long describedQueryTtlNanos;
+    private final LongSupplier nanoClock;
     private final ExecutorService executorService;
     private final Identity identity;
     private final Properties properties;
     private CatalogManager catalogManager;
+    private volatile String schemaVersion;
 
     public Session(ExecutorService executorService, Identity identity, Properties properties)
     {
+        this(executorService, identity, properties, DESCRIBED_QUERY_TTL_NANOS, System::nanoTime);
+    }
+
+    Session(ExecutorService executorService, Identity identity, Properties properties, long describedQueryTtlNanos, LongSupplier nanoClock)
+    {
+        this.describedQueryTtlNanos = describedQueryTtlNanos;
+        this.nanoClock = nanoClock;
         this.id = counter.getAndIncrement();
+        this.secret = SECRETS.nextInt();
         this.executorService = executorService;
         this.identity = identity;
         this.properties = properties;
         OpenTelemetryUtil.ACTIVE_SESSIONS.add(1);
         OpenTelemetryUtil.TOTAL_SESSIONS.add(1);
+        SESSIONS.put(this.id, this);
     }
 
     public int getId()
@@ -80,6 +119,69 @@ public class Session implements AutoCloseable
         return id;
     }
 
+    public int getSecret()
+    {
+        return secret;
+    }
+
+    /**
+     * Cancels the statements running in the session with the given id, if the secret matches the one sent to its client.
+     * Cancelling may call remote services (e.g. the engine, for Legend statements), so it runs on the executor of the
+     * session rather than on the calling (network) thread; each statement cancels under the identity it executes with.
+     */
+    public static CompletableFuture<Boolean> cancel(int id, int secret)
+    {
+        Session session = SESSIONS.get(id);
+        if (session == null || session.secret != secret)
+        {
+            LOGGER.warn("Ignoring cancel request for unknown session {}", id);
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.supplyAsync(() ->
+        {
+            session.cancel();
+            return true;
+        }, Context.taskWrapping(session.executorService));
+    }
+
+    public void cancel()
+    {
+        LOGGER.info("Cancelling {} running statement(s) of session {}", running.size(), id);
+        for (Cancellable cancellable : new ArrayList<>(running))
+        {
+            try
+            {
+                cancellable.cancel();
+            }
+            catch (Exception e)
+            {
+                LOGGER.warn("Failed to cancel statement of session {}", id, e);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> track(Cancellable cancellable, CompletableFuture<Void> completion)
+    {
+        running.add(cancellable);
+        return completion.whenComplete((result, error) -> running.remove(cancellable));
+    }
+
+    /**
+     * Sets the version of the project schema the session queries run against, the descriptions of the queries
+     * described against another version are dropped.
+     */
+    public void setSchemaVersion(String schemaVersion)
+    {
+        synchronized (describedQueries)
+        {
+            if (!Objects.equals(this.schemaVersion, schemaVersion))
+            {
+                describedQueries.clear();
+                this.schemaVersion = schemaVersion;
+            }
+        }
+    }
+
     public String getDatabaseName()
     {
         return this.properties.getProperty("database", "");
@@ -190,15 +292,17 @@ public class Session implements AutoCloseable
                     Prepared prepared = parsed.get(portalOrStatement);
                     try
                     {
-                        PostgresPreparedStatement preparedStatement = prepared.prep;
                         if (portalOrStatement == null)
                         {
                             return new DescribeResult(null, null);
                         }
                         else
                         {
-                            return new DescribeResult(preparedStatement.getMetaData(),
-                                    preparedStatement.getParameterMetaData());
+                            if (prepared.describeResult == null)
+                            {
+                                prepared.describeResult = describe(prepared);
+                            }
+                            return prepared.describeResult;
                         }
                     }
                     catch (Exception e)
@@ -216,6 +320,40 @@ public class Session implements AutoCloseable
     }
 
 
+    private DescribeResult describe(Prepared prepared) throws Exception
+    {
+        PostgresPreparedStatement preparedStatement = prepared.prep;
+        boolean cacheable = preparedStatement.isDescribeCacheable();
+        String key = schemaVersion + "\n" + prepared.sql;
+        if (cacheable)
+        {
+            DescribedQuery cached = describedQueries.get(key);
+            if (cached != null && nanoClock.getAsLong() - cached.describedAt < describedQueryTtlNanos)
+            {
+                return cached.result;
+            }
+        }
+        long describedAt = nanoClock.getAsLong();
+        DescribeResult result = new DescribeResult(preparedStatement.getMetaData(), preparedStatement.getParameterMetaData());
+        if (cacheable)
+        {
+            describedQueries.put(key, new DescribedQuery(result, describedAt));
+        }
+        return result;
+    }
+
+    private static class DescribedQuery
+    {
+        private final DescribeResult result;
+        private final long describedAt;
+
+        private DescribedQuery(DescribeResult result, long describedAt)
+        {
+            this.result = result;
+            this.describedAt = describedAt;
+        }
+    }
+
     public FormatCodes.FormatCode[] getResultFormatCodes(String portal)
     {
         return getSafePortal(portal).resultColumnFormat;
@@ -224,6 +362,7 @@ public class Session implements AutoCloseable
 
     public void close()
     {
+        SESSIONS.remove(this.id);
         clearState();
         OpenTelemetryUtil.ACTIVE_SESSIONS.add(-1);
     }
@@ -306,8 +445,9 @@ public class Session implements AutoCloseable
             preparedStatement.setMaxRows(maxRows);
             PreparedStatementExecutionTask task = new PreparedStatementExecutionTask(preparedStatement, resultSetReceiver);
             // Task does not wait for any future since it is always chained asynchronously
+            CompletableFuture<Void> completion = track(preparedStatement::cancel, resultSetReceiver.completionFuture());
             CompletableFuture.runAsync(task::call, executorService);
-            return resultSetReceiver.completionFuture();
+            return completion;
         }
         catch (Exception e)
         {
@@ -334,8 +474,9 @@ public class Session implements AutoCloseable
         {
             span.addEvent("submit StatementExecutionTask");
             ResultSetReceiver resultSetReceiver = resultSetReceiverProvider.get();
+            CompletableFuture<Void> completion = track(statement::cancel, resultSetReceiver.completionFuture());
             Context.taskWrapping(executorService).submit(new StatementExecutionTask(statement, query, resultSetReceiver));
-            return resultSetReceiver.completionFuture();
+            return completion;
         }
         catch (Exception e)
         {
@@ -353,6 +494,7 @@ public class Session implements AutoCloseable
     public void clearState()
     {
         LOGGER.info("clear state for session");
+        describedQueries.clear();
         for (String name : new ArrayList<>(portals.keySet()))
         {
             close('P', name);
@@ -385,4 +527,9 @@ public class Session implements AutoCloseable
     }
 
 
+
+    private interface Cancellable
+    {
+        void cancel() throws Exception;
+    }
 }
@@ -40,6 +40,22 @@ public interface PostgresPreparedStatement
 
     PostgresResultSet getResultSet() throws Exception;
 
+    /**
+     * Called from another thread to stop the statement while it executes.
+     */
+    default void cancel() throws Exception
+    {
+    }
+
+    /**
+     * Whether the result and parameter metadata depend only on the SQL text, so that a session can reuse them
+     * for later statements with the same SQL instead of describing it again.
+     */
+    default boolean isDescribeCacheable()
+    {
+        return false;
+    }
+
     static ParameterMetaData emptyParameterMetaData()
     {
         return new ParameterMetaData()
@@ -24,4 +24,11 @@ public interface PostgresStatement
     PostgresResultSet getResultSet() throws Exception;
 
     public void close() throws Exception;
+
+    /**
+     * Called from another thread to stop the statement while it executes.
+     */
+    default void cancel() throws Exception
+    {
+    }
 }
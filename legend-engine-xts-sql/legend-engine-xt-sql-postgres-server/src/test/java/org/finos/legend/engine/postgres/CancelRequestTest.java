@@ -0,0 +1,221 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendColumn;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecution;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecutionResult;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.statement.LegendStatement;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.Messages;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.ResultSetReceiver;
+import org.finos.legend.engine.postgres.protocol.wire.session.Session;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.regular.PostgresStatement;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.result.PostgresResultSet;
+import org.finos.legend.engine.postgres.utils.netty.DelayableWriteChannel;
+import org.finos.legend.engine.query.sql.api.schema.SchemaResult;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.credential.LegendKerberosCredential;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.security.auth.Subject;
+import javax.security.auth.kerberos.KerberosPrincipal;
+import java.security.AccessController;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CancelRequestTest
+{
+    private static final String SESSION_THREAD = "session-executor";
+
+    private ExecutorService executorService;
+    private Session session;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newCachedThreadPool(r -> new Thread(r, SESSION_THREAD));
+        this.session = new Session(this.executorService, Identity.getAnonymousIdentity(), new Properties());
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.session.close();
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testCancelRunsOnSessionExecutor() throws Exception
+    {
+        BlockingStatement statement = new BlockingStatement();
+        CompletableFuture<Void> completion = this.session.executeSimple(statement, "SELECT 1", () -> newResultSetReceiver("SELECT 1"));
+        Assert.assertTrue(statement.started.await(10, TimeUnit.SECONDS));
+
+        Assert.assertTrue(Session.cancel(this.session.getId(), this.session.getSecret()).get(10, TimeUnit.SECONDS));
+        Assert.assertEquals(SESSION_THREAD, statement.cancellingThread.get());
+        completion.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCancelWithWrongSecret() throws Exception
+    {
+        BlockingStatement statement = new BlockingStatement();
+        CompletableFuture<Void> completion = this.session.executeSimple(statement, "SELECT 1", () -> newResultSetReceiver("SELECT 1"));
+        Assert.assertTrue(statement.started.await(10, TimeUnit.SECONDS));
+
+        Assert.assertFalse(Session.cancel(this.session.getId(), this.session.getSecret() + 1).get(10, TimeUnit.SECONDS));
+        Assert.assertFalse(Session.cancel(-1, this.session.getSecret()).get(10, TimeUnit.SECONDS));
+        Assert.assertNull(statement.cancellingThread.get());
+        Assert.assertFalse(completion.isDone());
+
+        statement.cancel();
+        completion.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testLegendStatementCancelsWithSessionIdentity() throws Exception
+    {
+        Subject subject = new Subject(false, Collections.singleton(new KerberosPrincipal("user@example.com")), Collections.emptySet(), Collections.emptySet());
+        RecordingLegendExecution client = new RecordingLegendExecution();
+        LegendStatement statement = new LegendStatement(client, "database", null, new Identity("user", new LegendKerberosCredential(subject)));
+
+        statement.execute("SELECT 1");
+        Assert.assertSame(subject, client.executingSubject.get());
+
+        statement.cancel();
+        Assert.assertEquals(client.executedRequestId.get(), client.cancelledRequestId.get());
+        Assert.assertSame(subject, client.cancellingSubject.get());
+    }
+
+    private static ResultSetReceiver newResultSetReceiver(String query)
+    {
+        return new ResultSetReceiver(query, new DelayableWriteChannel(new EmbeddedChannel()), true, null, new Messages(Throwable::getMessage));
+    }
+
+    private static class BlockingStatement implements PostgresStatement
+    {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private final AtomicReference<String> cancellingThread = new AtomicReference<>();
+
+        @Override
+        public boolean execute(String query) throws Exception
+        {
+            this.started.countDown();
+            this.cancelled.await(10, TimeUnit.SECONDS);
+            return false;
+        }
+
+        @Override
+        public PostgresResultSet getResultSet()
+        {
+            return null;
+        }
+
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        public void cancel()
+        {
+            this.cancellingThread.compareAndSet(null, Thread.currentThread().getName());
+            this.cancelled.countDown();
+        }
+    }
+
+    private static class RecordingLegendExecution implements LegendExecution
+    {
+        private final AtomicReference<Subject> executingSubject = new AtomicReference<>();
+        private final AtomicReference<Subject> cancellingSubject = new AtomicReference<>();
+        private final AtomicReference<String> executedRequestId = new AtomicReference<>();
+        private final AtomicReference<String> cancelledRequestId = new AtomicReference<>();
+
+        @Override
+        public List<LegendColumn> getSchema(String query, String database)
+        {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public LegendExecutionResult executeQuery(String query, String database, String options)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LegendExecutionResult executeQuery(String query, String database, String options, String requestId)
+        {
+            this.executingSubject.set(Subject.getSubject(AccessController.getContext()));
+            this.executedRequestId.set(requestId);
+            return new LegendExecutionResult()
+            {
+                @Override
+                public List<LegendColumn> getLegendColumns()
+                {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return false;
+                }
+
+                @Override
+                public List<Object> next()
+                {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void close()
+                {
+                }
+            };
+        }
+
+        @Override
+        public void cancel(String requestId)
+        {
+            this.cancellingSubject.set(Subject.getSubject(AccessController.getContext()));
+            this.cancelledRequestId.set(requestId);
+        }
+
+        @Override
+        public boolean supports(String database)
+        {
+            return true;
+        }
+
+        @Override
+        public SchemaResult getProjectSchema(String database)
+        {
+            return null;
+        }
+    }
+}
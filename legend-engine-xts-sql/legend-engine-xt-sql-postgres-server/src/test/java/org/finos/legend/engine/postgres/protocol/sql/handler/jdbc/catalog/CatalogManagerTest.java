@@ -0,0 +1,308 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.sql.handler.jdbc.catalog;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendColumn;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecution;
+import org.finos.legend.engine.postgres.protocol.sql.handler.legend.bridge.LegendExecutionResult;
+import org.finos.legend.engine.protocol.pure.m3.multiplicity.Multiplicity;
+import org.finos.legend.engine.protocol.pure.m3.relation.Column;
+import org.finos.legend.engine.protocol.pure.m3.relation.RelationType;
+import org.finos.legend.engine.protocol.pure.m3.type.generics.GenericType;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.PackageableType;
+import org.finos.legend.engine.query.sql.api.schema.AddressableRelation;
+import org.finos.legend.engine.query.sql.api.schema.C3LinearizationUnitReturn;
+import org.finos.legend.engine.query.sql.api.schema.SchemaResult;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+public class CatalogManagerTest
+{
+    @ClassRule
+    public static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres").withTag("10.5"));
+
+    @BeforeClass
+    public static void checkDocker()
+    {
+        Assume.assumeTrue("Docker is not available", DockerClientFactory.instance().isDockerAvailable());
+    }
+
+    @Test
+    public void testSessionsShareCatalogAndRefreshChangedSchemaOnly() throws Exception
+    {
+        ProjectSchema project = new ProjectSchema(
+                relation("model::A", "name", "String"),
+                relation("model::B", "id", "Integer"));
+
+        CatalogManager first = new CatalogManager(Identity.getAnonymousIdentity(), "sharedDb", project, CatalogManagerTest::connect);
+        CatalogManager second = new CatalogManager(Identity.getAnonymousIdentity(), "sharedDb", project, CatalogManagerTest::connect);
+        Assert.assertEquals(first.getId(), second.getId());
+        int id = first.getId();
+        long unchangedSchemaOid = namespaceOid(id, "service__model_A");
+        Assert.assertEquals(Arrays.asList("id"), columns(id, "service__model_B"));
+
+        first.close();
+        second.close();
+        Assert.assertTrue(schemaExists(id));
+
+        project.relations = Lists.mutable.with(
+                relation("model::A", "name", "String"),
+                relation("model::B", "id", "Integer", "label", "String"));
+        CatalogManager refreshed = new CatalogManager(Identity.getAnonymousIdentity(), "sharedDb", project, CatalogManagerTest::connect);
+        Assert.assertEquals(id, refreshed.getId());
+        Assert.assertEquals(unchangedSchemaOid, namespaceOid(id, "service__model_A"));
+        Assert.assertEquals(Arrays.asList("name"), columns(id, "service__model_A"));
+        Assert.assertEquals(Arrays.asList("id", "label"), columns(id, "service__model_B"));
+        // the columns of the replaced schema went with its tables
+        Assert.assertEquals(0, orphanedAttributes(id));
+        refreshed.close();
+    }
+
+    @Test
+    public void testFailedRefreshDropsCatalog() throws Exception
+    {
+        ProjectSchema project = new ProjectSchema(relation("model::A", "name", "String"));
+        AtomicBoolean failNextConnection = new AtomicBoolean();
+        Supplier<Connection> connectionSupplier = () ->
+        {
+            if (failNextConnection.getAndSet(false))
+            {
+                throw new RuntimeException("connection refused");
+            }
+            return connect();
+        };
+
+        CatalogManager session = new CatalogManager(Identity.getAnonymousIdentity(), "failingDb", project, connectionSupplier);
+        int id = session.getId();
+        session.close();
+
+        project.relations = Lists.mutable.with(relation("model::A", "name", "String", "label", "String"));
+        failNextConnection.set(true);
+        Assert.assertThrows(RuntimeException.class, () -> new CatalogManager(Identity.getAnonymousIdentity(), "failingDb", project, connectionSupplier));
+        Assert.assertFalse(schemaExists(id));
+
+        CatalogManager retried = new CatalogManager(Identity.getAnonymousIdentity(), "failingDb", project, connectionSupplier);
+        Assert.assertNotEquals(id, retried.getId());
+        Assert.assertEquals(Arrays.asList("name", "label"), columns(retried.getId(), "service__model_A"));
+        retried.close();
+    }
+
+    @Test
+    public void testCatalogIsLoadedOutsideOfGlobalLock() throws Exception
+    {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try
+        {
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<Connection> blockingSupplier = () ->
+            {
+                loading.countDown();
+                try
+                {
+                    release.await(30, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                return connect();
+            };
+            ProjectSchema slowProject = new ProjectSchema(relation("model::Slow", "name", "String"));
+            Future<CatalogManager> slow = executor.submit(() -> new CatalogManager(Identity.getAnonymousIdentity(), "slowDb", slowProject, blockingSupplier));
+            Assert.assertTrue(loading.await(30, TimeUnit.SECONDS));
+            // a session waiting for the catalog being loaded shares it
+            Future<CatalogManager> waiting = executor.submit(() -> new CatalogManager(Identity.getAnonymousIdentity(), "slowDb", slowProject, CatalogManagerTest::connect));
+
+            // another database is not blocked by the catalog being loaded
+            ProjectSchema fastProject = new ProjectSchema(relation("model::Fast", "name", "String"));
+            CatalogManager fast = executor.submit(() -> new CatalogManager(Identity.getAnonymousIdentity(), "fastDb", fastProject, CatalogManagerTest::connect)).get(30, TimeUnit.SECONDS);
+            Assert.assertFalse(slow.isDone());
+            Assert.assertFalse(waiting.isDone());
+
+            release.countDown();
+            CatalogManager slowSession = slow.get(30, TimeUnit.SECONDS);
+            CatalogManager waitingSession = waiting.get(30, TimeUnit.SECONDS);
+            Assert.assertEquals(slowSession.getId(), waitingSession.getId());
+            Assert.assertNotEquals(slowSession.getId(), fast.getId());
+            Assert.assertEquals(Arrays.asList("name"), columns(slowSession.getId(), "service__model_Slow"));
+
+            slowSession.close();
+            waitingSession.close();
+            fast.close();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Connection connect()
+    {
+        try
+        {
+            return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static boolean schemaExists(int id) throws SQLException
+    {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("select count(*) from information_schema.schemata where schema_name = ?"))
+        {
+            statement.setString(1, "metadata_" + id);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                resultSet.next();
+                return resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static long namespaceOid(int id, String schema) throws SQLException
+    {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("select oid from metadata_" + id + ".namespace where nspname = ?"))
+        {
+            statement.setString(1, schema);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static int orphanedAttributes(int id) throws SQLException
+    {
+        String metadata = "metadata_" + id;
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("select count(*) from " + metadata + ".attribute a where not exists (select 1 from " + metadata + ".class c where c.oid = a.attrelid)");
+             ResultSet resultSet = statement.executeQuery())
+        {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static List<String> columns(int id, String schema) throws SQLException
+    {
+        String metadata = "metadata_" + id;
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("select a.attname from " + metadata + ".attribute a join " + metadata + ".class c on a.attrelid = c.oid join " + metadata + ".namespace n on c.relnamespace = n.oid where n.nspname = ? and a.attnum > 0 order by a.attnum"))
+        {
+            statement.setString(1, schema);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                MutableList<String> columns = Lists.mutable.empty();
+                while (resultSet.next())
+                {
+                    columns.add(resultSet.getString(1));
+                }
+                return columns;
+            }
+        }
+    }
+
+    private static AddressableRelation relation(String element, String... columnsAndTypes)
+    {
+        MutableList<Column> columns = Lists.mutable.empty();
+        for (int i = 0; i < columnsAndTypes.length; i += 2)
+        {
+            columns.add(new Column(columnsAndTypes[i], new GenericType(new PackageableType(columnsAndTypes[i + 1])), Multiplicity.PURE_ONE));
+        }
+        AddressableRelation relation = new AddressableRelation();
+        relation.tableFunctionName = "service";
+        relation.packageableElement = element;
+        relation.pathWithinElement = Lists.mutable.with("table");
+        relation.relationType = new RelationType(columns);
+        return relation;
+    }
+
+    private static class ProjectSchema implements LegendExecution
+    {
+        private volatile List<AddressableRelation> relations;
+
+        private ProjectSchema(AddressableRelation... relations)
+        {
+            this.relations = Lists.mutable.with(relations);
+        }
+
+        @Override
+        public List<LegendColumn> getSchema(String query, String database)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LegendExecutionResult executeQuery(String query, String database, String options)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LegendExecutionResult executeQuery(String query, String database, String options, String requestId)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void cancel(String requestId)
+        {
+        }
+
+        @Override
+        public boolean supports(String database)
+        {
+            return true;
+        }
+
+        @Override
+        public SchemaResult getProjectSchema(String database)
+        {
+            return new SchemaResult(this.relations, Lists.mutable.with(
+                    new C3LinearizationUnitReturn("String", Lists.mutable.with("String")),
+                    new C3LinearizationUnitReturn("Integer", Lists.mutable.with("Integer", "Number"))));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.wire.serialization;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.types.BigIntType;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.types.DateType;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.types.IntegerType;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.types.PGType;
+import org.finos.legend.engine.postgres.protocol.wire.serialization.types.VarCharType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+public class MessagesTest
+{
+    private static final int[] COLUMN_TYPES = {Types.INTEGER, Types.VARCHAR, Types.DATE, Types.BIGINT};
+    private static final List<PGType<?>> PG_TYPES = Arrays.asList(IntegerType.INSTANCE, VarCharType.INSTANCE, DateType.INSTANCE, BigIntType.INSTANCE);
+    // 1999-12-31, encoded as -1 day since 2000-01-01
+    private static final long DATE_BEFORE_2000 = 946598400000L;
+
+    @Test
+    public void testSendDataRowInBinary() throws Exception
+    {
+        ByteBuf row = sendDataRow(new FormatCodes.FormatCode[]{FormatCodes.FormatCode.BINARY}, 42, "abc", DATE_BEFORE_2000, null);
+        try
+        {
+            readHeader(row);
+            Assert.assertEquals(42, readBinary(row, IntegerType.INSTANCE));
+            Assert.assertEquals("abc", readBinary(row, VarCharType.INSTANCE));
+            int dateLength = row.readInt();
+            Assert.assertEquals(-1, row.getInt(row.readerIndex()));
+            Assert.assertEquals(DATE_BEFORE_2000, DateType.INSTANCE.readBinaryValue(row, dateLength));
+            Assert.assertEquals(-1, row.readInt());
+            Assert.assertFalse(row.isReadable());
+        }
+        finally
+        {
+            row.release();
+        }
+    }
+
+    @Test
+    public void testSendDataRowWithFormatPerColumn() throws Exception
+    {
+        FormatCodes.FormatCode[] formatCodes = {FormatCodes.FormatCode.TEXT, FormatCodes.FormatCode.BINARY, FormatCodes.FormatCode.TEXT, FormatCodes.FormatCode.BINARY};
+        ByteBuf row = sendDataRow(formatCodes, 42, "abc", DATE_BEFORE_2000, 7L);
+        try
+        {
+            readHeader(row);
+            Assert.assertEquals("42", readText(row));
+            Assert.assertEquals("abc", readBinary(row, VarCharType.INSTANCE));
+            Assert.assertEquals("1999-12-31", readText(row));
+            Assert.assertEquals(7L, readBinary(row, BigIntType.INSTANCE));
+            Assert.assertFalse(row.isReadable());
+        }
+        finally
+        {
+            row.release();
+        }
+    }
+
+    private static ByteBuf sendDataRow(FormatCodes.FormatCode[] formatCodes, Object... values) throws Exception
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TestResultSet resultSet = new TestResultSet(COLUMN_TYPES, () ->
+        {
+        }, values);
+        Assert.assertTrue(resultSet.next());
+        new Messages(Throwable::getMessage).sendDataRow(channel, resultSet, PG_TYPES, formatCodes);
+        // rows are only written, flushing is left to the caller
+        Assert.assertNull(channel.readOutbound());
+        channel.flush();
+        ByteBuf row = channel.readOutbound();
+        channel.finishAndReleaseAll();
+        return row;
+    }
+
+    private static void readHeader(ByteBuf row)
+    {
+        Assert.assertEquals('D', row.readByte());
+        Assert.assertEquals(row.readableBytes(), row.readInt());
+        Assert.assertEquals(COLUMN_TYPES.length, row.readShort());
+    }
+
+    private static Object readBinary(ByteBuf row, PGType<?> type)
+    {
+        return type.readBinaryValue(row, row.readInt());
+    }
+
+    private static String readText(ByteBuf row)
+    {
+        int length = row.readInt();
+        String text = row.toString(row.readerIndex(), length, StandardCharsets.UTF_8);
+        row.skipBytes(length);
+        return text;
+    }
+}
@@ -0,0 +1,123 @@
+// Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.wire.serialization;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.finos.legend.engine.postgres.utils.netty.DelayableWriteChannel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ResultSetReceiverTest
+{
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    public void testRowsAreBatchedWhileChannelIsWritable() throws Exception
+    {
+        EmbeddedChannel channel = newChannel(new RecordingHandler());
+        ResultSetReceiver receiver = newReceiver(channel);
+        receiver.sendResultSet(newResultSet(3), 0);
+        Assert.assertEquals(Arrays.asList("next", "write", "next", "write", "next", "write", "next"), this.events);
+        Assert.assertTrue(channel.outboundMessages().isEmpty());
+
+        // the rows go out with the command completion
+        receiver.allFinished();
+        Assert.assertEquals(Arrays.asList("write", "flush"), this.events.subList(7, 9));
+        Assert.assertEquals(4, channel.outboundMessages().size());
+        Assert.assertTrue(receiver.completionFuture().isDone());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testWritesPauseWhenChannelIsNotWritable() throws Exception
+    {
+        EmbeddedChannel channel = newChannel(new RecordingHandler());
+        // every row takes the outbound buffer above its high water mark
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        ResultSetReceiver receiver = newReceiver(channel);
+        receiver.sendResultSet(newResultSet(3), 0);
+
+        // the next row is only read once the previous one has been flushed and written
+        Assert.assertEquals(Arrays.asList("next", "write", "flush", "next", "write", "flush", "next", "write", "flush", "next"), this.events);
+        Assert.assertEquals(3, channel.outboundMessages().size());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testResultStopsWhenWriteFails() throws Exception
+    {
+        EmbeddedChannel channel = newChannel(new RecordingHandler()
+        {
+            @Override
+            public void flush(ChannelHandlerContext ctx)
+            {
+                // the client went away: pending writes fail instead of being flushed
+                events.add("flush");
+                ctx.close();
+            }
+        });
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        ResultSetReceiver receiver = newReceiver(channel);
+        Assert.assertThrows(ClientInterrupted.class, () -> receiver.sendResultSet(newResultSet(3), 0));
+        Assert.assertEquals(Arrays.asList("next", "write", "flush"), this.events);
+        channel.finishAndReleaseAll();
+    }
+
+    private EmbeddedChannel newChannel(RecordingHandler handler)
+    {
+        return new EmbeddedChannel(handler);
+    }
+
+    private static ResultSetReceiver newReceiver(EmbeddedChannel channel)
+    {
+        return new ResultSetReceiver("select 1", new DelayableWriteChannel(channel), false, new FormatCodes.FormatCode[]{FormatCodes.FormatCode.BINARY}, new Messages(Throwable::getMessage));
+    }
+
+    private TestResultSet newResultSet(int rows)
+    {
+        Object[][] values = new Object[rows][];
+        for (int i = 0; i < rows; i++)
+        {
+            values[i] = new Object[]{i};
+        }
+        return new TestResultSet(new int[]{Types.INTEGER}, () -> this.events.add("next"), values);
+    }
+
+    private class RecordingHandler extends ChannelOutboundHandlerAdapter
+    {
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
+        {
+            events.add("write");
+            ctx.write(msg, promise);
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx)
+        {
+            events.add("flush");
+            ctx.flush();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.wire.serialization;
+
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.result.PostgresResultSet;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.result.PostgresResultSetMetaData;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Result set over rows held in memory, calling a hook each time a row is requested.
+ */
+class TestResultSet implements PostgresResultSet, PostgresResultSetMetaData
+{
+    private final int[] columnTypes;
+    private final List<Object[]> rows;
+    private final Runnable onNext;
+    private int row = -1;
+
+    TestResultSet(int[] columnTypes, Runnable onNext, Object[]... rows)
+    {
+        this.columnTypes = columnTypes;
+        this.rows = Arrays.asList(rows);
+        this.onNext = onNext;
+    }
+
+    @Override
+    public PostgresResultSetMetaData getMetaData()
+    {
+        return this;
+    }
+
+    @Override
+    public Object getObject(int i)
+    {
+        return this.rows.get(this.row)[i - 1];
+    }
+
+    @Override
+    public boolean next()
+    {
+        this.onNext.run();
+        return ++this.row < this.rows.size();
+    }
+
+    @Override
+    public void close()
+    {
+    }
+
+    @Override
+    public void finished()
+    {
+    }
+
+    @Override
+    public int getColumnCount()
+    {
+        return this.columnTypes.length;
+    }
+
+    @Override
+    public String getColumnName(int i)
+    {
+        return "column" + i;
+    }
+
+    @Override
+    public int getColumnType(int i)
+    {
+        return this.columnTypes[i - 1];
+    }
+
+    @Override
+    public int getScale(int i)
+    {
+        return 0;
+    }
+
+    @Override
+    public String getColumnTypeName(int i)
+    {
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.wire.serialization.types;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DateTypeTest
+{
+    @Test
+    public void testWriteAsBinary()
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            // 2023-02-20
+            Assert.assertEquals(8, DateType.INSTANCE.writeAsBinary(buffer, 1676851200000L));
+            Assert.assertEquals(4, buffer.readInt());
+            Assert.assertEquals(8451, buffer.readInt());
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testBinaryRoundTrip()
+    {
+        // 2000-01-01, 1999-12-31, 1970-01-01, 1969-12-31 and 1900-01-01: the days since 2000 are negative before it
+        assertBinaryRoundTrip(946684800000L, 0);
+        assertBinaryRoundTrip(946598400000L, -1);
+        assertBinaryRoundTrip(0L, -10957);
+        assertBinaryRoundTrip(-86400000L, -10958);
+        assertBinaryRoundTrip(-2208988800000L, -36524);
+    }
+
+    private static void assertBinaryRoundTrip(long millis, int daysSince2000)
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            DateType.INSTANCE.writeAsBinary(buffer, millis);
+            Assert.assertEquals(daysSince2000, buffer.getInt(4));
+            Assert.assertEquals(millis, DateType.INSTANCE.readBinaryValue(buffer, buffer.readInt()));
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.postgres.protocol.wire.session;
+
+import org.finos.legend.engine.postgres.protocol.wire.serialization.DescribeResult;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.prepared.PostgresPreparedStatement;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.result.PostgresResultSet;
+import org.finos.legend.engine.postgres.protocol.wire.session.statements.result.PostgresResultSetMetaData;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ParameterMetaData;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SessionTest
+{
+    private static final String QUERY = "SELECT * FROM service('/personService')";
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicInteger describes = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+    private ExecutorService executorService;
+    private Session session;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newCachedThreadPool();
+        this.session = new Session(this.executorService, Identity.getAnonymousIdentity(), new Properties(), TTL_NANOS, this.now::get);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.session.close();
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testDescriptionIsReusedForSameQuery()
+    {
+        DescribeResult first = this.describe(QUERY, "name");
+        DescribeResult second = this.describe(QUERY, "other");
+
+        Assert.assertEquals(1, this.describes.get());
+        Assert.assertSame(first, second);
+        Assert.assertNotSame(first, this.describe("SELECT 1", "name"));
+        Assert.assertEquals(2, this.describes.get());
+    }
+
+    @Test
+    public void testDescriptionIsDroppedWhenSchemaVersionChanges() throws Exception
+    {
+        this.session.setSchemaVersion("v1");
+        DescribeResult first = this.describe(QUERY, "name");
+        this.session.setSchemaVersion("v1");
+        Assert.assertSame(first, this.describe(QUERY, "name"));
+        Assert.assertEquals(1, this.describes.get());
+
+        this.session.setSchemaVersion("v2");
+        DescribeResult changed = this.describe(QUERY, "label");
+        Assert.assertEquals(2, this.describes.get());
+        Assert.assertEquals("label", changed.getFields().getColumnName(1));
+
+        // the session goes back to the first schema, the description made against it was dropped on the change
+        this.session.setSchemaVersion("v1");
+        Assert.assertEquals("name", this.describe(QUERY, "name").getFields().getColumnName(1));
+        Assert.assertEquals(3, this.describes.get());
+    }
+
+    @Test
+    public void testDescriptionExpiresWhenSchemaChangesMidSession()
+    {
+        // the session never learns the schema version (no catalog query), the project schema changes on the engine
+        DescribeResult first = this.describe(QUERY, "name");
+        this.now.addAndGet(TTL_NANOS - 1);
+        Assert.assertSame(first, this.describe(QUERY, "label"));
+        Assert.assertEquals(1, this.describes.get());
+
+        this.now.addAndGet(1);
+        DescribeResult changed = this.describe(QUERY, "label");
+        Assert.assertEquals(2, this.describes.get());
+        Assert.assertEquals("label", changed.getFields().getColumnName(1));
+        Assert.assertSame(changed, this.describe(QUERY, "other"));
+        Assert.assertEquals(2, this.describes.get());
+    }
+
+    @Test
+    public void testDescriptionIsDroppedWhenStateIsCleared()
+    {
+        DescribeResult first = this.describe(QUERY, "name");
+        this.session.clearState();
+        Assert.assertNotSame(first, this.describe(QUERY, "name"));
+        Assert.assertEquals(2, this.describes.get());
+    }
+
+    @Test
+    public void testNonCacheableStatementIsAlwaysDescribed()
+    {
+        this.session.parse("", QUERY, Collections.emptyList(), new CountingStatement("name", false));
+        this.session.describe('S', "");
+        this.session.parse("", QUERY, Collections.emptyList(), new CountingStatement("name", false));
+        this.session.describe('S', "");
+        Assert.assertEquals(2, this.describes.get());
+    }
+
+    private DescribeResult describe(String query, String column)
+    {
+        // clients re-parse the unnamed statement for each execution
+        this.session.parse("", query, Collections.emptyList(), new CountingStatement(column, true));
+        return this.session.describe('S', "");
+    }
+
+    private class CountingStatement implements PostgresPreparedStatement
+    {
+        private final String column;
+        private final boolean cacheable;
+
+        private CountingStatement(String column, boolean cacheable)
+        {
+            this.column = column;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public void setObject(int i, Object o)
+        {
+        }
+
+        @Override
+        public PostgresResultSetMetaData getMetaData()
+        {
+            describes.incrementAndGet();
+            return new PostgresResultSetMetaData()
+            {
+                @Override
+                public int getColumnCount()
+                {
+                    return 1;
+                }
+
+                @Override
+                public String getColumnName(int i)
+                {
+                    return column;
+                }
+
+                @Override
+                public int getColumnType(int i)
+                {
+                    return Types.VARCHAR;
+                }
+
+                @Override
+                public int getScale(int i)
+                {
+                    return 0;
+                }
+
+                @Override
+                public String getColumnTypeName(int i)
+                {
+                    return "varchar";
+                }
+            };
+        }
+
+        @Override
+        public ParameterMetaData getParameterMetaData()
+        {
+            return PostgresPreparedStatement.emptyParameterMetaData();
+        }
+
+        @Override
+        public void close()
+        {
+        }
+
+        @Override
+        public void setMaxRows(int maxRows)
+        {
+        }
+
+        @Override
+        public int getMaxRows()
+        {
+            return 0;
+        }
+
+        @Override
+        public boolean isExecuted()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean execute()
+        {
+            return false;
+        }
+
+        @Override
+        public PostgresResultSet getResultSet()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean isDescribeCacheable()
+        {
+            return this.cacheable;
+        }
+    }
+}
@@ -14,6 +14,9 @@
 
 package org.finos.legend.engine.external.format.xml.read;
 
+import javax.xml.namespace.QName;
+import java.util.Set;
+
 public abstract class ReadHandler
 {
     public abstract void process(DeserializeContext<?> context);
@@ -22,6 +25,16 @@ public abstract class ReadHandler
 
     public abstract boolean mustConsume();
 
+    /**
+     * The element names this handler can start consuming at, if they can be determined from the schema alone.
+     * Returns null when consumption depends on more than the name of the current start element (lenient or
+     * wildcard matching for example) in which case callers must fall back to {@link #canConsume}.
+     */
+    public Set<QName> leadingNames()
+    {
+        return null;
+    }
+
     protected long requireValidAttributeOccurs(long occurs)
     {
         if (occurs != 0 && occurs != 1)
@@ -19,11 +19,19 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.external.format.xml.read.DeserializeContext;
 import org.finos.legend.engine.external.format.xml.read.ReadHandler;
 
+import javax.xml.namespace.QName;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 public class Choice extends Particle
 {
     private final long minOccurs;
     private final long maxOccurs;
     private final MutableList<ReadHandler> options = Lists.mutable.empty();
+    private volatile OptionIndex optionIndex;
 
     private Choice(long minOccurs, long maxOccurs)
     {
@@ -35,19 +43,21 @@ public class Choice extends Particle
     public Choice add(ReadHandler option)
     {
         options.add(option);
+        optionIndex = null;
         return this;
     }
 
     @Override
     public void process(DeserializeContext<?> context)
     {
+        OptionIndex index = optionIndex();
         long occurs = 0;
         long lastOccurs = 0;
         do
         {
             lastOccurs = occurs;
 
-            MutableList<ReadHandler> matching = options.select(h -> h.canConsume(context));
+            MutableList<ReadHandler> matching = index.candidates(context).select(h -> h.canConsume(context));
             if (matching.size() == 1)
             {
                 matching.get(0).process(context);
@@ -89,7 +99,83 @@ public class Choice extends Particle
     @Override
     public boolean canConsume(DeserializeContext<?> context)
     {
-        return maxOccurs > 0 && options.anySatisfy(h -> h.canConsume(context));
+        return maxOccurs > 0 && optionIndex().candidates(context).anySatisfy(h -> h.canConsume(context));
+    }
+
+    @Override
+    public Set<QName> leadingNames()
+    {
+        if (maxOccurs == 0)
+        {
+            return Collections.emptySet();
+        }
+        Set<QName> result = new HashSet<>();
+        for (ReadHandler option : options)
+        {
+            Set<QName> names = option.leadingNames();
+            if (names == null)
+            {
+                return null;
+            }
+            result.addAll(names);
+        }
+        return result;
+    }
+
+    private OptionIndex optionIndex()
+    {
+        OptionIndex index = optionIndex;
+        if (index == null)
+        {
+            index = new OptionIndex(options);
+            optionIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Precomputes, per leading element name, the options that could start at that element so that
+     * only those (plus any options that need dynamic matching) are tested as each start element arrives.
+     */
+    private static class OptionIndex
+    {
+        private final Map<QName, MutableList<ReadHandler>> byName = new HashMap<>();
+        private final MutableList<ReadHandler> dynamic;
+
+        OptionIndex(MutableList<ReadHandler> options)
+        {
+            this.dynamic = options.select(h -> h.leadingNames() == null);
+            Set<QName> allNames = new HashSet<>();
+            options.forEach(h ->
+            {
+                Set<QName> names = h.leadingNames();
+                if (names != null)
+                {
+                    allNames.addAll(names);
+                }
+            });
+            for (QName name : allNames)
+            {
+                byName.put(name, options.select(h ->
+                {
+                    Set<QName> names = h.leadingNames();
+                    return names == null || names.contains(name);
+                }));
+            }
+        }
+
+        MutableList<ReadHandler> candidates(DeserializeContext<?> context)
+        {
+            if (context.reader.isStartElement())
+            {
+                MutableList<ReadHandler> candidates = byName.get(context.reader.getName());
+                if (candidates != null)
+                {
+                    return candidates;
+                }
+            }
+            return dynamic;
+        }
     }
 
     @Override
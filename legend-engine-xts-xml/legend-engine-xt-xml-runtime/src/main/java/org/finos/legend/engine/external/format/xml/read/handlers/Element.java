@@ -23,6 +23,8 @@ import org.finos.legend.engine.external.shared.runtime.dependencies.ExternalData
 import org.finos.legend.engine.external.shared.runtime.dependencies.IExternalDataFactory;
 
 import javax.xml.namespace.QName;
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public class Element extends ReadHandler
@@ -33,16 +35,23 @@ public class Element extends ReadHandler
     final ExternalDataObjectAdder addToParent;
     final IExternalDataFactory dataFactory;
     final Predicate<XmlReader> matcher;
+    final QName strictName;
     final MutableList<Attribute> attributes = Lists.mutable.empty();
     TextContent textContent = null;
     Particle particle = null;
 
     Element(long minOccurs, long maxOccurs, Predicate<XmlReader> matcher, IExternalDataFactory dataFactory, ExternalDataObjectAdder addToParent, String description)
+    {
+        this(minOccurs, maxOccurs, matcher, null, dataFactory, addToParent, description);
+    }
+
+    private Element(long minOccurs, long maxOccurs, Predicate<XmlReader> matcher, QName strictName, IExternalDataFactory dataFactory, ExternalDataObjectAdder addToParent, String description)
     {
         this.minOccurs = requireValidOccurs(minOccurs);
         this.maxOccurs = requireValidOccurs(maxOccurs);
         checkOccursRange(minOccurs, maxOccurs);
         this.matcher = matcher;
+        this.strictName = strictName;
         this.dataFactory = dataFactory;
         this.addToParent = addToParent;
         this.description = description;
@@ -170,6 +179,16 @@ public class Element extends ReadHandler
         return minOccurs > 0;
     }
 
+    @Override
+    public Set<QName> leadingNames()
+    {
+        if (strictName == null)
+        {
+            return null;
+        }
+        return maxOccurs > 0 ? Collections.singleton(strictName) : Collections.emptySet();
+    }
+
     @Override
     public String toString()
     {
@@ -187,7 +206,7 @@ public class Element extends ReadHandler
 
     public static Element ofStrict(long minOccurs, long maxOccurs, QName name, IExternalDataFactory dataFactory, ExternalDataObjectAdder addToParent)
     {
-        return new Element(minOccurs, maxOccurs, r -> r.isStartElement(name), dataFactory, addToParent, "Strict: " + name);
+        return new Element(minOccurs, maxOccurs, r -> r.isStartElement(name), name, dataFactory, addToParent, "Strict: " + name);
     }
 
     public static Element ofLenient(long minOccurs, long maxOccurs, String name)
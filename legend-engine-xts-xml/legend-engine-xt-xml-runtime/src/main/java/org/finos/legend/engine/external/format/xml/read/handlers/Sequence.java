@@ -19,6 +19,10 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.finos.legend.engine.external.format.xml.read.DeserializeContext;
 import org.finos.legend.engine.external.format.xml.read.ReadHandler;
 
+import javax.xml.namespace.QName;
+import java.util.Collections;
+import java.util.Set;
+
 public class Sequence extends Particle
 {
     private final long minOccurs;
@@ -65,6 +69,12 @@ public class Sequence extends Particle
         return minOccurs > 0;
     }
 
+    @Override
+    public Set<QName> leadingNames()
+    {
+        return (maxOccurs > 0 && !sequence.isEmpty()) ? sequence.get(0).leadingNames() : Collections.emptySet();
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,207 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.xml.test;
+
+import org.finos.legend.engine.external.format.xml.read.DeserializeContext;
+import org.finos.legend.engine.external.format.xml.read.handlers.AnySurroundingElements;
+import org.finos.legend.engine.external.format.xml.read.handlers.Choice;
+import org.finos.legend.engine.external.format.xml.read.handlers.Document;
+import org.finos.legend.engine.external.format.xml.read.handlers.Element;
+import org.finos.legend.engine.external.format.xml.read.handlers.Sequence;
+import org.finos.legend.engine.external.format.xml.read.handlers.TextContent;
+import org.finos.legend.engine.external.format.xml.read.valueProcessors.AddLongToObject;
+import org.finos.legend.engine.external.format.xml.read.valueProcessors.AddObjectToObject;
+import org.finos.legend.engine.external.format.xml.shared.XmlReader;
+import org.finos.legend.engine.external.format.xml.shared.datatypes.BuiltInDataTypes;
+import org.finos.legend.engine.external.format.xml.shared.datatypes.LongSimpleTypeHandler;
+import org.finos.legend.engine.external.format.xml.shared.datatypes.SimpleTypeHandler;
+import org.finos.legend.engine.external.shared.runtime.dependencies.ExternalDataObjectAdder;
+import org.finos.legend.engine.external.shared.runtime.fixtures.firmModel.Firm;
+import org.finos.legend.engine.external.shared.runtime.fixtures.firmModel.Person;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TestXmlChoice
+{
+    private static final QName FIRM = new QName("firm");
+    private static final QName NAME = new QName("name");
+    private static final QName RANKING = new QName("ranking");
+    private static final QName EMPLOYEES = new QName("employees");
+    private static final QName FIRST_NAME = new QName("firstName");
+
+    @Test
+    public void testLeadingNames()
+    {
+        Assert.assertEquals(Collections.singleton(NAME), Element.ofStrict(0, 1, NAME).leadingNames());
+        Assert.assertEquals(Collections.emptySet(), Element.ofStrict(0, 0, NAME).leadingNames());
+        Assert.assertNull(Element.ofLenient(0, 1, "name").leadingNames());
+        Assert.assertNull(Element.ofWildcard(0, 1, null, null).leadingNames());
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(NAME, RANKING)), Choice.of(1, 1).add(Element.ofStrict(1, 1, NAME)).add(Element.ofStrict(1, 1, RANKING)).leadingNames());
+        Assert.assertEquals(Collections.singleton(NAME), Choice.of(1, 1).add(new Sequence(1, 1).add(Element.ofStrict(1, 1, NAME)).add(Element.ofStrict(1, 1, RANKING))).add(Element.ofStrict(1, 1, NAME)).leadingNames());
+        Assert.assertNull(Choice.of(1, 1).add(Element.ofStrict(1, 1, NAME)).add(Element.ofLenient(1, 1, "ranking")).leadingNames());
+        Assert.assertNull(Choice.of(1, 1).add(Element.ofStrict(1, 1, NAME)).add(Choice.of(1, 1).add(Element.ofWildcard(1, 1, null, null))).leadingNames());
+        Assert.assertEquals(Collections.emptySet(), Choice.of(0, 0).add(Element.ofLenient(1, 1, "name")).leadingNames());
+
+        Assert.assertEquals(Collections.singleton(RANKING), new Sequence(1, 1).add(Element.ofStrict(1, 1, RANKING)).add(Element.ofLenient(1, 1, "name")).leadingNames());
+        Assert.assertNull(new Sequence(1, 1).add(Element.ofLenient(1, 1, "name")).add(Element.ofStrict(1, 1, RANKING)).leadingNames());
+        Assert.assertEquals(Collections.emptySet(), new Sequence(1, 1).leadingNames());
+    }
+
+    @Test
+    public void testOptionsWithDistinctLeadingNames()
+    {
+        XmlReader reader = reader(
+                "<firm>",
+                "  <ranking>2</ranking>",
+                "  <employees><firstName>John</firstName></employees>",
+                "  <name>Acme Inc.</name>",
+                "  <employees><firstName>Fred</firstName></employees>",
+                "</firm>"
+        );
+
+        List<IChecked<Firm>> firms = new ArrayList<>();
+        DeserializeContext<Firm> context = new DeserializeContext<>(reader, firms::add);
+        SimpleTypeHandler<String> xsToken = context.simpleTypesContext.handler(BuiltInDataTypes.XS_TOKEN);
+
+        Choice firmChoice = Choice.of(0, Long.MAX_VALUE)
+                .add(nameElement(context, Element.ofStrict(1, 1, NAME)))
+                .add(rankingElement(context, Element.ofStrict(1, 1, RANKING)))
+                .add(employeesElement(xsToken, Element.ofStrict(1, Long.MAX_VALUE, EMPLOYEES, Person.FACTORY, (ExternalDataObjectAdder) Firm._getAdderForProperty("employees"))));
+        read(context, firmChoice);
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals(1, firms.size());
+        Assert.assertEquals(Collections.emptyList(), firms.get(0).getDefects());
+        Firm firm = firms.get(0).getValue();
+        Assert.assertEquals("Acme Inc.", firm.getName());
+        Assert.assertEquals(2L, firm.getRanking().longValue());
+        Assert.assertEquals(Arrays.asList("John", "Fred"), firm.getEmployees().stream().map(Person::getFirstName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testOptionsSharingLeadingName()
+    {
+        XmlReader reader = reader(
+                "<world>",
+                "  <firm>",
+                "    <name>Acme Inc.</name>",
+                "    <employees><firstName>John</firstName></employees>",
+                "  </firm>",
+                "  <firm>",
+                "    <name>Widget Engineering</name>",
+                "    <ranking>1</ranking>",
+                "  </firm>",
+                "</world>"
+        );
+
+        List<IChecked<Firm>> firms = new ArrayList<>();
+        DeserializeContext<Firm> context = new DeserializeContext<>(reader, firms::add);
+        SimpleTypeHandler<String> xsToken = context.simpleTypesContext.handler(BuiltInDataTypes.XS_TOKEN);
+
+        // both options start at <name> so only reading on can tell them apart
+        Choice firmChoice = Choice.of(1, 1)
+                .add(new Sequence(1, 1)
+                        .add(nameElement(context, Element.ofStrict(1, 1, NAME)))
+                        .add(rankingElement(context, Element.ofStrict(1, 1, RANKING))))
+                .add(new Sequence(1, 1)
+                        .add(nameElement(context, Element.ofStrict(1, 1, NAME)))
+                        .add(employeesElement(xsToken, Element.ofStrict(1, Long.MAX_VALUE, EMPLOYEES, Person.FACTORY, (ExternalDataObjectAdder) Firm._getAdderForProperty("employees")))));
+        Assert.assertEquals(Collections.singleton(NAME), firmChoice.leadingNames());
+        read(context, firmChoice);
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals(2, firms.size());
+        Assert.assertEquals(Arrays.asList(0, 0), firms.stream().map(IChecked::getDefects).map(List::size).collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("Acme Inc.", "Widget Engineering"), firms.stream().map(IChecked::getValue).map(Firm::getName).collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(null, 1L), firms.stream().map(IChecked::getValue).map(Firm::getRanking).collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(Collections.singletonList("John"), Collections.emptyList()), firms.stream().map(IChecked::getValue).map(f -> f.getEmployees().stream().map(Person::getFirstName).collect(Collectors.toList())).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testOptionsWithoutLeadingNames()
+    {
+        XmlReader reader = reader(
+                "<firm>",
+                "  <ranking>2</ranking>",
+                "  <name>Acme Inc.</name>",
+                "  <employees><firstName>John</firstName></employees>",
+                "  <staff><firstName>Fred</firstName></staff>",
+                "</firm>"
+        );
+
+        List<IChecked<Firm>> firms = new ArrayList<>();
+        DeserializeContext<Firm> context = new DeserializeContext<>(reader, firms::add);
+        SimpleTypeHandler<String> xsToken = context.simpleTypesContext.handler(BuiltInDataTypes.XS_TOKEN);
+
+        // the lenient and wildcard options must still be tried for names that are and are not indexed
+        Choice firmChoice = Choice.of(0, Long.MAX_VALUE)
+                .add(nameElement(context, Element.ofStrict(1, 1, NAME)))
+                .add(rankingElement(context, Element.ofLenient(1, 1, "ranking")))
+                .add(employeesElement(xsToken, Element.ofWildcard(1, Long.MAX_VALUE, Person.FACTORY, (ExternalDataObjectAdder) Firm._getAdderForProperty("employees"))));
+        Assert.assertNull(firmChoice.leadingNames());
+        read(context, firmChoice);
+
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertEquals(1, firms.size());
+        Assert.assertEquals(Collections.emptyList(), firms.get(0).getDefects());
+        Firm firm = firms.get(0).getValue();
+        Assert.assertEquals("Acme Inc.", firm.getName());
+        Assert.assertEquals(2L, firm.getRanking().longValue());
+        Assert.assertEquals(Arrays.asList("John", "Fred"), firm.getEmployees().stream().map(Person::getFirstName).collect(Collectors.toList()));
+    }
+
+    private static Element nameElement(DeserializeContext<?> context, Element element)
+    {
+        SimpleTypeHandler<String> xsToken = context.simpleTypesContext.handler(BuiltInDataTypes.XS_TOKEN);
+        return element.add(new TextContent<Firm>(new AddObjectToObject<Firm, String>(Firm._getAdderForProperty("name"), xsToken)));
+    }
+
+    private static Element rankingElement(DeserializeContext<?> context, Element element)
+    {
+        LongSimpleTypeHandler xsLong = (LongSimpleTypeHandler) context.simpleTypesContext.<Long>handler(BuiltInDataTypes.XS_LONG);
+        return element.add(new TextContent<Firm>(new AddLongToObject<Firm>(Firm._getAdderForProperty("ranking"), xsLong)));
+    }
+
+    private static Element employeesElement(SimpleTypeHandler<String> xsToken, Element element)
+    {
+        Element firstName = Element.ofStrict(1, 1, FIRST_NAME)
+                .add(new TextContent<Person>(new AddObjectToObject<Person, String>(Person._getAdderForProperty("firstName"), xsToken)));
+        return element.add(new Sequence(1, 1).add(firstName));
+    }
+
+    private static void read(DeserializeContext<?> context, Choice firmChoice)
+    {
+        Element firmElement = Element.ofStrict(1, 1, FIRM, Firm.FACTORY, null).add(firmChoice);
+        new Document(new AnySurroundingElements(firmElement)).process(context);
+    }
+
+    private XmlReader reader(String... lines)
+    {
+        InputStream stream = new ByteArrayInputStream(String.join("\n", lines).getBytes());
+        return XmlReader.newReader(stream, "executor:test");
+    }
+}